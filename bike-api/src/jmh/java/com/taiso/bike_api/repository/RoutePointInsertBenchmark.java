@@ -0,0 +1,127 @@
+package com.taiso.bike_api.repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taiso.bike_api.BikeApiApplication;
+import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.domain.RoutePointEntity;
+import com.taiso.bike_api.util.TrackBuffer;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * route_point 저장 방식 비교 (./gradlew jmh, 로컬 DB 필요)
+ * - jpa: routePointRepository.saveAll (IDENTITY 전략이라 포인트마다 INSERT)
+ * - jdbc: RoutePointJdbcRepository.insertAll (chunk 단위 multi-row INSERT)
+ * 매 호출은 루트 1건 저장을 포함하며 트랜잭션을 롤백해 DB 에 데이터를 남기지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoutePointInsertBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int points;
+
+    private ConfigurableApplicationContext context;
+    private RouteRepository routeRepository;
+    private RoutePointRepository routePointRepository;
+    private RoutePointJdbcRepository routePointJdbcRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private TrackBuffer track;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BikeApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        routeRepository = context.getBean(RouteRepository.class);
+        routePointRepository = context.getBean(RoutePointRepository.class);
+        routePointJdbcRepository = context.getBean(RoutePointJdbcRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        track = buildTrack(points);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object jpa() {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            RouteEntity route = newRoute();
+            List<RoutePointEntity> entities = new ArrayList<>(track.size());
+            for (int i = 0; i < track.size(); i++) {
+                entities.add(RoutePointEntity.builder()
+                        .route(route)
+                        .latitude(BigDecimal.valueOf(track.lat(i)))
+                        .longitude(BigDecimal.valueOf(track.lon(i)))
+                        .elevation(BigDecimal.valueOf(track.ele(i)))
+                        .sequence(i)
+                        .build());
+            }
+            List<RoutePointEntity> saved = routePointRepository.saveAll(entities);
+            entityManager.flush();
+            entityManager.clear();
+            return saved.size();
+        });
+    }
+
+    @Benchmark
+    public Object jdbc() {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            RouteEntity route = newRoute();
+            return routePointJdbcRepository.insertAll(route.getRouteId(), track);
+        });
+    }
+
+    private RouteEntity newRoute() {
+        RouteEntity route = routeRepository.save(RouteEntity.builder()
+                .routeName("benchmark")
+                .description("route_point insert benchmark")
+                .userId(1L)
+                .likeCount(0L)
+                .region(RouteEntity.Region.서울)
+                .distance(BigDecimal.ZERO)
+                .altitude(BigDecimal.ZERO)
+                .distanceType(RouteEntity.DistanceType.단거리)
+                .altitudeType(RouteEntity.AltitudeType.평지)
+                .roadType(RouteEntity.RoadType.자전거도로)
+                .fileType(RouteEntity.FileType.GPX)
+                .fileName("benchmark.gpx")
+                .build());
+        entityManager.flush();
+        return route;
+    }
+
+    private static TrackBuffer buildTrack(int size) {
+        TrackBuffer track = new TrackBuffer(size);
+        for (int i = 0; i < size; i++) {
+            track.add(37.5 + i * 0.00001, 126.9 + i * 0.00001, (float) (20 + Math.sin(i / 200.0) * 15), TrackBuffer.NO_TIME);
+        }
+        return track;
+    }
+}
@@ -0,0 +1,203 @@
+package com.taiso.bike_api.service;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * GPX 업로드 1건의 파싱/통계/단순화 구간 비교 (./gradlew jmh)
+ * - legacy: 변경 전 BigDecimal + 포인트 객체 방식 (아래 Legacy* 복사본)
+ * - packed: RouteCreateService.GPXHandler + processPoints (TrackBuffer)
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TrackParsingBenchmark {
+
+    @Param({"100000"})
+    private int points;
+
+    private byte[] gpx;
+    private RouteCreateService service;
+
+    @Setup
+    public void setUp() {
+        gpx = buildGpx(points);
+        service = new RouteCreateService();
+    }
+
+    @Benchmark
+    public Object legacy() throws Exception {
+        return runLegacy(gpx);
+    }
+
+    @Benchmark
+    public Object packed() throws Exception {
+        return runPacked(service, gpx);
+    }
+
+    private static Object runPacked(RouteCreateService service, byte[] gpx) throws Exception {
+        RouteCreateService.GPXHandler handler = new RouteCreateService.GPXHandler();
+        newParser().parse(new ByteArrayInputStream(gpx), handler);
+        return service.processPoints(handler.getTrack(), handler.getStatistics());
+    }
+
+    private static Object runLegacy(byte[] gpx) throws Exception {
+        LegacyGPXHandler handler = new LegacyGPXHandler();
+        newParser().parse(new ByteArrayInputStream(gpx), handler);
+        return LegacyPipeline.process(handler.points);
+    }
+
+    private static SAXParser newParser() throws Exception {
+        return SAXParserFactory.newInstance().newSAXParser();
+    }
+
+    // 한강 주변을 지그재그로 도는 가상의 트랙
+    private static byte[] buildGpx(int points) {
+        StringBuilder sb = new StringBuilder(points * 96);
+        sb.append("<?xml version=\"1.0\"?><gpx><trk><trkseg>");
+        for (int i = 0; i < points; i++) {
+            double lat = 37.50 + i * 0.00001 + Math.sin(i / 50.0) * 0.0005;
+            double lon = 126.90 + i * 0.00001 + Math.cos(i / 70.0) * 0.0005;
+            double ele = 20 + Math.sin(i / 200.0) * 15;
+            sb.append(String.format("<trkpt lat=\"%.6f\" lon=\"%.6f\"><ele>%.1f</ele><time>2025-03-01T00:%02d:%02dZ</time></trkpt>",
+                    lat, lon, ele, (i / 60) % 60, i % 60));
+        }
+        sb.append("</trkseg></trk></gpx>");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 변경 전 RouteCreateService 의 포인트 객체 모델
+    private static class LegacyPoint {
+        private final BigDecimal latitude;
+        private final BigDecimal longitude;
+        private BigDecimal elevation;
+
+        LegacyPoint(BigDecimal latitude, BigDecimal longitude, BigDecimal elevation) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.elevation = elevation;
+        }
+    }
+
+    // 변경 전 RouteCreateService.GPXHandler
+    private static class LegacyGPXHandler extends DefaultHandler {
+        private final List<LegacyPoint> points = new ArrayList<>();
+        private LegacyPoint currentPoint = null;
+        private final StringBuilder content = new StringBuilder();
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            content.setLength(0);
+            if ("trkpt".equalsIgnoreCase(qName)) {
+                currentPoint = new LegacyPoint(new BigDecimal(attributes.getValue("lat")),
+                        new BigDecimal(attributes.getValue("lon")), BigDecimal.ZERO);
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            content.append(ch, start, length);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            if (currentPoint != null) {
+                if ("ele".equalsIgnoreCase(qName)) {
+                    currentPoint.elevation = new BigDecimal(content.toString().trim());
+                } else if ("trkpt".equalsIgnoreCase(qName)) {
+                    points.add(currentPoint);
+                    currentPoint = null;
+                }
+            }
+        }
+    }
+
+    // 변경 전 processPoints / douglasPeuckerRec
+    private static class LegacyPipeline {
+
+        static List<LegacyPoint> process(List<LegacyPoint> points) {
+            BigDecimal totalDistance = BigDecimal.ZERO;
+            BigDecimal totalAltitude = BigDecimal.ZERO;
+            LegacyPoint prev = null;
+            for (LegacyPoint point : points) {
+                if (prev != null) {
+                    totalDistance = totalDistance.add(haversine(prev, point));
+                    BigDecimal elevationDiff = point.elevation.subtract(prev.elevation);
+                    if (elevationDiff.compareTo(BigDecimal.ZERO) > 0) {
+                        totalAltitude = totalAltitude.add(elevationDiff);
+                    }
+                }
+                prev = point;
+            }
+            return douglasPeucker(points, 0, points.size() - 1, 0.0001);
+        }
+
+        static BigDecimal haversine(LegacyPoint p1, LegacyPoint p2) {
+            double lat1 = p1.latitude.doubleValue();
+            double lon1 = p1.longitude.doubleValue();
+            double lat2 = p2.latitude.doubleValue();
+            double lon2 = p2.longitude.doubleValue();
+            double dLat = Math.toRadians(lat2 - lat1);
+            double dLon = Math.toRadians(lon2 - lon1);
+            double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                    + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                    * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+            double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+            return new BigDecimal(6371e3 * c).divide(new BigDecimal(1000), MathContext.DECIMAL128);
+        }
+
+        static List<LegacyPoint> douglasPeucker(List<LegacyPoint> points, int start, int end, double tolerance) {
+            double maxDistance = 0;
+            int index = start;
+            for (int i = start + 1; i < end; i++) {
+                double distance = perpendicularDistance(points.get(i), points.get(start), points.get(end));
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    index = i;
+                }
+            }
+            List<LegacyPoint> result = new ArrayList<>();
+            if (maxDistance > tolerance) {
+                result.addAll(douglasPeucker(points, start, index, tolerance));
+                result.remove(result.size() - 1);
+                result.addAll(douglasPeucker(points, index, end, tolerance));
+            } else {
+                result.add(points.get(start));
+                result.add(points.get(end));
+            }
+            return result;
+        }
+
+        static double perpendicularDistance(LegacyPoint p, LegacyPoint p1, LegacyPoint p2) {
+            double x0 = p.longitude.doubleValue();
+            double y0 = p.latitude.doubleValue();
+            double x1 = p1.longitude.doubleValue();
+            double y1 = p1.latitude.doubleValue();
+            double x2 = p2.longitude.doubleValue();
+            double y2 = p2.latitude.doubleValue();
+            double numerator = Math.abs((y2 - y1) * x0 - (x2 - x1) * y0 + x2 * y1 - y2 * x1);
+            double denominator = Math.sqrt(Math.pow(y2 - y1, 2) + Math.pow(x2 - x1, 2));
+            return denominator == 0 ? Math.hypot(x0 - x1, y0 - y1) : numerator / denominator;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taiso.bike_api.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.proj4j.CRSFactory;
+import org.locationtech.proj4j.CoordinateTransform;
+import org.locationtech.proj4j.CoordinateTransformFactory;
+import org.locationtech.proj4j.ProjCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 썸네일 폴리라인 좌표 변환 비교 (./gradlew jmh)
+ * - proj4j: 기존 generateStaticMapImageBytes 의 포인트별 Proj4j EPSG:4326 → EPSG:3857 변환 + 해상도 나눗셈
+ * - closedForm: WebMercator.toPixelX / toPixelY 배치 변환
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebMercatorBenchmark {
+
+    private static final int ZOOM = 12;
+    private static final int SCALE = 2;
+    private static final int WIDTH = 1600;
+    private static final int HEIGHT = 1200;
+
+    @Param({"500", "20000"})
+    private int points;
+
+    private double[] lat;
+    private double[] lon;
+    private int[] xPoints;
+    private int[] yPoints;
+
+    private CoordinateTransform transform;
+    private ProjCoordinate dstCenter;
+    private double centerLat;
+    private double centerLon;
+
+    @Setup
+    public void setUp() {
+        lat = new double[points];
+        lon = new double[points];
+        for (int i = 0; i < points; i++) {
+            lat[i] = 37.50 + i * 0.06 / points + Math.sin(i / 50.0) * 0.0005;
+            lon[i] = 126.90 + i * 0.10 / points + Math.cos(i / 70.0) * 0.0005;
+        }
+        xPoints = new int[points];
+        yPoints = new int[points];
+        centerLat = 37.53;
+        centerLon = 126.95;
+
+        CRSFactory crsFactory = new CRSFactory();
+        transform = new CoordinateTransformFactory().createTransform(
+                crsFactory.createFromName("EPSG:4326"), crsFactory.createFromName("EPSG:3857"));
+        dstCenter = new ProjCoordinate();
+        transform.transform(new ProjCoordinate(centerLon, centerLat), dstCenter);
+    }
+
+    @Benchmark
+    public int[] proj4j() {
+        double resolution = (156543.03392804062 / Math.pow(2, ZOOM)) / SCALE;
+        ProjCoordinate src = new ProjCoordinate();
+        ProjCoordinate dst = new ProjCoordinate();
+        for (int i = 0; i < points; i++) {
+            src.x = lon[i];
+            src.y = lat[i];
+            transform.transform(src, dst);
+            xPoints[i] = (int) Math.round(WIDTH / 2.0 + (dst.x - dstCenter.x) / resolution);
+            yPoints[i] = (int) Math.round(HEIGHT / 2.0 - (dst.y - dstCenter.y) / resolution);
+        }
+        return xPoints;
+    }
+
+    @Benchmark
+    public int[] closedForm() {
+        double worldSize = WebMercator.worldSize(ZOOM, SCALE);
+        double left = WebMercator.worldX(centerLon, worldSize) - WIDTH / 2.0;
+        double top = WebMercator.worldY(centerLat, worldSize) - HEIGHT / 2.0;
+        WebMercator.toPixelX(lon, points, worldSize, left, xPoints);
+        WebMercator.toPixelY(lat, points, worldSize, top, yPoints);
+        return xPoints;
+    }
+}
@@ -0,0 +1,79 @@
+package com.taiso.bike_api.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반의 단순한 서킷 브레이커
+ *
+ * - CLOSED: 정상. 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN: openDurationMs 동안 호출을 바로 거절
+ * - HALF_OPEN: OPEN 시간이 지나면 시험 호출 하나만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openDurationMs) {
+        this(failureThreshold, openDurationMs, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, long openDurationMs, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openDurationNanos = openDurationMs * 1_000_000L;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 가능 여부. true 를 받은 호출은 반드시 onSuccess / onFailure 중 하나를 호출해야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            case HALF_OPEN:
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
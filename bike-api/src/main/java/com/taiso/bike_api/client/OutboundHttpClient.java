@@ -0,0 +1,100 @@
+package com.taiso.bike_api.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import com.taiso.bike_api.exception.ExternalApiUnavailableException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 외부 API 제공자(네이버, 카카오, Strava) 하나에 대한 공용 HTTP 클라이언트
+ *
+ * 제공자마다 커넥션 풀, 타임아웃, 서킷 브레이커를 따로 두어 한 제공자의 장애가 다른 제공자 호출에 번지지 않도록 합니다.
+ * 호출 지연 시간과 결과는 outbound.http.requests 타이머에 provider / operation / outcome 태그로 기록합니다.
+ * - success: 2xx, client_error: 4xx (서킷 브레이커 실패로 세지 않음), error: 5xx·타임아웃·연결 실패, rejected: 서킷 차단
+ */
+public class OutboundHttpClient implements Closeable {
+
+    private static final String METRIC_REQUESTS = "outbound.http.requests";
+    private static final String METRIC_CIRCUIT_STATE = "outbound.http.circuit.state";
+
+    private final String provider;
+    private final RestClient restClient;
+    private final CloseableHttpClient httpClient;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public OutboundHttpClient(String provider, RestClient restClient, CloseableHttpClient httpClient,
+                              CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.restClient = restClient;
+        this.httpClient = httpClient;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder(METRIC_CIRCUIT_STATE, circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 외부 API 를 호출합니다. 서킷이 열려 있으면 호출하지 않고 ExternalApiUnavailableException 을 던집니다.
+     *
+     * @param operation 메트릭 태그로 쓰는 호출 이름 (예: kakao-token)
+     * @param call RestClient 로 요청을 보내고 결과를 반환하는 함수
+     */
+    public <T> T execute(String operation, Function<RestClient, T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            record(operation, "rejected", 0L);
+            throw new ExternalApiUnavailableException(provider + " 외부 API 가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.apply(restClient);
+            circuitBreaker.onSuccess();
+            record(operation, "success", System.nanoTime() - start);
+            return result;
+        } catch (HttpClientErrorException e) {
+            // 4xx 는 요청 문제이므로 제공자 장애로 보지 않음
+            circuitBreaker.onSuccess();
+            record(operation, "client_error", System.nanoTime() - start);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            record(operation, "error", System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private void record(String operation, String outcome, long elapsedNanos) {
+        Timer.builder(METRIC_REQUESTS)
+                .tag("provider", provider)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,78 @@
+package com.taiso.bike_api.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import com.taiso.bike_api.client.CircuitBreaker;
+import com.taiso.bike_api.client.OutboundHttpClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 외부 API 제공자별 공용 HTTP 클라이언트 설정
+ * 제공자마다 독립된 커넥션 풀(Apache HttpClient 5)과 서킷 브레이커를 사용합니다.
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+    @Autowired
+    private OutboundHttpProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Bean
+    public OutboundHttpClient naverHttpClient() {
+        return create("naver", properties.getNaver());
+    }
+
+    @Bean
+    public OutboundHttpClient kakaoHttpClient() {
+        return create("kakao", properties.getKakao());
+    }
+
+    @Bean
+    public OutboundHttpClient stravaHttpClient() {
+        return create("strava", properties.getStrava());
+    }
+
+    private OutboundHttpClient create(String provider, OutboundHttpProperties.Pool pool) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxConnections())
+                .setMaxConnPerRoute(pool.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeoutMs()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(pool.getReadTimeoutMs()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getConnectionRequestTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(pool.getReadTimeoutMs()))
+                        .setConnectionKeepAlive(TimeValue.ofSeconds(pool.getKeepAliveSeconds()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(pool.getIdleEvictSeconds()))
+                .build();
+
+        RestClient restClient = RestClient.builder()
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(pool.getFailureThreshold(), pool.getOpenDurationMs());
+        return new OutboundHttpClient(provider, restClient, httpClient, circuitBreaker, meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.taiso.bike_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 API 제공자별 HTTP 커넥션 풀 / 타임아웃 / 서킷 브레이커 설정
+ * 예) outbound.http.naver.read-timeout-ms=10000
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    private Pool naver = new Pool();
+    private Pool kakao = new Pool();
+    private Pool strava = new Pool();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        // TCP 연결 타임아웃
+        private long connectTimeoutMs = 2000;
+        // 응답(소켓 읽기) 타임아웃
+        private long readTimeoutMs = 5000;
+        // 풀에서 커넥션을 빌려오기까지 기다리는 시간
+        private long connectionRequestTimeoutMs = 1000;
+        // 제공자별 최대 커넥션 수 (호스트당 동일)
+        private int maxConnections = 20;
+        // 서버가 Keep-Alive 를 알려주지 않을 때 커넥션 재사용 시간
+        private long keepAliveSeconds = 30;
+        // 이 시간 이상 쉬고 있는 커넥션은 정리
+        private long idleEvictSeconds = 60;
+        // 연속 실패가 이 횟수에 도달하면 서킷 오픈
+        private int failureThreshold = 5;
+        // 서킷 오픈 유지 시간
+        private long openDurationMs = 30000;
+    }
+}
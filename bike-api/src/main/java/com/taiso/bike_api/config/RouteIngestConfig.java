@@ -0,0 +1,38 @@
+package com.taiso.bike_api.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 루트 업로드(파싱 → 정적 지도 렌더링 → S3 업로드) 파이프라인을 실행하는 작업 스레드 풀 설정
+ * 큐가 가득 차면 작업을 받지 않고 RejectedExecutionException 을 던집니다.
+ */
+@Configuration
+public class RouteIngestConfig {
+
+    @Value("${route.ingest.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${route.ingest.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Value("${route.ingest.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Bean(name = "routeIngestExecutor")
+    public Executor routeIngestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("route-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -51,10 +51,13 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                // 업로드 상태는 올린 사용자만 조회 (아래 /api/routes/** 허용보다 먼저 적용)
+                .requestMatchers(HttpMethod.GET, "/api/routes/*/ingest").authenticated()
                 .requestMatchers(
                     "/api/auth/**", "/h2-console/**", "/swagger-ui/**", "/v3/api-docs/**",
                     "/api/auth/kakao", "/api/lightnings/", "/api/routes/**", "/api/lightnings/{lightningId}", 
-                    "/api/lightnings", "/api/clubs", "api/clubs/{clubId}", "/api/users/{userId}", "/api/lightnings/main"
+                    "/api/lightnings", "/api/clubs", "api/clubs/{clubId}", "/api/users/{userId}", "/api/lightnings/main",
+                    "/api/search", "/api/search/autocomplete"
                 ).permitAll()
                 .anyRequest().authenticated()
             );
@@ -0,0 +1,89 @@
+package com.taiso.bike_api.config;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.taiso.bike_api.service.DiskTileCache;
+import com.taiso.bike_api.service.HttpTileSource;
+import com.taiso.bike_api.service.StaticMapRenderer;
+import com.taiso.bike_api.service.TileSource;
+
+/**
+ * 로컬 정적 지도 렌더러 설정 (타일 공급자, 디스크 타일 캐시, 타일 다운로드 스레드)
+ * 크기별 합성 스레드는 네이버 렌더러와 함께 쓰는 ThumbnailRenderConfig 의 풀을 사용합니다.
+ *
+ * map.static.renderer=tile 일 때만 등록합니다. 타일 서버마다 사용 정책(User-Agent, 출처 표기, 요청량)이 다르므로
+ * 기본 타일 서버는 두지 않으며, 타일 URL 과 User-Agent 가 설정되지 않았으면 기동 시 실패합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "map.static.renderer", havingValue = "tile")
+public class StaticMapConfig {
+
+    @Value("${map.tile.name:tile}")
+    private String tileSourceName;
+
+    // 예: https://tiles.example.com/{z}/{x}/{y}.png
+    @Value("${map.tile.url-template:}")
+    private String tileUrlTemplate;
+
+    // 타일 서버 정책에 맞는 연락처 포함 User-Agent
+    @Value("${map.tile.user-agent:}")
+    private String tileUserAgent;
+
+    // 썸네일 우측 하단에 표시할 출처 (예: © OpenStreetMap contributors). 비어 있으면 표시하지 않음
+    @Value("${map.tile.attribution:}")
+    private String tileAttribution;
+
+    @Value("${map.tile.timeout-ms:3000}")
+    private long tileTimeoutMs;
+
+    @Value("${map.tile.cache-dir:${java.io.tmpdir}/taiso-tile-cache}")
+    private String tileCacheDir;
+
+    // 기본 512MB
+    @Value("${map.tile.cache-max-bytes:536870912}")
+    private long tileCacheMaxBytes;
+
+    @Value("${map.tile.fetch-threads:8}")
+    private int tileFetchThreads;
+
+    @Bean
+    public TileSource tileSource() {
+        if (tileUrlTemplate.isBlank() || tileUserAgent.isBlank()) {
+            throw new IllegalStateException(
+                    "map.static.renderer=tile 을 사용하려면 map.tile.url-template 과 map.tile.user-agent 를 설정해야 합니다.");
+        }
+        return new HttpTileSource(tileSourceName, tileUrlTemplate, tileUserAgent, Duration.ofMillis(tileTimeoutMs));
+    }
+
+    @Bean
+    public DiskTileCache diskTileCache() {
+        return new DiskTileCache(Paths.get(tileCacheDir), tileCacheMaxBytes);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService tileFetchExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(tileFetchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "tile-fetch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public StaticMapRenderer staticMapRenderer(TileSource tileSource, DiskTileCache diskTileCache,
+                                               @Qualifier("tileFetchExecutor") ExecutorService tileFetchExecutor,
+                                               @Qualifier("thumbnailRenderExecutor") ExecutorService thumbnailRenderExecutor) {
+        return new StaticMapRenderer(tileSource, diskTileCache, tileFetchExecutor, thumbnailRenderExecutor, tileAttribution);
+    }
+}
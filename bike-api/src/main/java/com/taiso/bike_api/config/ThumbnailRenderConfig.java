@@ -0,0 +1,40 @@
+package com.taiso.bike_api.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 크기별 썸네일 합성 + 인코딩(CPU 작업) 스레드 풀 설정. 네이버 / 타일 렌더러가 함께 사용합니다.
+ */
+@Configuration
+public class ThumbnailRenderConfig {
+
+    @Value("${map.static.render-threads:2}")
+    private int renderThreads;
+
+    @Value("${map.static.render-queue-capacity:32}")
+    private int renderQueueCapacity;
+
+    /**
+     * 큐가 가득 차면 호출한 스레드(업로드 처리 스레드)에서 직접 합성하므로 작업이 버려지지 않고 자연히 속도가 조절됩니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService thumbnailRenderExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(renderThreads, renderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(renderQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-render-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
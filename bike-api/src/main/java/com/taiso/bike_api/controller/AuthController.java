@@ -9,7 +9,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -25,8 +24,10 @@ import com.taiso.bike_api.dto.RegisterRequestDTO;
 import com.taiso.bike_api.dto.RegisterResponseDTO;
 import com.taiso.bike_api.dto.UserInfoGetResponseDTO;
 import com.taiso.bike_api.dto.UserPasswordUpdateRequestDTO;
+import com.taiso.bike_api.security.CurrentUserEmail;
 import com.taiso.bike_api.security.JwtTokenProvider;
 import com.taiso.bike_api.service.AuthService;
+import com.taiso.bike_api.service.UserIdentityService;
 import com.taiso.bike_api.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,6 +57,9 @@ public class AuthController {
 
     @Autowired
     private AuthService authService;
+
+    @Autowired
+    private UserIdentityService userIdentityService;
     
     // 로그인
     @PostMapping("/login")
@@ -69,7 +73,7 @@ public class AuthController {
         );
             
         
-        String jwt = jwtTokenProvider.generateToken(authentication.getName());
+        String jwt = jwtTokenProvider.generateToken(userIdentityService.get(authentication.getName()));
     
         // JWT를 HttpOnly, Secure 쿠키에 저장 (환경에 따라 secure 옵션은 개발 시 false로 설정할 수 있음)
         Cookie jwtCookie = new Cookie("jwt", jwt);
@@ -100,7 +104,7 @@ public class AuthController {
 
 
         // 가입된 사용자의 이메일을 기반으로 JWT 토큰 발급
-        String jwt = jwtTokenProvider.generateToken(registerResponseDTO.getEmail());
+        String jwt = jwtTokenProvider.generateToken(userIdentityService.get(registerResponseDTO.getEmail()));
 
         // JWT 토큰을 HttpOnly, Secure 쿠키에 저장
         Cookie jwtCookie = new Cookie("jwt", jwt);
@@ -186,12 +190,12 @@ public class AuthController {
     @Operation(summary = "내 비밀번호 수정", description = "내 비밀번호 수정")
     public ResponseEntity<Void> updatePassword(
         @Valid @RequestBody UserPasswordUpdateRequestDTO requestDTO
-        , @AuthenticationPrincipal String userEmail
+        , @CurrentUserEmail String userEmail
         , HttpServletResponse response) {
 
         authService.updatePassword(requestDTO, userEmail);
 
-        String jwt = jwtTokenProvider.generateToken(userEmail);
+        String jwt = jwtTokenProvider.generateToken(userIdentityService.get(userEmail));
     
         // JWT를 HttpOnly, Secure 쿠키에 저장 (환경에 따라 secure 옵션은 개발 시 false로 설정할 수 있음)
         Cookie jwtCookie = new Cookie("jwt", jwt);
@@ -208,7 +212,7 @@ public class AuthController {
 
     @GetMapping("/me/account")
     @Operation(summary = "내 계정 정보 조회", description = "내 계정 정보 조회")
-    public ResponseEntity<UserInfoGetResponseDTO> getUserInfo(@AuthenticationPrincipal String userEmail) {
+    public ResponseEntity<UserInfoGetResponseDTO> getUserInfo(@CurrentUserEmail String userEmail) {
         UserInfoGetResponseDTO responseDTO = authService.getUserInfo(userEmail);
         return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
     }
@@ -223,7 +227,7 @@ public class AuthController {
     //닉네임 반환
     @GetMapping("/me/nickname")
     @Operation(summary = "내 닉네임 조회", description = "내 닉네임 조회")
-    public ResponseEntity<String> getNickname(@AuthenticationPrincipal String userEmail) {
+    public ResponseEntity<String> getNickname(@CurrentUserEmail String userEmail) {
         return ResponseEntity.status(HttpStatus.OK).body(userService.getUserNicknameByEmail(userEmail));
     }
 
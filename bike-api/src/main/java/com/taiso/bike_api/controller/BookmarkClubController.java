@@ -4,7 +4,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.taiso.bike_api.dto.BookmarkClubCreateResponseDTO;
 import com.taiso.bike_api.dto.BookmarkClubDeleteResponseDTO;
 import com.taiso.bike_api.dto.BookmarkClubsGetResponseDTO;
+import com.taiso.bike_api.security.CurrentUserEmail;
 import com.taiso.bike_api.service.BookmarkClubService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,7 +34,7 @@ public class BookmarkClubController {
         @RequestParam(name = "page", defaultValue = "0") int page
         , @RequestParam(name = "size", defaultValue = "8") int size
         , @RequestParam(name = "sort", defaultValue = "") String sort
-        , @AuthenticationPrincipal String userEmail) {
+        , @CurrentUserEmail String userEmail) {
         return ResponseEntity.status(HttpStatus.OK).body(bookmarkClubService.getBookmarkClubs(page, size, sort, userEmail));
     }
 
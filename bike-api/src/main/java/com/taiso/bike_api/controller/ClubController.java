@@ -4,7 +4,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,6 +18,7 @@ import com.taiso.bike_api.dto.ClubDetailGetResponseDTO;
 import com.taiso.bike_api.dto.ClubDetailsUpdateRequestDTO;
 import com.taiso.bike_api.dto.ClubDetailsUpdateResponseDTO;
 import com.taiso.bike_api.dto.ClubListResponseDTO;
+import com.taiso.bike_api.security.CurrentUserEmail;
 import com.taiso.bike_api.service.ClubService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,13 +38,19 @@ public class ClubController {
     }
 
     @GetMapping("")
-    @Operation(summary = "클럽 리스트 조회", description = "번개 리스트 조회 API")
+    @Operation(summary = "클럽 리스트 조회", description = "번개 리스트 조회 API (pagination=cursor 이면 커서 기반 조회)")
     public ResponseEntity<ClubListResponseDTO> getClubs(
               @RequestParam(name = "page", defaultValue = "0") int page
             , @RequestParam(name = "size", defaultValue = "8") int size
             , @RequestParam(name = "tags", defaultValue = "") String tags
             , @RequestParam(name = "sort", defaultValue = "") String sort
-            , @AuthenticationPrincipal String userEmail) {
+            // 페이지네이션 방식 (offset | cursor), cursor 는 직전 응답의 nextCursor
+            , @RequestParam(name = "pagination", defaultValue = "offset") String pagination
+            , @RequestParam(name = "cursor", defaultValue = "") String cursor
+            , @CurrentUserEmail String userEmail) {
+        if ("cursor".equals(pagination)) {
+            return ResponseEntity.status(HttpStatus.OK).body(clubService.getClubsByCursor(cursor, size, tags, sort, userEmail));
+        }
         return ResponseEntity.status(HttpStatus.OK).body(clubService.getClubs(page, size, tags, sort, userEmail));
     }
 
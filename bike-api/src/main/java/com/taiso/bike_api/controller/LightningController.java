@@ -3,7 +3,6 @@ package com.taiso.bike_api.controller;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,8 +13,10 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.taiso.bike_api.dto.LightingParticipationCheckResponseDTO;
 import com.taiso.bike_api.dto.LightningListResponseDTO;
+import com.taiso.bike_api.dto.LightningNearbyResponseDTO;
 import com.taiso.bike_api.dto.LightningPostRequestDTO;
 import com.taiso.bike_api.dto.LightningPostResponseDTO;
+import com.taiso.bike_api.security.CurrentUserEmail;
 import com.taiso.bike_api.service.LightningService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,7 +36,7 @@ public class LightningController {
     @Operation(summary = "번개 생성", description = "번개 생성 API")
     public ResponseEntity<LightningPostResponseDTO> createLighting(
         @RequestBody LightningPostRequestDTO requestDTO
-        , @AuthenticationPrincipal String userEmail) {
+        , @CurrentUserEmail String userEmail) {
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(lightningService.createLightning(requestDTO, userEmail));
     }
 
@@ -51,7 +52,7 @@ public class LightningController {
 //    }
 
     @GetMapping("")
-    @Operation(summary = "번개 리스트 조회", description = "번개 리스트 조회 API")
+    @Operation(summary = "번개 리스트 조회", description = "번개 리스트 조회 API (pagination=cursor 이면 커서 기반 조회)")
     public ResponseEntity<LightningListResponseDTO> getLightningList(
               @RequestParam(name = "page", defaultValue = "0") int page
             , @RequestParam(name = "size", defaultValue = "8") int size
@@ -62,10 +63,18 @@ public class LightningController {
             , @RequestParam(name = "level", defaultValue = "") String level
             , @RequestParam(name = "tags", defaultValue = "") String tags
             , @RequestParam(name = "sort", defaultValue = "") String sort
+            // 페이지네이션 방식 (offset | cursor), cursor 는 직전 응답의 nextCursor
+            , @RequestParam(name = "pagination", defaultValue = "offset") String pagination
+            , @RequestParam(name = "cursor", defaultValue = "") String cursor
             // 유저 이메일 받아오기
-            , @AuthenticationPrincipal String userEmail) {
+            , @CurrentUserEmail String userEmail) {
 
-        LightningListResponseDTO lightningListResponseDTO = lightningService.getLightningList(page, size, gender, bikeType, date, region, level, tags, sort, userEmail);
+        LightningListResponseDTO lightningListResponseDTO;
+        if ("cursor".equals(pagination)) {
+            lightningListResponseDTO = lightningService.getLightningListByCursor(cursor, size, gender, bikeType, date, region, level, tags, sort, userEmail);
+        } else {
+            lightningListResponseDTO = lightningService.getLightningList(page, size, gender, bikeType, date, region, level, tags, sort, userEmail);
+        }
 
         log.info("보내기 직전 : {}", lightningListResponseDTO);
 
@@ -76,7 +85,7 @@ public class LightningController {
     @Operation(summary = "클럽 전용 번개 조회", description = "클럽 전용 번개 조회 API")
     public ResponseEntity<LightningListResponseDTO> getClubLightningList(
         @PathVariable(name = "clubId") Long clubId
-        , @AuthenticationPrincipal String userEmail) {
+        , @CurrentUserEmail String userEmail) {
         return ResponseEntity.status(HttpStatus.OK).body(lightningService.getClubLightningList(clubId, userEmail));
     }
 
@@ -85,15 +94,27 @@ public class LightningController {
     @Operation(summary = "번개 참가 확인", description = "번개 참가 확인 API")
     public ResponseEntity<LightingParticipationCheckResponseDTO> getLightningParticipationCheck(
                 @PathVariable(name = "lightningId") Long lightningId
-            , @AuthenticationPrincipal String userEmail) {
+            , @CurrentUserEmail String userEmail) {
         return ResponseEntity.status(HttpStatus.OK)
                 .body(lightningService.getParticipationCheck(lightningId, userEmail));
     }
     
+    @GetMapping("/nearby")
+    @Operation(summary = "주변 번개 조회", description = "위치 기준 반경 내 모집 중인 번개를 가까운 순으로 조회하는 API")
+    public ResponseEntity<LightningNearbyResponseDTO> getNearbyLightnings(
+              @RequestParam(name = "lat") double latitude
+            , @RequestParam(name = "lng") double longitude
+            , @RequestParam(name = "radiusKm", defaultValue = "10") double radiusKm
+            , @RequestParam(name = "size", defaultValue = "20") int size
+            , @CurrentUserEmail String userEmail) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(lightningService.getNearbyLightnings(latitude, longitude, radiusKm, size, userEmail));
+    }
+
     @GetMapping("/main")
     @Operation(summary = "메인 페이지 조회", description = "메인 페이지 조회 API")
     public ResponseEntity<LightningListResponseDTO> getMainPage(
-        @AuthenticationPrincipal String userEmail) {
+        @CurrentUserEmail String userEmail) {
         return ResponseEntity.status(HttpStatus.OK).body(lightningService.getMainPage(userEmail));
     }
 }
@@ -4,7 +4,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,6 +15,7 @@ import com.taiso.bike_api.dto.LightningDetailGetResponseDTO;
 import com.taiso.bike_api.dto.LightningDetailUpdateGetResponseDTO;
 import com.taiso.bike_api.dto.LightningDetailUpdateRequestDTO;
 import com.taiso.bike_api.dto.LightningDetailUpdateResponseDTO;
+import com.taiso.bike_api.security.CurrentUserEmail;
 import com.taiso.bike_api.service.LightningDetailService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,7 +33,7 @@ public class LightningDetailController {
 
     @Operation(summary = "번개 디테일 조회", description = "특정 번개 상세 페이지 조회 API")
     @GetMapping("/{lightningId}")
-    public ResponseEntity<LightningDetailGetResponseDTO> getLightningDetail (@PathVariable("lightningId") Long lightningId, @AuthenticationPrincipal String userEmail) {
+    public ResponseEntity<LightningDetailGetResponseDTO> getLightningDetail (@PathVariable("lightningId") Long lightningId, @CurrentUserEmail String userEmail) {
 
         LightningDetailGetResponseDTO lightningDetailGetResponseDTO = lightningDetailService.getLightningDetail(lightningId, userEmail);
 
@@ -35,8 +35,8 @@ public class LightningMemberController {
 			Authentication authentication
 			) {
 		
+		// 정원이 차면 참가 처리와 같은 UPDATE 에서 마감으로 변경됨
 		lightningMemberService.JoinParticipants(lightningId, authentication);
-		lightningMemberService.autoClose(lightningId);
 		
 		return ResponseEntity.status(HttpStatus.CREATED).body(null);
 	}
@@ -96,8 +96,8 @@ public class LightningMemberController {
 			Authentication authentication
     		) {
     	// 번개 아이디, 참가 신청 아이디, 관리자 아이디
+    	// 정원이 차면 승인 처리와 같은 UPDATE 에서 마감으로 변경됨
     	lightningMemberService.JoinRequests(lightningId, userId, authentication);
-		lightningMemberService.autoClose(lightningId);
 		
 		return ResponseEntity.status(HttpStatus.CREATED).body(null);
     }
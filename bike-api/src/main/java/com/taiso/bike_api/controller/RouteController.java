@@ -5,7 +5,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,11 +16,15 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.taiso.bike_api.dto.RouteDetailResponseDTO;
+import com.taiso.bike_api.dto.RouteIngestStatusResponseDTO;
 import com.taiso.bike_api.dto.RouteLikePostResponseDTO;
 import com.taiso.bike_api.dto.RouteListResponseDTO;
 import com.taiso.bike_api.dto.RoutePostRequestDTO;
 import com.taiso.bike_api.dto.RoutePostResponseDTO;
+import com.taiso.bike_api.dto.RouteSimilarResponseDTO;
+import com.taiso.bike_api.security.CurrentUserEmail;
 import com.taiso.bike_api.service.RouteCreateService;
+import com.taiso.bike_api.service.RouteIngestService;
 import com.taiso.bike_api.service.RouteService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,6 +43,9 @@ public class RouteController {
     @Autowired
     private RouteCreateService routeCreateService;
 
+    @Autowired
+    private RouteIngestService routeIngestService;
+
 
     // 루트 디테일 조회
     @GetMapping("/{routeId}")
@@ -59,19 +65,34 @@ public class RouteController {
 
     // 루트 생성
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "루트 생성", description = "루트를 생성하는 API")
+    @Operation(summary = "루트 생성", description = "루트를 생성하는 API. async=true 이면 비동기 처리(202)하며 진행 상태는 /api/routes/{routeId}/ingest 로 조회")
     public ResponseEntity<RoutePostResponseDTO> createRoute(
             @RequestPart(value = "routeData") RoutePostRequestDTO routeData,
-            @RequestPart(value = "file") MultipartFile file, Authentication authentication) {
+            @RequestPart(value = "file") MultipartFile file,
+            @RequestParam(name = "async", defaultValue = "false") boolean async,
+            Authentication authentication) {
 
         log.info("RouteController.createRoute() 호출됨");
         log.info("routeData: {}", routeData);
         log.info("file: {}", file);
 
+        if (async) {
+            RoutePostResponseDTO response = routeIngestService.submit(routeData, file, authentication);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        }
         RoutePostResponseDTO response = routeCreateService.createRoute(routeData, file, authentication);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+
+    // 루트 업로드 처리 상태 조회
+    @GetMapping("/{routeId}/ingest")
+    @Operation(summary = "루트 업로드 상태 조회", description = "비동기 루트 업로드의 진행 상태를 조회하는 API")
+    public ResponseEntity<RouteIngestStatusResponseDTO> getIngestStatus(@PathVariable(name = "routeId") Long routeId,
+            Authentication authentication) {
+        return ResponseEntity.status(HttpStatus.OK).body(routeIngestService.getStatus(routeId, authentication));
+    }
+
     
 	// 루트 좋아요 등록
     @PostMapping("/{routeId}/like")
@@ -106,7 +127,7 @@ public class RouteController {
     @Operation(summary = "루트 삭제", description = "루트를 업로드한 유저가 루트를 삭제하는 API")
     public ResponseEntity<Void> deleteRoute(
         @PathVariable("routeId") Long routeId
-        , @AuthenticationPrincipal String userEmail) {
+        , @CurrentUserEmail String userEmail) {
 
         routeService.deleteRoute(routeId, userEmail);
 
@@ -115,9 +136,47 @@ public class RouteController {
     }
 
 
+    // 출발점 반경 루트 조회
+    @GetMapping("/nearby")
+    @Operation(summary = "주변 출발 루트 조회", description = "출발점이 위치 기준 반경 내인 루트를 가까운 순으로 조회하는 API")
+    public ResponseEntity<RouteListResponseDTO> getRoutesNearStart(
+                                                    @RequestParam(name = "lat") double latitude,
+                                                    @RequestParam(name = "lng") double longitude,
+                                                    @RequestParam(name = "radiusKm", defaultValue = "10") double radiusKm,
+                                                    @RequestParam(name = "size", defaultValue = "20") int size,
+                                                    @CurrentUserEmail String userEmail) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(routeService.getRoutesNearStart(latitude, longitude, radiusKm, size, userEmail));
+    }
+
+    // 지도 화면 영역 루트 조회
+    @GetMapping("/viewport")
+    @Operation(summary = "지도 영역 루트 조회", description = "경로가 지도 화면 영역(bbox)과 겹치는 루트를 최신순으로 조회하는 API")
+    public ResponseEntity<RouteListResponseDTO> getRoutesInViewport(
+                                                    @RequestParam(name = "minLat") double minLatitude,
+                                                    @RequestParam(name = "minLng") double minLongitude,
+                                                    @RequestParam(name = "maxLat") double maxLatitude,
+                                                    @RequestParam(name = "maxLng") double maxLongitude,
+                                                    @RequestParam(name = "size", defaultValue = "100") int size,
+                                                    @CurrentUserEmail String userEmail) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(routeService.getRoutesInViewport(minLatitude, minLongitude, maxLatitude, maxLongitude, size, userEmail));
+    }
+
+    // 유사 루트 조회
+    @GetMapping("/{routeId}/similar")
+    @Operation(summary = "유사 루트 조회", description = "경로 지문이 비슷한 (같은 코스로 보이는) 루트를 유사도 높은 순으로 조회하는 API")
+    public ResponseEntity<RouteSimilarResponseDTO> getSimilarRoutes(
+                                                    @PathVariable(name = "routeId") Long routeId,
+                                                    @RequestParam(name = "size", defaultValue = "10") int size,
+                                                    @CurrentUserEmail String userEmail) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(routeService.getSimilarRoutes(routeId, size, userEmail));
+    }
+
     // 루트 리스트 조회
     @GetMapping("/")
-    @Operation(summary = "루트 리스트 조회", description = "루트를 페이징, 필터 처리하여 리스트로 불러오는 API")
+    @Operation(summary = "루트 리스트 조회", description = "루트를 페이징, 필터 처리하여 리스트로 불러오는 API (pagination=cursor 이면 커서 기반 조회)")
     public ResponseEntity<RouteListResponseDTO> getRouteList(
                                                     //필터정보 null 가능
                                                     @RequestParam(name = "page", defaultValue = "0") int page,
@@ -128,13 +187,20 @@ public class RouteController {
                                                     @RequestParam(name = "altitudeType", defaultValue = "") String altitudeType,
                                                     @RequestParam(name = "roadType", defaultValue = "") String roadType,
                                                     @RequestParam(name="tag",defaultValue = "") String[] Tag,
-                                                    @AuthenticationPrincipal String userEmail) {
-
-
+                                                    // 페이지네이션 방식 (offset | cursor), cursor 는 직전 응답의 nextCursor
+                                                    @RequestParam(name = "pagination", defaultValue = "offset") String pagination,
+                                                    @RequestParam(name = "cursor", defaultValue = "") String cursor,
+                                                    @CurrentUserEmail String userEmail) {
 
         // 루트 데이터들을 페이징된 형태로 불러옴
-        RouteListResponseDTO routeListResponseDTO = routeService.getRouteList(page, size, sort, region, distanceType,
-                altitudeType, roadType, Tag, userEmail);
+        RouteListResponseDTO routeListResponseDTO;
+        if ("cursor".equals(pagination)) {
+            routeListResponseDTO = routeService.getRouteListByCursor(cursor, size, sort, region, distanceType,
+                    altitudeType, roadType, Tag, userEmail);
+        } else {
+            routeListResponseDTO = routeService.getRouteList(page, size, sort, region, distanceType,
+                    altitudeType, roadType, Tag, userEmail);
+        }
 
         log.info("보내기 직전 : {}", routeListResponseDTO);
 
@@ -0,0 +1,46 @@
+package com.taiso.bike_api.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taiso.bike_api.dto.SearchResponseDTO;
+import com.taiso.bike_api.service.SearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@Slf4j
+@RequestMapping("/api/search")
+@Tag(name = "검색 컨트롤러", description = "루트 / 번개 / 클럽 통합 검색 API")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    // 통합 검색
+    @GetMapping("")
+    @Operation(summary = "통합 검색", description = "루트 이름/설명, 번개 제목/설명/주소, 클럽명/짧은 설명을 관련도 순으로 검색하는 API (type: ROUTE, LIGHTNING, CLUB, 비우면 전체)")
+    public ResponseEntity<SearchResponseDTO> search(
+                                                    @RequestParam(name = "q") String query,
+                                                    @RequestParam(name = "type", defaultValue = "") String type,
+                                                    @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(searchService.search(query, type, size));
+    }
+
+    // 검색어 자동완성
+    @GetMapping("/autocomplete")
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 문자열로 루트 이름 / 번개 제목 / 클럽명을 자동완성하는 API")
+    public ResponseEntity<SearchResponseDTO> autocomplete(
+                                                    @RequestParam(name = "q") String query,
+                                                    @RequestParam(name = "type", defaultValue = "") String type,
+                                                    @RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(searchService.autocomplete(query, type, size));
+    }
+}
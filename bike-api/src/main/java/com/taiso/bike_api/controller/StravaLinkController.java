@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
@@ -17,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -26,9 +28,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import com.taiso.bike_api.client.OutboundHttpClient;
 import com.taiso.bike_api.domain.LightningEntity;
 import com.taiso.bike_api.domain.UserEntity;
 import com.taiso.bike_api.domain.UserStravaDataEntity;
@@ -36,6 +37,7 @@ import com.taiso.bike_api.dto.UserStravaDataResponseDTO;
 import com.taiso.bike_api.repository.LightningRepository;
 import com.taiso.bike_api.repository.UserRepository;
 import com.taiso.bike_api.repository.UserStravaDataRepository;
+import com.taiso.bike_api.service.UserIdentityService;
 
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -44,6 +46,8 @@ import io.swagger.v3.oas.annotations.Operation;
 @RequestMapping("/api/strava")
 public class StravaLinkController {
 
+    private static final String STRAVA_API_BASE_URL = "https://www.strava.com/api/v3";
+
     @Value("${strava.client.id}")
     private String clientId;
 
@@ -62,12 +66,21 @@ public class StravaLinkController {
     @Autowired
     private final UserStravaDataRepository userStravaDataRepository;
 
+    private final UserIdentityService userIdentityService;
+
+    // Strava API 공용 클라이언트 (커넥션 풀, 타임아웃, 서킷 브레이커)
+    private final OutboundHttpClient stravaHttpClient;
+
     public StravaLinkController(UserRepository userRepository, 
                                LightningRepository lightningRepository,
-                               UserStravaDataRepository userStravaDataRepository) {
+                               UserStravaDataRepository userStravaDataRepository,
+                               UserIdentityService userIdentityService,
+                               @Qualifier("stravaHttpClient") OutboundHttpClient stravaHttpClient) {
         this.userRepository = userRepository;
         this.lightningRepository = lightningRepository;
         this.userStravaDataRepository = userStravaDataRepository;
+        this.userIdentityService = userIdentityService;
+        this.stravaHttpClient = stravaHttpClient;
     }
 
     // 1. Strava 인증 URL 제공 (Connect Strava 버튼 클릭 시 사용)
@@ -88,8 +101,6 @@ public class StravaLinkController {
             @RequestParam("code") String code, 
             @RequestParam(value = "redirect_uri", required = false) String frontendRedirectUri,
             Principal principal) {
-        RestTemplate restTemplate = new RestTemplate();
-
         System.out.println("code == " + code);
         // 토큰 교환을 위한 파라미터 준비
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
@@ -106,7 +117,12 @@ public class StravaLinkController {
         try {
             // Strava 토큰 교환 API 호출
             String tokenUrl = "https://www.strava.com/oauth/token";
-            ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, params, Map.class);
+            ResponseEntity<Map> response = stravaHttpClient.execute("strava-token", client -> client.post()
+                    .uri(tokenUrl)
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(params)
+                    .retrieve()
+                    .toEntity(Map.class));
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 Map<String, Object> body = response.getBody();
@@ -126,6 +142,8 @@ public class StravaLinkController {
                 user.setStravaRefreshToken(refreshToken);
 
                 userRepository.save(user);
+                // 스트라바 연동 여부가 바뀌었으므로 식별 정보 캐시 제거
+                userIdentityService.evict(user.getEmail());
                 
                 // 성공 시 프론트엔드 성공 페이지로 리다이렉트
                 String successUrl = frontendRedirectUri + "?status=success&message=" + 
@@ -179,24 +197,14 @@ public class StravaLinkController {
             return ResponseEntity.badRequest().body("Strava 계정이 연동되지 않았습니다.");
         }
 
-        // WebClient를 사용하여 Strava API 호출
-        WebClient webClient = WebClient.builder()
-                .baseUrl("https://www.strava.com/api/v3")
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                .build();
-
         try {
-            // Strava의 /athlete/activities 엔드포인트 호출하여 활동 정보 조회
+            // Strava의 /athlete/activities 엔드포인트 호출하여 활동 정보 조회 (공용 Strava 클라이언트 사용)
             // 페이징 파라미터 추가
-            List<Map<String, Object>> activities = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/athlete/activities")
-                            .queryParam("page", page)
-                            .queryParam("per_page", perPage)
-                            .build())
+            List<Map<String, Object>> activities = stravaHttpClient.execute("strava-activities", client -> client.get()
+                    .uri(STRAVA_API_BASE_URL + "/athlete/activities?page={page}&per_page={perPage}", page, perPage)
+                    .headers(headers -> headers.setBearerAuth(accessToken))
                     .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
-                    .block();
+                    .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {}));
 
             // 총 항목 수를 가져옵니다 (Strava API는 총 항목 수를 제공하지 않음)
             // 대신 Spring의 PageImpl을 사용하여 현재 페이지 데이터로 페이지 객체 생성
@@ -256,19 +264,13 @@ public class StravaLinkController {
             return ResponseEntity.badRequest().body("Strava 계정이 연동되지 않았습니다.");
         }
 
-        // WebClient를 사용하여 특정 활동의 상세 정보 조회
-        WebClient webClient = WebClient.builder()
-                .baseUrl("https://www.strava.com/api/v3")
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                .build();
-
         try {
-            // 특정 활동의 상세 정보 조회 
-            Map<String, Object> activity = webClient.get()
-                    .uri("/activities/" + activityId)
+            // 특정 활동의 상세 정보 조회 (공용 Strava 클라이언트 사용)
+            Map<String, Object> activity = stravaHttpClient.execute("strava-activity", client -> client.get()
+                    .uri(STRAVA_API_BASE_URL + "/activities/{activityId}", activityId)
+                    .headers(headers -> headers.setBearerAuth(accessToken))
                     .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
+                    .body(new ParameterizedTypeReference<Map<String, Object>>() {}));
             
             // 안전한 타입 변환을 위한 처리
             Integer movingTime = null;
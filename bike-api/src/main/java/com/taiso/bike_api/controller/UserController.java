@@ -7,7 +7,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,6 +21,7 @@ import com.taiso.bike_api.dto.UserDetailRequestDTO;
 import com.taiso.bike_api.dto.UserDetailResponseDTO;
 import com.taiso.bike_api.dto.UserLightningReviewResponseDTO;
 import com.taiso.bike_api.dto.UserLightningsGetResponseDTO;
+import com.taiso.bike_api.security.CurrentUserEmail;
 import com.taiso.bike_api.service.UserDetailService;
 import com.taiso.bike_api.service.UserReviewService;
 import com.taiso.bike_api.service.UserService;
@@ -66,7 +66,7 @@ public class UserController {
 
     @GetMapping("/{userId}")
     @Operation(summary = "유저 페이지 정보 조회", description = "회원 프로필 페이지 정보 조회")
-    public ResponseEntity<UserDetailResponseDTO> getUserDetail(@PathVariable(name = "userId") Long userId, @AuthenticationPrincipal String userEmail) {
+    public ResponseEntity<UserDetailResponseDTO> getUserDetail(@PathVariable(name = "userId") Long userId, @CurrentUserEmail String userEmail) {
 
         log.info(userId.toString());
         // 찾아온 데이터를 담기
@@ -81,7 +81,7 @@ public class UserController {
     @Operation(summary = "내 예약 번개 리스트", description = "내가 예약한 번개 리스트 조회")
     public ResponseEntity<List<UserLightningsGetResponseDTO>> getUserLightnings(
         @RequestParam(name = "status") List<String> status
-        , @AuthenticationPrincipal String userEmail) {
+        , @CurrentUserEmail String userEmail) {
         List<LightningStatus> statusList = status.stream()
             .map(LightningStatus::valueOf) // 문자열을 Enum으로 변환
             .collect(Collectors.toList());
@@ -4,7 +4,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.taiso.bike_api.dto.UserDetailGetResponseDTO;
 import com.taiso.bike_api.dto.UserDetailPatchRequestDTO;
 import com.taiso.bike_api.dto.UserDetailPostRequestDTO;
+import com.taiso.bike_api.security.CurrentUserEmail;
 import com.taiso.bike_api.service.UserDetailService2;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,20 +36,20 @@ public class UserDetailController {
     @PostMapping("/me/details")
     public ResponseEntity<Void> postUserDetail(
         @RequestBody UserDetailPostRequestDTO requestDTO
-        , @AuthenticationPrincipal String userEmail) {
+        , @CurrentUserEmail String userEmail) {
         userDetailService2.saveUserDetail(requestDTO, userEmail);
         return ResponseEntity.status(HttpStatus.CREATED).body(null);
     }
 
     @Operation(summary = "내 회원 디테일 수정 화면 조회", description = "내 회원 디테일 수정 화면 API")
     @GetMapping("/me/details")
-    public ResponseEntity<UserDetailGetResponseDTO> getUserDetail(@AuthenticationPrincipal String userEmail) {
+    public ResponseEntity<UserDetailGetResponseDTO> getUserDetail(@CurrentUserEmail String userEmail) {
         return ResponseEntity.status(HttpStatus.OK).body(userDetailService2.getUserDetail(userEmail));
     }
 
     @Operation(summary = "내 회원 디테일 수정", description = "내 회원 디테일 수정 API")
     @PatchMapping("/me/detail")
-    public ResponseEntity<Void> patchUserDetail(@AuthenticationPrincipal String userEmail,
+    public ResponseEntity<Void> patchUserDetail(@CurrentUserEmail String userEmail,
             @RequestBody UserDetailPatchRequestDTO requestDTO) {
         log.info("{}", requestDTO);
         userDetailService2.patchUserDetail(userEmail, requestDTO);
@@ -16,6 +16,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -29,7 +30,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "club")
+// 커서 페이지네이션 (정렬 키, club_id) 복합 인덱스
+@Table(name = "club", indexes = {
+        @Index(name = "idx_club_created_at_id", columnList = "created_at, club_id"),
+        // 검색 색인 증분 갱신 (updated_at > 마지막 동기화 시각)
+        @Index(name = "idx_club_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -32,7 +33,15 @@ import lombok.Setter;
 
 
 @Entity
-@Table(name = "lightning")
+@Table(name = "lightning", indexes = {
+        // 커서 페이지네이션 - 목록은 항상 is_club_only = false 조건이므로 선두 컬럼으로 둠
+        @Index(name = "idx_lightning_club_only_event_date_id", columnList = "is_club_only, event_date, lightning_id"),
+        @Index(name = "idx_lightning_club_only_created_at_id", columnList = "is_club_only, created_at, lightning_id"),
+        // 상태 전환 스케줄러 (status + event_date 범위)
+        @Index(name = "idx_lightning_status_event_date", columnList = "status, event_date"),
+        // 메모리 색인 증분 갱신 (updated_at > 마지막 동기화 시각)
+        @Index(name = "idx_lightning_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -75,6 +84,12 @@ public class LightningEntity {
     @Column(name = "capacity", nullable = false)
     private Integer capacity;
 
+    // 승인 / 완료 상태 참여자 수 (lightning_user 집계를 비정규화)
+    // 엔티티 flush 가 동시 변경을 덮어쓰지 않도록 updatable = false, 값 변경은 LightningRepository 의 원자적 UPDATE 로만 함
+    @Column(name = "current_participants", nullable = false, updatable = false, columnDefinition = "INT default 0")
+    @Builder.Default
+    private Integer currentParticipants = 0;
+
     @Column(name = "latitude", nullable = false, precision = 9, scale = 6)
     private BigDecimal latitude;
 
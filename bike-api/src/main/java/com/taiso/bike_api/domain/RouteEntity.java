@@ -19,6 +19,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -31,7 +32,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "route")
+// 커서 페이지네이션 (정렬 키, route_id) 복합 인덱스
+@Table(name = "route", indexes = {
+        @Index(name = "idx_route_created_at_id", columnList = "created_at, route_id"),
+        @Index(name = "idx_route_like_count_id", columnList = "like_count, route_id"),
+        @Index(name = "idx_route_distance_id", columnList = "distance, route_id"),
+        @Index(name = "idx_route_altitude_id", columnList = "altitude, route_id"),
+        // 메모리 색인 증분 갱신 (updated_at > 마지막 동기화 시각)
+        @Index(name = "idx_route_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,6 +62,10 @@ public class RouteEntity {
     @Column(name = "route_img_id", length = 1000)
     private String routeImgId;
 
+    // 크기별 썸네일 URL prefix ({prefix}_card.jpg 등, RouteThumbnail 참고). 썸네일이 상세 이미지 하나뿐이면 null
+    @Column(name = "thumbnail_prefix", length = 1000)
+    private String thumbnailPrefix;
+
     // route의 소유자(작성자)의 user_id(외래키)는 단순 값으로 관리하거나 별도의 연관관계를 설정할 수 있습니다.
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -110,6 +123,38 @@ public class RouteEntity {
     @OneToMany(mappedBy = "route", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RoutePointEntity> routePoints;
 
+    // 출발점 / 경계 상자 (route_geometry 저장 시 함께 계산, 공간 검색 색인용). null 이면 아직 계산 전
+    @Column(name = "start_lat")
+    private Double startLat;
+
+    @Column(name = "start_lon")
+    private Double startLon;
+
+    @Column(name = "min_lat")
+    private Double minLat;
+
+    @Column(name = "min_lon")
+    private Double minLon;
+
+    @Column(name = "max_lat")
+    private Double maxLat;
+
+    @Column(name = "max_lon")
+    private Double maxLon;
+
+    // 비동기 업로드 처리 상태 (기존 동기 업로드 루트는 null = 완료로 취급)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ingest_status", length = 20)
+    private IngestStatus ingestStatus;
+
+    // 비동기 업로드 실패 사유
+    @Column(name = "ingest_message", length = 500)
+    private String ingestMessage;
+
+    // 비동기 업로드 파싱 직후 찾은 같은 코스로 보이는 기존 루트 아이디 (쉼표 구분, 유사도 높은 순)
+    @Column(name = "ingest_similar_route_ids", length = 255)
+    private String ingestSimilarRouteIds;
+
     public enum Region {
         서울,
         경기,
@@ -145,4 +190,13 @@ public class RouteEntity {
         TCX
     }
 
+    public enum IngestStatus {
+        처리대기,
+        파싱중,
+        렌더링중,
+        업로드중,
+        완료,
+        실패
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.taiso.bike_api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 루트 경로 바이너리 / 경로 지문 (route 와 1:1, route_id 공유)
+ *
+ * route 를 조회할 때마다 MEDIUMBLOB 과 지문을 함께 읽지 않도록 별도 테이블에 두고,
+ * 필요한 곳에서만 RouteGeometryRepository 로 바이너리 컬럼만 조회합니다.
+ * RouteEntity 쪽에는 연관관계를 두지 않습니다.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "route_geometry")
+public class RouteGeometryEntity {
+
+    @Id
+    @Column(name = "route_id")
+    private Long routeId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "route_id")
+    private RouteEntity route;
+
+    // 경로 전체를 압축한 바이너리 (RouteGeometryCodec)
+    @Lob
+    @Column(name = "geometry", columnDefinition = "MEDIUMBLOB", nullable = false)
+    private byte[] geometry;
+
+    // 경로 모양 지문 (RouteFingerprint MinHash 서명, 유사 루트 검색용). null 이면 아직 계산 전이거나 포인트 부족
+    @Column(name = "fingerprint", columnDefinition = "VARBINARY(512)")
+    private byte[] fingerprint;
+
+    // sequence 0 인 route_point_id. route_point_id = firstPointId + sequence 로 이어져 있을 때만 저장, 아니면 null
+    // geometry 로 상세 포인트를 만들 때 route_point 를 읽지 않고 route_point_id 를 계산하는 데 사용
+    @Column(name = "first_point_id")
+    private Long firstPointId;
+}
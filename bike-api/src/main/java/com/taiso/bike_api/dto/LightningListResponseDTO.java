@@ -26,4 +26,9 @@ public class LightningListResponseDTO {
     // 마지막 페이지 여부
     private boolean last;
 
+    // 커서 페이지네이션 - 다음 페이지 커서 (오프셋 모드이거나 다음 페이지가 없으면 null)
+    private String nextCursor;
+    // 커서 페이지네이션 - 다음 페이지 존재 여부
+    private boolean hasNext;
+
 }
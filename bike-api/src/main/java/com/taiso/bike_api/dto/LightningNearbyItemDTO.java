@@ -0,0 +1,22 @@
+package com.taiso.bike_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class LightningNearbyItemDTO {
+    // 검색 위치에서 번개 출발 위치까지의 거리 (m)
+    private long distanceMeters;
+
+    // 번개 리스트 항목 (북마크 여부 포함)
+    private ResponseComponentDTO lightning;
+}
@@ -0,0 +1,26 @@
+package com.taiso.bike_api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class LightningNearbyResponseDTO {
+    // 가까운 순으로 정렬된 모집 중인 번개
+    private List<LightningNearbyItemDTO> content;
+
+    // 검색 기준 위치와 반경
+    private double latitude;
+    private double longitude;
+    private double radiusKm;
+}
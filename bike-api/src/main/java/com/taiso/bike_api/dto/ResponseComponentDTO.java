@@ -20,7 +20,7 @@ import lombok.ToString;
 @Setter
 @Getter
 @ToString
-@Builder
+@Builder(toBuilder = true)
 public class ResponseComponentDTO {
     private Long lightningId;
     private Long creatorId;
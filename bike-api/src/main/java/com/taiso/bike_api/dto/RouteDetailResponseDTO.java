@@ -1,6 +1,7 @@
 package com.taiso.bike_api.dto;
 
 import java.util.List;
+import java.util.Map;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +17,7 @@ import lombok.Setter;
 public class RouteDetailResponseDTO {
     private Long routeId;
     private String routeImgId;
+    private Map<String, String> thumbnailUrls; // 크기별 썸네일 URL (card, detail, share)
     private Long userId;
     private String routeName;
     private String description;
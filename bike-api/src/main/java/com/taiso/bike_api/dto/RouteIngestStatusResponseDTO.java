@@ -0,0 +1,28 @@
+package com.taiso.bike_api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class RouteIngestStatusResponseDTO {
+    private Long routeId;
+    // 처리대기, 파싱중, 렌더링중, 업로드중, 완료, 실패
+    private String status;
+    // 진행률 (0 ~ 100)
+    private int progress;
+    // 실패 사유
+    private String message;
+    // 같은 코스로 보이는 기존 루트 (파싱 이후, 유사도 높은 순)
+    private List<Long> similarRouteIds;
+}
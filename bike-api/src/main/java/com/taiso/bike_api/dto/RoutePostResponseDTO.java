@@ -1,8 +1,12 @@
 package com.taiso.bike_api.dto;
 
+import java.util.List;
+
 import lombok.Data;
 
 @Data
 public class RoutePostResponseDTO {
     private Long routeId;
+    // 같은 코스로 보이는 기존 루트 (유사도 높은 순)
+    private List<Long> similarRouteIds;
 }
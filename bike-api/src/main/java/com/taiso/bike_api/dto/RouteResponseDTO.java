@@ -19,6 +19,7 @@ public class RouteResponseDTO {
 
     private Long routeId;
     private String routeImgId;
+    private String thumbnailUrl;      // 리스트 카드용 썸네일 URL (없으면 routeImgId)
     private Long userId;
     private String routeName;
     private Long likeCount;
@@ -0,0 +1,22 @@
+package com.taiso.bike_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class RouteSimilarItemDTO {
+    // 경로 유사도 추정치 (0 ~ 1, 지나간 구역이 겹치는 비율)
+    private double similarity;
+
+    // 루트 리스트 항목 (좋아요 / 북마크 여부 포함)
+    private RouteResponseDTO route;
+}
@@ -0,0 +1,24 @@
+package com.taiso.bike_api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class RouteSimilarResponseDTO {
+    // 기준 루트
+    private Long routeId;
+
+    // 유사도 높은 순으로 정렬된 비슷한 루트
+    private List<RouteSimilarItemDTO> content;
+}
@@ -0,0 +1,28 @@
+package com.taiso.bike_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class SearchItemDTO {
+    // ROUTE, LIGHTNING, CLUB
+    private String type;
+
+    // 종류별 아이디 (routeId, lightningId, clubId)
+    private Long id;
+
+    // 루트 이름 / 번개 제목 / 클럽명
+    private String title;
+
+    // 관련도 점수 (검색: BM25, 자동완성: 제목 시작 2 / 단어 시작 1 / 단어 중간 0)
+    private double score;
+}
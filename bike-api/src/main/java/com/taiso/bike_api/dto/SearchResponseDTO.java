@@ -0,0 +1,24 @@
+package com.taiso.bike_api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class SearchResponseDTO {
+    // 검색어
+    private String query;
+
+    // 관련도 높은 순으로 정렬된 결과
+    private List<SearchItemDTO> content;
+}
@@ -0,0 +1,7 @@
+package com.taiso.bike_api.exception;
+
+public class ExternalApiUnavailableException extends RuntimeException {
+    public ExternalApiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -51,6 +51,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    // 루트 업로드 작업 큐가 가득 찬 경우 예외 처리
+    @ExceptionHandler(RouteIngestRejectedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRouteIngestRejectedException(RouteIngestRejectedException ex, HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.makeErrorResponse(
+                ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    // 다른 사용자의 업로드 상태 조회
+    @ExceptionHandler(RouteIngestAccessDeniedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRouteIngestAccessDeniedException(RouteIngestAccessDeniedException ex, HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.makeErrorResponse(
+                ex.getMessage(), HttpStatus.FORBIDDEN, request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+
+    // 외부 API 서킷 브레이커가 열린 경우 예외 처리
+    @ExceptionHandler(ExternalApiUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleExternalApiUnavailableException(ExternalApiUnavailableException ex, HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.makeErrorResponse(
+                ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    // 잘못된 페이지네이션 커서 예외 처리
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidCursorException(InvalidCursorException ex, HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.makeErrorResponse(
+                ex.getMessage(), HttpStatus.BAD_REQUEST, request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    // 잘못된 위치 검색 조건 예외 처리
+    @ExceptionHandler(InvalidLocationException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidLocationException(InvalidLocationException ex, HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.makeErrorResponse(
+                ex.getMessage(), HttpStatus.BAD_REQUEST, request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    // 잘못된 검색어 예외 처리
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidSearchQueryException(InvalidSearchQueryException ex, HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.makeErrorResponse(
+                ex.getMessage(), HttpStatus.BAD_REQUEST, request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     // 파일 크기 초과 예외 처리
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<ErrorResponseDTO> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex, HttpServletRequest request) {
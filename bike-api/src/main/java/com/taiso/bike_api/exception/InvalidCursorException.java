@@ -0,0 +1,7 @@
+package com.taiso.bike_api.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.taiso.bike_api.exception;
+
+public class InvalidLocationException extends RuntimeException {
+    public InvalidLocationException(String message) {
+        super(message);
+    }
+}
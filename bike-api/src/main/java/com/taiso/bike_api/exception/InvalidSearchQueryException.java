@@ -0,0 +1,7 @@
+package com.taiso.bike_api.exception;
+
+public class InvalidSearchQueryException extends RuntimeException {
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
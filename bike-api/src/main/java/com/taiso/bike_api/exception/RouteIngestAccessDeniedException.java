@@ -0,0 +1,7 @@
+package com.taiso.bike_api.exception;
+
+public class RouteIngestAccessDeniedException extends RuntimeException {
+    public RouteIngestAccessDeniedException(String message) {
+        super(message);
+    }
+}
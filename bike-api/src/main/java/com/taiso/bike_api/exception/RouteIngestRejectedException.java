@@ -0,0 +1,7 @@
+package com.taiso.bike_api.exception;
+
+public class RouteIngestRejectedException extends RuntimeException {
+    public RouteIngestRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,145 @@
+package com.taiso.bike_api.filter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 구조화 접근 로그 필터 (기존 CorsLoggingFilter 대체)
+ *
+ * 모든 요청의 헤더를 INFO 로 찍는 대신, 아래 경우에만 한 줄짜리 레코드를 비동기 기록기에 넘깁니다.
+ * - sampleRate 확률로 표본 추출된 요청
+ * - 5xx 응답, slowMs 이상 걸린 요청 (항상 기록)
+ * - 디버그 헤더가 붙은 요청 (요청 / 응답 헤더 포함, 인증 관련 헤더 값은 가림)
+ * 기록하지 않는 요청은 시각 측정 외에 추가 비용이 없습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)  // CORS 필터 다음, 보안 필터 체인 이전
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Set<String> MASKED_HEADERS = Set.of("cookie", "set-cookie", "authorization");
+
+    @Autowired
+    private AccessLogWriter accessLogWriter;
+
+    @Value("${access-log.enabled:true}")
+    private boolean enabled;
+
+    // 일반 요청 표본 비율 (0.0 ~ 1.0)
+    @Value("${access-log.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${access-log.slow-ms:1000}")
+    private long slowMs;
+
+    // 이 헤더 값이 true / 1 이면 헤더까지 기록
+    @Value("${access-log.debug-header:X-Debug-Log}")
+    private String debugHeader;
+
+    // 운영에서는 헤더 하나로 요청 헤더 전체가 로그에 남지 않도록 기본 비활성
+    @Value("${access-log.debug-enabled:false}")
+    private boolean debugEnabled;
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (Throwable e) {
+            failed = true;
+            throw e;
+        } finally {
+            long latencyMs = (System.nanoTime() - start) / 1_000_000;
+            // 예외가 필터 밖으로 나가면 아직 응답 상태가 200 이므로 컨테이너가 보낼 500 으로 기록
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            String reason = reasonFor(request, status, latencyMs);
+            if (reason != null) {
+                boolean debug = "debug".equals(reason);
+                accessLogWriter.submit(AccessLogRecord.builder()
+                        .timestamp(Instant.now())
+                        .method(request.getMethod())
+                        .path(request.getRequestURI())
+                        .route((String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+                        .status(status)
+                        .latencyMs(latencyMs)
+                        .origin(request.getHeader("Origin"))
+                        .remoteAddr(request.getRemoteAddr())
+                        .reason(reason)
+                        .requestHeaders(debug ? requestHeaders(request) : null)
+                        .responseHeaders(debug ? responseHeaders(response) : null)
+                        .build());
+            }
+        }
+    }
+
+    // 기록 사유, 기록하지 않으면 null (우선순위: debug > error > slow > sampled)
+    private String reasonFor(HttpServletRequest request, int status, long latencyMs) {
+        if (debugEnabled && isDebugRequested(request.getHeader(debugHeader))) {
+            return "debug";
+        }
+        if (status >= 500) {
+            return "error";
+        }
+        if (latencyMs >= slowMs) {
+            return "slow";
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    private static boolean isDebugRequested(String value) {
+        return value != null && ("1".equals(value) || "true".equalsIgnoreCase(value));
+    }
+
+    private static Map<String, String> requestHeaders(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            headers.put(headerName, mask(headerName, request.getHeader(headerName)));
+        }
+        return headers;
+    }
+
+    private static Map<String, String> responseHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String headerName : response.getHeaderNames()) {
+            headers.put(headerName, mask(headerName, response.getHeader(headerName)));
+        }
+        return headers;
+    }
+
+    // 쿠키(JWT) / 인증 헤더 값은 로그에 남기지 않음
+    private static String mask(String headerName, String value) {
+        return MASKED_HEADERS.contains(headerName.toLowerCase()) ? "***" : value;
+    }
+}
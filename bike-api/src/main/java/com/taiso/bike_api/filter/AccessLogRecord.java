@@ -0,0 +1,30 @@
+package com.taiso.bike_api.filter;
+
+import java.time.Instant;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 접근 로그 한 건 (요청 스레드에서 만들고 AccessLogWriter 스레드에서 직렬화)
+ */
+@Getter
+@Builder
+public class AccessLogRecord {
+
+    private final Instant timestamp;
+    private final String method;
+    private final String path;
+    // 매핑된 핸들러 경로 패턴 (/api/lightnings/{lightningId} 등), 엔드포인트별 집계용
+    private final String route;
+    private final int status;
+    private final long latencyMs;
+    private final String origin;
+    private final String remoteAddr;
+    // 기록 사유: sampled / error / slow / debug
+    private final String reason;
+    // 디버그 표시 요청에서만 채움
+    private final Map<String, String> requestHeaders;
+    private final Map<String, String> responseHeaders;
+}
@@ -0,0 +1,168 @@
+package com.taiso.bike_api.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 접근 로그 비동기 기록기
+ *
+ * 요청 스레드는 고정 크기 링 버퍼에 레코드를 넣기만 하고(가득 차면 버리고 건수만 셈),
+ * 전용 스레드가 꺼내 JSON 한 줄로 만들어 "ACCESS_LOG" 로거에 기록합니다.
+ * 문자열 생성과 어펜더 I/O 가 요청 처리 시간에 포함되지 않습니다.
+ */
+@Component
+@Slf4j
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
+    // 한 번에 꺼내 기록할 최대 건수
+    private static final int DRAIN_BATCH = 256;
+
+    private final BlockingQueue<AccessLogRecord> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+    private Thread worker;
+
+    public AccessLogWriter(@Value("${access-log.buffer-size:8192}") int bufferSize) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "access-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 레코드를 버퍼에 넣습니다. 버퍼가 가득 차면 기다리지 않고 버립니다.
+     */
+    public void submit(AccessLogRecord record) {
+        if (!buffer.offer(record)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        List<AccessLogRecord> batch = new ArrayList<>(DRAIN_BATCH);
+        long reportedDrops = 0;
+        while (running || !buffer.isEmpty()) {
+            try {
+                AccessLogRecord first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, DRAIN_BATCH - 1);
+                    for (AccessLogRecord record : batch) {
+                        ACCESS_LOG.info(toJson(record));
+                    }
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 레코드를 마저 기록하고 종료
+                running = false;
+            } catch (RuntimeException e) {
+                log.warn("접근 로그 기록 실패: {}", e.getMessage());
+                batch.clear();
+            }
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                log.warn("접근 로그 버퍼 초과로 누락된 레코드: 누적 {}건", drops);
+                reportedDrops = drops;
+            }
+        }
+    }
+
+    static String toJson(AccessLogRecord record) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append('{');
+        field(sb, "ts", record.getTimestamp().toString()).append(',');
+        field(sb, "method", record.getMethod()).append(',');
+        field(sb, "path", record.getPath()).append(',');
+        field(sb, "route", record.getRoute()).append(',');
+        sb.append("\"status\":").append(record.getStatus()).append(',');
+        sb.append("\"latencyMs\":").append(record.getLatencyMs()).append(',');
+        field(sb, "origin", record.getOrigin()).append(',');
+        field(sb, "remoteAddr", record.getRemoteAddr()).append(',');
+        field(sb, "reason", record.getReason());
+        if (record.getRequestHeaders() != null) {
+            sb.append(',');
+            headers(sb, "requestHeaders", record.getRequestHeaders());
+        }
+        if (record.getResponseHeaders() != null) {
+            sb.append(',');
+            headers(sb, "responseHeaders", record.getResponseHeaders());
+        }
+        return sb.append('}').toString();
+    }
+
+    private static StringBuilder field(StringBuilder sb, String name, String value) {
+        sb.append('"').append(name).append("\":");
+        if (value == null) {
+            return sb.append("null");
+        }
+        return quote(sb, value);
+    }
+
+    private static void headers(StringBuilder sb, String name, Map<String, String> headers) {
+        sb.append('"').append(name).append("\":{");
+        boolean first = true;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            quote(sb, header.getKey()).append(':');
+            quote(sb, header.getValue());
+        }
+        sb.append('}');
+    }
+
+    private static StringBuilder quote(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"');
+    }
+}
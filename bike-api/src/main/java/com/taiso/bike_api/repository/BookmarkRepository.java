@@ -1,11 +1,15 @@
 package com.taiso.bike_api.repository;
 
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.taiso.bike_api.domain.BookmarkEntity;
@@ -30,6 +34,11 @@ public interface BookmarkRepository extends JpaRepository<BookmarkEntity, Long>
 	// 루트 디테일 북마크 확인
 	boolean existsByUser_UserIdAndTargetIdAndTargetType(Long userId, Long targetId, BookmarkType type);
 
+	// 대상 목록 중 사용자가 북마크한 대상 ID (한 번의 쿼리로 조회)
+	@Query("SELECT b.targetId FROM BookmarkEntity b WHERE b.user.userId = :userId AND b.targetType = :type AND b.targetId IN :targetIds")
+	Set<Long> findBookmarkedTargetIds(@Param("userId") Long userId, @Param("type") BookmarkType type,
+			@Param("targetIds") Collection<Long> targetIds);
+
 
 	
 	// 추가할 메서드 - 수정됨
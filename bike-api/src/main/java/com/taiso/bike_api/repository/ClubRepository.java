@@ -1,5 +1,6 @@
 package com.taiso.bike_api.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,12 +8,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.taiso.bike_api.domain.ClubEntity;
 import com.taiso.bike_api.domain.ClubMemberEntity.ParticipantStatus;
 @Repository
-public interface ClubRepository extends JpaRepository<ClubEntity, Long> {
+public interface ClubRepository extends JpaRepository<ClubEntity, Long>, JpaSpecificationExecutor<ClubEntity> {
 
     Optional<ClubEntity> findByClubName(String clubName);
 
@@ -26,5 +30,13 @@ public interface ClubRepository extends JpaRepository<ClubEntity, Long> {
 
     //유저 아이디로 가입한 클럽 리스트 중에 상태가 완료 또는 승인인 클럽 리스트 조회    
     List<ClubEntity> findAllByUsers_User_UserIdAndUsers_ParticipantStatus(Long userId, ParticipantStatus participantStatus);
+
+    // 검색 색인 대상 클럽 (색인 재구성용): clubId, clubName, clubShortDescription
+    @Query("SELECT c.clubId, c.clubName, c.clubShortDescription FROM ClubEntity c")
+    List<Object[]> findSearchIndexTargets();
+
+    // since 이후 바뀐 클럽 (검색 색인 증분 갱신용): clubId, clubName, clubShortDescription
+    @Query("SELECT c.clubId, c.clubName, c.clubShortDescription FROM ClubEntity c WHERE c.updatedAt > :since")
+    List<Object[]> findSearchIndexChanges(@Param("since") LocalDateTime since);
     
 }
@@ -1,15 +1,18 @@
 package com.taiso.bike_api.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.taiso.bike_api.domain.LightningEntity;
 import com.taiso.bike_api.domain.LightningEntity.LightningStatus;
@@ -32,7 +35,7 @@ public interface LightningRepository extends JpaRepository<LightningEntity, Long
 
     // 일괄 업데이트를 위한 쿼리 메서드 추가
     @Modifying
-    @Query("UPDATE LightningEntity l SET l.status = :newStatus WHERE l.status = :currentStatus AND l.eventDate BETWEEN :startTime AND :endTime")
+    @Query("UPDATE LightningEntity l SET l.status = :newStatus, l.updatedAt = CURRENT_TIMESTAMP WHERE l.status = :currentStatus AND l.eventDate BETWEEN :startTime AND :endTime")
     int updateStatusForUpcomingEvents(
             LightningStatus currentStatus,
             LightningStatus newStatus,
@@ -40,6 +43,134 @@ public interface LightningRepository extends JpaRepository<LightningEntity, Long
             LocalDateTime endTime
     );
 
+    // 시작 시각이 :startedBefore 이전이고 종료 시각(event_date + duration 분)이 :endedBefore 이전인 번개를
+    // 최대 :batchSize 건 상태 변경 (status, event_date 인덱스로 범위를 좁힌 뒤 종료 시각 계산)
+    @Modifying
+    @Query(value = "UPDATE lightning SET status = :newStatus, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE status IN (:currentStatuses) AND event_date < :startedBefore "
+            + "AND DATE_ADD(event_date, INTERVAL duration MINUTE) < :endedBefore "
+            + "LIMIT :batchSize", nativeQuery = true)
+    int updateStatusForEndedEvents(@Param("currentStatuses") List<String> currentStatuses,
+                                   @Param("newStatus") String newStatus,
+                                   @Param("startedBefore") LocalDateTime startedBefore,
+                                   @Param("endedBefore") LocalDateTime endedBefore,
+                                   @Param("batchSize") int batchSize);
+
+    // 타이밍 휠에서 마감 시각이 된 번개 상태 변경 (등록 이후 일정이 바뀐 경우를 막기 위해 시작 시각도 함께 확인)
+    @Modifying
+    @Query("UPDATE LightningEntity l SET l.status = :newStatus, l.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE l.lightningId IN :lightningIds AND l.status = :currentStatus AND l.eventDate <= :startsBefore")
+    int updateStatusForStartingEvents(@Param("lightningIds") Collection<Long> lightningIds,
+                                      @Param("currentStatus") LightningStatus currentStatus,
+                                      @Param("newStatus") LightningStatus newStatus,
+                                      @Param("startsBefore") LocalDateTime startsBefore);
+
+    // 타이밍 휠에서 종료 시각이 된 번개 상태 변경 (updateStatusForEndedEvents 와 같은 조건을 ID 로 한정)
+    @Modifying
+    @Query(value = "UPDATE lightning SET status = :newStatus, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE lightning_id IN (:lightningIds) AND status IN (:currentStatuses) AND event_date < :startedBefore "
+            + "AND DATE_ADD(event_date, INTERVAL duration MINUTE) < :endedBefore", nativeQuery = true)
+    int updateStatusForEndedEventsIn(@Param("lightningIds") Collection<Long> lightningIds,
+                                     @Param("currentStatuses") List<String> currentStatuses,
+                                     @Param("newStatus") String newStatus,
+                                     @Param("startedBefore") LocalDateTime startedBefore,
+                                     @Param("endedBefore") LocalDateTime endedBefore);
+
+    // 상태 전환 예정 번개 (타이밍 휠 재구성용): lightningId, eventDate, duration, status
+    @Query("SELECT l.lightningId, l.eventDate, l.duration, l.status FROM LightningEntity l WHERE l.status IN :statuses")
+    List<Object[]> findDeadlineTargets(@Param("statuses") Collection<LightningStatus> statuses);
+
+    // 주변 검색 대상 번개 (위치 색인 재구성용): lightningId, latitude, longitude, 클럽 전용 제외
+    @Query("SELECT l.lightningId, l.latitude, l.longitude FROM LightningEntity l "
+            + "WHERE l.status IN :statuses AND (l.isClubOnly = false OR l.isClubOnly IS NULL)")
+    List<Object[]> findGeoIndexTargets(@Param("statuses") Collection<LightningStatus> statuses);
+
+    // since 이후 바뀐 번개 (위치 색인 증분 갱신용): lightningId, latitude, longitude, status, isClubOnly
+    @Query("SELECT l.lightningId, l.latitude, l.longitude, l.status, l.isClubOnly FROM LightningEntity l "
+            + "WHERE l.updatedAt > :since")
+    List<Object[]> findGeoIndexChanges(@Param("since") LocalDateTime since);
+
+    // 검색 색인 대상 번개 (색인 재구성용): lightningId, title, description, address, 클럽 전용 제외
+    @Query("SELECT l.lightningId, l.title, l.description, l.address FROM LightningEntity l "
+            + "WHERE l.isClubOnly = false OR l.isClubOnly IS NULL")
+    List<Object[]> findSearchIndexTargets();
+
+    // since 이후 바뀐 번개 (검색 색인 증분 갱신용): lightningId, title, description, address, isClubOnly
+    @Query("SELECT l.lightningId, l.title, l.description, l.address, l.isClubOnly FROM LightningEntity l "
+            + "WHERE l.updatedAt > :since")
+    List<Object[]> findSearchIndexChanges(@Param("since") LocalDateTime since);
+
+    // 아이디 목록으로 번개 조회 (목록 DTO 에 쓰는 태그 / 루트를 함께 읽음)
+    @EntityGraph(attributePaths = {"tags", "route"})
+    List<LightningEntity> findByLightningIdIn(Collection<Long> lightningIds);
+
+    // 참가 자리 확보: 모집 상태이고 정원 미만일 때만 참여 인원 +1, 마지막 자리를 채우면 같은 문장에서 마감으로 변경
+    // 0 을 반환하면 정원 초과 또는 모집 상태가 아님
+    // (MySQL 은 SET 절을 왼쪽부터 평가하므로 증가 전 값을 쓰도록 상태 변경을 먼저 둠)
+    @Modifying
+    @Query("UPDATE LightningEntity l SET "
+            + "l.status = CASE WHEN l.currentParticipants + 1 >= l.capacity THEN :closedStatus ELSE l.status END, "
+            + "l.currentParticipants = l.currentParticipants + 1, l.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE l.lightningId = :lightningId AND l.status = :openStatus AND l.currentParticipants < l.capacity")
+    int reserveSeat(@Param("lightningId") Long lightningId,
+                    @Param("openStatus") LightningStatus openStatus,
+                    @Param("closedStatus") LightningStatus closedStatus);
+
+    // 참여 인원 +1 (정원 미만일 때만), 모집 상태에서 마지막 자리를 채우면 같은 문장에서 마감으로 변경
+    // 0 을 반환하면 정원 초과
+    @Modifying
+    @Query("UPDATE LightningEntity l SET "
+            + "l.status = CASE WHEN l.status = :openStatus AND l.currentParticipants + 1 >= l.capacity "
+            + "THEN :closedStatus ELSE l.status END, "
+            + "l.currentParticipants = l.currentParticipants + 1, l.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE l.lightningId = :lightningId AND l.currentParticipants < l.capacity")
+    int incrementParticipants(@Param("lightningId") Long lightningId,
+                              @Param("openStatus") LightningStatus openStatus,
+                              @Param("closedStatus") LightningStatus closedStatus);
+
+    // 참여 인원 -1
+    @Modifying
+    @Query("UPDATE LightningEntity l SET l.currentParticipants = l.currentParticipants - 1 "
+            + "WHERE l.lightningId = :lightningId AND l.currentParticipants > 0")
+    int decrementParticipants(@Param("lightningId") Long lightningId);
+
+    // 인원이 다 찬 경우에만 상태 변경 (확인과 변경을 한 문장으로 처리)
+    @Modifying
+    @Query("UPDATE LightningEntity l SET l.status = :newStatus, l.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE l.lightningId = :lightningId AND l.status = :currentStatus AND l.currentParticipants >= l.capacity")
+    int updateStatusIfFull(@Param("lightningId") Long lightningId,
+                           @Param("currentStatus") LightningStatus currentStatus,
+                           @Param("newStatus") LightningStatus newStatus);
+
+    // 남은 자리가 있는 경우에만 상태 변경
+    @Modifying
+    @Query("UPDATE LightningEntity l SET l.status = :newStatus, l.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE l.lightningId = :lightningId AND l.status = :currentStatus AND l.currentParticipants < l.capacity")
+    int updateStatusIfNotFull(@Param("lightningId") Long lightningId,
+                              @Param("currentStatus") LightningStatus currentStatus,
+                              @Param("newStatus") LightningStatus newStatus);
+
+    // 참여 인원 보정 전 ID 구간의 번개 행 잠금
+    // 참가 / 승인 / 탈퇴는 lightning 행을 먼저 갱신한 뒤 lightning_user 를 바꾸므로, 잠금을 먼저 잡으면
+    // 진행 중인 트랜잭션이 커밋된 뒤에 집계하고 보정 중에는 새 참가가 기다림
+    @Query(value = "SELECT l.lightning_id FROM lightning l WHERE l.lightning_id BETWEEN :fromId AND :toId FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockForReconcile(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 참여 인원 보정: lightning_user 집계와 다른 행만 갱신 (ID 구간 단위, lockForReconcile 과 같은 트랜잭션에서 호출)
+    @Modifying
+    @Query(value = "UPDATE lightning l "
+            + "LEFT JOIN (SELECT lu.lightning_id, COUNT(*) AS cnt FROM lightning_user lu "
+            + "           WHERE lu.participant_status IN ('승인', '완료') AND lu.lightning_id BETWEEN :fromId AND :toId "
+            + "           GROUP BY lu.lightning_id) c ON c.lightning_id = l.lightning_id "
+            + "SET l.current_participants = COALESCE(c.cnt, 0) "
+            + "WHERE l.lightning_id BETWEEN :fromId AND :toId AND l.current_participants <> COALESCE(c.cnt, 0)",
+            nativeQuery = true)
+    int reconcileParticipants(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT MAX(l.lightningId) FROM LightningEntity l")
+    Long findMaxLightningId();
+
 	// 클럽 번개 리스트 조회 repository
 	List<LightningEntity> findByClubId(Long clubId);
 
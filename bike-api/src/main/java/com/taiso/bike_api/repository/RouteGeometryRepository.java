@@ -0,0 +1,49 @@
+package com.taiso.bike_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taiso.bike_api.domain.RouteEntity.IngestStatus;
+import com.taiso.bike_api.domain.RouteGeometryEntity;
+
+public interface RouteGeometryRepository extends JpaRepository<RouteGeometryEntity, Long> {
+
+  // 루트 geometry 만 조회 (없으면 null)
+  @Query("SELECT g.geometry FROM RouteGeometryEntity g WHERE g.routeId = :routeId")
+  byte[] findGeometryByRouteId(@Param("routeId") Long routeId);
+
+  // sequence 0 인 route_point_id 만 조회 (없거나 아이디가 이어져 있지 않으면 null)
+  @Query("SELECT g.firstPointId FROM RouteGeometryEntity g WHERE g.routeId = :routeId")
+  Long findFirstPointIdByRouteId(@Param("routeId") Long routeId);
+
+  // 루트 지문만 조회 (없으면 null)
+  @Query("SELECT g.fingerprint FROM RouteGeometryEntity g WHERE g.routeId = :routeId")
+  byte[] findFingerprintByRouteId(@Param("routeId") Long routeId);
+
+  // 경로 지문 저장
+  @Modifying
+  @Query("UPDATE RouteGeometryEntity g SET g.fingerprint = :fingerprint WHERE g.routeId = :routeId")
+  int updateFingerprint(@Param("routeId") Long routeId, @Param("fingerprint") byte[] fingerprint);
+
+  // 지문 색인 대상 루트 (색인 재구성용): routeId, fingerprint
+  @Query("SELECT g.routeId, g.fingerprint FROM RouteGeometryEntity g JOIN g.route r "
+      + "WHERE g.fingerprint IS NOT NULL AND (r.ingestStatus IS NULL OR r.ingestStatus = :completed)")
+  List<Object[]> findFingerprintIndexTargets(@Param("completed") IngestStatus completed);
+
+  // since 이후 route 가 바뀐 루트의 지문 (색인 증분 갱신용): routeId, ingestStatus, fingerprint
+  // 지문은 업로드 / 마이그레이션에서 route 의 경계 상자와 같은 트랜잭션으로 저장되므로 route.updated_at 으로 판단
+  @Query("SELECT g.routeId, r.ingestStatus, g.fingerprint FROM RouteGeometryEntity g JOIN g.route r WHERE r.updatedAt > :since")
+  List<Object[]> findFingerprintIndexChanges(@Param("since") LocalDateTime since);
+
+  // 루트 삭제 전 geometry 삭제 (엔티티를 읽지 않고 바로 삭제)
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM RouteGeometryEntity g WHERE g.routeId = :routeId")
+  int deleteByRouteId(@Param("routeId") Long routeId);
+}
@@ -1,8 +1,12 @@
 package com.taiso.bike_api.repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.taiso.bike_api.domain.RouteLikeEntity;
@@ -12,5 +16,9 @@ public interface RouteLikeRepository extends JpaRepository<RouteLikeEntity, Long
 	Optional<RouteLikeEntity> findByUser_UserIdAndRoute_RouteId(Long userId, Long routeId);
 
 	boolean existsByUser_UserIdAndRoute_RouteId(Long userId, Long routeId);
+
+	// 루트 목록 중 사용자가 좋아요한 루트 ID (한 번의 쿼리로 조회)
+	@Query("SELECT rl.route.routeId FROM RouteLikeEntity rl WHERE rl.user.userId = :userId AND rl.route.routeId IN :routeIds")
+	Set<Long> findLikedRouteIds(@Param("userId") Long userId, @Param("routeIds") Collection<Long> routeIds);
 	
 }
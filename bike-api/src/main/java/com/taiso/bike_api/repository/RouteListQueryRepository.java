@@ -0,0 +1,232 @@
+package com.taiso.bike_api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.dto.RouteResponseDTO;
+import com.taiso.bike_api.util.KeysetCursor;
+import com.taiso.bike_api.util.KeysetSlice;
+import com.taiso.bike_api.util.RouteThumbnail;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * 루트 목록 화면 전용 조회 모델
+ *
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 목록에 필요한 컬럼만 Tuple 로 읽어 RouteResponseDTO 를 바로 만듭니다.
+ * 태그는 페이지의 루트 ID 로 한 번에 조회해 합치므로 페이지 크기와 관계없이
+ * 목록 1회 + 태그 1회 (+ 전체 개수가 필요한 경우 count 1회) 쿼리로 끝납니다.
+ * 커서 모드(findRouteSlice)는 count 없이 목록 1회 + 태그 1회입니다.
+ * 좋아요 / 북마크 여부는 호출 측에서 채웁니다.
+ */
+@Repository
+public class RouteListQueryRepository {
+
+    private static final String ID_FIELD = "routeId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public Page<RouteResponseDTO> findRouteList(Specification<RouteEntity> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<RouteEntity> root = query.from(RouteEntity.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        // 태그 조건은 route_tag 조인이라 루트가 중복될 수 있음
+        boolean joined = !root.getJoins().isEmpty();
+        selectListColumns(query, root, joined);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(toResponseDTOs(rows), pageable, () -> count(spec, joined));
+    }
+
+    /**
+     * 키셋 페이지네이션 목록 조회
+     * (정렬 키, routeId) 가 커서보다 뒤인 행을 size + 1 개 읽어 다음 페이지 여부를 판단하고, count 쿼리는 실행하지 않습니다.
+     *
+     * @param sortField 목록 컬럼 중 NOT NULL 인 정렬 키 (routeId 면 ID 단독 정렬)
+     * @param cursor 직전 페이지의 커서, 첫 페이지는 null
+     */
+    @Transactional(readOnly = true)
+    public KeysetSlice<RouteResponseDTO> findRouteSlice(Specification<RouteEntity> spec, String sortField,
+                                                        Sort.Direction direction, KeysetCursor cursor, int size) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<RouteEntity> root = query.from(RouteEntity.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        boolean joined = !root.getJoins().isEmpty();
+        selectListColumns(query, root, joined);
+        if (cursor != null) {
+            Predicate seek = cursor.toPredicate(root, cb, ID_FIELD, direction);
+            predicate = predicate != null ? cb.and(predicate, seek) : seek;
+        }
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(KeysetCursor.orders(root, cb, sortField, ID_FIELD, direction));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = rows.get(rows.size() - 1);
+            nextCursor = KeysetCursor.of(sortField, last.get(sortField), last.get(ID_FIELD, Long.class)).encode();
+        }
+        return new KeysetSlice<>(toResponseDTOs(rows), nextCursor, hasNext);
+    }
+
+    /**
+     * 루트 ID 목록 중 조건에 맞는 루트를 routeIds 순서대로 조회합니다. (공간 색인 검색 결과 조회용, count 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<RouteResponseDTO> findRoutesByIds(Specification<RouteEntity> spec, List<Long> routeIds) {
+        if (routeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<RouteEntity> root = query.from(RouteEntity.class);
+        Predicate predicate = root.get(ID_FIELD).in(routeIds);
+        Predicate specPredicate = spec.toPredicate(root, query, cb);
+        if (specPredicate != null) {
+            predicate = cb.and(predicate, specPredicate);
+        }
+        selectListColumns(query, root, !root.getJoins().isEmpty());
+        query.where(predicate);
+
+        List<RouteResponseDTO> content = toResponseDTOs(entityManager.createQuery(query).getResultList());
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < routeIds.size(); i++) {
+            order.put(routeIds.get(i), i);
+        }
+        content.sort(Comparator.comparingInt(route -> order.get(route.getRouteId())));
+        return content;
+    }
+
+    private void selectListColumns(CriteriaQuery<Tuple> query, Root<RouteEntity> root, boolean distinct) {
+        query.multiselect(
+                root.get("routeId").alias("routeId"),
+                root.get("routeImgId").alias("routeImgId"),
+                root.get("thumbnailPrefix").alias("thumbnailPrefix"),
+                root.get("userId").alias("userId"),
+                root.get("routeName").alias("routeName"),
+                root.get("likeCount").alias("likeCount"),
+                root.get("distance").alias("distance"),
+                root.get("altitude").alias("altitude"),
+                root.get("region").alias("region"),
+                root.get("distanceType").alias("distanceType"),
+                root.get("altitudeType").alias("altitudeType"),
+                root.get("roadType").alias("roadType"),
+                root.get("createdAt").alias("createdAt"))
+                .distinct(distinct);
+    }
+
+    private List<RouteResponseDTO> toResponseDTOs(List<Tuple> rows) {
+        List<Long> routeIds = rows.stream()
+                .map(row -> row.get("routeId", Long.class))
+                .collect(Collectors.toList());
+        Map<Long, List<String>> tagsByRouteId = findTagNames(routeIds);
+
+        List<RouteResponseDTO> content = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long routeId = row.get("routeId", Long.class);
+            String routeImgId = row.get("routeImgId", String.class);
+            BigDecimal distance = row.get("distance", BigDecimal.class);
+            BigDecimal altitude = row.get("altitude", BigDecimal.class);
+            LocalDateTime createdAt = row.get("createdAt", LocalDateTime.class);
+            content.add(RouteResponseDTO.builder()
+                    .routeId(routeId)
+                    .routeImgId(routeImgId)
+                    .thumbnailUrl(RouteThumbnail.CARD.urlOf(row.get("thumbnailPrefix", String.class), routeImgId))
+                    .userId(row.get("userId", Long.class))
+                    .routeName(row.get("routeName", String.class))
+                    .likeCount(row.get("likeCount", Long.class))
+                    .tag(tagsByRouteId.getOrDefault(routeId, Collections.emptyList()))
+                    .distance(distance != null ? distance.floatValue() : null)
+                    .altitude(altitude != null ? altitude.floatValue() : null)
+                    .region(toName(row.get("region")))
+                    .distanceType(toName(row.get("distanceType")))
+                    .altitudeType(toName(row.get("altitudeType")))
+                    .roadType(toName(row.get("roadType")))
+                    .createdAt(createdAt != null ? createdAt.toString() : null)
+                    .build());
+        }
+        return content;
+    }
+
+    /**
+     * 루트 ID 목록의 태그 이름을 한 번의 쿼리로 조회합니다.
+     */
+    private Map<Long, List<String>> findTagNames(List<Long> routeIds) {
+        if (routeIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT r.routeId, t.name FROM RouteEntity r JOIN r.tags t WHERE r.routeId IN :routeIds",
+                        Object[].class)
+                .setParameter("routeIds", routeIds)
+                .getResultList();
+        Map<Long, List<String>> tagsByRouteId = new HashMap<>();
+        for (Object[] row : rows) {
+            tagsByRouteId.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+        return tagsByRouteId;
+    }
+
+    private long count(Specification<RouteEntity> spec, boolean distinct) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<RouteEntity> root = query.from(RouteEntity.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(distinct ? cb.countDistinct(root) : cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static String toName(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
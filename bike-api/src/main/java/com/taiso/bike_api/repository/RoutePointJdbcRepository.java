@@ -0,0 +1,132 @@
+package com.taiso.bike_api.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.taiso.bike_api.util.TrackBuffer;
+
+/**
+ * route_point 대량 저장용 JDBC 저장소
+ *
+ * RoutePointEntity 는 IDENTITY 전략이라 Hibernate 배치 insert 가 동작하지 않고 포인트마다 INSERT 가 나갑니다.
+ * 이 저장소는 영속성 컨텍스트를 거치지 않고 TrackBuffer 를 chunkSize 개씩 multi-row INSERT 한 문장으로 저장합니다.
+ * (드라이버 설정 rewriteBatchedStatements 여부와 관계없이 chunk 당 왕복 1회)
+ *
+ * 저장된 포인트는 현재 영속성 컨텍스트에 반영되지 않으므로, 같은 트랜잭션에서 route.getRoutePoints() 를 다시 읽으면 안 됩니다.
+ */
+@Repository
+public class RoutePointJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO route_point (route_id, sequence, latitude, longitude, elevation) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?,?,?,?,?)";
+    private static final String SELECT_TRACK_SQL =
+            "SELECT latitude, longitude, elevation FROM route_point WHERE route_id = ? ORDER BY sequence";
+    private static final String SELECT_ID_OFFSET_SQL =
+            "SELECT MIN(route_point_id - sequence), MAX(route_point_id - sequence), MIN(sequence), MAX(sequence), COUNT(*) "
+            + "FROM route_point WHERE route_id = ?";
+    private static final String SELECT_IDS_SQL =
+            "SELECT route_point_id FROM route_point WHERE route_id = ? ORDER BY sequence";
+
+    // MySQL 의 prepared statement 파라미터 상한(65535)을 넘지 않도록 제한
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${route.point.batch-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 포인트를 sequence 0 부터 순서대로 저장하고 저장된 행 수를 반환합니다.
+     */
+    public int insertAll(Long routeId, TrackBuffer points) {
+        return insertAll(routeId, points, chunkSize);
+    }
+
+    public int insertAll(Long routeId, TrackBuffer points, int chunkSize) {
+        int size = points.size();
+        if (size == 0) {
+            return 0;
+        }
+        int chunk = Math.max(1, Math.min(chunkSize, MAX_CHUNK_SIZE));
+
+        // 마지막 chunk 를 제외하면 같은 SQL 을 재사용
+        String fullChunkSql = size >= chunk ? buildInsertSql(chunk) : null;
+        int inserted = 0;
+        for (int from = 0; from < size; from += chunk) {
+            int to = Math.min(from + chunk, size);
+            String sql = (to - from == chunk) ? fullChunkSql : buildInsertSql(to - from);
+            final int start = from;
+            final int end = to;
+            inserted += jdbcTemplate.update(sql, ps -> bindRows(ps, routeId, points, start, end));
+        }
+        return inserted;
+    }
+
+    /**
+     * 루트의 포인트를 sequence 순으로 엔티티 생성 없이 TrackBuffer 로 읽습니다.
+     */
+    public TrackBuffer findTrack(Long routeId) {
+        TrackBuffer track = new TrackBuffer();
+        jdbcTemplate.query(SELECT_TRACK_SQL, rs -> {
+            track.add(rs.getDouble(1), rs.getDouble(2), rs.getFloat(3), TrackBuffer.NO_TIME);
+        }, routeId);
+        return track;
+    }
+
+    /**
+     * sequence 가 0 부터 빈틈없이 이어지고 route_point_id = 첫 아이디 + sequence 이면 sequence 0 의 아이디를, 아니면 null 을 반환합니다.
+     * insertAll 은 sequence 순으로 INSERT 하므로 다른 INSERT 와 섞여 아이디가 건너뛰지 않는 한 이 조건을 만족합니다.
+     */
+    public Long findFirstPointId(Long routeId) {
+        return jdbcTemplate.query(SELECT_ID_OFFSET_SQL, rs -> {
+            if (!rs.next() || rs.getLong(5) == 0) {
+                return null;
+            }
+            long minOffset = rs.getLong(1);
+            boolean contiguous = minOffset == rs.getLong(2)
+                    && rs.getLong(3) == 0
+                    && rs.getLong(4) == rs.getLong(5) - 1;
+            return contiguous ? minOffset : null;
+        }, routeId);
+    }
+
+    /**
+     * 루트의 route_point_id 만 sequence 순으로 읽습니다.
+     */
+    public long[] findPointIds(Long routeId) {
+        return jdbcTemplate.queryForList(SELECT_IDS_SQL, Long.class, routeId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private static void bindRows(PreparedStatement ps, Long routeId, TrackBuffer points, int from, int to)
+            throws SQLException {
+        int index = 1;
+        for (int i = from; i < to; i++) {
+            ps.setLong(index++, routeId);
+            ps.setInt(index++, i);
+            ps.setDouble(index++, points.lat(i));
+            ps.setDouble(index++, points.lon(i));
+            ps.setDouble(index++, points.ele(i));
+        }
+    }
+
+    private static String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+}
@@ -1,14 +1,84 @@
 package com.taiso.bike_api.repository;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.domain.RouteEntity.IngestStatus;
 
 public interface RouteRepository extends JpaRepository<RouteEntity, Long>, JpaSpecificationExecutor<RouteEntity> {
   RouteEntity findByRouteId(Long routeId);
 
   // 유저 아이디로 등록 루트 횟수 조회
   int countByUserId(Long userId);
+
+  // 비동기 업로드 처리 상태 변경
+  @Modifying
+  @Query("UPDATE RouteEntity r SET r.ingestStatus = :status, r.ingestMessage = :message, r.updatedAt = CURRENT_TIMESTAMP "
+      + "WHERE r.routeId = :routeId")
+  int updateIngestStatus(@Param("routeId") Long routeId, @Param("status") IngestStatus status, @Param("message") String message);
+
+  // 서버 재시작 등으로 중단된 비동기 업로드를 실패 처리
+  @Modifying
+  @Query("UPDATE RouteEntity r SET r.ingestStatus = :failed, r.ingestMessage = :message, r.updatedAt = CURRENT_TIMESTAMP "
+      + "WHERE r.ingestStatus IN :statuses")
+  int failInterruptedIngests(@Param("statuses") Collection<IngestStatus> statuses, @Param("failed") IngestStatus failed, @Param("message") String message);
+
+  // 보관 기간이 지난 실패 업로드 루트 아이디 조회 - 정리용
+  @Query("SELECT r.routeId FROM RouteEntity r WHERE r.routeId > :afterId AND r.ingestStatus = :failed AND r.updatedAt < :before "
+      + "ORDER BY r.routeId")
+  List<Long> findFailedIngestIds(@Param("afterId") Long afterId, @Param("failed") IngestStatus failed,
+      @Param("before") LocalDateTime before, Pageable pageable);
+
+  // route_geometry 행이 없는 (업로드가 끝난) 루트 아이디 조회 - 마이그레이션용
+  @Query("SELECT r.routeId FROM RouteEntity r WHERE NOT EXISTS (SELECT g.routeId FROM RouteGeometryEntity g WHERE g.routeId = r.routeId) "
+      + "AND (r.ingestStatus IS NULL OR r.ingestStatus = :completed) ORDER BY r.routeId")
+  List<Long> findRouteIdsWithoutGeometry(@Param("completed") IngestStatus completed, Pageable pageable);
+
+  // 마이그레이션할 루트 행 잠금 (삭제된 루트면 null). 여러 서버가 같은 루트를 동시에 처리하지 않도록
+  // 잠금을 잡은 뒤 route_geometry 가 아직 없는지 다시 확인
+  @Query(value = "SELECT r.route_id FROM route r WHERE r.route_id = :routeId FOR UPDATE", nativeQuery = true)
+  Long lockForMigration(@Param("routeId") Long routeId);
+
+  // route_geometry 는 있지만 출발점 / 경계 상자 또는 지문이 비어 있는 루트 아이디 조회 - 마이그레이션용
+  @Query("SELECT r.routeId FROM RouteEntity r WHERE EXISTS (SELECT g.routeId FROM RouteGeometryEntity g "
+      + "WHERE g.routeId = r.routeId AND (r.startLat IS NULL OR g.fingerprint IS NULL)) "
+      + "AND r.routeId > :afterId AND (r.ingestStatus IS NULL OR r.ingestStatus = :completed) ORDER BY r.routeId")
+  List<Long> findRouteIdsWithoutDerivedData(@Param("afterId") Long afterId, @Param("completed") IngestStatus completed, Pageable pageable);
+
+  // 출발점 / 경계 상자 저장
+  @Modifying
+  @Query("UPDATE RouteEntity r SET r.startLat = :startLat, r.startLon = :startLon, r.minLat = :minLat, r.minLon = :minLon, "
+      + "r.maxLat = :maxLat, r.maxLon = :maxLon, r.updatedAt = CURRENT_TIMESTAMP WHERE r.routeId = :routeId")
+  int updateBounds(@Param("routeId") Long routeId, @Param("startLat") Double startLat, @Param("startLon") Double startLon,
+                   @Param("minLat") Double minLat, @Param("minLon") Double minLon,
+                   @Param("maxLat") Double maxLat, @Param("maxLon") Double maxLon);
+
+  // 공간 색인 대상 루트 (색인 재구성용): routeId, startLat, startLon, minLat, minLon, maxLat, maxLon
+  @Query("SELECT r.routeId, r.startLat, r.startLon, r.minLat, r.minLon, r.maxLat, r.maxLon FROM RouteEntity r "
+      + "WHERE r.startLat IS NOT NULL AND (r.ingestStatus IS NULL OR r.ingestStatus = :completed)")
+  List<Object[]> findSpatialIndexTargets(@Param("completed") IngestStatus completed);
+
+  // since 이후 바뀐 루트의 출발점 / 경계 상자 (색인 증분 갱신용): routeId, ingestStatus, startLat, startLon, minLat, minLon, maxLat, maxLon
+  @Query("SELECT r.routeId, r.ingestStatus, r.startLat, r.startLon, r.minLat, r.minLon, r.maxLat, r.maxLon FROM RouteEntity r "
+      + "WHERE r.updatedAt > :since")
+  List<Object[]> findSpatialIndexChanges(@Param("since") LocalDateTime since);
+
+  // 검색 색인 대상 루트 (색인 재구성용): routeId, routeName, description
+  @Query("SELECT r.routeId, r.routeName, r.description FROM RouteEntity r "
+      + "WHERE r.ingestStatus IS NULL OR r.ingestStatus = :completed")
+  List<Object[]> findSearchIndexTargets(@Param("completed") IngestStatus completed);
+
+  // since 이후 바뀐 루트 (검색 색인 증분 갱신용): routeId, ingestStatus, routeName, description
+  @Query("SELECT r.routeId, r.ingestStatus, r.routeName, r.description FROM RouteEntity r WHERE r.updatedAt > :since")
+  List<Object[]> findSearchIndexChanges(@Param("since") LocalDateTime since);
 }
@@ -3,14 +3,22 @@ package com.taiso.bike_api.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.taiso.bike_api.domain.UserEntity;
+import com.taiso.bike_api.security.UserIdentity;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
 
+    // 식별 정보만 한 번의 조인으로 조회 (UserIdentityService 캐시 적재용)
+    @Query("SELECT new com.taiso.bike_api.security.UserIdentity(u.userId, u.email, r.roleName, d.userNickname, d.userProfileImg, u.stravaId) "
+            + "FROM UserEntity u LEFT JOIN u.role r LEFT JOIN u.userDetail d WHERE u.email = :email")
+    Optional<UserIdentity> findIdentityByEmail(@Param("email") String email);
+
 
     //유저의 스트라바 ID 존재 여부 확인
     boolean existsByUserIdAndStravaIdIsNull(Long userId);
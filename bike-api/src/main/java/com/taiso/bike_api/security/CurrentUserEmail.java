@@ -0,0 +1,24 @@
+package com.taiso.bike_api.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 현재 인증 주체의 이메일을 String 파라미터로 주입합니다.
+ * JWT 인증 주체는 CustomUserDetails 이므로 username(이메일)을 꺼내고,
+ * 익명 요청은 기존과 같이 주체 문자열("anonymousUser")을 그대로 넘깁니다.
+ *
+ * @see UserDetails#getUsername()
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@AuthenticationPrincipal(expression = "#this instanceof T(org.springframework.security.core.userdetails.UserDetails) ? username : #this")
+public @interface CurrentUserEmail {
+}
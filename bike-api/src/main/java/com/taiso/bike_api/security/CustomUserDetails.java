@@ -9,28 +9,57 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import com.taiso.bike_api.domain.UserEntity;
 
+/**
+ * 인증 주체 (로그인 시에는 UserEntity 로, JWT 인증 시에는 토큰 클레임으로 생성)
+ * JWT 인증 요청에서는 userId 를 바로 꺼낼 수 있어 사용자 조회가 필요 없습니다.
+ * 클레임이 없는 이전 토큰이면 userId / role 이 null 입니다.
+ */
 public class CustomUserDetails implements UserDetails {
 
-    private final UserEntity user;
+    private static final String DEFAULT_ROLE = "USER";
+
+    private final Long userId;
+    private final String email;
+    private final String password;
+    private final String role;
 
     public CustomUserDetails(UserEntity user) {
-        this.user = user;
+        // role 은 지연 로딩이라 인증 단계에서 초기화하지 않음
+        this(user.getUserId(), user.getEmail(), user.getPassword(), null);
+    }
+
+    public CustomUserDetails(Long userId, String email, String role) {
+        this(userId, email, null, role);
+    }
+
+    private CustomUserDetails(Long userId, String email, String password, String role) {
+        this.userId = userId;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getRole() {
+        return role;
     }
 
-    // Provide a default role. Adjust as needed based on your MemberEntity.
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+        return Collections.singleton(new SimpleGrantedAuthority("ROLE_" + (role != null ? role : DEFAULT_ROLE)));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword(); // Ensure MemberEntity has a getPassword() method.
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail(); // Ensure MemberEntity has a getUsername() method.
+        return email;
     }
 
     @Override
@@ -2,7 +2,6 @@ package com.taiso.bike_api.security;
 
 
 import java.io.IOException;
-import java.util.Collections;
 
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -37,9 +36,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         // 쿠키에서 jwt 가져오기
         String jwt = extractJwtFromCookie(request.getCookies());
-        if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-            String email = jwtTokenProvider.getUsernameFromJWT(jwt);
-            Authentication auth = new UsernamePasswordAuthenticationToken(email, null, Collections.emptyList());
+        // 한 번의 파싱으로 검증하고 클레임(이메일, userId, 권한)으로 인증 주체 생성
+        CustomUserDetails principal = jwt != null ? jwtTokenProvider.authenticate(jwt) : null;
+        if (principal != null) {
+            Authentication auth = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
         //다음 필터로 요청 전달: 인증 토큰이 설정되었으면 다음 필터로 요청을 전달합니다.
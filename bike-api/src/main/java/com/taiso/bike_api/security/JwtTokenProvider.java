@@ -1,29 +1,51 @@
 package com.taiso.bike_api.security;
 
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
 @Component
+@Slf4j
 public class JwtTokenProvider {
 
+    // 토큰 클레임 이름
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+
     // 토큰 유효시간 (예: 7일) - 10분
     private final long JWT_EXPIRATION = 1000L * 60 * 60 * 24 * 7; // 7일
 
     // 비밀키 객체 생성 (JWT_SECRET 문자열을 바이트 배열로 변환 후 키 객체 생성)
-    private final Key key;
+    private final SecretKey key;
+
+    // 파서는 불변 / 스레드 안전하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+
+    // 최근 검증한 토큰 (토큰 SHA-256 -> 인증 주체, 만료 시각), 최근 사용 순 LRU
+    private final int verifiedCacheMaxSize;
+    private final LinkedHashMap<String, VerifiedToken> verifiedTokens;
 
     // 생성자 주입을 사용하여 환경 변수 또는 외부 구성으로부터 주입받음
-    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
         // jwtSecret 검증 (비어있거나 256bit 미만이면 예외 발생)
         if (jwtSecret == null || jwtSecret.trim().isEmpty()) {
             throw new IllegalArgumentException("JWT secret must not be empty.");
@@ -33,54 +55,117 @@ public class JwtTokenProvider {
         }
         // Create the signing key and omit storing the secret
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedCacheMaxSize = verifiedCacheMaxSize;
+        this.verifiedTokens = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > JwtTokenProvider.this.verifiedCacheMaxSize;
+            }
+        };
     }
 
-    // JWT 토큰 생성 (jjwt 0.12.0 이상 방식 사용)
-    public String generateToken(String email) {
+    // JWT 토큰 생성 (jjwt 0.12.0 이상 방식 사용), 이메일과 함께 userId / 권한을 클레임에 넣음
+    public String generateToken(UserIdentity identity) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + JWT_EXPIRATION);
-        
+
         return Jwts.builder()
                 .header()                                   // (2) optional
                 .keyId("aKeyId")
                 .and()
                 .expiration(expiryDate)
-                .subject(email)                             // (3) JSON Claims, or
+                .subject(identity.getEmail())               // (3) JSON Claims, or
+                .claim(CLAIM_USER_ID, identity.getUserId())
+                .claim(CLAIM_ROLE, identity.getRole())
                 .signWith(key)                     // (4) if signing, or
                 .compact();                                 // (5)
     }
 
+    /**
+     * 토큰을 한 번만 파싱해 서명 / 만료를 검증하고 인증 주체를 반환합니다. 유효하지 않으면 null
+     * 최근 검증한 토큰은 다이제스트로 캐시해 만료 전까지 다시 파싱하지 않습니다.
+     */
+    public CustomUserDetails authenticate(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        synchronized (verifiedTokens) {
+            VerifiedToken cached = verifiedTokens.get(digest);
+            if (cached != null) {
+                if (cached.expiresAtMs > now) {
+                    return cached.principal;
+                }
+                verifiedTokens.remove(digest);
+                return null;
+            }
+        }
+
+        Claims claims = parse(token);
+        if (claims == null) {
+            return null;
+        }
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        CustomUserDetails principal = new CustomUserDetails(
+                userId != null ? userId.longValue() : null, claims.getSubject(), claims.get(CLAIM_ROLE, String.class));
+        // 만료 시각이 없는 토큰은 캐시하지 않음 (매번 검증)
+        if (claims.getExpiration() != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(digest, new VerifiedToken(principal, claims.getExpiration().getTime()));
+            }
+        }
+        return principal;
+    }
+
     public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(key) // use byte[] to avoid deprecation
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+        CustomUserDetails principal = authenticate(token);
+        return principal != null ? principal.getUsername() : null;
     }
 
     // JWT 토큰 검증
     public boolean validateToken(String token) {
+        return authenticate(token) != null;
+    }
+
+    private Claims parse(String token) {
         try {
-            // JWT 파서 빌더로 토큰 파싱 및 서명 검증 시도
-            Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            // 토큰 서명 검증 실패
-            System.out.println("Invalid JWT signature.");
+            // 캐시된 파서로 토큰 파싱 및 서명 검증
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             // 토큰 만료
-            System.out.println("Expired JWT token.");
+            log.debug("Expired JWT token.");
         } catch (UnsupportedJwtException e) {
             // 지원하지 않는 토큰
-            System.out.println("Unsupported JWT token.");
+            log.debug("Unsupported JWT token.");
+        } catch (JwtException e) {
+            // 토큰 형식 오류 또는 서명 검증 실패
+            log.debug("Invalid JWT signature.");
         } catch (IllegalArgumentException e) {
             // 토큰 클레임이 비어있음
-            System.out.println("JWT claims string is empty.");
+            log.debug("JWT claims string is empty.");
+        }
+        return null;
+    }
+
+    // 원본 토큰 대신 SHA-256 다이제스트를 캐시 키로 사용
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class VerifiedToken {
+        private final CustomUserDetails principal;
+        private final long expiresAtMs;
+
+        private VerifiedToken(CustomUserDetails principal, long expiresAtMs) {
+            this.principal = principal;
+            this.expiresAtMs = expiresAtMs;
         }
-        return false;
     }
-}
\ No newline at end of file
+}
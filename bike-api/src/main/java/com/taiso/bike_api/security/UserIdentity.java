@@ -0,0 +1,30 @@
+package com.taiso.bike_api.security;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 인증된 사용자를 식별하는 데 필요한 최소 정보 (캐시 값, JWT 클레임 원본)
+ * 엔티티가 아니므로 영속성 컨텍스트와 무관하게 여러 요청에서 공유해도 안전합니다.
+ */
+@Getter
+@ToString
+public class UserIdentity {
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final String nickname;
+    private final String profileImg;
+    private final boolean stravaLinked;
+
+    // JPQL 생성자 표현식용 (UserRepository.findIdentityByEmail)
+    public UserIdentity(Long userId, String email, String role, String nickname, String profileImg, Long stravaId) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.nickname = nickname;
+        this.profileImg = profileImg;
+        this.stravaLinked = stravaId != null;
+    }
+}
@@ -2,9 +2,7 @@ package com.taiso.bike_api.service;
 
 import java.util.Map;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -12,8 +10,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
+import com.taiso.bike_api.client.OutboundHttpClient;
 import com.taiso.bike_api.config.KakaoProperties;
 import com.taiso.bike_api.domain.UserDetailEntity;
 import com.taiso.bike_api.domain.UserEntity;
@@ -40,7 +38,8 @@ public class AuthService {
     private final KakaoProperties kakaoProperties;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RestTemplate restTemplate;
+    private final UserIdentityService userIdentityService;
+    private final OutboundHttpClient kakaoHttpClient;
     private final UserRoleRepository userRoleRepository;
     private final UserStatusRepository userStatusRepository;
     private final UserDetailRepository userDetailRepository;
@@ -50,14 +49,17 @@ public class AuthService {
     public AuthService(KakaoProperties kakaoProperties,
                        UserRepository userRepository,
                        JwtTokenProvider jwtTokenProvider,
+                       UserIdentityService userIdentityService,
                        UserRoleRepository userRoleRepository,
                        UserStatusRepository userStatusRepository,
                        UserDetailRepository userDetailRepository,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder,
+                       @Qualifier("kakaoHttpClient") OutboundHttpClient kakaoHttpClient) {
         this.kakaoProperties = kakaoProperties;
         this.userRepository = userRepository;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.restTemplate = new RestTemplate();
+        this.userIdentityService = userIdentityService;
+        this.kakaoHttpClient = kakaoHttpClient;
         this.userRoleRepository = userRoleRepository;
         this.userStatusRepository = userStatusRepository;
         this.userDetailRepository = userDetailRepository;
@@ -110,8 +112,8 @@ public class AuthService {
                     return savedUser;
                 });
 
-        // 4. JWT 생성
-        String jwtToken = jwtTokenProvider.generateToken(user.getEmail());
+        // 4. JWT 생성 (userId / 권한 클레임 포함)
+        String jwtToken = jwtTokenProvider.generateToken(userIdentityService.get(user.getEmail()));
         
         // Use the value from the array when creating the result
         return new KakaoAuthResultDTO(jwtToken, user.getUserId(), user.getEmail(), 
@@ -128,11 +130,12 @@ public class AuthService {
         params.add("redirect_uri", "https://taiso.site/oauth/callback");
         params.add("code", code);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
+        ResponseEntity<Map> response = kakaoHttpClient.execute("kakao-token", client -> client.post()
+                .uri(tokenUrl)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(params)
+                .retrieve()
+                .toEntity(Map.class));
 
         Map<String, Object> body = response.getBody();
         if (response.getStatusCode() == HttpStatus.OK && body != null) {
@@ -147,16 +150,11 @@ public class AuthService {
     private KakaoUserInfoDTO getKakaoUserInfo(String accessToken) {
         String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        HttpEntity<?> entity = new HttpEntity<>(headers);
-
-        ResponseEntity<KakaoUserInfoDTO> response = restTemplate.exchange(
-                userInfoUrl,
-                HttpMethod.GET,
-                entity,
-                KakaoUserInfoDTO.class
-        );
+        ResponseEntity<KakaoUserInfoDTO> response = kakaoHttpClient.execute("kakao-user-info", client -> client.get()
+                .uri(userInfoUrl)
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .toEntity(KakaoUserInfoDTO.class));
 
         if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
             return response.getBody();
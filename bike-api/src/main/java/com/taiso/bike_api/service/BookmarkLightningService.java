@@ -18,7 +18,6 @@ import com.taiso.bike_api.exception.LightningNotFoundException;
 import com.taiso.bike_api.exception.UserNotFoundException;
 import com.taiso.bike_api.repository.BookmarkRepository;
 import com.taiso.bike_api.repository.LightningRepository;
-import com.taiso.bike_api.repository.LightningUserRepository;
 import com.taiso.bike_api.repository.UserRepository;
 
 import jakarta.transaction.Transactional;
@@ -37,9 +36,6 @@ public class BookmarkLightningService {
     @Autowired
     private BookmarkRepository bookmarkRepository;
 
-    @Autowired
-    private LightningUserRepository lightningUserRepository;
-
     // 북마크 번개 생성
     @Transactional
     public void bookmarkLightningCreate(Long lightningId, Authentication authentication) {
@@ -92,7 +88,7 @@ public class BookmarkLightningService {
                             .orElseThrow(() -> new UserNotFoundException("북마크된 번개를 찾을 수 없습니다."));
 
                     // 현재 참여자 수 계산
-                    int currentParticipants = lightningUserRepository.countByLightning_LightningIdAndParticipantStatusInApprovedAndCompleted(lightning.getLightningId());
+                    int currentParticipants = lightning.getCurrentParticipants();
 
                     return BookmarkLightningResponseDTO.builder()
                             .lightningId(lightning.getLightningId())
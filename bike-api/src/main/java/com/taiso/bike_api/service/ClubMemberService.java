@@ -43,6 +43,9 @@ public class ClubMemberService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
 	@Autowired
 	private ClubMemberRepository clubMemberRepository;
 	
@@ -97,11 +100,12 @@ public class ClubMemberService {
                 .orElseThrow(() -> new ClubNotFoundException("클럽을 찾을 수 없습니다. NOT_FOUND"));
 
         // 2. 유저 아이디로 엔티티 가져오기
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. NOT_FOUND"));   
+        Long currentUserId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. NOT_FOUND"))
+                .getUserId();
         
         // 3. 클럽 관리자와 로그인한 사람이 일치하는지 확인 (승인 권한 확인) -> 403 FORBIDDEN
-        if (!userEntity.getUserId().equals(clubEntity.getClubLeader().getUserId() )) {
+        if (!currentUserId.equals(clubEntity.getClubLeader().getUserId() )) {
             throw new ClubLeaderMismatchException("유저와 클럽 생성자가 같지 않음 FORBIDDEN");
         }
 
@@ -133,11 +137,12 @@ public class ClubMemberService {
                 .orElseThrow(() -> new ClubNotFoundException("클럽을 찾을 수 없습니다. NOT_FOUND"));
 
         // 2. 유저 아이디로 엔티티 가져오기
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. NOT_FOUND"));   
+        Long currentUserId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. NOT_FOUND"))
+                .getUserId();
         
         // 3. 클럽 관리자와 로그인한 사람이 일치하는지 확인 (승인 권한 확인) -> 403 FORBIDDEN
-        if (!userEntity.getUserId().equals(clubEntity.getClubLeader().getUserId() )) {
+        if (!currentUserId.equals(clubEntity.getClubLeader().getUserId() )) {
             throw new ClubLeaderMismatchException("유저와 클럽 생성자가 같지 않음 FORBIDDEN");
         }
 
@@ -268,11 +273,12 @@ public class ClubMemberService {
                 .orElseThrow(() -> new ClubNotFoundException("클럽을 찾을 수 없습니다. NOT_FOUND"));
 
         // 2. 로그인 사용자 엔티티 가져오기
-        UserEntity currentUser = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. NOT_FOUND"));   
+        Long currentUserId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. NOT_FOUND"))
+                .getUserId();
         
         // 3. 현재 사용자가 클럽 리더인지 확인 (승인 권한 확인) -> 403 FORBIDDEN
-        if (!currentUser.getUserId().equals(clubEntity.getClubLeader().getUserId() )) {
+        if (!currentUserId.equals(clubEntity.getClubLeader().getUserId() )) {
             throw new ClubLeaderMismatchException("클럽 리더만 클럽장 위임을 할 수 있음 FORBIDDEN");
         }
 
@@ -295,7 +301,7 @@ public class ClubMemberService {
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. NOT_FOUND")); 
         
         // 8. 클럽장을 멤버로 변경하기 위한 clubMemberEntity 가져오기
-        ClubMemberEntity ClubleaderEntity = clubMemberRepository.findByClubAndUser_UserId(clubEntity, currentUser.getUserId())
+        ClubMemberEntity ClubleaderEntity = clubMemberRepository.findByClubAndUser_UserId(clubEntity, currentUserId)
         		.orElseThrow(() -> new UserNotFoundException("클럽장 사용자를 찾을 수 없습니다. NOT_FOUND"));
         
         // 9. 클럽장 위임
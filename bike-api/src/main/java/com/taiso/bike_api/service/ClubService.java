@@ -5,6 +5,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -18,7 +19,6 @@ import com.taiso.bike_api.domain.BookmarkEntity.BookmarkType;
 import com.taiso.bike_api.domain.ClubEntity;
 import com.taiso.bike_api.domain.ClubMemberEntity.ParticipantStatus;
 import com.taiso.bike_api.domain.LightningTagCategoryEntity;
-import com.taiso.bike_api.domain.UserEntity;
 import com.taiso.bike_api.dto.ClubDescriptionUpdateRequestDTO;
 import com.taiso.bike_api.dto.ClubDescriptionUpdateResponseDTO;
 import com.taiso.bike_api.dto.ClubDetailGetResponseDTO;
@@ -28,11 +28,13 @@ import com.taiso.bike_api.dto.ClubListResponseDTO;
 import com.taiso.bike_api.dto.ClubsGetResponseDTO;
 import com.taiso.bike_api.exception.ClubNotFoundException;
 import com.taiso.bike_api.exception.ClubUpdateNoPermissionException;
+import com.taiso.bike_api.exception.InvalidCursorException;
 import com.taiso.bike_api.exception.UserNotFoundException;
 import com.taiso.bike_api.repository.BookmarkRepository;
 import com.taiso.bike_api.repository.ClubRepository;
 import com.taiso.bike_api.repository.LightningTagCategoryRepository;
 import com.taiso.bike_api.repository.UserRepository;
+import com.taiso.bike_api.util.KeysetCursor;
 
 import jakarta.persistence.criteria.Join;
 import jakarta.transaction.Transactional;
@@ -42,17 +44,29 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ClubService {
 
+    // 커서 페이지네이션 정렬 기준 (NOT NULL 컬럼)
+    private static final Set<String> CLUB_CURSOR_SORT_FIELDS = Set.of("clubId", "createdAt", "clubName");
+
+    // 커서 페이지네이션 최대 페이지 크기
+    private static final int CURSOR_MAX_SIZE = 100;
+
     @Autowired
     private ClubRepository clubRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     @Autowired
     private LightningTagCategoryRepository lightningTagCategoryRepository;
 
     @Autowired
     private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private TextSearchIndex textSearchIndex;
     
     public ClubDetailGetResponseDTO getClubDetail(Long clubId) {
         // 클럽 존재여부 확인
@@ -73,6 +87,79 @@ public class ClubService {
         // 페이지 요청 생성
         Pageable pageable = PageRequest.of(page, size, sortObj);
         
+        // 필터링 조건 생성
+        Specification<ClubEntity> spec = buildClubListSpecification(tags);
+
+        // 필터링된 데이터로 페이징 조회
+        Page<ClubEntity> clubPage = clubRepository.findAll(spec, pageable);
+
+        List<ClubsGetResponseDTO> clubDTO = toClubListDTOs(clubPage.getContent(), userEmail);
+
+        return ClubListResponseDTO.builder()
+                .content(clubDTO)
+                .pageNo(clubPage.getNumber() + 1)
+                .pageSize(clubPage.getSize())
+                .totalElements(clubPage.getTotalElements())
+                .totalPages(clubPage.getTotalPages())
+                .last(clubPage.isLast())
+                .hasNext(clubPage.hasNext())
+                .build();
+    }
+
+    /**
+     * 클럽 리스트 커서(키셋) 페이지네이션 조회
+     * 전체 개수를 세지 않으므로 totalElements / totalPages 는 -1 로 내려가며, nextCursor 로 다음 페이지를 요청합니다.
+     * 정렬은 오프셋 모드와 같이 오름차순이고, 같은 정렬 값은 clubId 오름차순으로 이어집니다.
+     */
+    public ClubListResponseDTO getClubsByCursor(String cursor, int requestedSize, String tags, String sort, String userEmail) {
+        String sortField = sort.isEmpty() ? "clubId" : sort;
+        if (!CLUB_CURSOR_SORT_FIELDS.contains(sortField)) {
+            throw new InvalidCursorException("커서 페이지네이션에서 지원하지 않는 정렬 기준입니다: " + sortField);
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor, sortField);
+        // 페이지 크기는 1 ~ CURSOR_MAX_SIZE
+        int size = Math.max(1, Math.min(requestedSize, CURSOR_MAX_SIZE));
+
+        Specification<ClubEntity> spec = buildClubListSpecification(tags)
+                // 태그 조인으로 같은 클럽이 중복되면 커서 경계가 어긋나므로 중복 제거
+                .and((root, query, criteriaBuilder) -> {
+                    query.distinct(true);
+                    return null;
+                });
+        if (after != null) {
+            spec = spec.and((root, query, criteriaBuilder) ->
+                    after.toPredicate(root, criteriaBuilder, "clubId", Sort.Direction.ASC));
+        }
+
+        // size + 1 개를 읽어 다음 페이지 여부 판단 (count 쿼리 없음)
+        Sort keysetSort = KeysetCursor.sort(sortField, "clubId", Sort.Direction.ASC);
+        List<ClubEntity> clubs = clubRepository.findBy(spec,
+                query -> query.sortBy(keysetSort).limit(size + 1).all());
+
+        boolean hasNext = clubs.size() > size;
+        if (hasNext) {
+            clubs = clubs.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            ClubEntity last = clubs.get(clubs.size() - 1);
+            Object lastValue = new BeanWrapperImpl(last).getPropertyValue(sortField);
+            nextCursor = KeysetCursor.of(sortField, lastValue, last.getClubId()).encode();
+        }
+
+        return ClubListResponseDTO.builder()
+                .content(toClubListDTOs(clubs, userEmail))
+                .pageSize(size)
+                .totalElements(-1)
+                .totalPages(-1)
+                .last(!hasNext)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 클럽 리스트 필터 조건 (오프셋 / 커서 모드 공통)
+    private Specification<ClubEntity> buildClubListSpecification(String tags) {
         // 필터링 조건 생성
         AtomicReference<Specification<ClubEntity>> specRef = 
             new AtomicReference<>(Specification.where(null));
@@ -85,12 +172,14 @@ public class ClubService {
                 return tagJoin.get("name").in((Object[]) tagArray);
             }));
         }
-        
-        // 필터링된 데이터로 페이징 조회
-        Page<ClubEntity> clubPage = clubRepository.findAll(specRef.get(), pageable);
 
+        return specRef.get();
+    }
+
+    // 클럽 리스트 응답 DTO 변환 (북마크 여부 포함)
+    private List<ClubsGetResponseDTO> toClubListDTOs(List<ClubEntity> clubs, String userEmail) {
         // 응답 DTO생성 - 빌더 패턴 사용
-        List<ClubsGetResponseDTO> clubDTO = clubPage.getContent().stream()
+        List<ClubsGetResponseDTO> clubDTO = clubs.stream()
                 .map(club -> {
                     // 기본 DTO 생성
                     ClubsGetResponseDTO dto = ClubsGetResponseDTO.builder()
@@ -109,11 +198,11 @@ public class ClubService {
                     // 북마크 정보는 별도로 채워넣기
                     if (userEmail != null && !userEmail.isEmpty()) {
                         try {
-                            UserEntity user = userRepository.findByEmail(userEmail).orElse(null);
-                            if (user != null) {
+                            Long userId = userIdentityService.findUserId(userEmail);
+                            if (userId != null) {
                                 // 별도 쿼리로 북마크 여부 확인
                                 boolean isBookmarked = bookmarkRepository.existsByUser_UserIdAndTargetIdAndTargetType(
-                                    user.getUserId(), 
+                                    userId, 
                                     club.getClubId(),
                                     BookmarkType.CLUB
                                 );
@@ -129,14 +218,7 @@ public class ClubService {
                 })
                 .collect(Collectors.toList());
 
-        return ClubListResponseDTO.builder()
-                .content(clubDTO)
-                .pageNo(clubPage.getNumber() + 1)
-                .pageSize(clubPage.getSize())
-                .totalElements(clubPage.getTotalElements())
-                .totalPages(clubPage.getTotalPages())
-                .last(clubPage.isLast())
-                .build();
+        return clubDTO;
     }
 
     @Transactional
@@ -147,11 +229,12 @@ public class ClubService {
             .orElseThrow(() -> new ClubNotFoundException("클럽이 존재하지 않습니다."));
 
         // 유저 존재여부 확인
-        UserEntity user = userRepository.findByEmail(authentication.getName())
-            .orElseThrow(() -> new UserNotFoundException("유저가 존재하지 않습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+            .orElseThrow(() -> new UserNotFoundException("유저가 존재하지 않습니다."))
+            .getUserId();
 
         // 클럽 수정 권한 확인
-        if (!club.getClubLeader().getUserId().equals(user.getUserId())) {
+        if (!club.getClubLeader().getUserId().equals(userId)) {
             throw new ClubUpdateNoPermissionException("클럽 소유자만 수정할 수 있습니다.");
         }
 
@@ -176,11 +259,12 @@ public class ClubService {
                 .orElseThrow(() -> new ClubNotFoundException("클럽이 존재하지 않습니다."));
 
         // 유저 존재여부 확인
-        UserEntity user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("유저가 존재하지 않습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("유저가 존재하지 않습니다."))
+                .getUserId();
 
         // 클럽 수정 권한 확인
-        if (!club.getClubLeader().getUserId().equals(user.getUserId())) {
+        if (!club.getClubLeader().getUserId().equals(userId)) {
             throw new ClubUpdateNoPermissionException("클럽 소유자만 수정할 수 있습니다.");
         }
 
@@ -208,6 +292,7 @@ public class ClubService {
         club.setClubShortDescription(requestDTO.getClubShortDescription());
         club.setMaxUser(requestDTO.getMaxUser());
         club.setTags(tags);
+        textSearchIndex.update(club);
 
         return ClubDetailsUpdateResponseDTO.toDTO("클럽정보가 변경되었습니다.");
     }
@@ -215,11 +300,12 @@ public class ClubService {
 
     // 내가 가입한 클럽 조회
     public ClubListResponseDTO getMyClub(Authentication authentication) {
-        UserEntity user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("유저가 존재하지 않습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("유저가 존재하지 않습니다."))
+                .getUserId();
 
 
-        List<ClubEntity> clubs = clubRepository.findAllByUsers_User_UserIdAndUsers_ParticipantStatus(user.getUserId(), ParticipantStatus.승인);
+        List<ClubEntity> clubs = clubRepository.findAllByUsers_User_UserIdAndUsers_ParticipantStatus(userId, ParticipantStatus.승인);
 
         return ClubListResponseDTO.builder()
                 .content(clubs.stream().map(club -> ClubsGetResponseDTO.builder()
@@ -0,0 +1,216 @@
+package com.taiso.bike_api.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 용량 제한이 있는 디스크 LRU 타일 캐시
+ *
+ * 타일은 {root}/{source}/{z}/{x}/{y}.tile 파일로 저장하고, 메모리에는 키별 파일 크기만 접근 순서(LinkedHashMap)로 보관합니다.
+ * 저장 후 전체 크기가 maxBytes 를 넘으면 가장 오래 사용하지 않은 타일부터 삭제합니다.
+ * 서버 재시작 시에는 파일 수정 시각 순으로 인덱스를 다시 구성합니다. (조회 시 수정 시각을 갱신)
+ */
+@Slf4j
+public class DiskTileCache {
+
+    private static final String SUFFIX = ".tile";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+    private final long maxBytes;
+
+    // key -> 파일 크기 (접근 순서)
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(1024, 0.75f, true);
+    private long totalBytes;
+
+    private long hits;
+    private long misses;
+
+    public DiskTileCache(Path root, long maxBytes) {
+        this.root = root;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("타일 캐시 디렉토리를 만들 수 없습니다: " + root, e);
+        }
+        loadIndex();
+    }
+
+    public static String key(String source, int zoom, int x, int y) {
+        return source + "/" + zoom + "/" + x + "/" + y;
+    }
+
+    /**
+     * 캐시된 타일을 반환합니다. 없으면 null
+     */
+    public byte[] get(String key) {
+        Path file;
+        synchronized (this) {
+            if (index.get(key) == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            file = pathOf(key);
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return bytes;
+        } catch (NoSuchFileException e) {
+            // 다른 스레드가 방금 삭제한 경우
+            remove(key);
+            return null;
+        } catch (IOException e) {
+            log.warn("타일 캐시 읽기 실패: {}", key, e);
+            remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * 타일을 저장하고 용량을 넘으면 오래된 타일을 삭제합니다.
+     */
+    public void put(String key, byte[] bytes) {
+        if (bytes.length > maxBytes) {
+            return;
+        }
+        Path file = pathOf(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            // 읽는 쪽에서 쓰다 만 파일을 보지 않도록 임시 파일에 쓴 뒤 이동
+            temp = Files.createTempFile(file.getParent(), "tile", TEMP_SUFFIX);
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("타일 캐시 저장 실패: {}", key, e);
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+            return;
+        }
+
+        List<String> evicted;
+        synchronized (this) {
+            Long previous = index.put(key, (long) bytes.length);
+            totalBytes += bytes.length - (previous != null ? previous : 0L);
+            evicted = evictOverflow();
+        }
+        for (String evictedKey : evicted) {
+            deleteQuietly(pathOf(evictedKey));
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    private synchronized void remove(String key) {
+        Long size = index.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    // 호출 측에서 동기화
+    private List<String> evictOverflow() {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            totalBytes -= eldest.getValue();
+            evicted.add(eldest.getKey());
+            it.remove();
+        }
+        return evicted;
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key + SUFFIX);
+    }
+
+    private void loadIndex() {
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(root)) {
+            files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException e) {
+            log.warn("타일 캐시 인덱스 로드 실패: {}", root, e);
+            return;
+        }
+        // 저장 도중 중단되어 남은 임시 파일 정리
+        files.stream().filter(path -> path.toString().endsWith(TEMP_SUFFIX)).forEach(DiskTileCache::deleteQuietly);
+        files = files.stream()
+                .filter(path -> path.toString().endsWith(SUFFIX))
+                .sorted(Comparator.comparingLong(DiskTileCache::lastModified))
+                .collect(Collectors.toList());
+        for (Path file : files) {
+            String relative = root.relativize(file).toString().replace('\\', '/');
+            String key = relative.substring(0, relative.length() - SUFFIX.length());
+            try {
+                long size = Files.size(file);
+                index.put(key, size);
+                totalBytes += size;
+            } catch (IOException e) {
+                deleteQuietly(file);
+            }
+        }
+        for (String evictedKey : evictOverflow()) {
+            deleteQuietly(pathOf(evictedKey));
+        }
+        log.info("타일 캐시 로드: {}개, {} bytes ({})", index.size(), totalBytes, root);
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("타일 캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.taiso.bike_api.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.taiso.bike_api.exception.StaticMapImageFetchException;
+
+/**
+ * URL 템플릿({z}, {x}, {y})으로 타일 서버에서 타일을 받아오는 TileSource
+ */
+public class HttpTileSource implements TileSource {
+
+    private final String name;
+    private final String urlTemplate;
+    private final String userAgent;
+    private final RestTemplate restTemplate;
+
+    public HttpTileSource(String name, String urlTemplate, String userAgent, Duration timeout) {
+        this.name = name;
+        this.urlTemplate = urlTemplate;
+        this.userAgent = userAgent;
+        this.restTemplate = new RestTemplateBuilder()
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public byte[] fetchTile(int zoom, int x, int y) {
+        String url = urlTemplate
+                .replace("{z}", String.valueOf(zoom))
+                .replace("{x}", String.valueOf(x))
+                .replace("{y}", String.valueOf(y));
+        HttpHeaders headers = new HttpHeaders();
+        // 공개 타일 서버는 User-Agent 가 없는 요청을 거부하는 경우가 많음
+        headers.set(HttpHeaders.USER_AGENT, userAgent);
+        ResponseEntity<byte[]> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new StaticMapImageFetchException("지도 타일을 가져오지 못했습니다. " + zoom + "/" + x + "/" + y);
+        }
+        return response.getBody();
+    }
+}
@@ -0,0 +1,104 @@
+package com.taiso.bike_api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 에서 다시 만들 수 있는 메모리 색인의 공통 동기화 (S: 색인 자료구조)
+ *
+ * 서버마다 색인을 따로 들고 있으므로 다른 서버나 일괄 UPDATE 로 바뀐 행은 DB 에서 다시 읽어 따라잡습니다.
+ * - 전체 재구성: 기동 시와 매일 memory-index.rebuild-cron 에 새 자료구조를 만들어 통째로 교체합니다.
+ *   교체 방식이라 재구성 중에도 조회에 빈 색인이 보이지 않고, 다른 서버에서 삭제된 행도 이때 정리됩니다.
+ * - 증분 갱신: memory-index.refresh-delay-ms 마다 updated_at 이 마지막 동기화 이후인 행만 다시 읽어 반영합니다.
+ *   늦게 커밋된 트랜잭션과 서버 간 시계 차이를 고려해 memory-index.refresh-overlap-ms 만큼 앞부터 다시 읽으며,
+ *   같은 행을 여러 번 반영해도 결과는 같습니다. 그래서 색인 대상 컬럼을 바꾸는 일괄 UPDATE 는 updated_at 도 함께 바꿔야 합니다.
+ * 삭제는 updated_at 으로 알 수 없으므로, 색인 결과를 쓰는 쪽은 DB 에 없는 아이디를 건너뛰어야 합니다.
+ * 서비스에서 호출하는 색인 변경은 AfterCommit 으로 커밋 뒤에 반영해 롤백된 행이 색인에 남지 않게 합니다.
+ */
+@Slf4j
+public abstract class IncrementalMemoryIndex<S> {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${memory-index.refresh-overlap-ms:120000}")
+    private long refreshOverlapMs;
+
+    private final String name;
+    private final String sizeMetric;
+
+    private volatile S index;
+
+    // 마지막으로 DB 와 맞춘 시각, 기동 재구성 전에는 null
+    private volatile LocalDateTime lastSync;
+
+    protected IncrementalMemoryIndex(String name, String sizeMetric) {
+        this.name = name;
+        this.sizeMetric = sizeMetric;
+    }
+
+    /**
+     * 비어 있는 새 색인 자료구조
+     */
+    protected abstract S newIndex();
+
+    /**
+     * 전체 재구성: 색인 대상 행을 모두 읽어 index 에 넣습니다.
+     */
+    protected abstract void load(S index);
+
+    /**
+     * 증분 갱신: updated_at 이 since 이후인 행을 읽어 색인에 넣거나 빼고, 읽은 행 수를 반환합니다.
+     */
+    protected abstract int applyChanges(S index, LocalDateTime since);
+
+    protected abstract int sizeOf(S index);
+
+    /**
+     * 현재 색인. 재구성으로 교체될 수 있으므로 필드에 담아 두지 말고 쓸 때마다 가져옵니다.
+     */
+    protected S index() {
+        return index;
+    }
+
+    @PostConstruct
+    void init() {
+        index = newIndex();
+        meterRegistry.gauge(sizeMetric, this, memoryIndex -> memoryIndex.sizeOf(memoryIndex.index));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${memory-index.rebuild-cron:0 30 4 * * *}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime syncStart = LocalDateTime.now();
+        S rebuilt = newIndex();
+        load(rebuilt);
+        index = rebuilt;
+        lastSync = syncStart;
+        log.info("{} 재구성: {}건 ({} ms)", name, sizeOf(rebuilt), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${memory-index.refresh-delay-ms:30000}",
+            initialDelayString = "${memory-index.refresh-delay-ms:30000}")
+    public synchronized void refresh() {
+        LocalDateTime since = lastSync;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime syncStart = LocalDateTime.now();
+        int changed = applyChanges(index, since.minus(Duration.ofMillis(refreshOverlapMs)));
+        lastSync = syncStart;
+        log.debug("{} 증분 갱신: {}건", name, changed);
+    }
+}
@@ -0,0 +1,211 @@
+package com.taiso.bike_api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taiso.bike_api.domain.LightningEntity;
+import com.taiso.bike_api.domain.LightningEntity.LightningStatus;
+import com.taiso.bike_api.repository.LightningRepository;
+import com.taiso.bike_api.util.HierarchicalTimingWheel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 번개별 상태 전환 시각을 타이밍 휠에 올려 두고 시각이 되면 해당 번개만 변경하는 스케줄러
+ *
+ * - 시작 10분 전: 모집 -> 강제마감
+ * - 시작 2일 후이면서 종료(시작 + 지속시간) 1일 후: 모집 / 마감 -> 종료
+ *
+ * 기동 시 DB 에서 대상 번개를 읽어 휠을 다시 만들고, 이후에는 생성 / 수정 / 마감 / 종료 시점에 갱신합니다.
+ * 실제 변경은 조건부 UPDATE 로 하므로 휠에 남은 항목이 실제 상태와 달라도 잘못 전환되지 않습니다.
+ * 틱은 전용 스레드에서 실행해, 스레드 하나를 나눠 쓰는 @Scheduled 작업(마이그레이션, 색인 재구성 등)이
+ * 오래 걸려도 전환 시각이 밀리지 않게 합니다.
+ */
+@Service
+@Slf4j
+public class LightningDeadlineScheduler {
+
+    public static final Duration CLOSE_BEFORE_START = Duration.ofMinutes(10);
+    public static final Duration COMPLETE_AFTER_START = Duration.ofDays(2);
+    public static final Duration COMPLETE_AFTER_END = Duration.ofDays(1);
+
+    // 휠 틱 간격과 단계별 버킷 수 (64초 / 약 68분 / 약 3일 / ... 단위로 단계가 늘어남)
+    private static final long TICK_MS = 1_000;
+    private static final int WHEEL_SIZE = 64;
+
+    private static final String METRIC_FIRED = "lightning.deadline.fired";
+    private static final String METRIC_PENDING = "lightning.deadline.pending";
+
+    @Autowired
+    private LightningRepository lightningRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LightningMainFeedCache lightningMainFeedCache;
+
+    @Value("${lightning.deadline.wheel.enabled:true}")
+    private boolean enabled;
+
+    @Value("${lightning.deadline.tick-ms:1000}")
+    private long tickMs;
+
+    private ScheduledExecutorService ticker;
+
+    private final HierarchicalTimingWheel<Long> closeWheel =
+            new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+    private final HierarchicalTimingWheel<Long> completeWheel =
+            new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge(METRIC_PENDING, List.of(Tag.of("transition", "close")),
+                closeWheel, HierarchicalTimingWheel::size);
+        meterRegistry.gauge(METRIC_PENDING, List.of(Tag.of("transition", "complete")),
+                completeWheel, HierarchicalTimingWheel::size);
+    }
+
+    @PostConstruct
+    void startTicker() {
+        if (!enabled) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lightning-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tickSafely, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopTicker() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기동 시 진행 중인 번개의 전환 시각으로 휠을 채웁니다. 이미 지난 시각은 다음 틱에 바로 처리됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Object[]> targets = lightningRepository.findDeadlineTargets(
+                List.of(LightningStatus.모집, LightningStatus.마감));
+        for (Object[] row : targets) {
+            schedule((Long) row[0], (LocalDateTime) row[1], (Integer) row[2], (LightningStatus) row[3]);
+        }
+        log.info("번개 상태 전환 휠 재구성: 번개 {}건, 마감 대기 {}건, 종료 대기 {}건 ({} ms)",
+                targets.size(), closeWheel.size(), completeWheel.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 번개의 현재 일정 / 상태로 전환 시각을 다시 등록합니다. 진행 중이 아닌 번개는 등록을 해제합니다.
+     */
+    public void schedule(LightningEntity lightning) {
+        schedule(lightning.getLightningId(), lightning.getEventDate(), lightning.getDuration(), lightning.getStatus());
+    }
+
+    /**
+     * 번개의 전환 시각 등록을 모두 해제합니다. (강제마감, 종료, 취소 등)
+     */
+    public void cancel(Long lightningId) {
+        closeWheel.cancel(lightningId);
+        completeWheel.cancel(lightningId);
+    }
+
+    private void schedule(Long lightningId, LocalDateTime eventDate, Integer duration, LightningStatus status) {
+        if (!enabled || lightningId == null || eventDate == null) {
+            return;
+        }
+        if (status == LightningStatus.모집) {
+            closeWheel.schedule(lightningId, deadlineMs(eventDate.minus(CLOSE_BEFORE_START)));
+        } else {
+            closeWheel.cancel(lightningId);
+        }
+        if (status == LightningStatus.모집 || status == LightningStatus.마감) {
+            LocalDateTime afterStart = eventDate.plus(COMPLETE_AFTER_START);
+            LocalDateTime afterEnd = eventDate.plusMinutes(duration != null ? duration : 0).plus(COMPLETE_AFTER_END);
+            completeWheel.schedule(lightningId, deadlineMs(afterStart.isAfter(afterEnd) ? afterStart : afterEnd));
+        } else {
+            completeWheel.cancel(lightningId);
+        }
+    }
+
+    // 예외가 나가면 ScheduledExecutorService 가 이후 틱을 멈추므로 여기서 잡음
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.error("번개 상태 전환 틱 실패", e);
+        }
+    }
+
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        long nowMs = System.currentTimeMillis();
+        List<Long> closing = closeWheel.advance(nowMs);
+        List<Long> completing = completeWheel.advance(nowMs);
+        if (closing.isEmpty() && completing.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!closing.isEmpty()) {
+            Integer closed = transactionTemplate.execute(status -> lightningRepository.updateStatusForStartingEvents(
+                    closing, LightningStatus.모집, LightningStatus.강제마감, now.plus(CLOSE_BEFORE_START)));
+            record("close", closing.size(), closed);
+        }
+        if (!completing.isEmpty()) {
+            Integer completed = transactionTemplate.execute(status -> lightningRepository.updateStatusForEndedEventsIn(
+                    completing, List.of(LightningStatus.모집.name(), LightningStatus.마감.name()), LightningStatus.종료.name(),
+                    now.minus(COMPLETE_AFTER_START), now.minus(COMPLETE_AFTER_END)));
+            record("complete", completing.size(), completed);
+        }
+    }
+
+    private void record(String transition, int due, Integer updated) {
+        int count = updated != null ? updated : 0;
+        meterRegistry.counter(METRIC_FIRED, "transition", transition).increment(count);
+        if (count > 0) {
+            // 상태가 바뀐 번개가 메인 목록에 있을 수 있음
+            lightningMainFeedCache.invalidate();
+            log.info("번개 상태 자동 변경 [{}]: 대상 {}건 중 {}건", transition, due, count);
+        }
+    }
+
+    // DB 시각은 초 단위로 잘릴 수 있고 휠은 틱 단위로 앞당겨 만료되므로 한 틱 뒤로 등록해 조건부 UPDATE 가 항상 통과하도록 함
+    private static long deadlineMs(LocalDateTime deadline) {
+        return deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + TICK_MS;
+    }
+}
@@ -17,9 +17,7 @@ import com.taiso.bike_api.domain.LightningEntity;
 import com.taiso.bike_api.domain.LightningTagCategoryEntity;
 import com.taiso.bike_api.domain.LightningUserEntity;
 import com.taiso.bike_api.domain.RouteEntity;
-import com.taiso.bike_api.domain.RoutePointEntity;
 import com.taiso.bike_api.domain.UserDetailEntity;
-import com.taiso.bike_api.domain.UserEntity;
 import com.taiso.bike_api.dto.LightningDetailClubDTO;
 import com.taiso.bike_api.dto.LightningDetailCreatorDTO;
 import com.taiso.bike_api.dto.LightningDetailGetResponseDTO;
@@ -39,6 +37,7 @@ import com.taiso.bike_api.repository.LightningTagCategoryRepository;
 import com.taiso.bike_api.repository.LightningUserRepository;
 import com.taiso.bike_api.repository.UserDetailRepository;
 import com.taiso.bike_api.repository.UserRepository;
+import com.taiso.bike_api.util.TrackSimplifier;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,6 +48,9 @@ public class LightningDetailService {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    UserIdentityService userIdentityService;
+
     @Autowired
     LightningDetailRepository lightningDetailRepository;
 
@@ -67,6 +69,21 @@ public class LightningDetailService {
     @Autowired
     BookmarkRepository bookmarkRepository;
 
+    @Autowired
+    LightningMainFeedCache lightningMainFeedCache;
+
+    @Autowired
+    LightningGeoIndex lightningGeoIndex;
+
+    @Autowired
+    TextSearchIndex textSearchIndex;
+
+    @Autowired
+    RouteService routeService;
+
+    @Autowired
+    LightningDeadlineScheduler lightningDeadlineScheduler;
+
     // 번개 수정 화면에 기존 정보 뿌리기
     public LightningDetailUpdateGetResponseDTO getUpdateLightningDetail(Long lightningId,
                                          Authentication authentication) {
@@ -75,7 +92,7 @@ public class LightningDetailService {
         }
 
         // 사용자 ID 조회
-        Long userId = userRepository.findByEmail(authentication.getName()).get().getUserId();
+        Long userId = userIdentityService.getUserId(authentication);
         // 해당 번개 조회
         Optional<LightningEntity> temp = lightningDetailRepository.findById(lightningId);
 
@@ -126,7 +143,7 @@ public class LightningDetailService {
         log.info("작성받은 번개 확인: {}", lightningDetailUpdateRequestDTO.toString());
 
         // 사용자 ID 조회
-        Long userId = userRepository.findByEmail(authentication.getName()).get().getUserId();
+        Long userId = userIdentityService.getUserId(authentication);
         // DTO로 DB에서 해당 번개 조회
         Optional<LightningEntity> temp = lightningDetailRepository.findById(lightningDetailUpdateRequestDTO.getLightningId());
 
@@ -167,6 +184,11 @@ public class LightningDetailService {
         entity.setTags(tags);
 
         lightningDetailRepository.save(entity);
+        // 일정이 바뀌었을 수 있으므로 상태 전환 시각 다시 등록
+        lightningDeadlineScheduler.schedule(entity);
+        lightningMainFeedCache.invalidate();
+        lightningGeoIndex.update(entity);
+        textSearchIndex.update(entity);
     }
 
     // 번개 디테일 조회
@@ -208,18 +230,8 @@ public class LightningDetailService {
 
             RouteEntity route = temp.getRoute();
 
-                // 번개 루트 포인트 빌드 (존재할때만)
-                List<RoutePointDTO> routePointDTOs = new ArrayList<>();
-                for (RoutePointEntity entity : route.getRoutePoints()) {
-                    RoutePointDTO build = RoutePointDTO.builder()
-                            .route_point_id(String.valueOf(entity.getRoutePointId()))
-                            .sequence(entity.getSequence())
-                            .latitude(entity.getLatitude().floatValue())
-                            .longitude(entity.getLongitude().floatValue())
-                            .elevation(entity.getElevation().floatValue())
-                            .build();
-                    routePointDTOs.add(build);
-                }
+                // 번개 루트 포인트 빌드 (route_geometry 가 있으면 한 행에서 디코딩)
+                List<RoutePointDTO> routePointDTOs = routeService.getRoutePoints(route, TrackSimplifier.Profile.DETAIL);
             // 번개 루트 Entity -> DTO (존재할때만)
             routeDTO = LightningDetailRouteDTO.builder()
                     .routeId(temp.getRoute().getRouteId())
@@ -249,7 +261,7 @@ public class LightningDetailService {
 
 
         // 현재 참여자 수 조회
-        Integer currentMemberCount = lightningUserRepository.countByLightning_LightningIdAndParticipantStatusInApprovedAndCompleted(temp.getLightningId());
+        Integer currentMemberCount = temp.getCurrentParticipants();
 
         // 번개 참여자 빌드
         List<LightningDetailMemberDTO> memberDTOs = new ArrayList<>();
@@ -286,12 +298,10 @@ public class LightningDetailService {
 Boolean bookmarked = false;
 
 // userEmail 이 null이 아닌 경우
-if (userEmail != null) {
-    Optional<UserEntity> userOpt = userRepository.findByEmail(userEmail);
-    if (userOpt.isPresent()) {
-        bookmarked = bookmarkRepository.existsByTargetIdAndUser_UserId(
-            temp.getLightningId(), userOpt.get().getUserId());
-    }
+Long currentUserId = userIdentityService.findUserId(userEmail);
+if (currentUserId != null) {
+    bookmarked = bookmarkRepository.existsByTargetIdAndUser_UserId(
+        temp.getLightningId(), currentUserId);
 }
 
         // entity -> dto
@@ -0,0 +1,114 @@
+package com.taiso.bike_api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.taiso.bike_api.domain.LightningEntity;
+import com.taiso.bike_api.domain.LightningEntity.LightningStatus;
+import com.taiso.bike_api.repository.LightningRepository;
+import com.taiso.bike_api.util.AfterCommit;
+import com.taiso.bike_api.util.GeoGridIndex;
+
+/**
+ * 주변 번개 검색용 메모리 위치 색인
+ *
+ * 모집 / 마감 상태의 클럽 전용이 아닌 번개 위치를 격자 색인(GeoGridIndex)에 올려 둡니다.
+ * 마감 번개는 인원이 빠지면 다시 모집이 될 수 있어 함께 둡니다.
+ * 생성 / 수정 / 강제마감 / 종료 시점에 갱신하고, 상태 전환 스케줄러의 일괄 UPDATE 는 증분 갱신으로 반영됩니다.
+ */
+@Component
+public class LightningGeoIndex extends IncrementalMemoryIndex<GeoGridIndex<Long>> {
+
+    private static final Set<LightningStatus> INDEXED_STATUSES = Set.of(LightningStatus.모집, LightningStatus.마감);
+
+    @Autowired
+    private LightningRepository lightningRepository;
+
+    // 격자 한 칸의 크기 (도), 0.05 도는 한반도 위도에서 약 5.5km x 4.4km
+    @Value("${lightning.geo-index.cell-deg:0.05}")
+    private double cellDegrees;
+
+    public LightningGeoIndex() {
+        super("번개 위치 색인", "lightning.geo-index.size");
+    }
+
+    @Override
+    protected GeoGridIndex<Long> newIndex() {
+        return new GeoGridIndex<>(cellDegrees);
+    }
+
+    @Override
+    protected void load(GeoGridIndex<Long> index) {
+        for (Object[] row : lightningRepository.findGeoIndexTargets(INDEXED_STATUSES)) {
+            put(index, (Long) row[0], (BigDecimal) row[1], (BigDecimal) row[2]);
+        }
+    }
+
+    @Override
+    protected int applyChanges(GeoGridIndex<Long> index, LocalDateTime since) {
+        List<Object[]> changes = lightningRepository.findGeoIndexChanges(since);
+        for (Object[] row : changes) {
+            Long lightningId = (Long) row[0];
+            if (INDEXED_STATUSES.contains((LightningStatus) row[3]) && !Boolean.TRUE.equals(row[4])) {
+                put(index, lightningId, (BigDecimal) row[1], (BigDecimal) row[2]);
+            } else {
+                index.remove(lightningId);
+            }
+        }
+        return changes.size();
+    }
+
+    @Override
+    protected int sizeOf(GeoGridIndex<Long> index) {
+        return index.size();
+    }
+
+    /**
+     * 번개의 현재 위치 / 상태로 색인을 갱신합니다. 검색 대상이 아니면 제거합니다.
+     */
+    public void update(LightningEntity lightning) {
+        Long lightningId = lightning.getLightningId();
+        if (lightningId == null) {
+            return;
+        }
+        if (isIndexable(lightning)) {
+            BigDecimal latitude = lightning.getLatitude();
+            BigDecimal longitude = lightning.getLongitude();
+            AfterCommit.run(() -> put(index(), lightningId, latitude, longitude));
+        } else {
+            evict(lightningId);
+        }
+    }
+
+    public void evict(Long lightningId) {
+        AfterCommit.run(() -> index().remove(lightningId));
+    }
+
+    /**
+     * (lat, lon) 에서 radiusMeters 이내의 번개를 가까운 순으로 반환합니다.
+     */
+    public List<GeoGridIndex.Hit<Long>> within(double lat, double lon, double radiusMeters) {
+        return index().within(lat, lon, radiusMeters);
+    }
+
+    public static boolean isIndexable(LightningEntity lightning) {
+        return INDEXED_STATUSES.contains(lightning.getStatus())
+                && !Boolean.TRUE.equals(lightning.getIsClubOnly())
+                && lightning.getLatitude() != null
+                && lightning.getLongitude() != null;
+    }
+
+    private static void put(GeoGridIndex<Long> index, Long lightningId, BigDecimal latitude, BigDecimal longitude) {
+        if (latitude == null || longitude == null) {
+            index.remove(lightningId);
+            return;
+        }
+        index.put(lightningId, latitude.doubleValue(), longitude.doubleValue());
+    }
+}
@@ -0,0 +1,107 @@
+package com.taiso.bike_api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taiso.bike_api.dto.LightningListResponseDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메인 페이지 번개 목록(사용자와 무관한 부분) 메모리 캐시
+ *
+ * - ttl 이 지나거나 번개 생성 / 상태 / 참여 인원 변경으로 무효화되면 다음 조회에서 다시 적재합니다.
+ * - 적재는 한 스레드만 수행합니다. 이전 값이 있으면 나머지 요청은 적재가 끝날 때까지 이전 값을 받고,
+ *   값이 아예 없을 때(기동 직후)만 적재 완료를 기다립니다.
+ * - 무효화는 트랜잭션 안이면 커밋 후에 한 번 더 수행해, 커밋 전 데이터로 다시 채워지는 경우를 막습니다.
+ * 캐시된 DTO 는 여러 요청이 공유하므로 사용하는 쪽에서 복사한 뒤 사용자별 값을 채워야 합니다.
+ */
+@Component
+public class LightningMainFeedCache {
+
+    private static final String METRIC = "lightning.main-feed.cache";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${lightning.main-feed.ttl-ms:30000}")
+    private long ttlMs;
+
+    // 무효화할 때마다 증가, 적재 시점의 값과 다르면 만료로 판단
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Entry entry;
+
+    /**
+     * 캐시된 목록을 반환하고, 만료되었으면 loader 로 다시 적재합니다.
+     */
+    public LightningListResponseDTO get(Supplier<LightningListResponseDTO> loader) {
+        Entry current = entry;
+        if (current != null && isFresh(current)) {
+            meterRegistry.counter(METRIC, "result", "hit").increment();
+            return current.value;
+        }
+        if (current != null) {
+            // 다른 요청이 적재 중이면 기다리지 않고 이전 값 반환
+            if (!loadLock.tryLock()) {
+                meterRegistry.counter(METRIC, "result", "stale").increment();
+                return current.value;
+            }
+        } else {
+            loadLock.lock();
+        }
+        try {
+            // 잠금을 기다리는 동안 다른 요청이 적재했을 수 있음
+            current = entry;
+            if (current != null && isFresh(current)) {
+                meterRegistry.counter(METRIC, "result", "hit").increment();
+                return current.value;
+            }
+            meterRegistry.counter(METRIC, "result", "miss").increment();
+            long loadVersion = version.get();
+            LightningListResponseDTO value = loader.get();
+            entry = new Entry(value, System.currentTimeMillis(), loadVersion);
+            return value;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 메인 목록에 영향을 주는 변경 후 호출합니다. 다음 조회에서 다시 적재합니다.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private boolean isFresh(Entry current) {
+        return current.version == version.get() && System.currentTimeMillis() - current.loadedAtMs < ttlMs;
+    }
+
+    private static final class Entry {
+        private final LightningListResponseDTO value;
+        private final long loadedAtMs;
+        private final long version;
+
+        private Entry(LightningListResponseDTO value, long loadedAtMs, long version) {
+            this.value = value;
+            this.loadedAtMs = loadedAtMs;
+            this.version = version;
+        }
+    }
+}
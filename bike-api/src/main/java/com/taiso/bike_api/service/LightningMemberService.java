@@ -5,10 +5,12 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.taiso.bike_api.domain.LightningEntity;
 import com.taiso.bike_api.domain.LightningEntity.LightningStatus;
@@ -20,6 +22,7 @@ import com.taiso.bike_api.domain.UserEntity;
 import com.taiso.bike_api.dto.LightningJoinCompleteResponseDTO;
 import com.taiso.bike_api.exception.EmailAlreadyExistsException;
 import com.taiso.bike_api.exception.LightningCreatorMismatchException;
+import com.taiso.bike_api.exception.LightningFullMemberException;
 import com.taiso.bike_api.exception.LightningMemberIllegalParticipantStatusException;
 import com.taiso.bike_api.exception.LightningMemberNotFoundException;
 import com.taiso.bike_api.exception.LightningNotFoundException;
@@ -32,11 +35,19 @@ import com.taiso.bike_api.repository.LightningRepository;
 import com.taiso.bike_api.repository.LightningUserRepository;
 import com.taiso.bike_api.repository.RouteRepository;
 import com.taiso.bike_api.repository.UserRepository;
+import com.taiso.bike_api.util.AfterCommit;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 public class LightningMemberService {
+
+    private static final String METRIC_STATUS_JOB_UPDATED = "lightning.status.job.updated";
+    private static final String METRIC_STATUS_JOB_DURATION = "lightning.status.job.duration";
 	
     @Autowired
     private LightningRepository lightningRepository;	
@@ -47,8 +58,30 @@ public class LightningMemberService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     @Autowired
     private RouteRepository routeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LightningDeadlineScheduler lightningDeadlineScheduler;
+
+    @Autowired
+    private LightningMainFeedCache lightningMainFeedCache;
+
+    @Autowired
+    private LightningGeoIndex lightningGeoIndex;
+
+    // 상태 전환 작업에서 한 번의 UPDATE 로 변경할 최대 건수
+    @Value("${lightning.status.job.batch-size:500}")
+    private int statusJobBatchSize;
 	
     // 번개 참가 서비스 
     @Transactional
@@ -73,6 +106,12 @@ public class LightningMemberService {
         if (lightningEntity.getStatus() == LightningStatus.모집) {
             // 번개의 타입(참가형 / 수락형)에 따라 상태 분기
             if (lightningEntity.getRecruitType() == RecruitType.참가형) {
+                // 모집 상태 / 정원 확인, 인원 증가, 마지막 자리일 때 마감 처리를 한 번의 UPDATE 로 처리
+                // 행 잠금으로 동시 참가가 직렬화되므로 정원을 넘을 수 없음
+                if (lightningRepository.reserveSeat(lightningId, LightningStatus.모집, LightningStatus.마감) == 0) {
+                    throw new LightningFullMemberException("번개 인원이 다 찼거나 모집이 마감되었습니다.");
+                }
+                lightningMainFeedCache.invalidate();
                 LightningUserEntity lightningUserEntity = LightningUserEntity.builder()
                         .lightning(lightningEntity)
                         .user(userEntity)
@@ -114,11 +153,9 @@ public class LightningMemberService {
         // 번개 아이디로 엔티티 가져오기 
         LightningEntity lightningEntity = lightningRepository.findById(lightningId)
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));
-        // 번개 인원이 다 찼는지 확인
-        int currentParticipants = lightningUserRepository.countByLightning_LightningIdAndParticipantStatusInApprovedAndCompleted(lightningId);
-        if (currentParticipants >= lightningEntity.getCapacity()) {
-            // 번개 상태를 마감으로 변경
-            lightningEntity.setStatus(LightningStatus.마감);
+        // 번개 인원이 다 찼으면 번개 상태를 마감으로 변경 (인원 확인과 변경을 한 번의 UPDATE 로 처리)
+        if (lightningRepository.updateStatusIfFull(lightningEntity.getLightningId(), LightningStatus.모집, LightningStatus.마감) > 0) {
+            lightningMainFeedCache.invalidate();
         }
     }
 
@@ -128,15 +165,13 @@ public class LightningMemberService {
         LightningEntity lightningEntity = lightningRepository.findById(lightningId)
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));
         //번개 인원이 남아 있는지 확인
-        int currentParticipants = lightningUserRepository.countByLightning_LightningIdAndParticipantStatusInApprovedAndCompleted(lightningId);
-        if (currentParticipants < lightningEntity.getCapacity()) {
-            if (lightningEntity.getStatus() == LightningStatus.마감) {
-                // 번개 상태를 모집으로 변경
-                lightningEntity.setStatus(LightningStatus.모집);
-            } 
-        } else {
+        if (lightningEntity.getCurrentParticipants() >= lightningEntity.getCapacity()) {
             throw new LightningMemberNotFoundException("번개가 인원이 다 차거나 강제 마감으로 변경할 수 가 없습니다.");
         }
+        // 마감 상태이고 자리가 남아 있으면 번개 상태를 모집으로 변경
+        if (lightningRepository.updateStatusIfNotFull(lightningId, LightningStatus.마감, LightningStatus.모집) > 0) {
+            lightningMainFeedCache.invalidate();
+        }
     }
 
     // 번개 강제 마감
@@ -145,14 +180,19 @@ public class LightningMemberService {
         LightningEntity lightningEntity = lightningRepository.findById(lightningId)
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));		
     	
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));    
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
     	
         // 유저 아이디와 생성자 불일치 시 권한 없음 -> 403 FORBIDDEN
-        if (!userEntity.getUserId().equals(lightningEntity.getCreatorId())) {
+        if (!userId.equals(lightningEntity.getCreatorId())) {
             throw new LightningCreatorMismatchException("유저와 번개 생성자가 같지 않음");
         }
         lightningEntity.setStatus(LightningStatus.강제마감);
+        // 롤백되면 휠 등록이 남아 있어야 하므로 커밋 후 해제
+        AfterCommit.run(() -> lightningDeadlineScheduler.cancel(lightningId));
+        lightningMainFeedCache.invalidate();
+        lightningGeoIndex.evict(lightningId);
     }
 
     // 스스로 번개 나가기
@@ -163,18 +203,19 @@ public class LightningMemberService {
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));
 
         // 유저 아이디로 유저 찾기
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
 
 
         //유저가 번개 생성자일 경우 예외 처리
-        if (userEntity.getUserId().equals(lightningEntity.getCreatorId())) {
+        if (userId.equals(lightningEntity.getCreatorId())) {
             throw new LightningCreatorMismatchException("번개 생성자는 번개를 나갈 수 없습니다.");
         }
 
         // 번개Id와 유저Id로 member에서 조회
         LightningUserEntity lightningUser = lightningUserRepository
-                .findByLightning_LightningIdAndUser_UserId(lightningId, userEntity.getUserId())
+                .findByLightning_LightningIdAndUser_UserId(lightningId, userId)
                 .orElseThrow(() -> new LightningMemberNotFoundException("해당 번개에 참여한 기록이 없습니다."));
 
         // 이미 탈퇴한 경우 예외 처리
@@ -182,6 +223,12 @@ public class LightningMemberService {
             throw new LightningMemberIllegalParticipantStatusException("이미 탈퇴한 회원입니다.");
         }
 
+        // 참여 인원에 포함되던 상태였으면 인원 감소
+        if (isCounted(lightningUser.getParticipantStatus())) {
+            lightningRepository.decrementParticipants(lightningId);
+            lightningMainFeedCache.invalidate();
+        }
+
         // 상태를 '탈퇴'로 변경
         lightningUser.setParticipantStatus(LightningUserEntity.ParticipantStatus.탈퇴);
         lightningUserRepository.save(lightningUser);
@@ -195,11 +242,12 @@ public class LightningMemberService {
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));	
         
         // 2. 현재 인증된 관리자(또는 승인 권한을 가진 사용자) 조회
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
         
         // 3. 관리자가 해당 번개 이벤트의 생성자인지 확인 (승인 권한 확인) -> 403 FORBIDDEN
-        if (!userEntity.getUserId().equals(lightningEntity.getCreatorId())) {
+        if (!userId.equals(lightningEntity.getCreatorId())) {
             throw new LightningCreatorMismatchException("유저와 번개 생성자가 같지 않음");
         }
 
@@ -219,7 +267,13 @@ public class LightningMemberService {
             throw new LightningUserStatusNotPendingException("신청대기 상태가 아닌 경우");
         }
         
-        // 7. 승인 처리
+        // 7. 정원 확인 후 인원 증가, 마지막 자리면 마감 (한 번의 UPDATE 로 처리)
+        if (lightningRepository.incrementParticipants(lightningId, LightningStatus.모집, LightningStatus.마감) == 0) {
+            throw new LightningFullMemberException("번개 인원이 다 찼습니다.");
+        }
+        lightningMainFeedCache.invalidate();
+
+        // 8. 승인 처리
         joinUserEntity.setParticipantStatus(LightningUserEntity.ParticipantStatus.승인);
         // JPA의 변경 감지(Dirty Checking)로 자동 반영됨
     }
@@ -232,11 +286,12 @@ public class LightningMemberService {
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));	
         
         // 2. 현재 인증된 관리자(또는 승인 권한을 가진 사용자) 조회
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
 
         // 3. 관리자가 해당 번개 이벤트의 생성자인지 확인 (승인 권한 확인) -> 403 FORBIDDEN
-        if (!userEntity.getUserId().equals(lightningEntity.getCreatorId())) {
+        if (!userId.equals(lightningEntity.getCreatorId())) {
             throw new LightningCreatorMismatchException("유저와 번개 생성자가 같지 않음");
         }
         
@@ -267,12 +322,13 @@ public class LightningMemberService {
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));
 
         // 유저 아이디로 유저 찾기
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
 
         // 번개Id와 유저Id로 member에서 조회
         LightningUserEntity lightningUser = lightningUserRepository
-                .findByLightning_LightningIdAndUser_UserId(lightningId, userEntity.getUserId())
+                .findByLightning_LightningIdAndUser_UserId(lightningId, userId)
                 .orElseThrow(() -> new LightningMemberNotFoundException("해당 번개에 참여한 기록이 없습니다."));
 
         // 이미 탈퇴한 경우 예외 처리
@@ -294,52 +350,58 @@ public class LightningMemberService {
 
     /**
      * 이벤트 종료 자동화 메서드
-     * 매일 새벽 1시에 실행
-     * 이벤트 날짜 + 지속시간 + 2일이 지난 모든 '모집' 또는 '마감' 상태의 이벤트를 '종료'로 변경
+     * 매일 새벽 3시에 실행
+     * 시작 후 2일, 종료(이벤트 날짜 + 지속시간) 후 1일이 지난 '모집' 또는 '마감' 상태의 이벤트를 '종료'로 변경
+     * 엔티티를 읽지 않고 batchSize 건씩 UPDATE 하며, 묶음마다 트랜잭션을 나눠 잠금 시간을 제한함
      */
     @Scheduled(cron = "0 0 3 * * ?") // 매일 새벽 3시에 실행
-    @Transactional
     public void autoCompleteExpiredEvents() {
-        LocalDateTime oneDayAgo = LocalDateTime.now().minusDays(2);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now();
+        List<String> currentStatuses = List.of(LightningStatus.모집.name(), LightningStatus.마감.name());
 
-        // 모집 또는 마감 상태이며 (이벤트 날짜 + 지속시간)이 하루 이상 지난 번개 이벤트 조회
-        List<LightningEntity> expiredEvents = lightningRepository.findByStatusInAndEventDateBefore(
-                List.of(LightningStatus.모집, LightningStatus.마감),
-                oneDayAgo
-        );
-        
-        for (LightningEntity event : expiredEvents) {
-            // 이벤트 시간 + 지속시간이 지났는지 확인
-            LocalDateTime eventEndTime = event.getEventDate().plusMinutes(event.getDuration());
-            if (eventEndTime.plusDays(1).isBefore(LocalDateTime.now())) {
-                event.setStatus(LightningStatus.종료);
-            }
-        }
+        int updatedCount = 0;
+        int updated;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> lightningRepository.updateStatusForEndedEvents(
+                    currentStatuses, LightningStatus.종료.name(), now.minusDays(2), now.minusDays(1), statusJobBatchSize));
+            updated = chunk != null ? chunk : 0;
+            updatedCount += updated;
+        } while (updated == statusJobBatchSize);
+
+        recordStatusJob("auto-complete", sample, updatedCount);
     }
 
     /**
      * 이벤트 시작 10분 전 자동 마감 메서드
      * 5분마다 실행으로 변경하여 DB 부하 감소
+     * 10분 구간에 시작하는 '모집' 이벤트만 대상이므로 한 번의 UPDATE 로 처리
+     * 타이밍 휠 스케줄러(LightningDeadlineScheduler)가 켜져 있으면 번개별 시각에 처리하므로 건너뜀
      */
     @Scheduled(cron = "0 */5 * * * ?") // 5분마다 실행으로 변경
-    @Transactional
     public void autoCloseEventsBeforeStart() {
+        if (lightningDeadlineScheduler.isEnabled()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime tenMinutesLater = now.plusMinutes(10);
-        
-        // 수정: 직접 쿼리를 실행하는 대신 개별 엔티티를 조회하고 업데이트
-        List<LightningEntity> upcomingEvents = lightningRepository.findByStatusAndEventDateBetween(
-                LightningStatus.모집, now, tenMinutesLater);
-        
-        int updatedCount = 0;
-        for (LightningEntity event : upcomingEvents) {
-            event.setStatus(LightningStatus.강제마감);
-            updatedCount++;
-        }
-        
+
+        Integer updatedCount = transactionTemplate.execute(status -> lightningRepository.updateStatusForUpcomingEvents(
+                LightningStatus.모집, LightningStatus.강제마감, now, tenMinutesLater));
+
+        recordStatusJob("auto-close", sample, updatedCount != null ? updatedCount : 0);
+    }
+
+    // 상태 전환 작업의 변경 건수 / 소요 시간 메트릭 기록
+    private void recordStatusJob(String job, Timer.Sample sample, int updatedCount) {
+        sample.stop(meterRegistry.timer(METRIC_STATUS_JOB_DURATION, "job", job));
+        meterRegistry.counter(METRIC_STATUS_JOB_UPDATED, "job", job).increment(updatedCount);
         // 로깅 추가 (업데이트된 경우만)
         if (updatedCount > 0) {
-            System.out.println("자동 마감 처리된 이벤트 수: " + updatedCount);
+            // 상태가 바뀐 번개가 메인 목록에 있을 수 있음
+            lightningMainFeedCache.invalidate();
+            log.info("번개 상태 자동 변경 [{}]: {}건", job, updatedCount);
         }
     }
     
@@ -347,8 +409,9 @@ public class LightningMemberService {
     @Transactional
     public void lightningEnd(Long lightningId, Authentication authentication) {
         // 번개 생성자와 인증된 유저가 같은지 확인
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
         LightningEntity lightningEntity = lightningRepository.findById(lightningId)
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));
 
@@ -356,10 +419,13 @@ public class LightningMemberService {
         if (lightningEntity.getStatus() != LightningStatus.마감 && lightningEntity.getStatus() != LightningStatus.강제마감) {
             throw new LightningStatusMismatchException("마감된 번개가 아닙니다.");
         }
-        if (!userEntity.getUserId().equals(lightningEntity.getCreatorId())) {
+        if (!userId.equals(lightningEntity.getCreatorId())) {
             throw new LightningCreatorMismatchException("유저와 번개 생성자가 같지 않음");
         }
         lightningEntity.setStatus(LightningStatus.종료);
+        AfterCommit.run(() -> lightningDeadlineScheduler.cancel(lightningId));
+        lightningMainFeedCache.invalidate();
+        lightningGeoIndex.evict(lightningId);
     }
 
 
@@ -370,12 +436,13 @@ public class LightningMemberService {
                 .orElseThrow(() -> new LightningNotFoundException("번개를 찾을 수 없습니다."));
         
         // 유저 아이디로 유저 찾기
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
 
         // 번개Id와 유저Id로 member에서 조회
         LightningUserEntity lightningUser = lightningUserRepository
-                .findByLightning_LightningIdAndUser_UserId(lightningId, userEntity.getUserId())
+                .findByLightning_LightningIdAndUser_UserId(lightningId, userId)
                 .orElseThrow(() -> new LightningMemberNotFoundException("해당 번개에 참여한 기록이 없습니다."));
 
         //루트 조회
@@ -394,11 +461,16 @@ public class LightningMemberService {
                 .latitude(lightningEntity.getLatitude())
                 .longitude(lightningEntity.getLongitude())
                 .capacity(lightningEntity.getCapacity())
-                .currentParticipants(lightningUserRepository.countByLightning_LightningIdAndParticipantStatusInApprovedAndCompleted(lightningEntity.getLightningId()))
+                .currentParticipants(lightningEntity.getCurrentParticipants())
                 .routeTitle(routeEntity.getRouteName())
                 .joinDate(joinDate)
                 .build();
 
         return responseDTO;
     }
+
+    // 번개 참여 인원(current_participants)에 포함되는 참여 상태
+    private static boolean isCounted(ParticipantStatus status) {
+        return status == ParticipantStatus.승인 || status == ParticipantStatus.완료;
+    }
 }
@@ -0,0 +1,69 @@
+package com.taiso.bike_api.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taiso.bike_api.repository.LightningRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * lightning.current_participants 보정 작업
+ * 참여 인원은 상태 변경 시 원자적 UPDATE 로 유지하지만, 수동 데이터 수정이나 배포 이전 데이터로 생긴 차이를
+ * lightning_user 의 승인 / 완료 건수로 다시 맞춥니다. ID 구간마다 짧은 트랜잭션으로 처리합니다.
+ * 집계 전에 구간의 번개 행을 잠가, 커밋되지 않은 참가가 빠진 집계로 인원을 덮어쓰지 않게 합니다.
+ */
+@Service
+@Slf4j
+public class LightningParticipantReconcileService {
+
+    @Autowired
+    private LightningRepository lightningRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${lightning.participants.reconcile.enabled:true}")
+    private boolean enabled;
+
+    // 한 트랜잭션에서 보정할 번개 ID 구간 크기
+    @Value("${lightning.participants.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    // 기동 직후 한 번 실행해 컬럼 추가 전 데이터를 채우고, 이후 주기적으로 실행
+    @Scheduled(initialDelayString = "${lightning.participants.reconcile.initial-delay-ms:30000}",
+            fixedDelayString = "${lightning.participants.reconcile.delay-ms:3600000}")
+    public void reconcileScheduled() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 전체 번개의 참여 인원을 보정하고 값이 바뀐 번개 수를 반환합니다.
+     */
+    public int reconcile() {
+        Long maxId = lightningRepository.findMaxLightningId();
+        if (maxId == null) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        int repaired = 0;
+        for (long chunkStart = 1; chunkStart <= maxId; chunkStart += chunkSize) {
+            long fromId = chunkStart;
+            long toId = chunkStart + chunkSize - 1;
+            Integer updated = transactionTemplate.execute(status -> {
+                lightningRepository.lockForReconcile(fromId, toId);
+                return lightningRepository.reconcileParticipants(fromId, toId);
+            });
+            repaired += updated != null ? updated : 0;
+        }
+        if (repaired > 0) {
+            log.warn("번개 참여 인원 보정 {}건: {} ms", repaired, (System.nanoTime() - start) / 1_000_000);
+        }
+        return repaired;
+    }
+}
@@ -3,10 +3,12 @@ package com.taiso.bike_api.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -30,9 +32,13 @@ import com.taiso.bike_api.dto.LightingParticipationCheckResponseDTO;
 import com.taiso.bike_api.dto.LightningGetRequestDTO;
 import com.taiso.bike_api.dto.LightningGetResponseDTO;
 import com.taiso.bike_api.dto.LightningListResponseDTO;
+import com.taiso.bike_api.dto.LightningNearbyItemDTO;
+import com.taiso.bike_api.dto.LightningNearbyResponseDTO;
 import com.taiso.bike_api.dto.LightningPostRequestDTO;
 import com.taiso.bike_api.dto.LightningPostResponseDTO;
 import com.taiso.bike_api.dto.ResponseComponentDTO;
+import com.taiso.bike_api.exception.InvalidCursorException;
+import com.taiso.bike_api.exception.InvalidLocationException;
 import com.taiso.bike_api.exception.LightningCreateMissingValueException;
 import com.taiso.bike_api.exception.LightningNotFoundException;
 import com.taiso.bike_api.exception.LightningUserNotFoundException;
@@ -45,6 +51,8 @@ import com.taiso.bike_api.repository.LightningUserRepository;
 import com.taiso.bike_api.repository.RouteRepository;
 import com.taiso.bike_api.repository.UserDetailRepository;
 import com.taiso.bike_api.repository.UserRepository;
+import com.taiso.bike_api.util.GeoGridIndex;
+import com.taiso.bike_api.util.KeysetCursor;
 
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
@@ -53,6 +61,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Service
 public class LightningService {
+
+    // 커서 페이지네이션 정렬 기준 (NOT NULL 컬럼)
+    private static final Set<String> LIGHTNING_CURSOR_SORT_FIELDS =
+            Set.of("lightningId", "eventDate", "createdAt", "capacity", "distance");
+
+    // 커서 페이지네이션 최대 페이지 크기
+    private static final int CURSOR_MAX_SIZE = 100;
+
+    // 주변 번개 조회 최대 반경 (km) / 최대 건수
+    private static final int NEARBY_MAX_RADIUS_KM = 100;
+    private static final int NEARBY_MAX_SIZE = 50;
     
     @Autowired
     LightningRepository lightningRepository;
@@ -63,6 +82,18 @@ public class LightningService {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    UserIdentityService userIdentityService;
+
+    @Autowired
+    LightningMainFeedCache lightningMainFeedCache;
+
+    @Autowired
+    LightningGeoIndex lightningGeoIndex;
+
+    @Autowired
+    TextSearchIndex textSearchIndex;
+
     @Autowired
     LightningTagCategoryRepository lightningTagCategoryRepository;
 
@@ -75,6 +106,9 @@ public class LightningService {
     @Autowired
     UserDetailRepository userDetailRepository;
 
+    @Autowired
+    LightningDeadlineScheduler lightningDeadlineScheduler;
+
     public LightningPostResponseDTO createLightning(LightningPostRequestDTO requestDTO, String userEmail) {
         // 태그 이름을 통해서 태그 엔티티 가져오기
         Set<LightningTagCategoryEntity> tags = requestDTO.getTags().stream()
@@ -103,6 +137,8 @@ public class LightningService {
             .duration(requestDTO.getDuration())
             .status(requestDTO.getStatus())
             .capacity(requestDTO.getCapacity())
+            // 생성자는 승인 상태로 함께 등록되므로 1명부터 시작
+            .currentParticipants(1)
             .latitude(requestDTO.getLatitude())
             .longitude(requestDTO.getLongitude())
             .gender(requestDTO.getGender())
@@ -135,6 +171,10 @@ public class LightningService {
         creator.getLightningUsers().add(lightningUser);
 
         LightningEntity savedLightning = lightningRepository.save(lightning);
+        lightningDeadlineScheduler.schedule(savedLightning);
+        lightningMainFeedCache.invalidate();
+        lightningGeoIndex.update(savedLightning);
+        textSearchIndex.update(savedLightning);
 
         // lightningUserRepository.save(lightningUser);
 
@@ -189,6 +229,79 @@ public class LightningService {
         // 페이지 요청 생성
         Pageable pageable = PageRequest.of(page, size, sortObj);
         
+        // 필터링 조건 생성
+        Specification<LightningEntity> spec = buildLightningListSpecification(gender, bikeType, date, region, level, tags);
+
+        // 필터링된 데이터로 페이징 조회
+        Page<LightningEntity> lightningPage = lightningRepository.findAll(spec, pageable);
+
+        List<ResponseComponentDTO> lightningDTO = toLightningListDTOs(lightningPage.getContent(), userEmail);
+
+        return LightningListResponseDTO.builder()
+                .content(lightningDTO)
+                .pageNo(lightningPage.getNumber() + 1)
+                .pageSize(lightningPage.getSize())
+                .totalElements(lightningPage.getTotalElements())
+                .totalPages(lightningPage.getTotalPages())
+                .last(lightningPage.isLast())
+                .hasNext(lightningPage.hasNext())
+                .build();
+    }
+
+    /**
+     * 번개 리스트 커서(키셋) 페이지네이션 조회
+     * 전체 개수를 세지 않으므로 totalElements / totalPages 는 -1 로 내려가며, nextCursor 로 다음 페이지를 요청합니다.
+     * 정렬은 오프셋 모드와 같이 오름차순이고, 같은 정렬 값은 lightningId 오름차순으로 이어집니다.
+     */
+    public LightningListResponseDTO getLightningListByCursor(String cursor, int requestedSize, String gender, String bikeType, String date, String region, String level, String tags, String sort, String userEmail) {
+        String sortField = sort.isEmpty() ? "lightningId" : sort;
+        if (!LIGHTNING_CURSOR_SORT_FIELDS.contains(sortField)) {
+            throw new InvalidCursorException("커서 페이지네이션에서 지원하지 않는 정렬 기준입니다: " + sortField);
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor, sortField);
+        // 페이지 크기는 1 ~ CURSOR_MAX_SIZE
+        int size = Math.max(1, Math.min(requestedSize, CURSOR_MAX_SIZE));
+
+        Specification<LightningEntity> spec = buildLightningListSpecification(gender, bikeType, date, region, level, tags)
+                // 태그 조인으로 같은 번개가 중복되면 커서 경계가 어긋나므로 중복 제거
+                .and((root, query, criteriaBuilder) -> {
+                    query.distinct(true);
+                    return null;
+                });
+        if (after != null) {
+            spec = spec.and((root, query, criteriaBuilder) ->
+                    after.toPredicate(root, criteriaBuilder, "lightningId", Sort.Direction.ASC));
+        }
+
+        // size + 1 개를 읽어 다음 페이지 여부 판단 (count 쿼리 없음)
+        Sort keysetSort = KeysetCursor.sort(sortField, "lightningId", Sort.Direction.ASC);
+        List<LightningEntity> lightnings = lightningRepository.findBy(spec,
+                query -> query.sortBy(keysetSort).limit(size + 1).all());
+
+        boolean hasNext = lightnings.size() > size;
+        if (hasNext) {
+            lightnings = lightnings.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            LightningEntity last = lightnings.get(lightnings.size() - 1);
+            Object lastValue = new BeanWrapperImpl(last).getPropertyValue(sortField);
+            nextCursor = KeysetCursor.of(sortField, lastValue, last.getLightningId()).encode();
+        }
+
+        return LightningListResponseDTO.builder()
+                .content(toLightningListDTOs(lightnings, userEmail))
+                .pageSize(size)
+                .totalElements(-1)
+                .totalPages(-1)
+                .last(!hasNext)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 번개 리스트 필터 조건 (오프셋 / 커서 모드 공통)
+    private Specification<LightningEntity> buildLightningListSpecification(String gender, String bikeType, String date, String region, String level, String tags) {
         // 필터링 조건 생성
         AtomicReference<Specification<LightningEntity>> specRef = 
             new AtomicReference<>(Specification.where(null));
@@ -264,75 +377,65 @@ public class LightningService {
         }
         //클럽 전용인 번개는 제외
         specRef.set(specRef.get().and((root, query, criteriaBuilder) -> 
-            criteriaBuilder.equal(root.get("isClubOnly"), false))); 
-
+            criteriaBuilder.equal(root.get("isClubOnly"), false)));
 
+        return specRef.get();
+    }
 
-        // 필터링된 데이터로 페이징 조회
-        Page<LightningEntity> lightningPage = lightningRepository.findAll(specRef.get(), pageable);
-
-        // 응답 DTO생성 - 빌더 패턴 사용
-        List<ResponseComponentDTO> lightningDTO = lightningPage.getContent().stream()
-                .map(lightning -> {
-                    // 기본 DTO 생성
-                    ResponseComponentDTO dto = ResponseComponentDTO.builder()
-                            .lightningId(lightning.getLightningId())
-                            .creatorId(lightning.getCreatorId())
-                            .title(lightning.getTitle())
-                            .eventDate(lightning.getEventDate())
-                            .duration(lightning.getDuration())
-                            .createdAt(lightning.getCreatedAt())
-                            .status(lightning.getStatus())
-                            .capacity(lightning.getCapacity())
-                            .gender(lightning.getGender())
-                            .level(lightning.getLevel())
-                            .bikeType(lightning.getBikeType())
-                            .tags(lightning.getTags().stream()
-                                    .map(LightningTagCategoryEntity::getName)
-                                    .collect(Collectors.toList()))
-                            .address(lightning.getAddress())
-                            .routeImgId(lightning.getRoute() != null ? lightning.getRoute().getRouteImgId() : null)
-                            .build();
-                    
-                    // 북마크 정보는 별도로 채워넣기
-                    if (userEmail != null && !userEmail.isEmpty()) {
-                        try {
-                            UserEntity user = userRepository.findByEmail(userEmail).orElse(null);
-                            if (user != null) {
-                                // 별도 쿼리로 북마크 여부 확인
-                                boolean isBookmarked = bookmarkRepository.existsByUser_UserIdAndTargetIdAndTargetType(
-                                    user.getUserId(), 
-                                    lightning.getLightningId(),
-                                    BookmarkType.LIGHTNING
-                                );
-                                dto.setBookmarked(isBookmarked);
-                            }
-                        } catch (Exception e) {
-                            // 오류 무시 - 사용자에게 표시할 데이터에 영향을 주지 않음
-                            log.error("사용자 북마크 확인 중 오류: {}", e.getMessage());
-                        }
-                    }
-                    
-                    return dto;
-                })
+    // 번개 리스트 응답 DTO 변환 (북마크 여부, 현재 참여자 수 포함)
+    private List<ResponseComponentDTO> toLightningListDTOs(List<LightningEntity> lightnings, String userEmail) {
+        List<ResponseComponentDTO> lightningDTO = lightnings.stream()
+                .map(this::toLightningDTO)
                 .collect(Collectors.toList());
+        applyBookmarks(lightningDTO, userEmail);
+        return lightningDTO;
+    }
 
-        // 현재 참여자 수 계산
-        for (ResponseComponentDTO lightning : lightningDTO) {
-            int currentParticipants = lightningUserRepository.countByLightning_LightningIdAndParticipantStatusInApprovedAndCompleted(lightning.getLightningId());
-            lightning.setCurrentParticipants(currentParticipants);
-        }
-
-        return LightningListResponseDTO.builder()
-                .content(lightningDTO)
-                .pageNo(lightningPage.getNumber() + 1)
-                .pageSize(lightningPage.getSize())
-                .totalElements(lightningPage.getTotalElements())
-                .totalPages(lightningPage.getTotalPages())
-                .last(lightningPage.isLast())
+    // 번개 리스트 항목 DTO (사용자와 무관한 값만)
+    private ResponseComponentDTO toLightningDTO(LightningEntity lightning) {
+        return ResponseComponentDTO.builder()
+                .lightningId(lightning.getLightningId())
+                .creatorId(lightning.getCreatorId())
+                .title(lightning.getTitle())
+                .eventDate(lightning.getEventDate())
+                .duration(lightning.getDuration())
+                .createdAt(lightning.getCreatedAt())
+                .status(lightning.getStatus())
+                .capacity(lightning.getCapacity())
+                .currentParticipants(lightning.getCurrentParticipants())
+                .gender(lightning.getGender())
+                .level(lightning.getLevel())
+                .bikeType(lightning.getBikeType())
+                .tags(lightning.getTags().stream()
+                        .map(LightningTagCategoryEntity::getName)
+                        .collect(Collectors.toList()))
+                .address(lightning.getAddress())
+                .routeImgId(lightning.getRoute() != null ? lightning.getRoute().getRouteImgId() : null)
                 .build();
     }
 
+    // 북마크 여부를 목록 전체에 대해 한 번의 조회로 채워넣기
+    private void applyBookmarks(List<ResponseComponentDTO> lightningDTOs, String userEmail) {
+        if (userEmail == null || userEmail.isEmpty() || lightningDTOs.isEmpty()) {
+            return;
+        }
+        try {
+            Long userId = userIdentityService.findUserId(userEmail);
+            if (userId == null) {
+                return;
+            }
+            List<Long> lightningIds = lightningDTOs.stream()
+                    .map(ResponseComponentDTO::getLightningId)
+                    .collect(Collectors.toList());
+            Set<Long> bookmarkedIds = bookmarkRepository.findBookmarkedTargetIds(
+                    userId, BookmarkType.LIGHTNING, lightningIds);
+            lightningDTOs.forEach(dto -> dto.setBookmarked(bookmarkedIds.contains(dto.getLightningId())));
+        } catch (Exception e) {
+            // 오류 무시 - 사용자에게 표시할 데이터에 영향을 주지 않음
+            log.error("사용자 북마크 확인 중 오류: {}", e.getMessage());
+        }
+    }
+
     // 가져올 번개리스트를 필터링하기 위한 필터를 반환하는 메서드
     // gender값이 null인 경우는 자동으로 필터링 기준에서 제외 하는 방식
     public static Specification<LightningEntity> filterBy(
@@ -423,6 +526,7 @@ public class LightningService {
                             .createdAt(lightning.getCreatedAt())
                             .status(lightning.getStatus())
                             .capacity(lightning.getCapacity())
+                            .currentParticipants(lightning.getCurrentParticipants())
                             .gender(lightning.getGender())
                             .level(lightning.getLevel())
                             .bikeType(lightning.getBikeType())
@@ -436,11 +540,11 @@ public class LightningService {
                 // 북마크 정보는 별도로 채워넣기
                 if (userEmail != null && !userEmail.isEmpty()) {
                     try {
-                        UserEntity user = userRepository.findByEmail(userEmail).orElse(null);
-                        if (user != null) {
+                        Long userId = userIdentityService.findUserId(userEmail);
+                        if (userId != null) {
                             // 별도 쿼리로 북마크 여부 확인
                             boolean isBookmarked = bookmarkRepository.existsByUser_UserIdAndTargetIdAndTargetType(
-                                    user.getUserId(),
+                                    userId,
                                     lightning.getLightningId(),
                                     BookmarkType.LIGHTNING);
                             dto.setBookmarked(isBookmarked);
@@ -454,13 +558,6 @@ public class LightningService {
             })
             .collect(Collectors.toList());
 
-        // 현재 참여자 수 계산
-        for (ResponseComponentDTO lightning : lightningDTO) {
-            int currentParticipants = lightningUserRepository
-                    .countByLightning_LightningIdAndParticipantStatusInApprovedAndCompleted(lightning.getLightningId());
-            lightning.setCurrentParticipants(currentParticipants);
-        }
-
         return LightningListResponseDTO.builder()
                 .content(lightningDTO)
                 .pageNo(lightningPage.getNumber() + 1)
@@ -472,7 +569,28 @@ public class LightningService {
     }
     
     //메인페이지 번개 리스트 조회
+    // 사용자와 무관한 목록은 캐시에서 가져오고, 북마크 여부만 요청마다 복사본에 채워넣음
     public LightningListResponseDTO getMainPage(String userEmail) {
+        LightningListResponseDTO cached = lightningMainFeedCache.get(this::loadMainPage);
+
+        // 캐시된 DTO 는 공유되므로 복사본에 사용자별 값을 채움
+        List<ResponseComponentDTO> lightningDTOs = cached.getContent().stream()
+                .map(dto -> dto.toBuilder().build())
+                .collect(Collectors.toList());
+        applyBookmarks(lightningDTOs, userEmail);
+
+        return LightningListResponseDTO.builder()
+                .content(lightningDTOs)
+                .pageNo(cached.getPageNo())
+                .pageSize(cached.getPageSize())
+                .totalElements(cached.getTotalElements())
+                .totalPages(cached.getTotalPages())
+                .last(cached.isLast())
+                .build();
+    }
+
+    // 메인페이지 번개 목록 적재 (캐시 만료 시에만 호출)
+    private LightningListResponseDTO loadMainPage() {
         // 현재 시각 가져오기
         LocalDateTime now = LocalDateTime.now();
         
@@ -501,52 +619,9 @@ public class LightningService {
         // 조회 실행
         Page<LightningEntity> lightningPage = lightningRepository.findAll(spec, pageable);
         
-        // 응답 DTO 생성
+        // 응답 DTO 생성 (북마크 여부 제외)
         List<ResponseComponentDTO> lightningDTOs = lightningPage.getContent().stream()
-                .map(lightning -> {
-                    // 기본 DTO 생성
-                    ResponseComponentDTO dto = ResponseComponentDTO.builder()
-                            .lightningId(lightning.getLightningId())
-                            .creatorId(lightning.getCreatorId())
-                            .title(lightning.getTitle())
-                            .eventDate(lightning.getEventDate())
-                            .duration(lightning.getDuration())
-                            .createdAt(lightning.getCreatedAt())
-                            .status(lightning.getStatus())
-                            .capacity(lightning.getCapacity())
-                            .gender(lightning.getGender())
-                            .level(lightning.getLevel())
-                            .bikeType(lightning.getBikeType())
-                            .tags(lightning.getTags().stream()
-                                    .map(LightningTagCategoryEntity::getName)
-                                    .collect(Collectors.toList()))
-                            .address(lightning.getAddress())
-                            .routeImgId(lightning.getRoute() != null ? lightning.getRoute().getRouteImgId() : null)
-                            .build();
-                    
-                    // 북마크 정보 추가
-                    if (userEmail != null && !userEmail.isEmpty()) {
-                        try {
-                            UserEntity user = userRepository.findByEmail(userEmail).orElse(null);
-                            if (user != null) {
-                                boolean isBookmarked = bookmarkRepository.existsByUser_UserIdAndTargetIdAndTargetType(
-                                        user.getUserId(),
-                                        lightning.getLightningId(),
-                                        BookmarkType.LIGHTNING);
-                                dto.setBookmarked(isBookmarked);
-                            }
-                        } catch (Exception e) {
-                            log.error("사용자 북마크 확인 중 오류: {}", e.getMessage());
-                        }
-                    }
-                    
-                    // 현재 참여자 수 추가
-                    int currentParticipants = lightningUserRepository
-                            .countByLightning_LightningIdAndParticipantStatusInApprovedAndCompleted(lightning.getLightningId());
-                    dto.setCurrentParticipants(currentParticipants);
-                    
-                    return dto;
-                })
+                .map(this::toLightningDTO)
                 .collect(Collectors.toList());
         
         // 최종 응답 DTO 생성 및 반환
@@ -559,4 +634,57 @@ public class LightningService {
                 .last(lightningPage.isLast())
                 .build();
     }
+
+    // 주변 번개 조회 (반경 내 모집 중인 번개, 가까운 순)
+    // 위치 색인에서 거리순 후보를 받고, 후보를 size 건씩 아이디로 조회해 현재 상태를 확인하며 채움 (테이블 전체를 읽지 않음)
+    public LightningNearbyResponseDTO getNearbyLightnings(double latitude, double longitude, double radiusKm, int size, String userEmail) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidLocationException("위도 / 경도 값이 올바르지 않습니다.");
+        }
+        if (!(radiusKm > 0) || radiusKm > NEARBY_MAX_RADIUS_KM) {
+            throw new InvalidLocationException("검색 반경은 0km 초과 " + NEARBY_MAX_RADIUS_KM + "km 이하여야 합니다.");
+        }
+        int limit = Math.max(1, Math.min(size, NEARBY_MAX_SIZE));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<GeoGridIndex.Hit<Long>> hits = lightningGeoIndex.within(latitude, longitude, radiusKm * 1000);
+        List<LightningNearbyItemDTO> items = new ArrayList<>();
+        List<ResponseComponentDTO> lightningDTOs = new ArrayList<>();
+        for (int from = 0; from < hits.size() && items.size() < limit; from += limit) {
+            List<GeoGridIndex.Hit<Long>> chunk = hits.subList(from, Math.min(hits.size(), from + limit));
+            Map<Long, LightningEntity> lightnings = lightningRepository.findByLightningIdIn(
+                            chunk.stream().map(GeoGridIndex.Hit::getKey).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(LightningEntity::getLightningId, lightning -> lightning));
+
+            for (GeoGridIndex.Hit<Long> hit : chunk) {
+                LightningEntity lightning = lightnings.get(hit.getKey());
+                if (lightning == null || !LightningGeoIndex.isIndexable(lightning)) {
+                    // 색인이 아직 따라잡지 못한 삭제 / 종료 / 강제마감 번개는 건너뜀 (색인은 증분 갱신 / 재구성에서 정리)
+                    continue;
+                }
+                // 마감(인원 참) 또는 이미 시작한 번개는 제외
+                if (lightning.getStatus() != LightningStatus.모집 || lightning.getEventDate().isBefore(now)) {
+                    continue;
+                }
+                ResponseComponentDTO dto = toLightningDTO(lightning);
+                lightningDTOs.add(dto);
+                items.add(LightningNearbyItemDTO.builder()
+                        .distanceMeters(Math.round(hit.getDistanceMeters()))
+                        .lightning(dto)
+                        .build());
+                if (items.size() == limit) {
+                    break;
+                }
+            }
+        }
+        applyBookmarks(lightningDTOs, userEmail);
+
+        return LightningNearbyResponseDTO.builder()
+                .content(items)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusKm(radiusKm)
+                .build();
+    }
 }
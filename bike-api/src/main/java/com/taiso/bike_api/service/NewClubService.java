@@ -42,6 +42,9 @@ public class NewClubService {
     @Autowired
     private ClubMemberRepository clubMemberRepository;
 
+    @Autowired
+    private TextSearchIndex textSearchIndex;
+
     @Autowired
     S3Service s3Service;
 
@@ -96,6 +99,7 @@ public class NewClubService {
                 .build();
 
         clubRepository.save(club);
+        textSearchIndex.update(club);
 
         // 클럽 멤버에 클럽장으로 생성 추가
         ClubMemberEntity clubMemberLeader = ClubMemberEntity.builder()
@@ -137,6 +141,7 @@ public class NewClubService {
         clubMemberRepository.deleteAllByClubId(club.getClubId());
 
         clubRepository.delete(club);
+        textSearchIndex.remove(TextSearchIndex.Target.CLUB, club.getClubId());
 
     }
 }
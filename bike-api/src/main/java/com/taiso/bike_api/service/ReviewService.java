@@ -43,6 +43,9 @@ public class ReviewService {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private UserIdentityService userIdentityService;
+
 	@Autowired
 	private UserReviewRepository userReviewRepository;
 
@@ -118,10 +121,11 @@ public class ReviewService {
     	}
     	
     	// 2. 현재 로그인한 사용자 (리뷰 작성자) 조회
-        UserEntity reviewerEntity = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다.")); 
+        Long reviewerId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
         // 유저 디테일 entity
-    	UserDetailEntity reviewer = userDetailRepository.findById(reviewerEntity.getUserId())
+    	UserDetailEntity reviewer = userDetailRepository.findById(reviewerId)
                 .orElseThrow(() -> new UserNotFoundException("현재 리뷰 입력 사용자를 찾을 수 없습니다.")); 
         
         // 3. 리뷰 대상(리뷰 받는 사용자) 조회
@@ -155,10 +159,11 @@ public class ReviewService {
     @Transactional
 	public List<LightningCompletedReviewsResponseDTO> completedReviews(Long lightningId, Authentication authentication) {
         // 1. 현재 로그인한 사용자 (리뷰 작성자) 조회
-        UserEntity currentUser = userRepository.findByEmail(authentication.getName())
-            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        Long currentUserId = userIdentityService.find(authentication.getName())
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+            .getUserId();
         
-        UserDetailEntity currentUserDetail = userDetailRepository.findById(currentUser.getUserId())
+        UserDetailEntity currentUserDetail = userDetailRepository.findById(currentUserId)
             .orElseThrow(() -> new UserNotFoundException("사용자 상세 정보를 찾을 수 없습니다."));
         
         // 2. 번개 이벤트 조회 (존재하지 않으면 404)
@@ -175,7 +180,7 @@ public class ReviewService {
         
         // 현재 사용자를 제외한 참가자 필터링
         allParticipants = allParticipants.stream()
-            .filter(participant -> !participant.getUser().getUserId().equals(currentUser.getUserId()))
+            .filter(participant -> !participant.getUser().getUserId().equals(currentUserId))
             .collect(Collectors.toList());
         
         // 4. 현재 사용자가 작성한 리뷰 조회
@@ -220,7 +225,7 @@ public class ReviewService {
                 // 응답 DTO 구성
                 return LightningCompletedReviewsResponseDTO.builder()
                     .reviewId(reviewId)  // 리뷰가 없으면 null
-                    .reviewer(currentUser.getUserId())
+                    .reviewer(currentUserId)
                     .reviewed(participantUser.getUserId())
                     .userDetailDTO(userDetailDTO)
                     .lightningUserDTO(lightningUserDTO)
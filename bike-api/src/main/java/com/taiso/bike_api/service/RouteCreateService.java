@@ -8,54 +8,73 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
-import java.math.MathContext;
-import java.util.ArrayList;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import javax.imageio.ImageIO;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
-import org.locationtech.proj4j.CRSFactory;
-import org.locationtech.proj4j.CoordinateReferenceSystem;
-import org.locationtech.proj4j.CoordinateTransform;
-import org.locationtech.proj4j.CoordinateTransformFactory;
-import org.locationtech.proj4j.ProjCoordinate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
+import com.taiso.bike_api.client.OutboundHttpClient;
 import com.taiso.bike_api.domain.RouteEntity;
-import com.taiso.bike_api.domain.RoutePointEntity;
+import com.taiso.bike_api.domain.RouteGeometryEntity;
 import com.taiso.bike_api.domain.RouteTagCategoryEntity;
 import com.taiso.bike_api.dto.RoutePostRequestDTO;
 import com.taiso.bike_api.dto.RoutePostResponseDTO;
 import com.taiso.bike_api.exception.InvalidFileExtensionException;
 import com.taiso.bike_api.exception.StaticMapImageFetchException;
 import com.taiso.bike_api.exception.UnsupportedEnumException;
-import com.taiso.bike_api.repository.RoutePointRepository;
+import com.taiso.bike_api.repository.RouteGeometryRepository;
+import com.taiso.bike_api.repository.RoutePointJdbcRepository;
 import com.taiso.bike_api.repository.RouteRepository;
 import com.taiso.bike_api.repository.RouteTagCategoryRepository;
+import com.taiso.bike_api.util.RouteBounds;
+import com.taiso.bike_api.util.RouteFingerprint;
+import com.taiso.bike_api.util.RouteGeometryCodec;
+import com.taiso.bike_api.util.RouteThumbnail;
+import com.taiso.bike_api.util.TrackBuffer;
+import com.taiso.bike_api.util.TrackSimplifier;
+import com.taiso.bike_api.util.TrackStatistics;
+import com.taiso.bike_api.util.WebMercator;
+
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 public class RouteCreateService {
 
+    // 네이버 정적 지도 이미지 크기 (scale 적용 전, 상세 썸네일과 같은 크기)
+    private static final int STATIC_MAP_WIDTH = RouteThumbnail.DETAIL.getWidth();
+    private static final int STATIC_MAP_HEIGHT = RouteThumbnail.DETAIL.getHeight();
+    private static final int STATIC_MAP_SCALE = RouteThumbnail.DETAIL.getScale();
+
     @Autowired
     private RouteRepository routeRepository;
     
@@ -63,7 +82,10 @@ public class RouteCreateService {
     private RouteTagCategoryRepository routeTagCategoryRepository;
 
     @Autowired
-    private RoutePointRepository routePointRepository;
+    private RoutePointJdbcRepository routePointJdbcRepository;
+
+    @Autowired
+    private RouteGeometryRepository routeGeometryRepository;
 
     @Autowired
     private S3Service s3Service;
@@ -71,14 +93,38 @@ public class RouteCreateService {
     @Autowired
     private UserService userService;
 
+    // map.static.renderer=tile 일 때만 등록됨 (StaticMapConfig)
+    @Autowired(required = false)
+    private StaticMapRenderer staticMapRenderer;
+
+    // 크기별 썸네일 합성 + 인코딩 (ThumbnailRenderConfig)
+    @Autowired
+    @Qualifier("thumbnailRenderExecutor")
+    private ExecutorService thumbnailRenderExecutor;
+
+    @Autowired
+    private RouteSpatialIndex routeSpatialIndex;
+
+    @Autowired
+    private RouteFingerprintIndex routeFingerprintIndex;
+
+    @Autowired
+    private TextSearchIndex textSearchIndex;
+
+    // 네이버 API 공용 클라이언트 (커넥션 풀, 타임아웃, 서킷 브레이커)
+    @Autowired
+    @Qualifier("naverHttpClient")
+    private OutboundHttpClient naverHttpClient;
+
+    // 정적 지도 렌더러 종류 (naver: 네이버 정적 지도 API, tile: 로컬 타일 렌더러 - 타일 서버 설정 필요)
+    @Value("${map.static.renderer:naver}")
+    private String staticMapRendererType;
+
     @Value("${naver.api.key.id}")
     private String naverApiKeyId;
     @Value("${naver.api.key.key}")
     private String naverApiKey;
     
-    // Douglas-Peucker 알고리즘에 사용할 기본 허용 오차 (위/경도 단위, 약 11m 정도)
-    private static final double DEFAULT_SIMPLIFICATION_TOLERANCE = 0.0001;
-
     /**
      * 전체 루트 생성 로직: 파일 파싱, DB 저장, S3 업로드를 하나의 트랜잭션 내에서 처리합니다.
      */
@@ -104,19 +150,19 @@ public class RouteCreateService {
         long step2Time = System.nanoTime() - step2Start;
         System.out.println("Step 2 (parseFile): " + step2Time / 1_000_000.0 + " ms");
 
-        // Step 3: 네이버 정적 지도 API 호출 및 이미지 합성
+        // 파싱 직후 경로 지문으로 같은 코스로 보이는 기존 루트를 찾아 둔다 (렌더링 / 업로드 전)
+        int[] signature = RouteFingerprint.signature(gpxData.getRoutePoints());
+        List<Long> similarRouteIds = routeFingerprintIndex.findUploadDuplicates(signature, null);
+
+        // Step 3: 크기별 경로 썸네일 렌더링
         long step3Start = System.nanoTime();
-        byte[] staticMapImageBytes = generateStaticMapImageBytes(gpxData);
+        Map<RouteThumbnail, byte[]> thumbnails = generateThumbnails(gpxData);
         long step3Time = System.nanoTime() - step3Start;
-        System.out.println("Step 3 (generateStaticMapImageBytes): " + step3Time / 1_000_000.0 + " ms");
+        System.out.println("Step 3 (generateThumbnails): " + step3Time / 1_000_000.0 + " ms");
 
         // Step 4: 태그 처리 (기존 태그 사용 또는 신규 생성)
         long step4Start = System.nanoTime();
-        Set<RouteTagCategoryEntity> tags = dto.getTag().stream()
-                .map(tagName -> routeTagCategoryRepository.findByName(tagName)
-                        .orElseGet(() -> routeTagCategoryRepository.save(
-                                RouteTagCategoryEntity.builder().name(tagName).build())))
-                .collect(Collectors.toSet());
+        Set<RouteTagCategoryEntity> tags = resolveTags(dto.getTag());
         long step4Time = System.nanoTime() - step4Start;
         System.out.println("Step 4 (tag processing): " + step4Time / 1_000_000.0 + " ms");
 
@@ -138,7 +184,7 @@ public class RouteCreateService {
                 .likeCount(0L)
                 .build();
         RouteEntity savedRoute = routeRepository.save(route);
-        saveRoutePoints(savedRoute, gpxData.getRoutePoints());
+        saveRoutePoints(savedRoute, gpxData.getRoutePoints(), signature);
         long step5Time = System.nanoTime() - step5Start;
         System.out.println("Step 5 (save route and points): " + step5Time / 1_000_000.0 + " ms");
 
@@ -153,19 +199,23 @@ public class RouteCreateService {
             System.out.println("GPX 파일 S3 업로드 완료, Key: " + gpxFileKey);
             System.out.println("GPX 파일 Presigned URL: " + gpxFileUrl);
 
-            // 정적 지도 이미지 업로드 (공개 접근)
-            String compositeKey = "static-maps/composite_" + System.currentTimeMillis() + ".png";
-            s3Service.uploadFile(staticMapImageBytes, compositeKey, "image/png");
-            // 정적 지도 이미지는 일반 URL 사용 (모든 사용자가 볼 수 있어야 함)
-            String staticMapUrl = s3Service.getFileUrl(compositeKey);
-            System.out.println("정적 지도 이미지 S3 업로드 완료, Key: " + compositeKey);
-            System.out.println("정적 지도 이미지 URL: " + staticMapUrl);
+            // 썸네일 업로드 (공개 접근, 크기별 키)
+            String thumbnailKeyPrefix = thumbnailKeyPrefix(savedRoute.getRouteId());
+            for (Map.Entry<RouteThumbnail, byte[]> thumbnail : thumbnails.entrySet()) {
+                RouteThumbnail size = thumbnail.getKey();
+                s3Service.uploadFile(thumbnail.getValue(), size.resolve(thumbnailKeyPrefix), size.getContentType());
+            }
+            log.debug("썸네일 S3 업로드 완료, Key prefix: {}", thumbnailKeyPrefix);
 
-            // 업로드된 이미지 URL DB 반영
-            savedRoute.setRouteImgId(staticMapUrl);
+            // 업로드된 이미지 URL DB 반영 (썸네일은 일반 URL 사용, 모든 사용자가 볼 수 있어야 함)
+            applyThumbnailUrls(savedRoute, thumbnailKeyPrefix, thumbnails.keySet());
             savedRoute.setOriginalFilePath(gpxFileUrl);
             routeRepository.save(savedRoute);
+            routeSpatialIndex.update(savedRoute);
+            routeFingerprintIndex.update(savedRoute);
+            textSearchIndex.update(savedRoute);
         } catch (Exception e) {
+            routeGeometryRepository.deleteByRouteId(savedRoute.getRouteId());
             routeRepository.delete(savedRoute);
             throw new StaticMapImageFetchException("S3 업로드 중 오류");
         }
@@ -177,6 +227,7 @@ public class RouteCreateService {
 
         RoutePostResponseDTO response = new RoutePostResponseDTO();
         response.setRouteId(savedRoute.getRouteId());
+        response.setSimilarRouteIds(similarRouteIds);
         return response;
     }
     
@@ -184,7 +235,10 @@ public class RouteCreateService {
      * 파일 확장자 검증 (GPX 또는 TCX)
      */
     private void validateFileExtension(MultipartFile file) {
-        String originalFilename = file.getOriginalFilename();
+        validateFileExtension(file.getOriginalFilename());
+    }
+
+    void validateFileExtension(String originalFilename) {
         if (originalFilename == null || 
             (!originalFilename.toLowerCase().endsWith(".gpx") && !originalFilename.toLowerCase().endsWith(".tcx"))) {
             throw new InvalidFileExtensionException("지원하지 않는 파일 타입");
@@ -192,24 +246,133 @@ public class RouteCreateService {
     }
     
     /**
-     * 네이버 정적 지도 API를 호출하여 기본 지도 이미지에 GPX/TCX 경로를 합성한 후,
-     * 이미지 바이트 배열을 반환합니다.
+     * 크기별 경로 썸네일(정적 지도 이미지)을 만듭니다.
+     * 기본(map.static.renderer=naver)은 네이버 정적 지도 API 로 기본 지도를 한 번 받아 모든 크기를 만들고,
+     * map.static.renderer=tile 로 켠 경우에만 타일 기반 로컬 렌더러로 모든 크기를 한 번에 만듭니다.
      */
-    private byte[] generateStaticMapImageBytes(GPXData gpxData) {
-        try {
-            int baseWidth = 800;
-            int baseHeight = 600;
-            int scaleFactor = 2;
+    Map<RouteThumbnail, byte[]> generateThumbnails(GPXData gpxData) {
+        TrackBuffer points = gpxData.getRoutePoints();
+        if (points.isEmpty()) {
+            throw new InvalidFileExtensionException("파일에 경로 포인트가 없습니다.");
+        }
+        if ("tile".equalsIgnoreCase(staticMapRendererType)) {
+            // 타일 기반 로컬 렌더러 (캐시된 지역은 원격 호출 없음)
+            TrackStatistics statistics = gpxData.getStatistics();
+            return staticMapRenderer.renderAll(points,
+                    statistics.getMinLat(), statistics.getMinLon(), statistics.getMaxLat(), statistics.getMaxLon(),
+                    EnumSet.allOf(RouteThumbnail.class));
+        }
+        return generateNaverThumbnails(gpxData);
+    }
+
+    /**
+     * 루트 썸네일 S3 키 prefix. 크기별 키는 RouteThumbnail.resolve 로 만듭니다.
+     */
+    static String thumbnailKeyPrefix(Long routeId) {
+        return "static-maps/route_" + routeId;
+    }
+
+    /**
+     * 업로드한 썸네일 URL 을 루트에 반영합니다.
+     * routeImgId 는 기존 화면 호환을 위해 상세 이미지 URL 을 유지하고,
+     * 모든 크기가 있을 때만 thumbnailPrefix 를 저장합니다.
+     */
+    void applyThumbnailUrls(RouteEntity route, String thumbnailKeyPrefix, Set<RouteThumbnail> sizes) {
+        String prefixUrl = s3Service.getFileUrl(thumbnailKeyPrefix);
+        route.setRouteImgId(RouteThumbnail.DETAIL.resolve(prefixUrl));
+        route.setThumbnailPrefix(sizes.containsAll(EnumSet.allOf(RouteThumbnail.class)) ? prefixUrl : null);
+    }
 
-            List<GPXRoutePoint> points = gpxData.getRoutePoints();
-            if (points.isEmpty()) {
-                throw new InvalidFileExtensionException("파일에 경로 포인트가 없습니다.");
+    /**
+     * 네이버 정적 지도 API 로 상세(DETAIL) 크기의 기본 지도를 한 번 받아 모든 크기의 썸네일을 만듭니다. (기본 렌더러)
+     */
+    private Map<RouteThumbnail, byte[]> generateNaverThumbnails(GPXData gpxData) {
+        return composeNaverThumbnails(fetchNaverBaseMap(gpxData), gpxData.getRoutePoints(), thumbnailRenderExecutor);
+    }
+
+    /**
+     * 기본 지도를 크기별로 가운데 기준 축소(비율이 다르면 넘치는 쪽을 잘라냄)하고 경로를 합성합니다.
+     * 폴리라인은 크기별 축소 배율에 맞춰 따로 단순화하고, 크기별 합성 + 인코딩은 renderExecutor 에서 병렬 처리합니다.
+     */
+    static Map<RouteThumbnail, byte[]> composeNaverThumbnails(NaverBaseMap baseMap, TrackBuffer points, Executor renderExecutor) {
+        Map<RouteThumbnail, CompletableFuture<byte[]>> encoded = new EnumMap<>(RouteThumbnail.class);
+        for (RouteThumbnail size : RouteThumbnail.values()) {
+            encoded.put(size, CompletableFuture.supplyAsync(() -> composeNaverThumbnail(baseMap, points, size), renderExecutor));
+        }
+        Map<RouteThumbnail, byte[]> thumbnails = new EnumMap<>(RouteThumbnail.class);
+        try {
+            encoded.forEach((size, future) -> thumbnails.put(size, future.join()));
+        } catch (CompletionException e) {
+            encoded.values().forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof StaticMapImageFetchException fetchException) {
+                throw fetchException;
             }
-            // 좌표 범위 계산
-            double minLat = points.stream().mapToDouble(p -> p.getLatitude().doubleValue()).min().orElse(0);
-            double maxLat = points.stream().mapToDouble(p -> p.getLatitude().doubleValue()).max().orElse(0);
-            double minLng = points.stream().mapToDouble(p -> p.getLongitude().doubleValue()).min().orElse(0);
-            double maxLng = points.stream().mapToDouble(p -> p.getLongitude().doubleValue()).max().orElse(0);
+            throw new StaticMapImageFetchException("정적 지도 이미지 생성 중 오류");
+        }
+        return thumbnails;
+    }
+
+    private static byte[] composeNaverThumbnail(NaverBaseMap baseMap, TrackBuffer points, RouteThumbnail size) {
+        int width = size.getWidth() * size.getScale();
+        int height = size.getHeight() * size.getScale();
+        BufferedImage base = baseMap.image;
+        double ratio = Math.max((double) width / base.getWidth(), (double) height / base.getHeight());
+        int scaledWidth = (int) Math.round(base.getWidth() * ratio);
+        int scaledHeight = (int) Math.round(base.getHeight() * ratio);
+
+        // JPEG 인코딩을 위해 알파 채널 없는 캔버스 사용
+        BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = canvas.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(base, (width - scaledWidth) / 2, (height - scaledHeight) / 2, scaledWidth, scaledHeight, null);
+
+            // 축소한 만큼 zoom 을 낮춰 단순화 (1/4 이면 2 단계)
+            int drawZoom = baseMap.drawZoom + (int) Math.ceil(Math.log(ratio) / Math.log(2));
+            TrackBuffer drawPoints = TrackSimplifier.simplify(points, TrackSimplifier.Profile.THUMBNAIL, drawZoom);
+            int n = drawPoints.size();
+            int[] xPoints = new int[n];
+            int[] yPoints = new int[n];
+
+            // 지도 중심이 캔버스 중심에 오도록 Web Mercator 픽셀 좌표 계산
+            double worldSize = baseMap.worldSize * ratio;
+            double left = WebMercator.worldX(baseMap.centerLng, worldSize) - width / 2.0;
+            double top = WebMercator.worldY(baseMap.centerLat, worldSize) - height / 2.0;
+            WebMercator.toPixelX(drawPoints.lonArray(), n, worldSize, left, xPoints);
+            WebMercator.toPixelY(drawPoints.latArray(), n, worldSize, top, yPoints);
+
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setStroke(new BasicStroke(2.5f * size.getScale()));
+            g2d.setColor(Color.RED);
+            g2d.drawPolyline(xPoints, yPoints, n);
+        } finally {
+            g2d.dispose();
+        }
+
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            ImageIO.write(canvas, size.getFormat(), baos);
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new StaticMapImageFetchException("정적 지도 이미지 인코딩 중 오류");
+        }
+    }
+
+    /**
+     * 네이버 정적 지도 API 로 경로 영역의 기본 지도를 받습니다.
+     */
+    private NaverBaseMap fetchNaverBaseMap(GPXData gpxData) {
+        try {
+            int baseWidth = STATIC_MAP_WIDTH;
+            int baseHeight = STATIC_MAP_HEIGHT;
+            int scaleFactor = STATIC_MAP_SCALE;
+
+            // 좌표 범위 (파싱 중 누적된 통계 사용)
+            TrackStatistics statistics = gpxData.getStatistics();
+            double minLat = statistics.getMinLat();
+            double maxLat = statistics.getMaxLat();
+            double minLng = statistics.getMinLon();
+            double maxLng = statistics.getMaxLon();
             double centerLat = (minLat + maxLat) / 2.0;
             double centerLng = (minLng + maxLng) / 2.0;
             int zoom = computeZoom(minLat, minLng, maxLat, maxLng, baseWidth, baseHeight) - 1;
@@ -222,115 +385,76 @@ public class RouteCreateService {
                          "&maptype=basic" +
                          "&format=png" +
                          "&scale=" + scaleFactor;
-
-            RestTemplate restTemplate = new RestTemplate();
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("x-ncp-apigw-api-key-id", naverApiKeyId);
-            headers.set("x-ncp-apigw-api-key", naverApiKey);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<byte[]> response = restTemplate.exchange(url, HttpMethod.GET, entity, byte[].class);
+            ResponseEntity<byte[]> response = naverHttpClient.execute("naver-static-map", client -> client.get()
+                    .uri(url)
+                    .header("x-ncp-apigw-api-key-id", naverApiKeyId)
+                    .header("x-ncp-apigw-api-key", naverApiKey)
+                    .retrieve()
+                    .toEntity(byte[].class));
             if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
                 throw new StaticMapImageFetchException("정적 지도 이미지를 가져오지 못했습니다.");
             }
             byte[] imageBytes = response.getBody();
             BufferedImage baseMapImage = ImageIO.read(new ByteArrayInputStream(imageBytes));
-            int actualWidth = baseMapImage.getWidth();
-            int actualHeight = baseMapImage.getHeight();
-            int centerX = actualWidth / 2;
-            int centerY = actualHeight / 2;
-
-            // 좌표 변환 설정 (Proj4j)
-            CRSFactory crsFactory = new CRSFactory();
-            CoordinateReferenceSystem crsWGS84 = crsFactory.createFromName("EPSG:4326");
-            CoordinateReferenceSystem crs3857 = crsFactory.createFromName("EPSG:3857");
-            CoordinateTransformFactory ctFactory = new CoordinateTransformFactory();
-            CoordinateTransform transform = ctFactory.createTransform(crsWGS84, crs3857);
-            ProjCoordinate centerSrc = new ProjCoordinate(centerLng, centerLat);
-            ProjCoordinate dstCenter = new ProjCoordinate();
-            transform.transform(centerSrc, dstCenter);
-
-            double alpha = 2; // 확대 비율
-
-            // === 성능 개선된 좌표 변환 루프 ===
-            double resolution = (156543.03392804062 / Math.pow(2, zoom)) / scaleFactor;
-            int n = points.size();
-            int[] xPoints = new int[n];
-            int[] yPoints = new int[n];
-
-            ProjCoordinate srcCoord = new ProjCoordinate();
-            ProjCoordinate dstCoord = new ProjCoordinate();
-
-            for (int i = 0; i < n; i++) {
-                GPXRoutePoint pt = points.get(i);
-                srcCoord.x = pt.getLongitude().doubleValue();
-                srcCoord.y = pt.getLatitude().doubleValue();
-                transform.transform(srcCoord, dstCoord);
-
-                int pixelX = (int) Math.round(actualWidth / 2.0 + (dstCoord.x - dstCenter.x) / resolution);
-                int pixelY = (int) Math.round(actualHeight / 2.0 - (dstCoord.y - dstCenter.y) / resolution);
-
-                int adjustedX = centerX + (int) Math.round((pixelX - centerX) * alpha);
-                int adjustedY = centerY + (int) Math.round((pixelY - centerY) * alpha);
-
-                xPoints[i] = adjustedX;
-                yPoints[i] = adjustedY;
+            if (baseMapImage == null) {
+                throw new StaticMapImageFetchException("정적 지도 이미지를 읽지 못했습니다.");
             }
-            // =====================================
 
-            Graphics2D g2d = baseMapImage.createGraphics();
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            g2d.setStroke(new BasicStroke(5));
-            g2d.setColor(Color.RED);
-            g2d.drawPolyline(xPoints, yPoints, n);
-            g2d.dispose();
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ImageIO.write(baseMapImage, "png", baos);
-            return baos.toByteArray();
+            double alpha = 2; // 확대 비율
+            // 폴리라인은 실제 렌더링 배율(scale 2배 x alpha 2배 = zoom + 2) 기준
+            return new NaverBaseMap(baseMapImage, centerLat, centerLng,
+                    WebMercator.worldSize(zoom, scaleFactor * alpha), zoom + 2);
         } catch (IOException | RestClientException e) {
             throw new StaticMapImageFetchException("정적 지도 이미지 생성 중 오류");
         }
     }
+
+    /**
+     * 네이버 기본 지도와 경로를 그릴 Web Mercator 좌표계 (상세 이미지 기준)
+     */
+    static final class NaverBaseMap {
+        private final BufferedImage image;
+        private final double centerLat;
+        private final double centerLng;
+        private final double worldSize;
+        private final int drawZoom;
+
+        NaverBaseMap(BufferedImage image, double centerLat, double centerLng, double worldSize, int drawZoom) {
+            this.image = image;
+            this.centerLat = centerLat;
+            this.centerLng = centerLng;
+            this.worldSize = worldSize;
+            this.drawZoom = drawZoom;
+        }
+    }
     
     /**
      * Web Mercator 방식을 사용하여 적절한 zoom 레벨을 계산합니다.
      */
     private int computeZoom(double minLat, double minLng, double maxLat, double maxLng, int imageWidth, int imageHeight) {
-        double tileSize = 256;
-        double lngDelta = Math.abs(maxLng - minLng);
-        if (lngDelta > 180) {
-            lngDelta = 360 - lngDelta;
-        }
-        double diffX = lngDelta / 360.0;
-
-        double latRadMin = Math.toRadians(minLat);
-        double latRadMax = Math.toRadians(maxLat);
-        double minY = (1 - Math.log(Math.tan(latRadMin) + 1 / Math.cos(latRadMin)) / Math.PI) / 2;
-        double maxY = (1 - Math.log(Math.tan(latRadMax) + 1 / Math.cos(latRadMax)) / Math.PI) / 2;
-        double diffY = Math.abs(maxY - minY);
-
-        if (diffX == 0 || diffY == 0) {
-            return 16;
-        }
-        double zoomX = Math.log(imageWidth / (tileSize * diffX)) / Math.log(2);
-        double zoomY = Math.log(imageHeight / (tileSize * diffY)) / Math.log(2);
-        int zoom = (int) Math.floor(Math.min(zoomX, zoomY));
-        return Math.max(0, Math.min(zoom, 19));
+        return WebMercator.fitZoom(minLat, minLng, maxLat, maxLng, imageWidth, imageHeight, 16, 19);
     }
 
     /**
      * 파일 확장자에 따라 GPX 또는 TCX 파서를 호출합니다.
      */
     private GPXData parseFile(MultipartFile file) throws Exception {
-        String originalFilename = file.getOriginalFilename();
+        try (InputStream inputStream = file.getInputStream()) {
+            return parseFile(file.getOriginalFilename(), inputStream);
+        }
+    }
+
+    /**
+     * 파일 이름의 확장자로 파서를 고르고 입력 스트림을 파싱합니다. (비동기 업로드 파이프라인에서도 사용)
+     */
+    GPXData parseFile(String originalFilename, InputStream inputStream) throws Exception {
         if (originalFilename == null) {
             throw new InvalidFileExtensionException("파일 이름이 없습니다.");
         }
         if (originalFilename.toLowerCase().endsWith(".gpx")) {
-            return parseGPX(file);
+            return parseGPX(inputStream);
         } else if (originalFilename.toLowerCase().endsWith(".tcx")) {
-            return parseTCX(file);
+            return parseTCX(inputStream);
         } else {
             throw new InvalidFileExtensionException("지원하지 않는 파일 형식");
         }
@@ -339,7 +463,7 @@ public class RouteCreateService {
     /**
      * GPX 파일을 SAX 기반 스트리밍 파서를 사용하여 파싱합니다.
      */
-    private GPXData parseGPX(MultipartFile file) throws Exception {
+    private GPXData parseGPX(InputStream inputStream) throws Exception {
         SAXParserFactory factory = SAXParserFactory.newInstance();
         // XXE 공격 방지 설정
         factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
@@ -349,16 +473,15 @@ public class RouteCreateService {
 
         SAXParser saxParser = factory.newSAXParser();
         GPXHandler handler = new GPXHandler();
-        saxParser.parse(file.getInputStream(), handler);
+        saxParser.parse(inputStream, handler);
 
-        List<GPXRoutePoint> points = handler.getPoints();
-        return processPoints(points);
+        return processPoints(handler.getTrack(), handler.getStatistics());
     }
     
     /**
      * TCX 파일을 SAX 기반 스트리밍 파서를 사용하여 파싱합니다.
      */
-    private GPXData parseTCX(MultipartFile file) throws Exception {
+    private GPXData parseTCX(InputStream inputStream) throws Exception {
         SAXParserFactory factory = SAXParserFactory.newInstance();
         // XXE 공격 방지 설정
         factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
@@ -368,136 +491,68 @@ public class RouteCreateService {
 
         SAXParser saxParser = factory.newSAXParser();
         TCXHandler handler = new TCXHandler();
-        saxParser.parse(file.getInputStream(), handler);
+        saxParser.parse(inputStream, handler);
 
-        List<GPXRoutePoint> points = handler.getPoints();
-        return processPoints(points);
+        return processPoints(handler.getTrack(), handler.getStatistics());
     }
     
     /**
-     * 파싱된 경로 포인트 리스트를 바탕으로 총 거리, 고도 상승량을 계산하고
-     * Douglas-Peucker 알고리즘을 적용합니다.
+     * 파싱 중 누적된 통계(총 거리, 고도 상승량)를 사용하고
+     * 업로드 프로파일(Douglas-Peucker)로 경로를 단순화합니다.
      */
-    private GPXData processPoints(List<GPXRoutePoint> points) {
+    GPXData processPoints(TrackBuffer points, TrackStatistics statistics) {
         if (points.isEmpty()) {
             throw new InvalidFileExtensionException("파일에 경로 포인트가 없습니다.");
         }
-        BigDecimal totalDistance = BigDecimal.ZERO;
-        BigDecimal totalAltitude = BigDecimal.ZERO;
-        GPXRoutePoint prev = null;
-        for (GPXRoutePoint point : points) {
-            if (prev != null) {
-                totalDistance = totalDistance.add(calculateHaversineDistance(prev, point));
-                BigDecimal elevationDiff = point.getElevation().subtract(prev.getElevation());
-                if (elevationDiff.compareTo(BigDecimal.ZERO) > 0) {
-                    totalAltitude = totalAltitude.add(elevationDiff);
-                }
-            }
-            prev = point;
-        }
-        List<GPXRoutePoint> simplifiedPoints = simplifyPoints(points, DEFAULT_SIMPLIFICATION_TOLERANCE);
-        return new GPXData(totalDistance, totalAltitude, simplifiedPoints);
+        TrackBuffer simplifiedPoints = TrackSimplifier.simplify(points, TrackSimplifier.Profile.UPLOAD);
+        return new GPXData(
+                BigDecimal.valueOf(statistics.getDistanceKm()).setScale(2, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(statistics.getElevationGain()).setScale(2, RoundingMode.HALF_UP),
+                simplifiedPoints,
+                statistics);
     }
     
     /**
-     * 두 지점 간의 하버사인 거리(킬로미터 단위)를 계산합니다.
+     * 태그 이름으로 기존 태그를 찾고, 없으면 새로 생성합니다.
      */
-    private BigDecimal calculateHaversineDistance(GPXRoutePoint p1, GPXRoutePoint p2) {
-        double lat1 = p1.getLatitude().doubleValue();
-        double lon1 = p1.getLongitude().doubleValue();
-        double lat2 = p2.getLatitude().doubleValue();
-        double lon2 = p2.getLongitude().doubleValue();
-        double earthRadius = 6371e3; // 미터 단위
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        double distanceMeters = earthRadius * c;
-        return new BigDecimal(distanceMeters).divide(new BigDecimal(1000), MathContext.DECIMAL128);
-    }
-    
-    /**
-     * Douglas-Peucker 알고리즘을 이용해 경로 포인트를 단순화합니다.
-     */
-    private List<GPXRoutePoint> simplifyPoints(List<GPXRoutePoint> points, double tolerance) {
-        if (points == null || points.size() < 3) {
-            return points;
-        }
-        return douglasPeucker(points, tolerance);
+    Set<RouteTagCategoryEntity> resolveTags(List<String> tagNames) {
+        return tagNames.stream()
+                .map(tagName -> routeTagCategoryRepository.findByName(tagName)
+                        .orElseGet(() -> routeTagCategoryRepository.save(
+                                RouteTagCategoryEntity.builder().name(tagName).build())))
+                .collect(Collectors.toSet());
     }
-    
+
     /**
-     * 인덱스 기반 Douglas-Peucker 알고리즘 재귀 호출 래퍼.
+     * GPX 경로 포인트들을 JDBC multi-row INSERT 로 저장하고,
+     * 상세 조회용으로 경로 전체를 압축해 route_geometry 에도 저장합니다.
+     * 공간 검색용 출발점 / 경계 상자도 함께 계산하고, 파싱 직후 계산한 경로 지문(signature)을 저장합니다.
      */
-    private List<GPXRoutePoint> douglasPeucker(List<GPXRoutePoint> points, double tolerance) {
-        return douglasPeuckerRec(points, 0, points.size() - 1, tolerance);
+    void saveRoutePoints(RouteEntity route, TrackBuffer points, int[] signature) {
+        routePointJdbcRepository.insertAll(route.getRouteId(), points);
+        routeGeometryRepository.save(RouteGeometryEntity.builder()
+                .route(route)
+                .geometry(RouteGeometryCodec.encode(points))
+                .fingerprint(signature == null ? null : RouteFingerprint.encode(signature))
+                .firstPointId(routePointJdbcRepository.findFirstPointId(route.getRouteId()))
+                .build());
+        applyBounds(route, RouteBounds.of(points));
     }
-    
-    /**
-     * [start, end] 구간에 대해 Douglas-Peucker 알고리즘을 재귀적으로 적용합니다.
-     */
-    private List<GPXRoutePoint> douglasPeuckerRec(List<GPXRoutePoint> points, int start, int end, double tolerance) {
-        double maxDistance = 0;
-        int index = start;
-        for (int i = start + 1; i < end; i++) {
-            double distance = perpendicularDistance(points.get(i), points.get(start), points.get(end));
-            if (distance > maxDistance) {
-                maxDistance = distance;
-                index = i;
-            }
-        }
-        List<GPXRoutePoint> result = new ArrayList<>();
-        if (maxDistance > tolerance) {
-            List<GPXRoutePoint> recResults1 = douglasPeuckerRec(points, start, index, tolerance);
-            List<GPXRoutePoint> recResults2 = douglasPeuckerRec(points, index, end, tolerance);
-            result.addAll(recResults1);
-            result.remove(result.size() - 1);
-            result.addAll(recResults2);
-        } else {
-            result.add(points.get(start));
-            result.add(points.get(end));
+
+    static void applyBounds(RouteEntity route, RouteBounds bounds) {
+        if (bounds == null) {
+            return;
         }
-        return result;
-    }
-    
-    /**
-     * 시작점과 끝점을 잇는 직선에 대해 p의 수직 거리를 계산합니다.
-     */
-    private double perpendicularDistance(GPXRoutePoint p, GPXRoutePoint p1, GPXRoutePoint p2) {
-        double x0 = p.getLongitude().doubleValue();
-        double y0 = p.getLatitude().doubleValue();
-        double x1 = p1.getLongitude().doubleValue();
-        double y1 = p1.getLatitude().doubleValue();
-        double x2 = p2.getLongitude().doubleValue();
-        double y2 = p2.getLatitude().doubleValue();
-        double numerator = Math.abs((y2 - y1) * x0 - (x2 - x1) * y0 + x2 * y1 - y2 * x1);
-        double denominator = Math.sqrt(Math.pow(y2 - y1, 2) + Math.pow(x2 - x1, 2));
-        return denominator == 0 ? Math.hypot(x0 - x1, y0 - y1) : numerator / denominator;
-    }
-    
-    /**
-     * GPX 경로 포인트들을 배치 저장합니다.
-     */
-    private void saveRoutePoints(RouteEntity route, List<GPXRoutePoint> points) {
-        List<RoutePointEntity> entities = new ArrayList<>();
-        for (int i = 0; i < points.size(); i++) {
-            GPXRoutePoint point = points.get(i);
-            RoutePointEntity routePoint = RoutePointEntity.builder()
-                    .route(route)
-                    .latitude(point.getLatitude())
-                    .longitude(point.getLongitude())
-                    .elevation(point.getElevation())
-                    .sequence(i)
-                    .build();
-            entities.add(routePoint);
-        }
-        routePointRepository.saveAll(entities);
+        route.setStartLat(bounds.getStartLat());
+        route.setStartLon(bounds.getStartLon());
+        route.setMinLat(bounds.getMinLat());
+        route.setMinLon(bounds.getMinLon());
+        route.setMaxLat(bounds.getMaxLat());
+        route.setMaxLon(bounds.getMaxLon());
     }
     
     // Enum 변환 도우미 메서드들
-    private RouteEntity.Region convertRegion(String region) {
+    RouteEntity.Region convertRegion(String region) {
         try {
             return RouteEntity.Region.valueOf(region);
         } catch (IllegalArgumentException e) {
@@ -505,7 +560,7 @@ public class RouteCreateService {
         }
     }
     
-    private RouteEntity.DistanceType convertDistanceType(String type) {
+    RouteEntity.DistanceType convertDistanceType(String type) {
         return switch (type) {
             case "단거리" -> RouteEntity.DistanceType.단거리;
             case "중거리" -> RouteEntity.DistanceType.중거리;
@@ -514,7 +569,7 @@ public class RouteCreateService {
         };
     }
     
-    private RouteEntity.AltitudeType convertAltitudeType(String type) {
+    RouteEntity.AltitudeType convertAltitudeType(String type) {
         return switch (type) {
             case "평지" -> RouteEntity.AltitudeType.평지;
             case "힐리" -> RouteEntity.AltitudeType.힐리;
@@ -524,7 +579,7 @@ public class RouteCreateService {
         };
     }
     
-    private RouteEntity.RoadType convertRoadType(String type) {
+    RouteEntity.RoadType convertRoadType(String type) {
         return switch (type) {
             case "자전거 도로" -> RouteEntity.RoadType.자전거도로;
             case "공도" -> RouteEntity.RoadType.공도;
@@ -533,7 +588,7 @@ public class RouteCreateService {
         };
     }
 
-    private RouteEntity.FileType convertFileType(String filename) {
+    RouteEntity.FileType convertFileType(String filename) {
         if (filename.toLowerCase().endsWith(".gpx")) {
             return RouteEntity.FileType.GPX;
         } else if (filename.toLowerCase().endsWith(".tcx")) {
@@ -546,15 +601,17 @@ public class RouteCreateService {
     /**
      * 내부 클래스: 파싱된 경로 데이터를 저장하는 클래스
      */
-    private static class GPXData {
+    static class GPXData {
         private final BigDecimal distance;
         private final BigDecimal altitude;
-        private final List<GPXRoutePoint> routePoints;
+        private final TrackBuffer routePoints;
+        private final TrackStatistics statistics;
 
-        public GPXData(BigDecimal distance, BigDecimal altitude, List<GPXRoutePoint> routePoints) {
+        public GPXData(BigDecimal distance, BigDecimal altitude, TrackBuffer routePoints, TrackStatistics statistics) {
             this.distance = distance;
             this.altitude = altitude;
             this.routePoints = routePoints;
+            this.statistics = statistics;
         }
 
         public BigDecimal getDistance() {
@@ -565,61 +622,61 @@ public class RouteCreateService {
             return altitude;
         }
 
-        public List<GPXRoutePoint> getRoutePoints() {
+        public TrackBuffer getRoutePoints() {
             return routePoints;
         }
+
+        public TrackStatistics getStatistics() {
+            return statistics;
+        }
     }
 
     /**
-     * 내부 클래스: 개별 경로 포인트 표현  
-     * SAX 파싱 과정에서 setter를 통해 값이 설정됩니다.
+     * ISO-8601 시간 문자열을 epoch millis 로 변환합니다. 형식이 잘못되면 NO_TIME 을 반환합니다.
      */
-    private static class GPXRoutePoint {
-        private final BigDecimal latitude;
-        private final BigDecimal longitude;
-        private BigDecimal elevation;
-
-        public GPXRoutePoint(BigDecimal latitude, BigDecimal longitude, BigDecimal elevation) {
-            this.latitude = latitude;
-            this.longitude = longitude;
-            this.elevation = elevation;
-        }
-
-        public BigDecimal getLatitude() {
-            return latitude;
-        }
-
-        public BigDecimal getLongitude() {
-            return longitude;
-        }
-
-        public BigDecimal getElevation() {
-            return elevation;
+    static long parseTime(String text) {
+        try {
+            return Instant.parse(text.trim()).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return TrackBuffer.NO_TIME;
         }
+    }
 
-        public void setElevation(BigDecimal elevation) {
-            this.elevation = elevation;
+    /**
+     * 숫자 문자열을 double 로 변환합니다. 형식이 잘못되면 0 을 반환합니다.
+     */
+    static double parseNumber(String text) {
+        try {
+            return Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            return 0;
         }
     }
     
     /**
      * SAX 기반 GPX 파서 핸들러 클래스.
-     * <trkpt> 요소를 만나면 좌표, 고도 정보를 읽어 GPXRoutePoint 객체로 저장합니다.
+     * <trkpt> 요소를 만나면 좌표, 고도, 시간 정보를 읽어 TrackBuffer 에 바로 기록하고 통계에 반영합니다.
+     * 포인트마다 객체를 만들지 않습니다.
      */
-    private static class GPXHandler extends DefaultHandler {
-        private final List<GPXRoutePoint> points = new ArrayList<>();
-        private GPXRoutePoint currentPoint = null;
+    static class GPXHandler extends DefaultHandler {
+        private final TrackBuffer track = new TrackBuffer();
+        private final TrackStatistics statistics = new TrackStatistics();
+        private boolean inPoint = false;
+        private double currentLatitude;
+        private double currentLongitude;
+        private float currentElevation;
+        private long currentTime;
         private final StringBuilder content = new StringBuilder();
 
         @Override
         public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
             content.setLength(0);
             if ("trkpt".equalsIgnoreCase(qName)) {
-                String latStr = attributes.getValue("lat");
-                String lonStr = attributes.getValue("lon");
-                BigDecimal lat = new BigDecimal(latStr);
-                BigDecimal lon = new BigDecimal(lonStr);
-                currentPoint = new GPXRoutePoint(lat, lon, BigDecimal.ZERO);
+                inPoint = true;
+                currentLatitude = Double.parseDouble(attributes.getValue("lat"));
+                currentLongitude = Double.parseDouble(attributes.getValue("lon"));
+                currentElevation = 0f;
+                currentTime = TrackBuffer.NO_TIME;
             }
         }
 
@@ -630,39 +687,50 @@ public class RouteCreateService {
 
         @Override
         public void endElement(String uri, String localName, String qName) throws SAXException {
-            if (currentPoint != null) {
+            if (inPoint) {
                 if ("ele".equalsIgnoreCase(qName)) {
-                    try {
-                        currentPoint.setElevation(new BigDecimal(content.toString().trim()));
-                    } catch (NumberFormatException e) {
-                        currentPoint.setElevation(BigDecimal.ZERO);
-                    }
+                    currentElevation = (float) parseNumber(content.toString());
+                } else if ("time".equalsIgnoreCase(qName)) {
+                    currentTime = parseTime(content.toString());
                 } else if ("trkpt".equalsIgnoreCase(qName)) {
-                    points.add(currentPoint);
-                    currentPoint = null;
+                    track.add(currentLatitude, currentLongitude, currentElevation, currentTime);
+                    statistics.accept(currentLatitude, currentLongitude, currentElevation);
+                    inPoint = false;
                 }
             }
         }
 
-        public List<GPXRoutePoint> getPoints() {
-            return points;
+        public TrackBuffer getTrack() {
+            return track;
+        }
+
+        public TrackStatistics getStatistics() {
+            return statistics;
         }
     }
     
     /**
      * SAX 기반 TCX 파서 핸들러 클래스.
-     * <Trackpoint> 요소 내부의 <LatitudeDegrees>, <LongitudeDegrees>, <AltitudeMeters> 값을 읽어 경로 포인트로 저장합니다.
+     * <Trackpoint> 요소 내부의 <LatitudeDegrees>, <LongitudeDegrees>, <AltitudeMeters>, <Time> 값을 읽어
+     * TrackBuffer 에 바로 기록하고 통계에 반영합니다.
      */
-    private static class TCXHandler extends DefaultHandler {
-        private final List<GPXRoutePoint> points = new ArrayList<>();
-        private BigDecimal currentLatitude = null;
-        private BigDecimal currentLongitude = null;
-        private BigDecimal currentAltitude = BigDecimal.ZERO;
+    static class TCXHandler extends DefaultHandler {
+        private final TrackBuffer track = new TrackBuffer();
+        private final TrackStatistics statistics = new TrackStatistics();
+        private boolean hasLatitude = false;
+        private boolean hasLongitude = false;
+        private double currentLatitude;
+        private double currentLongitude;
+        private float currentAltitude = 0f;
+        private long currentTime = TrackBuffer.NO_TIME;
         private final StringBuilder content = new StringBuilder();
 
         @Override
         public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
             content.setLength(0);
+            if ("Trackpoint".equalsIgnoreCase(qName)) {
+                currentTime = TrackBuffer.NO_TIME;
+            }
         }
 
         @Override
@@ -673,36 +741,33 @@ public class RouteCreateService {
         @Override
         public void endElement(String uri, String localName, String qName) throws SAXException {
             if ("LatitudeDegrees".equalsIgnoreCase(qName)) {
-                try {
-                    currentLatitude = new BigDecimal(content.toString().trim());
-                } catch (NumberFormatException e) {
-                    currentLatitude = BigDecimal.ZERO;
-                }
+                currentLatitude = parseNumber(content.toString());
+                hasLatitude = true;
             } else if ("LongitudeDegrees".equalsIgnoreCase(qName)) {
-                try {
-                    currentLongitude = new BigDecimal(content.toString().trim());
-                } catch (NumberFormatException e) {
-                    currentLongitude = BigDecimal.ZERO;
-                }
+                currentLongitude = parseNumber(content.toString());
+                hasLongitude = true;
             } else if ("AltitudeMeters".equalsIgnoreCase(qName)) {
-                try {
-                    currentAltitude = new BigDecimal(content.toString().trim());
-                } catch (NumberFormatException e) {
-                    currentAltitude = BigDecimal.ZERO;
-                }
+                currentAltitude = (float) parseNumber(content.toString());
+            } else if ("Time".equalsIgnoreCase(qName)) {
+                currentTime = parseTime(content.toString());
             } else if ("Trackpoint".equalsIgnoreCase(qName)) {
-                if (currentLatitude != null && currentLongitude != null) {
-                    GPXRoutePoint point = new GPXRoutePoint(currentLatitude, currentLongitude, currentAltitude);
-                    points.add(point);
+                if (hasLatitude && hasLongitude) {
+                    track.add(currentLatitude, currentLongitude, currentAltitude, currentTime);
+                    statistics.accept(currentLatitude, currentLongitude, currentAltitude);
                 }
-                currentLatitude = null;
-                currentLongitude = null;
-                currentAltitude = BigDecimal.ZERO;
+                hasLatitude = false;
+                hasLongitude = false;
+                currentAltitude = 0f;
+                currentTime = TrackBuffer.NO_TIME;
             }
         }
 
-        public List<GPXRoutePoint> getPoints() {
-            return points;
+        public TrackBuffer getTrack() {
+            return track;
+        }
+
+        public TrackStatistics getStatistics() {
+            return statistics;
         }
     }
-}
\ No newline at end of file
+}
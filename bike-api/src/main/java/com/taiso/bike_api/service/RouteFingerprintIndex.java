@@ -0,0 +1,132 @@
+package com.taiso.bike_api.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.domain.RouteEntity.IngestStatus;
+import com.taiso.bike_api.repository.RouteGeometryRepository;
+import com.taiso.bike_api.util.AfterCommit;
+import com.taiso.bike_api.util.MinHashLshIndex;
+import com.taiso.bike_api.util.RouteFingerprint;
+
+/**
+ * 유사 루트 검색용 경로 지문 메모리 색인
+ *
+ * route_geometry.fingerprint (RouteFingerprint MinHash 서명) 를 LSH 색인에 올려 두고, 같은 코스를 다시 올린 루트를 찾습니다.
+ * 업로드 완료 / 삭제 / 지문 마이그레이션 시점에 갱신합니다.
+ */
+@Component
+public class RouteFingerprintIndex extends IncrementalMemoryIndex<MinHashLshIndex<Long>> {
+
+    @Autowired
+    private RouteGeometryRepository routeGeometryRepository;
+
+    // 유사 루트로 판단할 최소 유사도 (지나간 약 150m 칸 집합의 Jaccard 유사도 추정치)
+    @Value("${route.fingerprint.min-similarity:0.6}")
+    private double minSimilarity;
+
+    // 업로드 응답 / 상태 조회에 함께 돌려줄 유사 루트 수
+    @Value("${route.fingerprint.upload-feedback-size:5}")
+    private int uploadFeedbackSize;
+
+    public RouteFingerprintIndex() {
+        super("루트 지문 색인", "route.fingerprint-index.size");
+    }
+
+    @Override
+    protected MinHashLshIndex<Long> newIndex() {
+        return new MinHashLshIndex<>();
+    }
+
+    @Override
+    protected void load(MinHashLshIndex<Long> index) {
+        for (Object[] row : routeGeometryRepository.findFingerprintIndexTargets(IngestStatus.완료)) {
+            int[] signature = RouteFingerprint.decode((byte[]) row[1]);
+            if (signature != null) {
+                index.put((Long) row[0], signature);
+            }
+        }
+    }
+
+    @Override
+    protected int applyChanges(MinHashLshIndex<Long> index, LocalDateTime since) {
+        List<Object[]> changes = routeGeometryRepository.findFingerprintIndexChanges(since);
+        for (Object[] row : changes) {
+            Long routeId = (Long) row[0];
+            IngestStatus status = (IngestStatus) row[1];
+            int[] signature = status == null || status == IngestStatus.완료 ? RouteFingerprint.decode((byte[]) row[2]) : null;
+            if (signature != null) {
+                index.put(routeId, signature);
+            } else {
+                index.remove(routeId);
+            }
+        }
+        return changes.size();
+    }
+
+    @Override
+    protected int sizeOf(MinHashLshIndex<Long> index) {
+        return index.size();
+    }
+
+    /**
+     * route_geometry 에 저장된 지문으로 색인을 갱신합니다. 업로드가 끝나지 않았거나 지문이 없으면 제거합니다.
+     */
+    public void update(RouteEntity route) {
+        if (route.getRouteId() == null) {
+            return;
+        }
+        boolean completed = route.getIngestStatus() == null || route.getIngestStatus() == IngestStatus.완료;
+        int[] signature = completed
+                ? RouteFingerprint.decode(routeGeometryRepository.findFingerprintByRouteId(route.getRouteId()))
+                : null;
+        if (signature == null) {
+            remove(route.getRouteId());
+            return;
+        }
+        put(route.getRouteId(), signature);
+    }
+
+    public void put(Long routeId, int[] signature) {
+        if (signature != null) {
+            AfterCommit.run(() -> index().put(routeId, signature));
+        }
+    }
+
+    public void remove(Long routeId) {
+        AfterCommit.run(() -> index().remove(routeId));
+    }
+
+    /**
+     * 지문이 비슷한 루트를 유사도 높은 순으로 최대 limit 건 반환합니다. (excludeRouteId 제외)
+     */
+    public List<MinHashLshIndex.Match<Long>> findSimilar(int[] signature, int limit, Long excludeRouteId) {
+        if (signature == null) {
+            return Collections.emptyList();
+        }
+        return index().similar(signature, minSimilarity, limit, excludeRouteId);
+    }
+
+    /**
+     * 업로드한 경로와 같은 코스로 보이는 기존 루트 아이디 (유사도 높은 순, excludeRouteId 제외). 지문이 없으면 빈 목록
+     * 파싱 직후 계산한 지문으로 호출해 렌더링 / 업로드 전에 알려 줍니다.
+     */
+    public List<Long> findUploadDuplicates(int[] signature, Long excludeRouteId) {
+        return findSimilar(signature, uploadFeedbackSize, excludeRouteId).stream()
+                .map(MinHashLshIndex.Match::getKey)
+                .toList();
+    }
+
+    /**
+     * 색인에 올라간 루트의 지문, 없으면 null
+     */
+    public int[] signatureOf(Long routeId) {
+        return index().get(routeId);
+    }
+}
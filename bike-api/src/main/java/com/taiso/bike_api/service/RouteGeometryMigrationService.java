@@ -0,0 +1,169 @@
+package com.taiso.bike_api.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taiso.bike_api.domain.RouteEntity.IngestStatus;
+import com.taiso.bike_api.domain.RouteGeometryEntity;
+import com.taiso.bike_api.repository.RouteGeometryRepository;
+import com.taiso.bike_api.repository.RoutePointJdbcRepository;
+import com.taiso.bike_api.repository.RouteRepository;
+import com.taiso.bike_api.util.RouteBounds;
+import com.taiso.bike_api.util.RouteFingerprint;
+import com.taiso.bike_api.util.RouteGeometryCodec;
+import com.taiso.bike_api.util.TrackBuffer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * route_geometry 가 없던 시기에 등록된 루트를 route_point 행에서 읽어 route_geometry 를 채우는 마이그레이션 작업
+ * route_geometry 는 있지만 출발점 / 경계 상자나 경로 지문이 없는 루트는 geometry 를 풀어 채우고 공간 / 지문 색인에 올립니다.
+ * 루트 한 건씩 짧은 트랜잭션으로 처리하므로 중간에 중단되어도 다음 실행에서 이어서 진행합니다.
+ * 서버마다 같은 스케줄로 돌기 때문에 route_geometry 를 만들 때는 route 행을 잠그고 아직 없는지 다시 확인한 뒤 저장합니다.
+ * (출발점 / 경계 상자 / 지문 채우기는 같은 값을 덮어쓰므로 겹쳐 실행되어도 결과가 같습니다)
+ */
+@Service
+@Slf4j
+public class RouteGeometryMigrationService {
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private RouteGeometryRepository routeGeometryRepository;
+
+    @Autowired
+    private RoutePointJdbcRepository routePointJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RouteSpatialIndex routeSpatialIndex;
+
+    @Autowired
+    private RouteFingerprintIndex routeFingerprintIndex;
+
+    @Value("${route.geometry.migration.enabled:true}")
+    private boolean enabled;
+
+    // 한 번에 조회할 루트 수
+    @Value("${route.geometry.migration.batch-size:100}")
+    private int batchSize;
+
+    // 한 번 실행에서 처리할 최대 루트 수 (DB 부하 제한)
+    @Value("${route.geometry.migration.max-per-run:5000}")
+    private int maxPerRun;
+
+    @Scheduled(initialDelayString = "${route.geometry.migration.initial-delay-ms:60000}",
+            fixedDelayString = "${route.geometry.migration.delay-ms:600000}")
+    public void migrateScheduled() {
+        if (enabled) {
+            migrate();
+        }
+    }
+
+    /**
+     * route_geometry 가 없는 루트를 처리하고 처리한 루트 수를 반환합니다.
+     */
+    public int migrate() {
+        int migrated = 0;
+        long start = System.nanoTime();
+        while (migrated < maxPerRun) {
+            List<Long> routeIds = routeRepository.findRouteIdsWithoutGeometry(
+                    IngestStatus.완료, PageRequest.of(0, batchSize));
+            if (routeIds.isEmpty()) {
+                break;
+            }
+            for (Long routeId : routeIds) {
+                if (Boolean.TRUE.equals(migrateRoute(routeId))) {
+                    migrated++;
+                }
+            }
+        }
+        if (migrated > 0) {
+            log.info("루트 geometry 마이그레이션 {}건 완료: {} ms", migrated, (System.nanoTime() - start) / 1_000_000);
+        }
+        return migrated + migrateDerived();
+    }
+
+    /**
+     * 출발점 / 경계 상자나 경로 지문이 비어 있는 루트를 처리하고 처리한 루트 수를 반환합니다.
+     * 포인트가 없는 루트는 계속 비어 있으므로 아이디 순으로 한 번씩만 훑습니다.
+     */
+    int migrateDerived() {
+        int migrated = 0;
+        long afterId = 0;
+        long start = System.nanoTime();
+        while (migrated < maxPerRun) {
+            List<Long> routeIds = routeRepository.findRouteIdsWithoutDerivedData(
+                    afterId, IngestStatus.완료, PageRequest.of(0, batchSize));
+            if (routeIds.isEmpty()) {
+                break;
+            }
+            for (Long routeId : routeIds) {
+                migrateRouteDerived(routeId);
+                migrated++;
+            }
+            afterId = routeIds.get(routeIds.size() - 1);
+        }
+        if (migrated > 0) {
+            log.info("루트 경계 상자 / 지문 마이그레이션 {}건 완료: {} ms", migrated, (System.nanoTime() - start) / 1_000_000);
+        }
+        return migrated;
+    }
+
+    /**
+     * 루트 한 건의 route_geometry 를 만들고, 다른 서버가 먼저 만들었거나 루트가 삭제되었으면 false 를 반환합니다.
+     */
+    private Boolean migrateRoute(Long routeId) {
+        return transactionTemplate.execute(status -> {
+            if (routeRepository.lockForMigration(routeId) == null || routeGeometryRepository.existsById(routeId)) {
+                return false;
+            }
+            // 포인트가 없는 루트도 빈 geometry 를 저장해 다시 조회되지 않도록 함
+            TrackBuffer track = routePointJdbcRepository.findTrack(routeId);
+            routeGeometryRepository.save(RouteGeometryEntity.builder()
+                    .route(routeRepository.getReferenceById(routeId))
+                    .geometry(RouteGeometryCodec.encode(track))
+                    .firstPointId(routePointJdbcRepository.findFirstPointId(routeId))
+                    .build());
+            updateDerived(routeId, track);
+            return true;
+        });
+    }
+
+    private void migrateRouteDerived(Long routeId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            byte[] geometry = routeGeometryRepository.findGeometryByRouteId(routeId);
+            if (geometry != null) {
+                updateDerived(routeId, RouteGeometryCodec.decode(geometry));
+            }
+        });
+    }
+
+    // 경계 상자를 먼저 저장해 route.updated_at 이 바뀌도록 함 (다른 서버의 지문 색인 증분 갱신 기준)
+    private void updateDerived(Long routeId, TrackBuffer track) {
+        updateBounds(routeId, RouteBounds.of(track));
+        int[] signature = RouteFingerprint.signature(track);
+        if (signature != null) {
+            routeGeometryRepository.updateFingerprint(routeId, RouteFingerprint.encode(signature));
+            routeFingerprintIndex.put(routeId, signature);
+        }
+    }
+
+    private void updateBounds(Long routeId, RouteBounds bounds) {
+        if (bounds == null) {
+            return;
+        }
+        routeRepository.updateBounds(routeId, bounds.getStartLat(), bounds.getStartLon(),
+                bounds.getMinLat(), bounds.getMinLon(), bounds.getMaxLat(), bounds.getMaxLon());
+        routeSpatialIndex.put(routeId, bounds);
+    }
+}
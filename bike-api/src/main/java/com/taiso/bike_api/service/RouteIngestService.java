@@ -0,0 +1,416 @@
+package com.taiso.bike_api.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.taiso.bike_api.domain.LightningEntity;
+import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.domain.RouteEntity.IngestStatus;
+import com.taiso.bike_api.domain.RouteTagCategoryEntity;
+import com.taiso.bike_api.dto.RouteIngestStatusResponseDTO;
+import com.taiso.bike_api.dto.RoutePostRequestDTO;
+import com.taiso.bike_api.dto.RoutePostResponseDTO;
+import com.taiso.bike_api.exception.InvalidFileExtensionException;
+import com.taiso.bike_api.exception.RouteIngestAccessDeniedException;
+import com.taiso.bike_api.exception.RouteIngestRejectedException;
+import com.taiso.bike_api.exception.RouteNotFoundException;
+import com.taiso.bike_api.repository.LightningRepository;
+import com.taiso.bike_api.repository.RouteGeometryRepository;
+import com.taiso.bike_api.repository.RouteRepository;
+import com.taiso.bike_api.util.RouteFingerprint;
+import com.taiso.bike_api.util.RouteThumbnail;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 루트 업로드 파이프라인
+ *
+ * POST 요청에서는 파일 확장자/입력값 검증 후 처리대기 상태의 루트만 저장하고 바로 응답합니다.
+ * 이후 routeIngestExecutor 스레드 풀에서 파싱 → 정적 지도 렌더링 → S3 업로드 단계를 순서대로 실행하며,
+ * 각 단계의 진행 상태는 RouteEntity.ingestStatus 에 기록되어 상태 조회 API 로 확인할 수 있습니다.
+ * 같은 코스로 보이는 기존 루트는 파싱 직후 경로 지문으로 찾아 기록하므로 렌더링 / 업로드를 기다리지 않고 조회됩니다.
+ *
+ * 렌더링/업로드 단계는 외부 API 오류에 대비해 지수 백오프로 재시도하고,
+ * 최종 실패 시에는 사용자가 사유를 확인할 수 있도록 실패 상태와 사유를 남긴 뒤
+ * route.ingest.failed-retention-days 가 지나면 루트 / 경로 포인트 / route_geometry 를 삭제합니다.
+ * (S3 에 이미 올라간 파일은 루트 삭제와 마찬가지로 지우지 않습니다)
+ */
+@Service
+@Slf4j
+public class RouteIngestService {
+
+    // 예상하지 못한 오류로 실패했을 때 사용자에게 보여줄 사유 (예외 메시지는 로그에만 남김)
+    private static final String UNEXPECTED_FAILURE_MESSAGE = "업로드 처리 중 오류가 발생했습니다. 다시 업로드해주세요.";
+
+    // route.ingest_similar_route_ids 컬럼 길이
+    private static final int SIMILAR_ROUTE_IDS_MAX_LENGTH = 255;
+
+    // 실패 업로드 정리 시 한 번에 읽는 루트 수
+    private static final int PURGE_BATCH_SIZE = 100;
+
+    // 서버 재시작 시 중단된 것으로 간주할 상태
+    private static final Set<IngestStatus> IN_PROGRESS = EnumSet.of(
+            IngestStatus.처리대기, IngestStatus.파싱중, IngestStatus.렌더링중, IngestStatus.업로드중);
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private RouteGeometryRepository routeGeometryRepository;
+
+    @Autowired
+    private LightningRepository lightningRepository;
+
+    @Autowired
+    private RouteCreateService routeCreateService;
+
+    @Autowired
+    private S3Service s3Service;
+
+    @Autowired
+    private RouteSpatialIndex routeSpatialIndex;
+
+    @Autowired
+    private RouteFingerprintIndex routeFingerprintIndex;
+
+    @Autowired
+    private TextSearchIndex textSearchIndex;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("routeIngestExecutor")
+    private Executor routeIngestExecutor;
+
+    // 렌더링/업로드 단계별 최대 시도 횟수
+    @Value("${route.ingest.max-attempts:3}")
+    private int maxAttempts;
+
+    // 첫 재시도 대기 시간 (이후 2배씩 증가)
+    @Value("${route.ingest.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    // 실패한 업로드를 남겨 두는 기간
+    @Value("${route.ingest.failed-retention-days:7}")
+    private int failedRetentionDays;
+
+    /**
+     * 처리대기 상태의 루트를 저장하고 파이프라인 작업을 등록합니다.
+     */
+    public RoutePostResponseDTO submit(RoutePostRequestDTO dto, MultipartFile file, Authentication authentication) {
+        Long userId = userService.getUserIdByEmail(authentication.getName());
+        String fileName = file.getOriginalFilename();
+        routeCreateService.validateFileExtension(fileName);
+
+        // 요청 스레드가 끝나면 multipart 임시 파일이 정리되므로 미리 읽어둔다
+        byte[] fileBytes;
+        try {
+            fileBytes = file.getBytes();
+        } catch (IOException e) {
+            throw new InvalidFileExtensionException("파일을 읽는 중 오류가 발생하였습니다.");
+        }
+
+        RouteEntity pendingRoute = RouteEntity.builder()
+                .routeName(dto.getRouteName())
+                .description(dto.getDescription())
+                .userId(userId)
+                .region(routeCreateService.convertRegion(dto.getRegion()))
+                .distance(BigDecimal.ZERO)
+                .altitude(BigDecimal.ZERO)
+                .distanceType(routeCreateService.convertDistanceType(dto.getDistanceType()))
+                .altitudeType(routeCreateService.convertAltitudeType(dto.getAltitudeType()))
+                .roadType(routeCreateService.convertRoadType(dto.getRoadType()))
+                .fileType(routeCreateService.convertFileType(fileName))
+                .fileName(fileName)
+                .likeCount(0L)
+                .ingestStatus(IngestStatus.처리대기)
+                .build();
+
+        Long routeId = transactionTemplate.execute(status -> {
+            Set<RouteTagCategoryEntity> tags = routeCreateService.resolveTags(dto.getTag());
+            pendingRoute.setTags(tags);
+            return routeRepository.save(pendingRoute).getRouteId();
+        });
+
+        IngestJob job = new IngestJob(routeId, userId, fileName, file.getContentType(), fileBytes);
+        try {
+            routeIngestExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            markStatus(routeId, IngestStatus.실패, "업로드 요청이 많아 처리하지 못했습니다.");
+            throw new RouteIngestRejectedException("업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        RoutePostResponseDTO response = new RoutePostResponseDTO();
+        response.setRouteId(routeId);
+        return response;
+    }
+
+    /**
+     * 루트 업로드 처리 상태 조회 (루트를 올린 사용자만)
+     */
+    public RouteIngestStatusResponseDTO getStatus(Long routeId, Authentication authentication) {
+        RouteEntity route = routeRepository.findById(routeId)
+                .orElseThrow(() -> new RouteNotFoundException("루트를 찾을 수 없습니다."));
+        if (!userIdentityService.getUserId(authentication).equals(route.getUserId())) {
+            throw new RouteIngestAccessDeniedException("업로드 상태를 조회할 권한이 없습니다.");
+        }
+        // 비동기 업로드 이전에 등록된 루트는 완료로 취급
+        IngestStatus status = route.getIngestStatus() == null ? IngestStatus.완료 : route.getIngestStatus();
+        return RouteIngestStatusResponseDTO.builder()
+                .routeId(routeId)
+                .status(status.name())
+                .progress(progressOf(status))
+                .message(route.getIngestMessage())
+                .similarRouteIds(splitRouteIds(route.getIngestSimilarRouteIds()))
+                .build();
+    }
+
+    /**
+     * 파이프라인 작업은 메모리에만 있으므로 재시작 전에 진행 중이던 업로드는 실패로 표시합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedIngests() {
+        Integer count = transactionTemplate.execute(status -> routeRepository.failInterruptedIngests(
+                IN_PROGRESS, IngestStatus.실패, "서버 재시작으로 업로드가 중단되었습니다. 다시 업로드해주세요."));
+        if (count != null && count > 0) {
+            log.warn("중단된 루트 업로드 {}건을 실패 처리했습니다.", count);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 실패 업로드를 삭제합니다. 루트마다 짧은 트랜잭션으로 처리하고 삭제 직전에 상태를 다시 확인합니다.
+     * 다른 서버가 먼저 지운 루트 등 한 건의 실패는 로그만 남기고 다음 루트로 넘어갑니다.
+     */
+    @Scheduled(cron = "${route.ingest.purge-cron:0 0 5 * * *}")
+    public int purgeFailedIngests() {
+        LocalDateTime before = LocalDateTime.now().minusDays(failedRetentionDays);
+        int purged = 0;
+        long afterId = 0L;
+        List<Long> routeIds;
+        do {
+            routeIds = routeRepository.findFailedIngestIds(afterId, IngestStatus.실패, before,
+                    PageRequest.of(0, PURGE_BATCH_SIZE));
+            for (Long routeId : routeIds) {
+                afterId = routeId;
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteFailedRoute(routeId, before)))) {
+                        purged++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("실패 업로드 루트 {} 삭제 실패: {}", routeId, e.getMessage());
+                }
+            }
+        } while (routeIds.size() == PURGE_BATCH_SIZE);
+        if (purged > 0) {
+            log.info("보관 기간이 지난 실패 업로드 {}건을 삭제했습니다.", purged);
+        }
+        return purged;
+    }
+
+    private boolean deleteFailedRoute(Long routeId, LocalDateTime before) {
+        RouteEntity route = routeRepository.findById(routeId).orElse(null);
+        if (route == null || route.getIngestStatus() != IngestStatus.실패 || !route.getUpdatedAt().isBefore(before)) {
+            return false;
+        }
+        // 루트 삭제와 같은 순서: 번개 연결 해제 → route_geometry → route (경로 포인트는 cascade)
+        for (LightningEntity lightning : lightningRepository.findByRoute_RouteId(routeId)) {
+            lightning.setRoute(null);
+        }
+        routeGeometryRepository.deleteByRouteId(routeId);
+        routeRepository.delete(route);
+        return true;
+    }
+
+    private void run(IngestJob job) {
+        long start = System.nanoTime();
+        try {
+            // Stage 1: 파싱, 같은 코스 검색 및 경로 포인트 저장
+            markStatus(job.routeId, IngestStatus.파싱중, null);
+            RouteCreateService.GPXData gpxData;
+            try {
+                gpxData = routeCreateService.parseFile(job.fileName, new ByteArrayInputStream(job.fileBytes));
+            } catch (Exception e) {
+                markStatus(job.routeId, IngestStatus.실패, "파일 파싱 중 오류가 발생하였습니다. 파일이 손상되었거나 올바른 형식이 아닙니다");
+                return;
+            }
+            // 렌더링 / 업로드 전에 같은 코스로 보이는 기존 루트를 기록해 상태 조회로 바로 알 수 있게 한다
+            int[] signature = RouteFingerprint.signature(gpxData.getRoutePoints());
+            List<Long> similarRouteIds = routeFingerprintIndex.findUploadDuplicates(signature, job.routeId);
+            transactionTemplate.executeWithoutResult(status -> {
+                RouteEntity route = findRoute(job.routeId);
+                route.setDistance(gpxData.getDistance());
+                route.setAltitude(gpxData.getAltitude());
+                route.setIngestSimilarRouteIds(joinRouteIds(similarRouteIds));
+                routeCreateService.saveRoutePoints(route, gpxData.getRoutePoints(), signature);
+            });
+
+            // Stage 2: 크기별 썸네일 렌더링 (한 번의 렌더링으로 모든 크기 생성)
+            markStatus(job.routeId, IngestStatus.렌더링중, null);
+            Map<RouteThumbnail, byte[]> thumbnails = withRetry(job, "정적 지도 렌더링",
+                    () -> routeCreateService.generateThumbnails(gpxData));
+
+            // Stage 3: S3 업로드 (키를 고정해 재시도 시 같은 객체를 덮어씀)
+            markStatus(job.routeId, IngestStatus.업로드중, null);
+            withRetry(job, "GPX 파일 업로드",
+                    () -> s3Service.uploadFile(job.fileBytes, job.gpxFileKey, job.contentType));
+            for (Map.Entry<RouteThumbnail, byte[]> thumbnail : thumbnails.entrySet()) {
+                RouteThumbnail size = thumbnail.getKey();
+                withRetry(job, "썸네일(" + size.getSuffix() + ") 업로드",
+                        () -> s3Service.uploadFile(thumbnail.getValue(), size.resolve(job.thumbnailKeyPrefix),
+                                size.getContentType()));
+            }
+            String gpxFileUrl = s3Service.generatePresignedUrl(job.gpxFileKey, 24);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                RouteEntity route = findRoute(job.routeId);
+                routeCreateService.applyThumbnailUrls(route, job.thumbnailKeyPrefix, thumbnails.keySet());
+                route.setOriginalFilePath(gpxFileUrl);
+                route.setIngestStatus(IngestStatus.완료);
+                route.setIngestMessage(null);
+                routeSpatialIndex.update(route);
+                routeFingerprintIndex.update(route);
+                textSearchIndex.update(route);
+            });
+            log.info("루트 {} 업로드 처리 완료: {} ms", job.routeId, (System.nanoTime() - start) / 1_000_000);
+        } catch (IngestStageException e) {
+            log.error("루트 {} 업로드 처리 실패", job.routeId, e);
+            markStatus(job.routeId, IngestStatus.실패, e.getMessage());
+        } catch (Exception e) {
+            log.error("루트 {} 업로드 처리 실패", job.routeId, e);
+            markStatus(job.routeId, IngestStatus.실패, UNEXPECTED_FAILURE_MESSAGE);
+        }
+    }
+
+    /**
+     * 단계를 최대 maxAttempts 번 실행합니다. 실패할 때마다 대기 시간을 2배로 늘립니다.
+     */
+    private <T> T withRetry(IngestJob job, String stage, Supplier<T> action) {
+        long backoff = retryBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw new IngestStageException(stage + " 실패 (" + attempt + "회 시도)", e);
+                }
+                log.warn("루트 {} {} 실패, 재시도 {}/{}: {}", job.routeId, stage, attempt, maxAttempts - 1, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IngestStageException(stage + " 중단", ie);
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    private void markStatus(Long routeId, IngestStatus status, String message) {
+        String trimmed = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+        transactionTemplate.executeWithoutResult(tx -> routeRepository.updateIngestStatus(routeId, status, trimmed));
+    }
+
+    private RouteEntity findRoute(Long routeId) {
+        return routeRepository.findById(routeId)
+                .orElseThrow(() -> new RouteNotFoundException("루트를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 루트 아이디 목록을 컬럼 길이(255) 안에서 쉼표로 이어 붙입니다. 넘치는 뒤쪽(유사도 낮은) 아이디는 버립니다.
+     */
+    static String joinRouteIds(List<Long> routeIds) {
+        if (routeIds.isEmpty()) {
+            return null;
+        }
+        StringBuilder joined = new StringBuilder();
+        for (Long routeId : routeIds) {
+            String id = String.valueOf(routeId);
+            if (joined.length() + id.length() + 1 > SIMILAR_ROUTE_IDS_MAX_LENGTH) {
+                break;
+            }
+            if (joined.length() > 0) {
+                joined.append(',');
+            }
+            joined.append(id);
+        }
+        return joined.toString();
+    }
+
+    static List<Long> splitRouteIds(String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(joined.split(",")).map(Long::valueOf).toList();
+    }
+
+    private static int progressOf(IngestStatus status) {
+        return switch (status) {
+            case 처리대기 -> 0;
+            case 파싱중 -> 10;
+            case 렌더링중 -> 40;
+            case 업로드중 -> 70;
+            case 완료, 실패 -> 100;
+        };
+    }
+
+    /**
+     * 재시도 단계의 최종 실패. 메시지는 단계 이름만으로 만들어 그대로 사용자에게 보여줍니다.
+     */
+    private static class IngestStageException extends RuntimeException {
+        IngestStageException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * 파이프라인 작업 단위. S3 키는 작업 생성 시 고정합니다.
+     */
+    private static class IngestJob {
+        private final Long routeId;
+        private final String fileName;
+        private final String contentType;
+        private final byte[] fileBytes;
+        private final String gpxFileKey;
+        private final String thumbnailKeyPrefix;
+
+        IngestJob(Long routeId, Long userId, String fileName, String contentType, byte[] fileBytes) {
+            this.routeId = routeId;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.fileBytes = fileBytes;
+            this.gpxFileKey = "users/" + userId + "/" + UUID.randomUUID() + fileName.substring(fileName.lastIndexOf("."));
+            this.thumbnailKeyPrefix = RouteCreateService.thumbnailKeyPrefix(routeId);
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.taiso.bike_api.service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +18,6 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
-import com.taiso.bike_api.domain.BookmarkEntity;
 import com.taiso.bike_api.domain.BookmarkEntity.BookmarkType;
 import com.taiso.bike_api.domain.LightningEntity;
 import com.taiso.bike_api.domain.RouteEntity;
@@ -25,6 +29,10 @@ import com.taiso.bike_api.dto.RouteDetailResponseDTO;
 import com.taiso.bike_api.dto.RouteListResponseDTO;
 import com.taiso.bike_api.dto.RoutePointDTO;
 import com.taiso.bike_api.dto.RouteResponseDTO;
+import com.taiso.bike_api.dto.RouteSimilarItemDTO;
+import com.taiso.bike_api.dto.RouteSimilarResponseDTO;
+import com.taiso.bike_api.exception.InvalidCursorException;
+import com.taiso.bike_api.exception.InvalidLocationException;
 import com.taiso.bike_api.exception.RouteDeleteAccessDeniedException;
 import com.taiso.bike_api.exception.RouteLikeAlreadyExistsException;
 import com.taiso.bike_api.exception.RouteLikeNotFoundException;
@@ -32,10 +40,22 @@ import com.taiso.bike_api.exception.RouteNotFoundException;
 import com.taiso.bike_api.exception.UserNotFoundException;
 import com.taiso.bike_api.repository.BookmarkRepository;
 import com.taiso.bike_api.repository.LightningRepository;
+import com.taiso.bike_api.repository.RouteGeometryRepository;
 import com.taiso.bike_api.repository.RouteLikeRepository;
+import com.taiso.bike_api.repository.RouteListQueryRepository;
+import com.taiso.bike_api.repository.RoutePointJdbcRepository;
 import com.taiso.bike_api.repository.RoutePointRepository;
 import com.taiso.bike_api.repository.RouteRepository;
 import com.taiso.bike_api.repository.UserRepository;
+import com.taiso.bike_api.util.GeoGridIndex;
+import com.taiso.bike_api.util.KeysetCursor;
+import com.taiso.bike_api.util.KeysetSlice;
+import com.taiso.bike_api.util.MinHashLshIndex;
+import com.taiso.bike_api.util.RouteFingerprint;
+import com.taiso.bike_api.util.RouteGeometryCodec;
+import com.taiso.bike_api.util.RouteThumbnail;
+import com.taiso.bike_api.util.TrackBuffer;
+import com.taiso.bike_api.util.TrackSimplifier;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Join;
@@ -47,24 +67,59 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RouteService {
 
+    // 커서 페이지네이션 정렬 기준 (NOT NULL 컬럼, (정렬 키, route_id) 인덱스 대상)
+    private static final Set<String> ROUTE_CURSOR_SORT_FIELDS =
+            Set.of("routeId", "createdAt", "likeCount", "distance", "altitude");
+
+    // 커서 페이지네이션 최대 페이지 크기
+    private static final int CURSOR_MAX_SIZE = 100;
+
+    // 공간 검색 최대 반경 (km) / 최대 건수
+    private static final int SPATIAL_MAX_RADIUS_KM = 100;
+    private static final int SPATIAL_MAX_SIZE = 200;
+
+    // 유사 루트 최대 건수
+    private static final int SIMILAR_MAX_SIZE = 50;
+
     @Autowired
     private RouteLikeRepository routeLikeRepository;
 
     @Autowired
     private RouteRepository routeRepository;
 
+    @Autowired
+    private RouteListQueryRepository routeListQueryRepository;
+
     @Autowired
     private RoutePointRepository routePointRepository;
 
+    @Autowired
+    private RoutePointJdbcRepository routePointJdbcRepository;
+
+    @Autowired
+    private RouteGeometryRepository routeGeometryRepository;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     @Autowired
     private BookmarkRepository bookmarkRepository;
 
     @Autowired
     private LightningRepository lightningRepository;
 
+    @Autowired
+    private RouteSpatialIndex routeSpatialIndex;
+
+    @Autowired
+    private RouteFingerprintIndex routeFingerprintIndex;
+
+    @Autowired
+    private TextSearchIndex textSearchIndex;
+
 
     /** 
       @param routeId 루트 아이디
@@ -82,17 +137,13 @@ public class RouteService {
     RouteEntity routeEntity = routeRepository.findById(routeId)
             .orElseThrow(() -> new RouteNotFoundException(routeId + "번 루트를 찾을 수 없음"));
 
-    // 루트 포인트 조회
-    List<RoutePointEntity> routePoints = routePointRepository.findByRouteOrderBySequenceAsc(routeEntity);
-    List<RoutePointDTO> pointResponses = routePoints.stream()
-            .map(rp -> RoutePointDTO.builder()
-                    .route_point_id(rp.getRoutePointId().toString())
-                    .sequence(rp.getSequence())
-                    .latitude(rp.getLatitude().floatValue())
-                    .longitude(rp.getLongitude().floatValue())
-                    .elevation(rp.getElevation() != null ? rp.getElevation().floatValue() : null)
-                    .build())
-            .collect(Collectors.toList());
+    // 업로드 처리 중이거나 실패한 루트는 노출하지 않음 (진행 상태는 /ingest 로 조회)
+    if (routeEntity.getIngestStatus() != null && routeEntity.getIngestStatus() != RouteEntity.IngestStatus.완료) {
+        throw new RouteNotFoundException(routeId + "번 루트를 찾을 수 없음");
+    }
+
+    // 루트 포인트 조회 (상세 화면 포인트 상한을 넘으면 단순화)
+    List<RoutePointDTO> pointResponses = getRoutePoints(routeEntity, TrackSimplifier.Profile.DETAIL);
 
     // 루트 태그 조회
     List<String> tags = routeEntity.getTags().stream()
@@ -102,24 +153,24 @@ public class RouteService {
     // 사용자 정보 조회 및 좋아요, 북마크 여부 확인
     boolean liked = false;
     boolean isBookmarked = false;
-    UserEntity user = null;
     if (userEmail != null) {
-        // 사용자 정보 조회 (한 번만 호출)
-        user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException(userEmail + "번 유저를 찾을 수 없음"));
-
-        liked = routeLikeRepository.existsByUser_UserIdAndRoute_RouteId(user.getUserId(), routeId);
-        isBookmarked = bookmarkRepository.existsByUser_UserIdAndTargetIdAndTargetType(
-                user.getUserId(), 
-                routeEntity.getRouteId(),
-                BookmarkType.ROUTE
-        );
+        // 사용자 ID 만 필요하므로 식별 정보 캐시 사용
+        Long userId = userIdentityService.findUserId(userEmail);
+        if (userId == null) {
+            throw new UserNotFoundException(userEmail + "번 유저를 찾을 수 없음");
+        }
+
+        // 목록 조회와 같은 set 기반 쿼리 사용
+        List<Long> routeIds = List.of(routeId);
+        liked = !routeLikeRepository.findLikedRouteIds(userId, routeIds).isEmpty();
+        isBookmarked = !bookmarkRepository.findBookmarkedTargetIds(userId, BookmarkType.ROUTE, routeIds).isEmpty();
     }
 
     // 루트 디테일 정보 반환
     return RouteDetailResponseDTO.builder()
             .routeId(routeEntity.getRouteId())
             .routeImgId(routeEntity.getRouteImgId())
+            .thumbnailUrls(RouteThumbnail.urlsOf(routeEntity.getThumbnailPrefix(), routeEntity.getRouteImgId()))
             .userId(routeEntity.getUserId())
             .routeName(routeEntity.getRouteName())
             .description(routeEntity.getDescription())
@@ -141,6 +192,75 @@ public class RouteService {
 }
 
 
+    /**
+     * 루트 포인트 DTO 목록을 만듭니다.
+     * route_geometry 가 있으면 route_point 행을 읽지 않고 바로 디코딩하고, 없으면 기존처럼 route_point 를 조회합니다.
+     * route_point_id 는 어느 쪽이든 route_point 의 아이디를 그대로 돌려줍니다.
+     */
+    public List<RoutePointDTO> getRoutePoints(RouteEntity routeEntity, TrackSimplifier.Profile profile) {
+        byte[] geometry = routeGeometryRepository.findGeometryByRouteId(routeEntity.getRouteId());
+        if (geometry != null) {
+            TrackBuffer track = RouteGeometryCodec.decode(geometry);
+            boolean[] keep = track.size() > profile.getMaxPoints()
+                    ? TrackSimplifier.keepMask(track, profile.getMode(), profile.tolerance(), profile.getMaxPoints())
+                    : null;
+            // first_point_id 가 있으면 계산만 하고, 없으면 (이전 데이터 / 아이디가 건너뛴 루트) 아이디만 sequence 순으로 읽음
+            Long firstPointId = routeGeometryRepository.findFirstPointIdByRouteId(routeEntity.getRouteId());
+            long[] pointIds = firstPointId == null && !track.isEmpty() ? routePointJdbcRepository.findPointIds(routeEntity.getRouteId()) : null;
+            List<RoutePointDTO> result = new ArrayList<>();
+            for (int i = 0; i < track.size(); i++) {
+                if (keep != null && !keep[i]) {
+                    continue;
+                }
+                result.add(RoutePointDTO.builder()
+                        .route_point_id(String.valueOf(firstPointId != null ? firstPointId + i : pointIds[i]))
+                        .sequence(i)
+                        .latitude((float) track.lat(i))
+                        .longitude((float) track.lon(i))
+                        .elevation(track.ele(i))
+                        .build());
+            }
+            return result;
+        }
+
+        List<RoutePointEntity> routePoints = limitPoints(
+                routePointRepository.findByRouteOrderBySequenceAsc(routeEntity), profile);
+        return routePoints.stream()
+                .map(rp -> RoutePointDTO.builder()
+                        .route_point_id(rp.getRoutePointId().toString())
+                        .sequence(rp.getSequence())
+                        .latitude(rp.getLatitude().floatValue())
+                        .longitude(rp.getLongitude().floatValue())
+                        .elevation(rp.getElevation() != null ? rp.getElevation().floatValue() : null)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+      @param routePoints sequence 순으로 정렬된 루트 포인트
+      @param profile 단순화 프로파일
+      @return 프로파일의 포인트 상한 이하로 단순화된 루트 포인트
+      포인트 수가 상한 이하이면 그대로 반환
+    */
+    private List<RoutePointEntity> limitPoints(List<RoutePointEntity> routePoints, TrackSimplifier.Profile profile) {
+        if (routePoints.size() <= profile.getMaxPoints()) {
+            return routePoints;
+        }
+        TrackBuffer track = new TrackBuffer(routePoints.size());
+        for (RoutePointEntity rp : routePoints) {
+            track.add(rp.getLatitude().doubleValue(), rp.getLongitude().doubleValue(), 0f, TrackBuffer.NO_TIME);
+        }
+        boolean[] keep = TrackSimplifier.keepMask(track, profile.getMode(), profile.tolerance(), profile.getMaxPoints());
+        List<RoutePointEntity> result = new ArrayList<>();
+        for (int i = 0; i < routePoints.size(); i++) {
+            if (keep[i]) {
+                result.add(routePoints.get(i));
+            }
+        }
+        return result;
+    }
+
+
     /** 
       @param authentication 인증 정보
       @param routeId 루트 아이디
@@ -186,14 +306,15 @@ public class RouteService {
     @Transactional
     public void deleteRouteLike(Authentication authentication, Long routeId) {
         // 사용자 조회
-        UserEntity user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        Long userId = userIdentityService.find(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
         // 루트 조회
         RouteEntity route = routeRepository.findById(routeId)
                 .orElseThrow(() -> new RouteNotFoundException("루트를 찾을 수 없습니다."));
 
         // 좋아요 조회
-        RouteLikeEntity routeLike = routeLikeRepository.findByUser_UserIdAndRoute_RouteId(user.getUserId(), routeId)
+        RouteLikeEntity routeLike = routeLikeRepository.findByUser_UserIdAndRoute_RouteId(userId, routeId)
                 .orElseThrow(() -> new RouteLikeNotFoundException("해당 루트에 대한 좋아요가 존재하지 않습니다."));
 
         // 좋아요 삭제
@@ -231,8 +352,70 @@ public RouteListResponseDTO getRouteList(int page, int size, String sort,
     Pageable pageable = PageRequest.of(page, size, sortObj);
 
     // 루트 리스트 조회 조건 설정
+    Specification<RouteEntity> spec = buildRouteListSpecification(region, distanceType, altitudeType, roadType, tag);
+    
+    // 페이징 처리 및 결과 조회 (목록 전용 조회 모델, 태그 포함 DTO 로 바로 조회)
+    Page<RouteResponseDTO> routePage = routeListQueryRepository.findRouteList(spec, pageable);
+
+    // 좋아요 / 북마크 여부 반영
+    List<RouteResponseDTO> routeResponseDTO = routePage.getContent();
+    applyUserFlags(routeResponseDTO, userEmail);
+
+    return RouteListResponseDTO.builder()
+            .content(routeResponseDTO)
+            .pageNo(routePage.getNumber() + 1)
+            .pageSize(routePage.getSize())
+            .totalElements(routePage.getTotalElements())
+            .totalPages(routePage.getTotalPages())
+            .last(routePage.isLast())
+            .hasNext(routePage.hasNext())
+            .build();
+}
+
+/**
+ * 루트 리스트 커서(키셋) 페이지네이션 조회
+ * 전체 개수를 세지 않으므로 totalElements / totalPages 는 -1 로 내려가며, nextCursor 로 다음 페이지를 요청합니다.
+ * 정렬은 오프셋 모드와 같이 내림차순이고, 같은 정렬 값은 routeId 내림차순으로 이어집니다.
+ */
+public RouteListResponseDTO getRouteListByCursor(String cursor, int requestedSize, String sort,
+                                                 String region, String distanceType,
+                                                 String altitudeType, String roadType, String[] tag,
+                                                 String userEmail) {
+    String sortField = (sort == null || sort.isEmpty()) ? "routeId" : sort;
+    if (!ROUTE_CURSOR_SORT_FIELDS.contains(sortField)) {
+        throw new InvalidCursorException("커서 페이지네이션에서 지원하지 않는 정렬 기준입니다: " + sortField);
+    }
+    KeysetCursor after = KeysetCursor.decode(cursor, sortField);
+    // 0 이하는 빈 페이지에서 마지막 행을 찾다 실패하고, 너무 크면 테이블 전체를 읽으므로 범위를 제한
+    int size = Math.max(1, Math.min(requestedSize, CURSOR_MAX_SIZE));
+
+    Specification<RouteEntity> spec = buildRouteListSpecification(region, distanceType, altitudeType, roadType, tag);
+    KeysetSlice<RouteResponseDTO> slice = routeListQueryRepository.findRouteSlice(
+            spec, sortField, Sort.Direction.DESC, after, size);
+
+    applyUserFlags(slice.getContent(), userEmail);
+
+    return RouteListResponseDTO.builder()
+            .content(slice.getContent())
+            .pageSize(size)
+            .totalElements(-1)
+            .totalPages(-1)
+            .last(!slice.isHasNext())
+            .nextCursor(slice.getNextCursor())
+            .hasNext(slice.isHasNext())
+            .build();
+}
+
+// 루트 리스트 필터 조건 (오프셋 / 커서 모드 공통)
+private Specification<RouteEntity> buildRouteListSpecification(String region, String distanceType,
+                                                               String altitudeType, String roadType, String[] tag) {
     Specification<RouteEntity> spec = Specification.where(null);
 
+    // 업로드 처리가 끝난 루트만 노출 (null 은 비동기 업로드 이전에 등록된 루트)
+    spec = spec.and((root, query, cb) -> cb.or(
+            cb.isNull(root.get("ingestStatus")),
+            cb.equal(root.get("ingestStatus"), RouteEntity.IngestStatus.완료)));
+
     // 거리, 고도, 도로 유형 조건 설정
     if (region != null && !region.isEmpty()) {
         spec = spec.and((root, query, cb) ->
@@ -254,66 +437,141 @@ public RouteListResponseDTO getRouteList(int page, int size, String sort,
     if (tag != null && Arrays.stream(tag).anyMatch(t -> t != null && !t.isEmpty())) {
         spec = spec.and(buildTagSpecification(tag));
     }
-    
-    // 페이징 처리 및 결과 조회
-    Page<RouteEntity> routePage = routeRepository.findAll(spec, pageable);
+    return spec;
+}
 
-    // 현재 사용자 가져오기 (null이 아닌 경우)
-    UserEntity currentUser = null;
-    if (userEmail != null && !userEmail.isEmpty()) {
-        currentUser = userRepository.findByEmail(userEmail).orElse(null);
+/**
+ * 출발점이 (latitude, longitude) 에서 radiusKm 이내인 루트를 가까운 순으로 조회합니다.
+ * 공간 색인에서 후보를 고르고 목록 컬럼만 아이디로 조회하므로 경로 포인트는 읽지 않습니다.
+ */
+public RouteListResponseDTO getRoutesNearStart(double latitude, double longitude, double radiusKm, int size,
+                                               String userEmail) {
+    validateLatitude(latitude);
+    validateLongitude(longitude);
+    if (!(radiusKm > 0) || radiusKm > SPATIAL_MAX_RADIUS_KM) {
+        throw new InvalidLocationException("검색 반경은 0km 초과 " + SPATIAL_MAX_RADIUS_KM + "km 이하여야 합니다.");
     }
-    
-    // Final reference for lambda
-    final UserEntity user = currentUser;
-
-    // 북마크 조회  
-    List<BookmarkEntity> bookmarks = bookmarkRepository.findByUserAndTargetType(user, BookmarkEntity.BookmarkType.ROUTE);
+    List<Long> candidates = routeSpatialIndex.startingWithin(latitude, longitude, radiusKm * 1000).stream()
+            .map(GeoGridIndex.Hit::getKey)
+            .collect(Collectors.toList());
+    return toSpatialRouteList(candidates, size, userEmail);
+}
 
+/**
+ * 경로의 경계 상자가 지도 화면 영역과 겹치는 루트를 최신순으로 조회합니다.
+ * 경도 180도 경계를 넘는 영역은 지원하지 않습니다. (minLongitude <= maxLongitude)
+ */
+public RouteListResponseDTO getRoutesInViewport(double minLatitude, double minLongitude,
+                                                double maxLatitude, double maxLongitude, int size,
+                                                String userEmail) {
+    validateLatitude(minLatitude);
+    validateLatitude(maxLatitude);
+    validateLongitude(minLongitude);
+    validateLongitude(maxLongitude);
+    if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+        throw new InvalidLocationException("지도 영역의 최솟값이 최댓값보다 클 수 없습니다.");
+    }
+    List<Long> candidates = routeSpatialIndex.intersecting(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    candidates.sort(Collections.reverseOrder());
+    return toSpatialRouteList(candidates, size, userEmail);
+}
 
-    // 응답 DTO 생성
-    List<RouteResponseDTO> routeResponseDTO = routePage.getContent().stream()
-            .map(route -> {
-                // 해당 루트에 대한 좋아요 여부 확인
-                boolean isLiked = false;
-                if (user != null) {
-                    isLiked = routeLikeRepository.existsByUser_UserIdAndRoute_RouteId(
-                            user.getUserId(), route.getRouteId());
-                }
-                
-                return new RouteResponseDTO(
-                    route.getRouteId(),
-                    route.getRouteImgId(),
-                    route.getUserId(),
-                    route.getRouteName(),
-                    route.getLikeCount(),
-                    route.getTags().stream()
-                            .map(RouteTagCategoryEntity::getName)
-                            .collect(Collectors.toList()),
-                    route.getDistance() != null ? route.getDistance().floatValue() : null,
-                    route.getAltitude() != null ? route.getAltitude().floatValue() : null,
-                    route.getRegion() != null ? route.getRegion().toString() : null,
-                    route.getDistanceType() != null ? route.getDistanceType().toString() : null,
-                    route.getAltitudeType() != null ? route.getAltitudeType().toString() : null,
-                    route.getRoadType() != null ? route.getRoadType().toString() : null,
-                    route.getCreatedAt() != null ? route.getCreatedAt().toString() : null,
-                    isLiked,
-                    bookmarks.stream()
-                            .anyMatch(bookmark -> bookmark.getTargetId().equals(route.getRouteId()))
-                );
-            })
+/**
+ * 경로 지문이 비슷한 (같은 코스를 다시 올린) 루트를 유사도 높은 순으로 조회합니다.
+ * 지문이 아직 없는 루트 (마이그레이션 전, 포인트 없음) 는 빈 목록을 반환합니다.
+ */
+public RouteSimilarResponseDTO getSimilarRoutes(Long routeId, int size, String userEmail) {
+    int[] signature = routeFingerprintIndex.signatureOf(routeId);
+    if (signature == null) {
+        if (!routeRepository.existsById(routeId)) {
+            throw new RouteNotFoundException("루트를 찾을 수 없습니다.");
+        }
+        signature = RouteFingerprint.decode(routeGeometryRepository.findFingerprintByRouteId(routeId));
+    }
+    int limit = Math.max(1, Math.min(size, SIMILAR_MAX_SIZE));
+    List<MinHashLshIndex.Match<Long>> matches = routeFingerprintIndex.findSimilar(signature, limit, routeId);
+
+    // 삭제 등으로 색인과 어긋난 루트는 조회 조건에서 빠짐
+    List<Long> routeIds = matches.stream().map(MinHashLshIndex.Match::getKey).collect(Collectors.toList());
+    List<RouteResponseDTO> routes = routeIds.isEmpty() ? new ArrayList<>()
+            : routeListQueryRepository.findRoutesByIds(buildRouteListSpecification(null, null, null, null, null), routeIds);
+    applyUserFlags(routes, userEmail);
+
+    Map<Long, RouteResponseDTO> routeById = routes.stream()
+            .collect(Collectors.toMap(RouteResponseDTO::getRouteId, Function.identity()));
+    List<RouteSimilarItemDTO> content = matches.stream()
+            .filter(match -> routeById.containsKey(match.getKey()))
+            .map(match -> RouteSimilarItemDTO.builder()
+                    .similarity(match.getSimilarity())
+                    .route(routeById.get(match.getKey()))
+                    .build())
             .collect(Collectors.toList());
+    return RouteSimilarResponseDTO.builder()
+            .routeId(routeId)
+            .content(content)
+            .build();
+}
+
+// 공간 색인 후보를 순서대로 size 건씩 조회해 채움 (삭제 등으로 색인과 어긋난 루트는 조회 조건에서 빠짐)
+private RouteListResponseDTO toSpatialRouteList(List<Long> candidates, int size, String userEmail) {
+    int limit = Math.max(1, Math.min(size, SPATIAL_MAX_SIZE));
+    Specification<RouteEntity> spec = buildRouteListSpecification(null, null, null, null, null);
+
+    List<RouteResponseDTO> routes = new ArrayList<>();
+    int from = 0;
+    while (from < candidates.size() && routes.size() < limit) {
+        int to = Math.min(candidates.size(), from + limit - routes.size());
+        routes.addAll(routeListQueryRepository.findRoutesByIds(spec, candidates.subList(from, to)));
+        from = to;
+    }
+    applyUserFlags(routes, userEmail);
 
+    boolean hasNext = from < candidates.size();
     return RouteListResponseDTO.builder()
-            .content(routeResponseDTO)
-            .pageNo(routePage.getNumber() + 1)
-            .pageSize(routePage.getSize())
-            .totalElements(routePage.getTotalElements())
-            .totalPages(routePage.getTotalPages())
-            .last(routePage.isLast())
+            .content(routes)
+            .pageNo(1)
+            .pageSize(limit)
+            .totalElements(-1)
+            .totalPages(-1)
+            .last(!hasNext)
+            .hasNext(hasNext)
             .build();
 }
 
+private static void validateLatitude(double latitude) {
+    if (latitude < -90 || latitude > 90) {
+        throw new InvalidLocationException("위도 값이 올바르지 않습니다.");
+    }
+}
+
+private static void validateLongitude(double longitude) {
+    if (longitude < -180 || longitude > 180) {
+        throw new InvalidLocationException("경도 값이 올바르지 않습니다.");
+    }
+}
+
+// 현재 페이지 루트에 대한 좋아요 / 북마크 여부를 각각 한 번의 쿼리로 조회해 반영
+private void applyUserFlags(List<RouteResponseDTO> routes, String userEmail) {
+    // 현재 사용자 ID 가져오기 (비로그인 또는 없는 사용자는 null)
+    Long currentUserId = userIdentityService.findUserId(userEmail);
+
+    Set<Long> likedRouteIds = Collections.emptySet();
+    Set<Long> bookmarkedRouteIds = Collections.emptySet();
+    if (currentUserId != null && !routes.isEmpty()) {
+        List<Long> routeIds = routes.stream()
+                .map(RouteResponseDTO::getRouteId)
+                .collect(Collectors.toList());
+        likedRouteIds = routeLikeRepository.findLikedRouteIds(currentUserId, routeIds);
+        bookmarkedRouteIds = bookmarkRepository.findBookmarkedTargetIds(
+                currentUserId, BookmarkType.ROUTE, routeIds);
+    }
+
+    for (RouteResponseDTO route : routes) {
+        route.setLiked(likedRouteIds.contains(route.getRouteId()));
+        route.setBookmarked(bookmarkedRouteIds.contains(route.getRouteId()));
+    }
+}
+
 
     
     /** 
@@ -345,7 +603,11 @@ public RouteListResponseDTO getRouteList(int page, int size, String sort,
     }
     
         
-        // 루트 삭제
+        // 루트 삭제 (route_geometry 는 route 를 참조하므로 먼저 삭제)
+        routeGeometryRepository.deleteByRouteId(routeId);
         routeRepository.delete(routeEntity);
+        routeSpatialIndex.remove(routeId);
+        routeFingerprintIndex.remove(routeId);
+        textSearchIndex.remove(TextSearchIndex.Target.ROUTE, routeId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.taiso.bike_api.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.domain.RouteEntity.IngestStatus;
+import com.taiso.bike_api.repository.RouteRepository;
+import com.taiso.bike_api.util.AfterCommit;
+import com.taiso.bike_api.util.BoxGridIndex;
+import com.taiso.bike_api.util.GeoGridIndex;
+import com.taiso.bike_api.util.RouteBounds;
+
+/**
+ * 루트 공간 검색용 메모리 색인
+ *
+ * route 테이블에 미리 계산해 둔 출발점 / 경계 상자만으로 만들며 route_point 나 geometry 는 읽지 않습니다.
+ * - 출발점: GeoGridIndex (출발점 반경 검색)
+ * - 경계 상자: BoxGridIndex (지도 화면 영역과 겹치는 루트 검색)
+ * 업로드 완료 / 삭제 / 경계 상자 마이그레이션 시점에 갱신합니다.
+ */
+@Component
+public class RouteSpatialIndex extends IncrementalMemoryIndex<RouteSpatialIndex.Grids> {
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    // 격자 한 칸의 크기 (도)
+    @Value("${route.spatial-index.cell-deg:0.1}")
+    private double cellDegrees;
+
+    // 이보다 많은 칸에 걸치는 경계 상자는 칸에 넣지 않고 조회마다 직접 비교
+    @Value("${route.spatial-index.max-cells-per-box:256}")
+    private int maxCellsPerBox;
+
+    public RouteSpatialIndex() {
+        super("루트 공간 색인", "route.spatial-index.size");
+    }
+
+    @Override
+    protected Grids newIndex() {
+        return new Grids(cellDegrees, maxCellsPerBox);
+    }
+
+    @Override
+    protected void load(Grids grids) {
+        for (Object[] row : routeRepository.findSpatialIndexTargets(IngestStatus.완료)) {
+            grids.put((Long) row[0], new RouteBounds((Double) row[1], (Double) row[2],
+                    (Double) row[3], (Double) row[4], (Double) row[5], (Double) row[6]));
+        }
+    }
+
+    @Override
+    protected int applyChanges(Grids grids, LocalDateTime since) {
+        List<Object[]> changes = routeRepository.findSpatialIndexChanges(since);
+        for (Object[] row : changes) {
+            Long routeId = (Long) row[0];
+            IngestStatus status = (IngestStatus) row[1];
+            if ((status == null || status == IngestStatus.완료) && row[2] != null) {
+                grids.put(routeId, new RouteBounds((Double) row[2], (Double) row[3],
+                        (Double) row[4], (Double) row[5], (Double) row[6], (Double) row[7]));
+            } else {
+                grids.remove(routeId);
+            }
+        }
+        return changes.size();
+    }
+
+    @Override
+    protected int sizeOf(Grids grids) {
+        return grids.boxIndex.size();
+    }
+
+    /**
+     * 루트의 현재 출발점 / 경계 상자로 색인을 갱신합니다. 업로드가 끝나지 않았거나 경계 상자가 없으면 제거합니다.
+     */
+    public void update(RouteEntity route) {
+        if (route.getRouteId() == null) {
+            return;
+        }
+        boolean completed = route.getIngestStatus() == null || route.getIngestStatus() == IngestStatus.완료;
+        if (!completed || route.getStartLat() == null) {
+            remove(route.getRouteId());
+            return;
+        }
+        put(route.getRouteId(), new RouteBounds(route.getStartLat(), route.getStartLon(),
+                route.getMinLat(), route.getMinLon(), route.getMaxLat(), route.getMaxLon()));
+    }
+
+    public void put(Long routeId, RouteBounds bounds) {
+        AfterCommit.run(() -> index().put(routeId, bounds));
+    }
+
+    public void remove(Long routeId) {
+        AfterCommit.run(() -> index().remove(routeId));
+    }
+
+    /**
+     * 출발점이 (lat, lon) 에서 radiusMeters 이내인 루트를 가까운 순으로 반환합니다.
+     */
+    public List<GeoGridIndex.Hit<Long>> startingWithin(double lat, double lon, double radiusMeters) {
+        return index().startIndex.within(lat, lon, radiusMeters);
+    }
+
+    /**
+     * 경계 상자가 영역과 겹치는 루트 아이디를 반환합니다. (순서 없음)
+     */
+    public List<Long> intersecting(double minLat, double minLon, double maxLat, double maxLon) {
+        return index().boxIndex.intersecting(minLat, minLon, maxLat, maxLon);
+    }
+
+    /**
+     * 출발점 색인 + 경계 상자 색인 (재구성 시 함께 교체)
+     */
+    static final class Grids {
+        private final GeoGridIndex<Long> startIndex;
+        private final BoxGridIndex<Long> boxIndex;
+
+        private Grids(double cellDegrees, int maxCellsPerBox) {
+            startIndex = new GeoGridIndex<>(cellDegrees);
+            boxIndex = new BoxGridIndex<>(cellDegrees, maxCellsPerBox);
+        }
+
+        private void put(Long routeId, RouteBounds bounds) {
+            startIndex.put(routeId, bounds.getStartLat(), bounds.getStartLon());
+            boxIndex.put(routeId, bounds.getMinLat(), bounds.getMinLon(), bounds.getMaxLat(), bounds.getMaxLon());
+        }
+
+        private void remove(Long routeId) {
+            startIndex.remove(routeId);
+            boxIndex.remove(routeId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.taiso.bike_api.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.taiso.bike_api.dto.SearchItemDTO;
+import com.taiso.bike_api.dto.SearchResponseDTO;
+import com.taiso.bike_api.exception.InvalidSearchQueryException;
+import com.taiso.bike_api.exception.UnsupportedEnumException;
+import com.taiso.bike_api.util.InvertedIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 루트 / 번개 / 클럽 통합 검색
+ *
+ * DB 를 거치지 않고 TextSearchIndex 메모리 색인에서 바로 응답합니다.
+ * 결과에는 종류 / 아이디 / 제목만 담으며 상세 정보는 각 상세 조회 API 로 확인합니다.
+ */
+@Service
+@Slf4j
+public class SearchService {
+
+    // 검색어 최대 길이 / 결과 최대 건수
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_SIZE = 50;
+
+    @Autowired
+    private TextSearchIndex textSearchIndex;
+
+    /**
+     * 검색어와 관련도가 높은 순으로 조회합니다. (BM25)
+     */
+    public SearchResponseDTO search(String query, String type, int size) {
+        String normalized = validateQuery(query);
+        return toResponse(normalized, textSearchIndex.search(normalized, parseTarget(type), limit(size)));
+    }
+
+    /**
+     * 입력 중인 문자열로 시작하거나 (띄어쓰기 무시) 그 문자열을 포함하는 제목을 조회합니다.
+     */
+    public SearchResponseDTO autocomplete(String query, String type, int size) {
+        String normalized = validateQuery(query);
+        return toResponse(normalized, textSearchIndex.suggest(normalized, parseTarget(type), limit(size)));
+    }
+
+    private static SearchResponseDTO toResponse(String query, List<InvertedIndex.Hit<TextSearchIndex.Key>> hits) {
+        List<SearchItemDTO> content = hits.stream()
+                .map(hit -> SearchItemDTO.builder()
+                        .type(hit.getKey().getTarget().name())
+                        .id(hit.getKey().getId())
+                        .title(hit.getTitle())
+                        .score(hit.getScore())
+                        .build())
+                .collect(Collectors.toList());
+        return SearchResponseDTO.builder()
+                .query(query)
+                .content(content)
+                .build();
+    }
+
+    private static String validateQuery(String query) {
+        String trimmed = query == null ? "" : query.trim();
+        if (trimmed.isEmpty()) {
+            throw new InvalidSearchQueryException("검색어를 입력해주세요.");
+        }
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException("검색어는 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        return trimmed;
+    }
+
+    // 빈 값이면 전체 종류
+    private static TextSearchIndex.Target parseTarget(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return TextSearchIndex.Target.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedEnumException("지원하지 않는 검색 유형");
+        }
+    }
+
+    private static int limit(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
@@ -0,0 +1,279 @@
+package com.taiso.bike_api.service;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import javax.imageio.ImageIO;
+
+import com.taiso.bike_api.exception.StaticMapImageFetchException;
+import com.taiso.bike_api.util.RouteThumbnail;
+import com.taiso.bike_api.util.TrackBuffer;
+import com.taiso.bike_api.util.TrackSimplifier;
+import com.taiso.bike_api.util.WebMercator;
+
+/**
+ * 256px Web-Mercator 타일을 이어 붙여 경로 썸네일을 만드는 로컬 정적 지도 렌더러
+ *
+ * 1. 경로 영역이 width x height 안에 들어가는 zoom 을 계산하고, scale(고해상도 배율)만큼 zoom 을 올려 렌더링
+ * 2. 화면에 걸치는 타일을 DiskTileCache 에서 찾고, 없는 타일만 TileSource 에서 병렬로 받아 캐시에 저장
+ * 3. 타일을 캔버스에 배치한 뒤 같은 좌표계로 경로 폴리라인을 그림
+ *
+ * 자주 쓰는 지역은 캐시된 타일만으로 원격 호출 없이 썸네일을 만들 수 있습니다.
+ * renderAll 은 여러 크기를 한 번에 만들며, 크기 간 겹치는 타일은 한 번만 읽고 크기별 합성/인코딩은 병렬로 처리합니다.
+ */
+public class StaticMapRenderer {
+
+    private static final int TILE_SIZE = WebMercator.TILE_SIZE;
+    private static final int MAX_ZOOM = 18;
+
+    // 경로가 이미지 가장자리에 붙지 않도록 두는 여백 (px, scale 적용 전)
+    private static final int PADDING = 20;
+
+    private static final Color BACKGROUND = new Color(0xF2EFE9);
+
+    private final TileSource tileSource;
+    private final DiskTileCache tileCache;
+    private final ExecutorService fetchExecutor;
+    // 크기별 합성 + 인코딩 (타일 다운로드와 다른 풀을 써야 합성 작업이 타일을 기다리며 다운로드 스레드를 막지 않음)
+    private final Executor renderExecutor;
+    // 타일 출처 표기 (null 이면 표시하지 않음)
+    private final String attribution;
+
+    /**
+     * 크기별 합성을 호출한 스레드에서 차례로 처리하는 렌더러
+     */
+    public StaticMapRenderer(TileSource tileSource, DiskTileCache tileCache, ExecutorService fetchExecutor) {
+        this(tileSource, tileCache, fetchExecutor, Runnable::run, null);
+    }
+
+    public StaticMapRenderer(TileSource tileSource, DiskTileCache tileCache, ExecutorService fetchExecutor,
+                             Executor renderExecutor, String attribution) {
+        this.tileSource = tileSource;
+        this.tileCache = tileCache;
+        this.fetchExecutor = fetchExecutor;
+        this.renderExecutor = renderExecutor;
+        this.attribution = attribution == null || attribution.isBlank() ? null : attribution;
+    }
+
+    /**
+     * 경로 썸네일 PNG 를 만듭니다.
+     *
+     * @param points 경로 포인트
+     * @param minLat 경로 영역
+     * @param width 출력 이미지 너비 (scale 적용 전)
+     * @param height 출력 이미지 높이 (scale 적용 전)
+     * @param scale 고해상도 배율 (1, 2, 4 ...)
+     */
+    public byte[] render(TrackBuffer points, double minLat, double minLon, double maxLat, double maxLon,
+                         int width, int height, int scale) {
+        if (points.isEmpty()) {
+            throw new StaticMapImageFetchException("경로 포인트가 없습니다.");
+        }
+        Layout layout = new Layout(minLat, minLon, maxLat, maxLon, width, height, scale);
+        Map<String, CompletableFuture<BufferedImage>> tiles = new HashMap<>();
+        requestTiles(layout, tiles);
+        return encode(draw(points, layout, tiles), "png");
+    }
+
+    /**
+     * 여러 크기의 썸네일을 한 번에 만듭니다. 크기마다 해당 zoom 에 맞춰 폴리라인을 따로 단순화합니다.
+     */
+    public Map<RouteThumbnail, byte[]> renderAll(TrackBuffer points, double minLat, double minLon, double maxLat,
+                                                 double maxLon, Collection<RouteThumbnail> sizes) {
+        if (points.isEmpty()) {
+            throw new StaticMapImageFetchException("경로 포인트가 없습니다.");
+        }
+        // 모든 크기에 필요한 타일 요청을 먼저 한꺼번에 등록 (같은 타일은 한 번만)
+        Map<RouteThumbnail, Layout> layouts = new EnumMap<>(RouteThumbnail.class);
+        Map<String, CompletableFuture<BufferedImage>> tiles = new HashMap<>();
+        for (RouteThumbnail size : sizes) {
+            Layout layout = new Layout(minLat, minLon, maxLat, maxLon, size.getWidth(), size.getHeight(), size.getScale());
+            layouts.put(size, layout);
+            requestTiles(layout, tiles);
+        }
+
+        // 크기별 합성 + 인코딩은 CPU 작업이라 전용 풀에서 병렬 처리
+        Map<RouteThumbnail, CompletableFuture<byte[]>> encoded = new EnumMap<>(RouteThumbnail.class);
+        layouts.forEach((size, layout) -> encoded.put(size,
+                CompletableFuture.supplyAsync(() -> encode(draw(points, layout, tiles), size.getFormat()), renderExecutor)));
+
+        Map<RouteThumbnail, byte[]> result = new EnumMap<>(RouteThumbnail.class);
+        for (Map.Entry<RouteThumbnail, CompletableFuture<byte[]>> entry : encoded.entrySet()) {
+            result.put(entry.getKey(), join(entry.getValue(), encoded.values()));
+        }
+        return result;
+    }
+
+    private BufferedImage draw(TrackBuffer points, Layout layout, Map<String, CompletableFuture<BufferedImage>> tiles) {
+        BufferedImage canvas = new BufferedImage(layout.canvasWidth, layout.canvasHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = canvas.createGraphics();
+        try {
+            g2d.setColor(BACKGROUND);
+            g2d.fillRect(0, 0, layout.canvasWidth, layout.canvasHeight);
+            for (int ty = layout.firstTileY; ty <= layout.lastTileY; ty++) {
+                for (int tx = layout.firstTileX; tx <= layout.lastTileX; tx++) {
+                    BufferedImage tile = join(tiles.get(tileKey(layout.zoom, layout.wrapX(tx), ty)), tiles.values());
+                    int drawX = (int) Math.round(tx * (double) TILE_SIZE - layout.left);
+                    int drawY = (int) Math.round(ty * (double) TILE_SIZE - layout.top);
+                    g2d.drawImage(tile, drawX, drawY, TILE_SIZE, TILE_SIZE, null);
+                }
+            }
+
+            TrackBuffer drawPoints = TrackSimplifier.simplify(points, TrackSimplifier.Profile.THUMBNAIL, layout.zoom);
+            int n = drawPoints.size();
+            int[] xPoints = new int[n];
+            int[] yPoints = new int[n];
+            WebMercator.toPixelX(drawPoints.lonArray(), n, layout.worldSize, layout.left, xPoints);
+            WebMercator.toPixelY(drawPoints.latArray(), n, layout.worldSize, layout.top, yPoints);
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setStroke(new BasicStroke(2.5f * layout.scale, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(Color.RED);
+            g2d.drawPolyline(xPoints, yPoints, n);
+            drawAttribution(g2d, layout);
+        } finally {
+            g2d.dispose();
+        }
+        return canvas;
+    }
+
+    // 우측 하단에 반투명 배경과 함께 타일 출처를 표시
+    private void drawAttribution(Graphics2D g2d, Layout layout) {
+        if (attribution == null) {
+            return;
+        }
+        g2d.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 10 * layout.scale));
+        FontMetrics metrics = g2d.getFontMetrics();
+        int padding = 2 * layout.scale;
+        int boxWidth = metrics.stringWidth(attribution) + 2 * padding;
+        int boxHeight = metrics.getHeight();
+        int x = layout.canvasWidth - boxWidth;
+        int y = layout.canvasHeight - boxHeight;
+        g2d.setColor(new Color(255, 255, 255, 180));
+        g2d.fillRect(x, y, boxWidth, boxHeight);
+        g2d.setColor(Color.DARK_GRAY);
+        g2d.drawString(attribution, x + padding, y + metrics.getAscent());
+    }
+
+    private void requestTiles(Layout layout, Map<String, CompletableFuture<BufferedImage>> tiles) {
+        int zoom = layout.zoom;
+        for (int ty = layout.firstTileY; ty <= layout.lastTileY; ty++) {
+            for (int tx = layout.firstTileX; tx <= layout.lastTileX; tx++) {
+                // 경도 방향은 날짜변경선을 넘어가면 반대편 타일을 사용
+                int wrappedX = layout.wrapX(tx);
+                int y = ty;
+                tiles.computeIfAbsent(tileKey(zoom, wrappedX, y),
+                        key -> CompletableFuture.supplyAsync(() -> loadTile(zoom, wrappedX, y), fetchExecutor));
+            }
+        }
+    }
+
+    private BufferedImage loadTile(int zoom, int x, int y) {
+        String key = DiskTileCache.key(tileSource.getName(), zoom, x, y);
+        byte[] bytes = tileCache.get(key);
+        if (bytes == null) {
+            bytes = tileSource.fetchTile(zoom, x, y);
+            tileCache.put(key, bytes);
+        }
+        BufferedImage tile;
+        try {
+            tile = ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            tile = null;
+        }
+        if (tile == null) {
+            throw new StaticMapImageFetchException("지도 타일 이미지를 읽을 수 없습니다.");
+        }
+        return tile;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            if (!ImageIO.write(image, format, baos)) {
+                throw new StaticMapImageFetchException("지원하지 않는 이미지 형식입니다: " + format);
+            }
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new StaticMapImageFetchException("정적 지도 이미지 인코딩 중 오류");
+        }
+    }
+
+    // 작업 하나가 실패하면 나머지를 취소하고 StaticMapImageFetchException 으로 변환
+    private static <T> T join(CompletableFuture<T> future, Collection<? extends CompletableFuture<?>> siblings) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            siblings.forEach(sibling -> sibling.cancel(false));
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof StaticMapImageFetchException fetchException) {
+                throw fetchException;
+            }
+            throw new StaticMapImageFetchException("지도 타일을 가져오지 못했습니다: " + cause.getMessage());
+        }
+    }
+
+    private static String tileKey(int zoom, int x, int y) {
+        return zoom + "/" + x + "/" + y;
+    }
+
+    /**
+     * 출력 크기별 zoom, 캔버스 위치(월드 픽셀), 필요한 타일 범위
+     */
+    private static final class Layout {
+        private final int zoom;
+        private final int scale;
+        private final int canvasWidth;
+        private final int canvasHeight;
+        private final double worldSize;
+        private final double left;
+        private final double top;
+        private final int tileCount;
+        private final int firstTileX;
+        private final int lastTileX;
+        private final int firstTileY;
+        private final int lastTileY;
+
+        private Layout(double minLat, double minLon, double maxLat, double maxLon, int width, int height, int scale) {
+            int scaleZoom = 31 - Integer.numberOfLeadingZeros(Math.max(scale, 1));
+            int fitZoom = WebMercator.fitZoom(minLat, minLon, maxLat, maxLon,
+                    Math.max(width - 2 * PADDING, 1), Math.max(height - 2 * PADDING, 1), 16, MAX_ZOOM);
+            this.zoom = Math.min(fitZoom + scaleZoom, MAX_ZOOM);
+            this.scale = scale;
+            this.canvasWidth = width * scale;
+            this.canvasHeight = height * scale;
+
+            // 경로 영역 중심을 캔버스 중심에 맞춤
+            this.worldSize = WebMercator.worldSize(zoom, 1);
+            double centerX = (WebMercator.worldX(minLon, worldSize) + WebMercator.worldX(maxLon, worldSize)) / 2.0;
+            double centerY = (WebMercator.worldY(minLat, worldSize) + WebMercator.worldY(maxLat, worldSize)) / 2.0;
+            this.left = centerX - canvasWidth / 2.0;
+            this.top = centerY - canvasHeight / 2.0;
+
+            this.tileCount = 1 << zoom;
+            this.firstTileX = (int) Math.floor(left / TILE_SIZE);
+            this.lastTileX = (int) Math.floor((left + canvasWidth - 1) / TILE_SIZE);
+            this.firstTileY = Math.max((int) Math.floor(top / TILE_SIZE), 0);
+            this.lastTileY = Math.min((int) Math.floor((top + canvasHeight - 1) / TILE_SIZE), tileCount - 1);
+        }
+
+        private int wrapX(int tileX) {
+            return Math.floorMod(tileX, tileCount);
+        }
+    }
+}
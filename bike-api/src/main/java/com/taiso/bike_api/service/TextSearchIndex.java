@@ -0,0 +1,201 @@
+package com.taiso.bike_api.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.taiso.bike_api.domain.ClubEntity;
+import com.taiso.bike_api.domain.LightningEntity;
+import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.domain.RouteEntity.IngestStatus;
+import com.taiso.bike_api.repository.ClubRepository;
+import com.taiso.bike_api.repository.LightningRepository;
+import com.taiso.bike_api.repository.RouteRepository;
+import com.taiso.bike_api.util.AfterCommit;
+import com.taiso.bike_api.util.InvertedIndex;
+
+/**
+ * 루트 / 번개 / 클럽 통합 전문 검색용 메모리 역색인
+ *
+ * 세 종류를 하나의 InvertedIndex 에 넣어 BM25 통계(문서 수, 평균 길이)를 공유하므로 종류가 달라도 점수를 비교할 수 있습니다.
+ * - 루트: routeName (제목), description - 업로드가 끝난 루트만
+ * - 번개: title (제목), description, address - 클럽 전용 번개 제외
+ * - 클럽: clubName (제목), clubShortDescription
+ * 생성 / 수정 / 삭제 시점에 해당 문서만 갱신합니다.
+ */
+@Component
+public class TextSearchIndex extends IncrementalMemoryIndex<InvertedIndex<TextSearchIndex.Key>> {
+
+    public enum Target {
+        ROUTE, LIGHTNING, CLUB
+    }
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private LightningRepository lightningRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    public TextSearchIndex() {
+        super("검색 색인", "search.index.size");
+    }
+
+    @Override
+    protected InvertedIndex<Key> newIndex() {
+        return new InvertedIndex<>();
+    }
+
+    @Override
+    protected void load(InvertedIndex<Key> index) {
+        for (Object[] row : routeRepository.findSearchIndexTargets(IngestStatus.완료)) {
+            index.put(new Key(Target.ROUTE, (Long) row[0]), (String) row[1], (String) row[2]);
+        }
+        for (Object[] row : lightningRepository.findSearchIndexTargets()) {
+            index.put(new Key(Target.LIGHTNING, (Long) row[0]), (String) row[1], (String) row[2], (String) row[3]);
+        }
+        for (Object[] row : clubRepository.findSearchIndexTargets()) {
+            index.put(new Key(Target.CLUB, (Long) row[0]), (String) row[1], (String) row[2]);
+        }
+    }
+
+    @Override
+    protected int applyChanges(InvertedIndex<Key> index, LocalDateTime since) {
+        int changed = 0;
+        for (Object[] row : routeRepository.findSearchIndexChanges(since)) {
+            Key key = new Key(Target.ROUTE, (Long) row[0]);
+            IngestStatus status = (IngestStatus) row[1];
+            if (status == null || status == IngestStatus.완료) {
+                index.put(key, (String) row[2], (String) row[3]);
+            } else {
+                index.remove(key);
+            }
+            changed++;
+        }
+        for (Object[] row : lightningRepository.findSearchIndexChanges(since)) {
+            Key key = new Key(Target.LIGHTNING, (Long) row[0]);
+            if (Boolean.TRUE.equals(row[4])) {
+                index.remove(key);
+            } else {
+                index.put(key, (String) row[1], (String) row[2], (String) row[3]);
+            }
+            changed++;
+        }
+        for (Object[] row : clubRepository.findSearchIndexChanges(since)) {
+            index.put(new Key(Target.CLUB, (Long) row[0]), (String) row[1], (String) row[2]);
+            changed++;
+        }
+        return changed;
+    }
+
+    @Override
+    protected int sizeOf(InvertedIndex<Key> index) {
+        return index.size();
+    }
+
+    /**
+     * 루트의 현재 이름 / 설명으로 색인을 갱신합니다. 업로드가 끝나지 않았으면 제거합니다.
+     */
+    public void update(RouteEntity route) {
+        if (route.getRouteId() == null) {
+            return;
+        }
+        Key key = new Key(Target.ROUTE, route.getRouteId());
+        if (route.getIngestStatus() != null && route.getIngestStatus() != IngestStatus.완료) {
+            removeAfterCommit(key);
+            return;
+        }
+        putAfterCommit(key, route.getRouteName(), route.getDescription());
+    }
+
+    /**
+     * 번개의 현재 제목 / 설명 / 주소로 색인을 갱신합니다. 클럽 전용 번개는 제거합니다.
+     */
+    public void update(LightningEntity lightning) {
+        if (lightning.getLightningId() == null) {
+            return;
+        }
+        Key key = new Key(Target.LIGHTNING, lightning.getLightningId());
+        if (Boolean.TRUE.equals(lightning.getIsClubOnly())) {
+            removeAfterCommit(key);
+            return;
+        }
+        putAfterCommit(key, lightning.getTitle(), lightning.getDescription(), lightning.getAddress());
+    }
+
+    public void update(ClubEntity club) {
+        if (club.getClubId() == null) {
+            return;
+        }
+        putAfterCommit(new Key(Target.CLUB, club.getClubId()), club.getClubName(), club.getClubShortDescription());
+    }
+
+    public void remove(Target target, Long id) {
+        removeAfterCommit(new Key(target, id));
+    }
+
+    private void putAfterCommit(Key key, String title, String... bodies) {
+        AfterCommit.run(() -> index().put(key, title, bodies));
+    }
+
+    private void removeAfterCommit(Key key) {
+        AfterCommit.run(() -> index().remove(key));
+    }
+
+    /**
+     * 검색어와 관련도가 높은 순으로 최대 limit 건 반환합니다. target 이 null 이면 전체 종류
+     */
+    public List<InvertedIndex.Hit<Key>> search(String query, Target target, int limit) {
+        return index().search(query, limit, target == null ? null : key -> key.target == target);
+    }
+
+    /**
+     * 입력 중인 문자열로 제목을 자동완성합니다. target 이 null 이면 전체 종류
+     */
+    public List<InvertedIndex.Hit<Key>> suggest(String prefix, Target target, int limit) {
+        return index().suggest(prefix, limit, target == null ? null : key -> key.target == target);
+    }
+
+    /**
+     * 색인 문서 키 (종류 + 아이디)
+     */
+    public static final class Key {
+        private final Target target;
+        private final Long id;
+
+        private Key(Target target, Long id) {
+            this.target = target;
+            this.id = id;
+        }
+
+        public Target getTarget() {
+            return target;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return target == other.target && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, id);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.taiso.bike_api.service;
+
+/**
+ * 256px Web-Mercator (XYZ) 지도 타일 공급자
+ * 정적 지도 렌더러는 이 인터페이스로 타일을 받아오므로 외부 타일 서버, 사내 타일 서버, 테스트용 로컬 타일 등으로 교체할 수 있습니다.
+ */
+public interface TileSource {
+
+    /**
+     * 캐시 키에 사용할 공급자 이름 (공급자별로 캐시 디렉토리를 분리)
+     */
+    String getName();
+
+    /**
+     * zoom/x/y 타일 이미지(PNG 등 ImageIO 로 읽을 수 있는 형식)를 반환합니다.
+     * 타일을 가져오지 못하면 예외를 던집니다.
+     */
+    byte[] fetchTile(int zoom, int x, int y);
+}
@@ -60,6 +60,9 @@ public class UserDetailService {
 
     @Autowired
     private UserTagCategoryRepository userTagCategoryRepository;
+
+    @Autowired
+    private UserIdentityService userIdentityService;
     
  @Transactional
     public void updateUserDetail(UserDetailRequestDTO userDetailRequestDTO,
@@ -171,6 +174,9 @@ public class UserDetailService {
                 ? userDetailRequestDTO.getProfileImg() : entity.getUserProfileImg());
         entity.setUserBackgroundImg(userDetailRequestDTO.getBackgroundImg() != null
                 ? userDetailRequestDTO.getBackgroundImg() : entity.getUserBackgroundImg());
+
+        // 닉네임 / 프로필 이미지가 바뀌었을 수 있으므로 식별 정보 캐시 제거
+        userIdentityService.evictByUserId(entity.getUserId());
     }
 
 
@@ -36,6 +36,9 @@ public class UserDetailService2 {
    @Autowired
 private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
 public void saveUserDetail(UserDetailPostRequestDTO requestDTO, String userEmail) {
 
     // 사용자 정보 가져오기
@@ -105,14 +108,15 @@ public void saveUserDetail(UserDetailPostRequestDTO requestDTO, String userEmail
 
     // 업데이트된 엔티티 저장 (영속성 컨텍스트 내의 단일 인스턴스 사용)
     userDetailRepository.save(userDetail);
+    userIdentityService.evict(userEmail);
 }
 
     public UserDetailGetResponseDTO getUserDetail(String userEmail) {
         // 사용자 정보 가져오기
-        UserEntity user = userRepository.findByEmail(userEmail).orElseThrow(() -> new UserNotFoundException("사용자 정보가 없습니다."));
+        Long userId = userIdentityService.find(userEmail).orElseThrow(() -> new UserNotFoundException("사용자 정보가 없습니다.")).getUserId();
         
         // UserDetailEntity 가져오기
-        UserDetailEntity userDetail = userDetailRepository.findByUserId(user.getUserId()).orElseThrow(() -> new UserDetailNotFoundException("사용자 상세정보가 없습니다."));
+        UserDetailEntity userDetail = userDetailRepository.findByUserId(userId).orElseThrow(() -> new UserDetailNotFoundException("사용자 상세정보가 없습니다."));
 
         // UserDetailGetResponseDTO 생성
         return UserDetailGetResponseDTO.builder()
@@ -136,7 +140,7 @@ public void saveUserDetail(UserDetailPostRequestDTO requestDTO, String userEmail
     public void patchUserDetail(String userEmail, UserDetailPatchRequestDTO requestDTO) {
         // 사용자의 상세정보 가져오기
         UserDetailEntity userDetail = userDetailRepository
-                .findByUserId(userRepository.findByEmail(userEmail).get().getUserId()).get();
+                .findByUserId(userIdentityService.get(userEmail).getUserId()).get();
 
         log.info("{}", requestDTO);
 
@@ -181,13 +185,13 @@ public void saveUserDetail(UserDetailPostRequestDTO requestDTO, String userEmail
         log.info("{}", userDetail);
 
         userDetailRepository.save(userDetail);
+        userIdentityService.evict(userEmail);
 
     }
     
 
     // 프로필 이미지 주소 get
     public String getProfileImg(String userEmail) {
-        UserDetailEntity userDetail = userDetailRepository.findByUserId(userRepository.findByEmail(userEmail).get().getUserId()).get();
-        return userDetail.getUserProfileImg();
+        return userIdentityService.get(userEmail).getProfileImg();
     }
 }
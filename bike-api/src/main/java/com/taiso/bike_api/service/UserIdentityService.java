@@ -0,0 +1,222 @@
+package com.taiso.bike_api.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.taiso.bike_api.exception.UserNotFoundException;
+import com.taiso.bike_api.repository.UserRepository;
+import com.taiso.bike_api.security.CustomUserDetails;
+import com.taiso.bike_api.security.UserIdentity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 이메일 -> 사용자 식별 정보(userId, 권한, 닉네임, 프로필 이미지, 스트라바 연동 여부) 캐시
+ *
+ * 1단계: 요청 범위 캐시 (요청 속성에 보관, 목록의 행마다 조회해도 한 요청에서 한 번만 확인)
+ * 2단계: 서버 공용 캐시 (최근 사용 순 LRU, 최대 maxSize 건, ttl 경과 시 다시 조회)
+ * 프로필 / 스트라바 연동 변경 시 evict 를 호출하며, 트랜잭션 안이면 커밋 후에도 한 번 더 비워
+ * 커밋 전에 다른 요청이 옛 값을 다시 적재하는 경우를 막습니다. 다른 서버 인스턴스의 값은 ttl 로 제한합니다.
+ * 존재하지 않는 사용자는 캐시하지 않습니다.
+ */
+@Service
+public class UserIdentityService {
+
+    private static final String REQUEST_CACHE_ATTRIBUTE = UserIdentityService.class.getName() + ".REQUEST_CACHE";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${user.identity.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${user.identity.cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    // 접근 순서 LinkedHashMap 으로 LRU 구성 (동기화 필요)
+    private final LinkedHashMap<String, CachedIdentity> shared = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedIdentity> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = meterRegistry.counter("user.identity.cache", "result", "hit");
+        missCounter = meterRegistry.counter("user.identity.cache", "result", "miss");
+        meterRegistry.gauge("user.identity.cache.size", shared, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+    }
+
+    /**
+     * 이메일로 사용자 식별 정보를 조회합니다. 사용자가 없으면 빈 값
+     */
+    public Optional<UserIdentity> find(String email) {
+        if (email == null || email.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, UserIdentity> requestCache = requestCache();
+        if (requestCache != null) {
+            UserIdentity identity = requestCache.get(email);
+            if (identity != null) {
+                return Optional.of(identity);
+            }
+        }
+
+        UserIdentity identity = findShared(email);
+        if (identity == null) {
+            missCounter.increment();
+            identity = userRepository.findIdentityByEmail(email).orElse(null);
+            if (identity == null) {
+                return Optional.empty();
+            }
+            synchronized (shared) {
+                shared.put(email, new CachedIdentity(identity, System.currentTimeMillis() + ttlMs));
+            }
+        } else {
+            hitCounter.increment();
+        }
+        if (requestCache != null) {
+            requestCache.put(email, identity);
+        }
+        return Optional.of(identity);
+    }
+
+    /**
+     * 이메일로 사용자 식별 정보를 조회합니다. 사용자가 없으면 UserNotFoundException
+     */
+    public UserIdentity get(String email) {
+        return find(email).orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    }
+
+    public UserIdentity get(Authentication authentication) {
+        return get(authentication.getName());
+    }
+
+    /**
+     * 이메일의 사용자 ID, 비로그인이거나 사용자가 없으면 null
+     */
+    public Long findUserId(String email) {
+        return find(email).map(UserIdentity::getUserId).orElse(null);
+    }
+
+    /**
+     * 현재 사용자 ID, JWT 클레임에 userId 가 있으면 조회 없이 반환합니다.
+     */
+    public Long getUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof CustomUserDetails principal && principal.getUserId() != null) {
+            return principal.getUserId();
+        }
+        return get(authentication).getUserId();
+    }
+
+    /**
+     * 사용자 정보가 바뀌었을 때 캐시에서 제거합니다.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        evictNow(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(email);
+                }
+            });
+        }
+    }
+
+    /**
+     * 이메일을 모르는 경로(userId 로 수정하는 화면 등)에서 사용합니다. 공용 캐시를 훑으므로 변경 시에만 호출합니다.
+     */
+    public void evictByUserId(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        String email = null;
+        synchronized (shared) {
+            for (Map.Entry<String, CachedIdentity> entry : shared.entrySet()) {
+                if (userId.equals(entry.getValue().identity.getUserId())) {
+                    email = entry.getKey();
+                    break;
+                }
+            }
+        }
+        evict(email);
+    }
+
+    private void evictNow(String email) {
+        synchronized (shared) {
+            shared.remove(email);
+        }
+        Map<String, UserIdentity> requestCache = requestCache();
+        if (requestCache != null) {
+            requestCache.remove(email);
+        }
+    }
+
+    private UserIdentity findShared(String email) {
+        long now = System.currentTimeMillis();
+        synchronized (shared) {
+            CachedIdentity cached = shared.get(email);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAtMs <= now) {
+                shared.remove(email);
+                return null;
+            }
+            return cached.identity;
+        }
+    }
+
+    // 웹 요청 스레드가 아니면(스케줄러 등) null
+    @SuppressWarnings("unchecked")
+    private Map<String, UserIdentity> requestCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object cache = attributes.getAttribute(REQUEST_CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new HashMap<String, UserIdentity>(4);
+            attributes.setAttribute(REQUEST_CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, UserIdentity>) cache;
+    }
+
+    private static final class CachedIdentity {
+        private final UserIdentity identity;
+        private final long expiresAtMs;
+
+        private CachedIdentity(UserIdentity identity, long expiresAtMs) {
+            this.identity = identity;
+            this.expiresAtMs = expiresAtMs;
+        }
+    }
+}
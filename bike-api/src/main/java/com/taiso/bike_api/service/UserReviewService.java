@@ -8,12 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
-import com.taiso.bike_api.domain.UserEntity;
 import com.taiso.bike_api.domain.UserReviewEntity;
 import com.taiso.bike_api.dto.UserLightningReviewResponseDTO;
 import com.taiso.bike_api.dto.UserReviewResponseDTO;
 import com.taiso.bike_api.exception.UserNotFoundException;
-import com.taiso.bike_api.repository.UserRepository;
 import com.taiso.bike_api.repository.UserReviewRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +22,7 @@ public class UserReviewService {
 
 
 	@Autowired
-	private UserRepository userRepository;
+	private UserIdentityService userIdentityService;
 
 	@Autowired
 	private UserReviewRepository userReviewRepository;
@@ -33,12 +31,13 @@ public class UserReviewService {
 	public List<UserLightningReviewResponseDTO> myLightningReviews(Authentication authentication) {
 		
     	// 1. 현재 로그인한 사용자 (리뷰 작성자) 조회
-        UserEntity userEntity = userRepository.findByEmail(authentication.getName())
+        Long userId = userIdentityService.find(authentication.getName())
         		// 사용자 찾을 수 없음 -> 404
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다.")); 
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
+                .getUserId();
         
         // 리뷰 작성자 기준 리뷰 조회
-        List<UserReviewEntity> reviewEntities = userReviewRepository.findByReviewer_UserId(userEntity.getUserId());
+        List<UserReviewEntity> reviewEntities = userReviewRepository.findByReviewer_UserId(userId);
         
         // 엔티티를 DTO로 매핑
         List<UserLightningReviewResponseDTO> responseDTOs = reviewEntities.stream()
@@ -46,6 +46,9 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -106,12 +109,9 @@ public class UserService {
     
 
     public Long getUserIdByEmail(String email) {
-        Optional<UserEntity> user = userRepository.findByEmail(email);
-        if (user.isPresent()) {
-            return user.get().getUserId();
-        } else {
-            throw new UserNotFoundException("User not found");
-        }
+        return userIdentityService.find(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found"))
+                .getUserId();
     }
 
     public List<UserLightningsGetResponseDTO> getUserLightnings(List<LightningStatus> status, String userEmail) {
@@ -231,12 +231,9 @@ public class UserService {
 
 
     public String getUserNicknameByEmail(String email) {
-        Optional<UserEntity> user = userRepository.findByEmail(email);
-        if (user.isPresent()) {
-            return user.get().getUserDetail().getUserNickname();
-        } else {
-            throw new UserNotFoundException("User not found");
-        }
+        return userIdentityService.find(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found"))
+                .getNickname();
     }
 
     // 닉네임 중복 체크
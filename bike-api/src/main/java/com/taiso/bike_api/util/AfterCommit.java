@@ -0,0 +1,28 @@
+package com.taiso.bike_api.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 (메모리 색인 갱신용)
+ *
+ * 트랜잭션 안에서 호출하면 커밋된 뒤에 실행하고 롤백되면 버립니다. 트랜잭션 밖이면 바로 실행합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,197 @@
+package com.taiso.bike_api.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위/경도 경계 상자(bbox) 메모리 공간 색인입니다.
+ *
+ * 상자를 cellDegrees 간격 격자 중 겹치는 모든 칸에 등록하고, 영역 조회는 조회 영역이 덮는 칸만 훑어
+ * 실제로 겹치는 상자를 돌려줍니다. maxCellsPerBox 칸보다 넓은 상자(전국 일주 루트 등)는
+ * 칸에 넣지 않고 별도 목록에 두어 조회마다 직접 비교합니다.
+ * 경도 180도 경계를 넘는 상자는 다루지 않습니다. (minLon <= maxLon 인 상자만 등록)
+ * 읽기는 동시에, 쓰기는 배타적으로 수행합니다.
+ */
+public class BoxGridIndex<K> {
+
+    private final double cellDegrees;
+    private final int maxCellsPerBox;
+
+    private final Map<K, Box> boxes = new HashMap<>();
+    private final Map<Long, Set<K>> cells = new HashMap<>();
+    private final Set<K> oversized = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public BoxGridIndex(double cellDegrees, int maxCellsPerBox) {
+        if (!(cellDegrees > 0 && cellDegrees <= 90)) {
+            throw new IllegalArgumentException("cellDegrees must be in (0, 90]");
+        }
+        this.cellDegrees = cellDegrees;
+        this.maxCellsPerBox = maxCellsPerBox;
+    }
+
+    /**
+     * 키의 상자를 등록하거나 바꿉니다.
+     */
+    public void put(K key, double minLat, double minLon, double maxLat, double maxLon) {
+        if (minLat > maxLat || minLon > maxLon) {
+            throw new IllegalArgumentException("min must not exceed max");
+        }
+        Box box = new Box(minLat, minLon, maxLat, maxLon);
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            boxes.put(key, box);
+            if (box.cellCount() > maxCellsPerBox) {
+                oversized.add(key);
+                return;
+            }
+            for (int latIdx = box.latFrom; latIdx <= box.latTo; latIdx++) {
+                for (int lonIdx = box.lonFrom; lonIdx <= box.lonTo; lonIdx++) {
+                    cells.computeIfAbsent(cellKey(latIdx, lonIdx), c -> new HashSet<>()).add(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            boxes.clear();
+            cells.clear();
+            oversized.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return boxes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조회 영역과 겹치는(경계 포함) 상자의 키를 반환합니다. 순서는 정해져 있지 않습니다.
+     */
+    public List<K> intersecting(double minLat, double minLon, double maxLat, double maxLon) {
+        Box query = new Box(minLat, minLon, maxLat, maxLon);
+        List<K> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (query.cellCount() >= boxes.size()) {
+                // 영역이 넓어 칸 수가 등록 건수보다 많으면 전체를 직접 비교하는 편이 빠름
+                for (Map.Entry<K, Box> entry : boxes.entrySet()) {
+                    if (entry.getValue().intersects(query)) {
+                        result.add(entry.getKey());
+                    }
+                }
+                return result;
+            }
+            Set<K> seen = new HashSet<>();
+            for (int latIdx = query.latFrom; latIdx <= query.latTo; latIdx++) {
+                for (int lonIdx = query.lonFrom; lonIdx <= query.lonTo; lonIdx++) {
+                    Set<K> keys = cells.get(cellKey(latIdx, lonIdx));
+                    if (keys == null) {
+                        continue;
+                    }
+                    for (K key : keys) {
+                        // 여러 칸에 걸친 상자는 한 번만 비교
+                        if (seen.add(key) && boxes.get(key).intersects(query)) {
+                            result.add(key);
+                        }
+                    }
+                }
+            }
+            for (K key : oversized) {
+                if (boxes.get(key).intersects(query)) {
+                    result.add(key);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void removeLocked(K key) {
+        Box previous = boxes.remove(key);
+        if (previous == null) {
+            return;
+        }
+        if (oversized.remove(key)) {
+            return;
+        }
+        for (int latIdx = previous.latFrom; latIdx <= previous.latTo; latIdx++) {
+            for (int lonIdx = previous.lonFrom; lonIdx <= previous.lonTo; lonIdx++) {
+                long cell = cellKey(latIdx, lonIdx);
+                Set<K> keys = cells.get(cell);
+                if (keys != null) {
+                    keys.remove(key);
+                    if (keys.isEmpty()) {
+                        cells.remove(cell);
+                    }
+                }
+            }
+        }
+    }
+
+    private int index(double degrees, double offset) {
+        return (int) Math.floor((degrees + offset) / cellDegrees);
+    }
+
+    private static long cellKey(int latIdx, int lonIdx) {
+        return ((long) latIdx << 32) | (lonIdx & 0xffffffffL);
+    }
+
+    private final class Box {
+        private final double minLat;
+        private final double minLon;
+        private final double maxLat;
+        private final double maxLon;
+        private final int latFrom;
+        private final int latTo;
+        private final int lonFrom;
+        private final int lonTo;
+
+        private Box(double minLat, double minLon, double maxLat, double maxLon) {
+            this.minLat = minLat;
+            this.minLon = minLon;
+            this.maxLat = maxLat;
+            this.maxLon = maxLon;
+            this.latFrom = index(minLat, 90.0);
+            this.latTo = index(maxLat, 90.0);
+            this.lonFrom = index(minLon, 180.0);
+            this.lonTo = index(maxLon, 180.0);
+        }
+
+        private long cellCount() {
+            return (long) (latTo - latFrom + 1) * (lonTo - lonFrom + 1);
+        }
+
+        private boolean intersects(Box other) {
+            return minLat <= other.maxLat && other.minLat <= maxLat
+                    && minLon <= other.maxLon && other.minLon <= maxLon;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.taiso.bike_api.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위/경도 격자 기반 메모리 공간 색인입니다.
+ *
+ * 지구를 cellDegrees 간격의 위도 / 경도 격자로 나누고 칸마다 키 집합을 둡니다.
+ * 반경 조회는 원을 감싸는 칸들만 훑은 뒤 하버사인 거리로 걸러내므로, 전체 건수가 아니라
+ * 주변 칸에 들어 있는 건수에 비례하는 비용이 듭니다. 경도 180도 경계를 넘는 조회도 처리합니다.
+ * 읽기는 동시에, 쓰기는 배타적으로 수행합니다.
+ */
+public class GeoGridIndex<K> {
+
+    // 평균 지구 반지름 (m)
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+
+    private final Map<K, Point> points = new HashMap<>();
+    private final Map<Long, Set<K>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GeoGridIndex(double cellDegrees) {
+        if (!(cellDegrees > 0 && cellDegrees <= 90)) {
+            throw new IllegalArgumentException("cellDegrees must be in (0, 90]");
+        }
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180.0 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360.0 / cellDegrees);
+    }
+
+    /**
+     * 키의 위치를 등록하거나 옮깁니다.
+     */
+    public void put(K key, double lat, double lon) {
+        Point point = new Point(lat, lon, cellKey(latIndex(lat), lonIndex(lon)));
+        lock.writeLock().lock();
+        try {
+            Point previous = points.put(key, point);
+            if (previous != null) {
+                if (previous.cell == point.cell) {
+                    return;
+                }
+                removeFromCell(previous.cell, key);
+            }
+            cells.computeIfAbsent(point.cell, c -> new HashSet<>()).add(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            Point previous = points.remove(key);
+            if (previous != null) {
+                removeFromCell(previous.cell, key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            cells.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(K key) {
+        lock.readLock().lock();
+        try {
+            return points.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * (lat, lon) 에서 radiusMeters 이내의 키를 가까운 순으로 반환합니다.
+     */
+    public List<Hit<K>> within(double lat, double lon, double radiusMeters) {
+        double latSpan = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double minLat = Math.max(-90.0, lat - latSpan);
+        double maxLat = Math.min(90.0, lat + latSpan);
+
+        // 원이 가장 넓어지는 위도(극에 가까운 쪽)에서 경도 폭 계산, 극을 포함하면 경도 전체
+        double widestLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double cos = Math.cos(Math.toRadians(widestLat));
+        int lonFrom;
+        int lonCount;
+        if (maxLat >= 90.0 || minLat <= -90.0 || latSpan / cos >= 180.0) {
+            lonFrom = 0;
+            lonCount = lonCells;
+        } else {
+            double lonSpan = latSpan / cos;
+            lonFrom = lonIndex(lon - lonSpan);
+            int lonTo = lonIndex(lon + lonSpan);
+            lonCount = Math.min(lonCells, Math.floorMod(lonTo - lonFrom, lonCells) + 1);
+        }
+        int latFrom = latIndex(minLat);
+        int latTo = latIndex(maxLat);
+
+        List<Hit<K>> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int latIdx = latFrom; latIdx <= latTo; latIdx++) {
+                for (int i = 0; i < lonCount; i++) {
+                    Set<K> keys = cells.get(cellKey(latIdx, (lonFrom + i) % lonCells));
+                    if (keys == null) {
+                        continue;
+                    }
+                    for (K key : keys) {
+                        Point point = points.get(key);
+                        double distance = distanceMeters(lat, lon, point.lat, point.lon);
+                        if (distance <= radiusMeters) {
+                            hits.add(new Hit<>(key, distance));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getDistanceMeters));
+        return hits;
+    }
+
+    /**
+     * 두 지점 사이의 대원 거리 (하버사인, m)
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void removeFromCell(long cell, K key) {
+        Set<K> keys = cells.get(cell);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    private int latIndex(double lat) {
+        int index = (int) Math.floor((lat + 90.0) / cellDegrees);
+        return Math.max(0, Math.min(latCells - 1, index));
+    }
+
+    private int lonIndex(double lon) {
+        // 경도는 180도 경계에서 이어지므로 [0, 360) 으로 감아서 계산
+        double wrapped = ((lon + 180.0) % 360.0 + 360.0) % 360.0;
+        return Math.min(lonCells - 1, (int) Math.floor(wrapped / cellDegrees));
+    }
+
+    private static long cellKey(int latIdx, int lonIdx) {
+        return ((long) latIdx << 32) | (lonIdx & 0xffffffffL);
+    }
+
+    private static final class Point {
+        private final double lat;
+        private final double lon;
+        private final long cell;
+
+        private Point(double lat, double lon, long cell) {
+            this.lat = lat;
+            this.lon = lon;
+            this.cell = cell;
+        }
+    }
+
+    /**
+     * 반경 조회 결과 한 건
+     */
+    public static final class Hit<K> {
+        private final K key;
+        private final double distanceMeters;
+
+        private Hit(K key, double distanceMeters) {
+            this.key = key;
+            this.distanceMeters = distanceMeters;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public double getDistanceMeters() {
+            return distanceMeters;
+        }
+    }
+}
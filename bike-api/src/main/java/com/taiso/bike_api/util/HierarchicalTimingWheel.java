@@ -0,0 +1,183 @@
+package com.taiso.bike_api.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 키마다 하나의 만료 시각(epoch ms)을 두고, 시계를 진행시키면 만료된 키를 돌려줍니다.
+ * 0 단계 휠은 tickMs 간격 버킷 wheelSize 개, 그 위 단계는 아래 단계 한 바퀴를 한 칸으로 하는 휠이며 필요할 때 늘어납니다.
+ * 상위 단계 버킷은 해당 구간에 들어설 때 아래 단계로 다시 배치되므로
+ * 등록 / 취소는 O(1), 시계 진행은 지나간 틱 수 x 단계 수에 비례하고 대기 중인 전체 항목을 훑지 않습니다.
+ * 만료 판정 정밀도는 tickMs 이며, 모든 메서드는 동기화되어 여러 스레드에서 호출할 수 있습니다.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+
+    // 단계별 휠 (0 단계가 가장 촘촘함)
+    private final List<Level<K>> levels = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    // 등록 시점에 이미 만료된 항목 (다음 advance 에서 반환)
+    private final List<K> overdue = new ArrayList<>();
+
+    // 마지막으로 처리한 틱 시작 시각 (tickMs 배수)
+    private long currentTimeMs;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs 는 양수, wheelSize 는 2 이상이어야 합니다.");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTimeMs = Math.floorDiv(startMs, tickMs) * tickMs;
+        levels.add(new Level<>(tickMs, wheelSize, currentTimeMs));
+    }
+
+    /**
+     * 키의 만료 시각을 등록합니다. 이미 등록된 키면 기존 시각을 대체합니다.
+     */
+    public synchronized void schedule(K key, long deadlineMs) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, deadlineMs);
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * 키의 등록을 취소합니다. 등록돼 있었으면 true
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket != null) {
+            entry.bucket.remove(entry);
+            entry.bucket = null;
+        } else {
+            overdue.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * 시계를 nowMs 까지 진행하고 그 사이 만료된 키를 반환합니다. 반환된 키는 등록이 해제됩니다.
+     */
+    public synchronized List<K> advance(long nowMs) {
+        List<K> expired = new ArrayList<>(overdue);
+        overdue.clear();
+        for (K key : expired) {
+            entries.remove(key);
+        }
+        while (currentTimeMs + tickMs <= nowMs) {
+            currentTimeMs += tickMs;
+            // 상위 단계부터 이번 틱에 시작하는 버킷을 비우고 아래 단계로 다시 배치
+            List<Entry<K>> cascaded = new ArrayList<>();
+            for (int i = levels.size() - 1; i >= 0; i--) {
+                Level<K> level = levels.get(i);
+                if (currentTimeMs % level.tickMs == 0) {
+                    level.currentTimeMs = currentTimeMs;
+                    cascaded.addAll(level.drain(currentTimeMs));
+                }
+            }
+            for (Entry<K> entry : cascaded) {
+                entry.bucket = null;
+                if (!placeInLevels(entry)) {
+                    entries.remove(entry.key);
+                    expired.add(entry.key);
+                }
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    private void place(Entry<K> entry) {
+        if (!placeInLevels(entry)) {
+            overdue.add(entry.key);
+        }
+    }
+
+    // 알맞은 단계의 버킷에 넣고, 현재 틱 안에 만료되면 false
+    private boolean placeInLevels(Entry<K> entry) {
+        if (entry.deadlineMs < currentTimeMs + tickMs) {
+            return false;
+        }
+        int index = 0;
+        while (true) {
+            Level<K> level = index < levels.size() ? levels.get(index) : addLevel();
+            if (entry.deadlineMs < level.currentTimeMs + level.intervalMs) {
+                level.add(entry);
+                return true;
+            }
+            index++;
+        }
+    }
+
+    private Level<K> addLevel() {
+        Level<K> top = levels.get(levels.size() - 1);
+        long levelTickMs = top.intervalMs;
+        Level<K> level = new Level<>(levelTickMs, wheelSize, Math.floorDiv(currentTimeMs, levelTickMs) * levelTickMs);
+        levels.add(level);
+        return level;
+    }
+
+    private static final class Level<K> {
+        private final long tickMs;
+        private final long intervalMs;
+        private final List<Set<Entry<K>>> buckets;
+        private long currentTimeMs;
+
+        private Level(long tickMs, int wheelSize, long currentTimeMs) {
+            this.tickMs = tickMs;
+            this.intervalMs = Math.multiplyExact(tickMs, (long) wheelSize);
+            this.currentTimeMs = currentTimeMs;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new HashSet<>());
+            }
+        }
+
+        private void add(Entry<K> entry) {
+            Set<Entry<K>> bucket = buckets.get(indexOf(entry.deadlineMs));
+            bucket.add(entry);
+            entry.bucket = bucket;
+        }
+
+        private List<Entry<K>> drain(long timeMs) {
+            Set<Entry<K>> bucket = buckets.get(indexOf(timeMs));
+            List<Entry<K>> drained = new ArrayList<>(bucket);
+            bucket.clear();
+            return drained;
+        }
+
+        private int indexOf(long timeMs) {
+            return (int) Math.floorMod(Math.floorDiv(timeMs, tickMs), (long) buckets.size());
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineMs;
+        private Set<Entry<K>> bucket;
+
+        private Entry(K key, long deadlineMs) {
+            this.key = key;
+            this.deadlineMs = deadlineMs;
+        }
+    }
+}
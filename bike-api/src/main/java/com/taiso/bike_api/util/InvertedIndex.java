@@ -0,0 +1,300 @@
+package com.taiso.bike_api.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 메모리 역색인(inverted index) 기반 전문 검색입니다.
+ *
+ * 문서는 제목과 본문으로 이루어지며 KoreanNgramTokenizer 토큰으로 색인합니다.
+ * - 검색: BM25 점수 순. 제목 토큰은 TITLE_WEIGHT 번 등장한 것으로 계산해 제목 일치를 우대합니다.
+ * - 자동완성: 제목의 접두어 사전(TreeMap, 일치 등급별) 범위 조회. 제목 시작 > 단어 시작 > 단어 중간 일치 순으로 정렬합니다.
+ * 문서 추가 / 교체 / 삭제는 해당 문서의 토큰만 갱신하므로 전체 재색인이 필요 없습니다.
+ * 읽기는 동시에, 쓰기는 배타적으로 수행합니다.
+ */
+public class InvertedIndex<K> {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 3;
+
+    // 단어 중간 자동완성용 접미어의 최소 / 최대 길이 (글자)
+    private static final int MIN_SUFFIX_LENGTH = 2;
+    private static final int MAX_SUFFIX_WORD_LENGTH = 20;
+
+    // 자동완성 한 번에 모을 최대 후보 문서 수 (한 글자 입력 등 범위가 넓을 때 상한)
+    private static final int MAX_SUGGEST_CANDIDATES = 1000;
+
+    private static final int RANK_TITLE_START = 2;
+    private static final int RANK_WORD_START = 1;
+    private static final int RANK_INFIX = 0;
+
+    private final Map<String, Map<K, Integer>> postings = new HashMap<>();
+    // 자동완성 접두어 사전, 일치 등급(RANK_*)을 인덱스로 사용
+    private final List<TreeMap<String, Set<K>>> prefixTiers = List.of(new TreeMap<>(), new TreeMap<>(), new TreeMap<>());
+    private final Map<K, Doc> docs = new HashMap<>();
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서를 색인하거나 교체합니다. 토큰이 하나도 없으면 색인에서 제거만 합니다.
+     */
+    public void put(K key, String title, String... bodies) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        int length = 0;
+        for (String token : KoreanNgramTokenizer.tokens(title)) {
+            termFreqs.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String body : bodies) {
+            for (String token : KoreanNgramTokenizer.tokens(body)) {
+                termFreqs.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+        Map<String, Integer> prefixRanks = prefixRanks(title);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (termFreqs.isEmpty()) {
+                return;
+            }
+            String[] prefixes = prefixRanks.keySet().toArray(new String[0]);
+            int[] ranks = new int[prefixes.length];
+            for (int i = 0; i < prefixes.length; i++) {
+                ranks[i] = prefixRanks.get(prefixes[i]);
+            }
+            docs.put(key, new Doc(title, length, termFreqs.keySet().toArray(new String[0]), prefixes, ranks));
+            totalLength += length;
+            for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(key, entry.getValue());
+            }
+            for (Map.Entry<String, Integer> entry : prefixRanks.entrySet()) {
+                prefixTiers.get(entry.getValue()).computeIfAbsent(entry.getKey(), p -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            prefixTiers.forEach(TreeMap::clear);
+            docs.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 문서를 BM25 점수 높은 순으로 최대 limit 건 반환합니다. filter 가 null 이면 전체 대상
+     */
+    public List<Hit<K>> search(String query, int limit, Predicate<K> filter) {
+        Set<String> terms = new LinkedHashSet<>(KoreanNgramTokenizer.tokens(query));
+        Map<K, Double> scores = new HashMap<>();
+        List<Hit<K>> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (docs.isEmpty()) {
+                return hits;
+            }
+            int docCount = docs.size();
+            double averageLength = (double) totalLength / docCount;
+            for (String term : terms) {
+                Map<K, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<K, Integer> entry : posting.entrySet()) {
+                    K key = entry.getKey();
+                    if (filter != null && !filter.test(key)) {
+                        continue;
+                    }
+                    double tf = entry.getValue();
+                    double norm = K1 * (1 - B + B * docs.get(key).length / averageLength);
+                    scores.merge(key, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+            for (Map.Entry<K, Double> entry : scores.entrySet()) {
+                hits.add(new Hit<>(entry.getKey(), docs.get(entry.getKey()).title, entry.getValue()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble((Hit<K> hit) -> hit.score).reversed());
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * 제목이 입력 중인 문자열로 시작하거나 (띄어쓰기 무시) 제목의 단어가 그 문자열을 포함하는 문서를 최대 limit 건 반환합니다.
+     * 점수는 제목 시작 일치 2, 단어 시작 일치 1, 단어 중간 일치 0 이며 같은 점수는 제목이 짧은 순입니다.
+     */
+    public List<Hit<K>> suggest(String prefix, int limit, Predicate<K> filter) {
+        String compact = String.join("", KoreanNgramTokenizer.words(prefix));
+        List<Hit<K>> hits = new ArrayList<>();
+        if (compact.isEmpty()) {
+            return hits;
+        }
+        Map<K, Integer> ranks = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            // 높은 등급부터 후보를 모아, 상한에 걸려도 사전 순으로 앞선 단어 중간 일치에 제목 시작 일치가 밀려나지 않도록 함
+            for (int rank = RANK_TITLE_START; rank >= RANK_INFIX && ranks.size() < MAX_SUGGEST_CANDIDATES; rank--) {
+                collectCandidates(prefixTiers.get(rank).subMap(compact, true, compact + Character.MAX_VALUE, false),
+                        rank, filter, ranks);
+            }
+            for (Map.Entry<K, Integer> entry : ranks.entrySet()) {
+                hits.add(new Hit<>(entry.getKey(), docs.get(entry.getKey()).title, entry.getValue()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble((Hit<K> hit) -> hit.score).reversed()
+                .thenComparingInt(hit -> hit.title == null ? 0 : hit.title.length()));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    // 한 등급의 접두어 범위에서 후보를 모음. 더 높은 등급으로 이미 모은 문서는 그대로 둠
+    private static <K> void collectCandidates(Map<String, Set<K>> range, int rank, Predicate<K> filter, Map<K, Integer> ranks) {
+        for (Set<K> keys : range.values()) {
+            for (K key : keys) {
+                if (filter == null || filter.test(key)) {
+                    ranks.putIfAbsent(key, rank);
+                }
+            }
+            if (ranks.size() >= MAX_SUGGEST_CANDIDATES) {
+                return;
+            }
+        }
+    }
+
+    // 자동완성 사전 키: 띄어쓰기를 없앤 제목 전체, 각 단어, 한글 단어의 접미어
+    private static Map<String, Integer> prefixRanks(String title) {
+        Map<String, Integer> ranks = new HashMap<>();
+        List<String> words = KoreanNgramTokenizer.words(title);
+        for (String word : words) {
+            ranks.merge(word, RANK_WORD_START, Math::max);
+            if (!KoreanNgramTokenizer.isCjk(word.codePointAt(0))) {
+                continue;
+            }
+            int[] codePoints = word.codePoints().limit(MAX_SUFFIX_WORD_LENGTH).toArray();
+            for (int from = 1; codePoints.length - from >= MIN_SUFFIX_LENGTH; from++) {
+                ranks.merge(new String(codePoints, from, codePoints.length - from), RANK_INFIX, Math::max);
+            }
+        }
+        if (!words.isEmpty()) {
+            ranks.put(String.join("", words), RANK_TITLE_START);
+        }
+        return ranks;
+    }
+
+    private void removeLocked(K key) {
+        Doc previous = docs.remove(key);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length;
+        for (String term : previous.terms) {
+            removeFrom(postings, term, key);
+        }
+        for (int i = 0; i < previous.prefixes.length; i++) {
+            TreeMap<String, Set<K>> tier = prefixTiers.get(previous.prefixRanks[i]);
+            Set<K> keys = tier.get(previous.prefixes[i]);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    tier.remove(previous.prefixes[i]);
+                }
+            }
+        }
+    }
+
+    private static <K> void removeFrom(Map<String, Map<K, Integer>> map, String term, K key) {
+        Map<K, Integer> keys = map.get(term);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                map.remove(term);
+            }
+        }
+    }
+
+    private static final class Doc {
+        private final String title;
+        private final int length;
+        private final String[] terms;
+        private final String[] prefixes;
+        private final int[] prefixRanks;
+
+        private Doc(String title, int length, String[] terms, String[] prefixes, int[] prefixRanks) {
+            this.title = title;
+            this.length = length;
+            this.terms = terms;
+            this.prefixes = prefixes;
+            this.prefixRanks = prefixRanks;
+        }
+    }
+
+    /**
+     * 검색 / 자동완성 결과 한 건
+     */
+    public static final class Hit<K> {
+        private final K key;
+        private final String title;
+        private final double score;
+
+        private Hit(K key, String title, double score) {
+            this.key = key;
+            this.title = title;
+            this.score = score;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.taiso.bike_api.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import com.taiso.bike_api.exception.InvalidCursorException;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ *
+ * 직전 페이지 마지막 행의 (정렬 키, ID) 를 불투명한 문자열로 감쌉니다.
+ * 다음 페이지는 OFFSET 대신 "(정렬 키, ID) 가 커서보다 뒤" 조건으로 조회하므로
+ * 앞 페이지를 읽고 버리는 비용과 전체 개수 count 쿼리가 없습니다.
+ * 정렬 키 컬럼은 NOT NULL 이어야 하며, 엔티티에 (정렬 키, ID) 복합 인덱스를 둡니다.
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final String sortField;
+    private final Long id;
+    // 정렬 키 값의 문자열 표현 (조회 시 컬럼 타입으로 다시 변환)
+    private final String value;
+
+    private KeysetCursor(String sortField, Long id, String value) {
+        this.sortField = sortField;
+        this.id = id;
+        this.value = value;
+    }
+
+    /**
+     * 마지막 행의 정렬 키 값과 ID 로 커서를 만듭니다.
+     */
+    public static KeysetCursor of(String sortField, Object value, Long id) {
+        return new KeysetCursor(sortField, id, toText(value));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서를 해석합니다. 빈 값이면 첫 페이지로 보고 null 을 반환합니다.
+     *
+     * @throws InvalidCursorException 형식이 잘못됐거나 다른 정렬 기준으로 발급된 커서인 경우
+     */
+    public static KeysetCursor decode(String token, String expectedSortField) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+        // 정렬 키 값에 구분자가 들어갈 수 있으므로 마지막 항목으로 둠
+        String[] parts = decoded.split("\\" + SEPARATOR, 4);
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+        if (!parts[1].equals(expectedSortField)) {
+            throw new InvalidCursorException("정렬 기준이 다른 커서입니다.");
+        }
+        try {
+            return new KeysetCursor(parts[1], Long.valueOf(parts[2]), parts[3]);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + sortField + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 다음 행만 남기는 조건
+     * DESC 기준: sortKey < :value OR (sortKey = :value AND id < :id)
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <T> Predicate toPredicate(Root<T> root, CriteriaBuilder cb, String idField, Sort.Direction direction) {
+        Path<Long> idPath = root.get(idField);
+        Predicate afterId = direction.isDescending() ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id);
+        if (sortField.equals(idField)) {
+            return afterId;
+        }
+        Path<Comparable> keyPath = root.get(sortField);
+        Comparable key = parse(value, keyPath.getJavaType());
+        Predicate afterKey = direction.isDescending() ? cb.lessThan(keyPath, key) : cb.greaterThan(keyPath, key);
+        return cb.or(afterKey, cb.and(cb.equal(keyPath, key), afterId));
+    }
+
+    /**
+     * (정렬 키, ID) 정렬 - Criteria 쿼리용
+     */
+    public static <T> List<Order> orders(Root<T> root, CriteriaBuilder cb, String sortField, String idField,
+                                         Sort.Direction direction) {
+        List<Order> orders = new ArrayList<>(2);
+        if (!sortField.equals(idField)) {
+            orders.add(direction.isDescending() ? cb.desc(root.get(sortField)) : cb.asc(root.get(sortField)));
+        }
+        orders.add(direction.isDescending() ? cb.desc(root.get(idField)) : cb.asc(root.get(idField)));
+        return orders;
+    }
+
+    /**
+     * (정렬 키, ID) 정렬 - Spring Data 조회용
+     */
+    public static Sort sort(String sortField, String idField, Sort.Direction direction) {
+        if (sortField.equals(idField)) {
+            return Sort.by(direction, idField);
+        }
+        return Sort.by(direction, sortField, idField);
+    }
+
+    private static String toText(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("커서 정렬 키 값은 null 일 수 없습니다.");
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Comparable parse(String text, Class<?> type) {
+        try {
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(text);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(text);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(text);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(text);
+            }
+            if (type == LocalDate.class) {
+                return LocalDate.parse(text);
+            }
+            if (type == String.class) {
+                return text;
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, text);
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+        throw new IllegalArgumentException("커서 정렬 키로 지원하지 않는 타입입니다: " + type.getName());
+    }
+}
@@ -0,0 +1,22 @@
+package com.taiso.bike_api.util;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키셋 페이지네이션 조회 결과
+ * 전체 개수 대신 다음 페이지 존재 여부와 다음 커서만 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetSlice<T> {
+
+    private final List<T> content;
+
+    // 다음 페이지가 없으면 null
+    private final String nextCursor;
+
+    private final boolean hasNext;
+}
@@ -0,0 +1,87 @@
+package com.taiso.bike_api.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저입니다.
+ *
+ * 문자열을 NFKC 정규화 / 소문자화한 뒤 문자 종류가 같은 연속 구간(단어)으로 나눕니다.
+ * - 한글 / 한자 / 가나 구간: 띄어쓰기가 일정하지 않으므로 글자 2-gram 으로 색인합니다. (한 글자면 그대로)
+ *   "한강라이딩" → 한강, 강라, 라이, 이딩
+ * - 그 밖의 문자 / 숫자 구간: 단어 그대로 색인합니다. "10km", "gpx"
+ * 형태소 분석 없이도 조사가 붙은 형태("한강을")와 띄어쓰기 차이("한강 라이딩")가 검색됩니다.
+ */
+public final class KoreanNgramTokenizer {
+
+    private KoreanNgramTokenizer() {
+    }
+
+    /**
+     * 색인 / 검색어 토큰 (중복 포함, 등장 순서)
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (!isCjk(word.codePointAt(0))) {
+                tokens.add(word);
+                continue;
+            }
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 정규화된 단어 (문자 종류가 같은 연속 구간, 등장 순서)
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        boolean wordIsCjk = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(word, words);
+                continue;
+            }
+            boolean cjk = isCjk(codePoint);
+            if (word.length() > 0 && cjk != wordIsCjk) {
+                flush(word, words);
+            }
+            wordIsCjk = cjk;
+            word.appendCodePoint(codePoint);
+        }
+        flush(word, words);
+        return words;
+    }
+
+    public static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static void flush(StringBuilder word, List<String> words) {
+        if (word.length() > 0) {
+            words.add(word.toString());
+            word.setLength(0);
+        }
+    }
+}
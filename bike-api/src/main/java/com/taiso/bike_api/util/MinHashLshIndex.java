@@ -0,0 +1,156 @@
+package com.taiso.bike_api.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * RouteFingerprint 서명의 LSH(밴드) 메모리 색인입니다.
+ *
+ * 서명을 밴드로 나눠 밴드 키마다 버킷에 등록하고, 조회 시 한 밴드라도 같은 버킷에 있는 키만 후보로 모아
+ * 서명 유사도를 직접 계산합니다. 전체 서명과 비교하지 않으므로 비용이 비슷한 경로 수에 비례합니다.
+ * 읽기는 동시에, 쓰기는 배타적으로 수행합니다.
+ */
+public class MinHashLshIndex<K> {
+
+    private final Map<K, Entry> entries = new HashMap<>();
+    private final Map<Long, Set<K>> buckets = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(K key, int[] signature) {
+        Entry entry = new Entry(signature, RouteFingerprint.bandKeys(signature));
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            entries.put(key, entry);
+            for (long bandKey : entry.bandKeys) {
+                buckets.computeIfAbsent(bandKey, b -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            buckets.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int[] get(K key) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(key);
+            return entry != null ? entry.signature : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 유사도가 minSimilarity 이상인 키를 유사도 높은 순으로 최대 limit 건 반환합니다. exclude 키는 제외합니다.
+     */
+    public List<Match<K>> similar(int[] signature, double minSimilarity, int limit, K exclude) {
+        long[] bandKeys = RouteFingerprint.bandKeys(signature);
+        List<Match<K>> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<K> seen = new HashSet<>();
+            for (long bandKey : bandKeys) {
+                Set<K> bucket = buckets.get(bandKey);
+                if (bucket == null) {
+                    continue;
+                }
+                for (K key : bucket) {
+                    if (Objects.equals(key, exclude) || !seen.add(key)) {
+                        continue;
+                    }
+                    double similarity = RouteFingerprint.similarity(signature, entries.get(key).signature);
+                    if (similarity >= minSimilarity) {
+                        matches.add(new Match<>(key, similarity));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingDouble((Match<K> match) -> match.similarity).reversed());
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private void removeLocked(K key) {
+        Entry previous = entries.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (long bandKey : previous.bandKeys) {
+            Set<K> bucket = buckets.get(bandKey);
+            if (bucket != null) {
+                bucket.remove(key);
+                if (bucket.isEmpty()) {
+                    buckets.remove(bandKey);
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final int[] signature;
+        private final long[] bandKeys;
+
+        private Entry(int[] signature, long[] bandKeys) {
+            this.signature = signature;
+            this.bandKeys = bandKeys;
+        }
+    }
+
+    /**
+     * 유사 조회 결과 한 건
+     */
+    public static final class Match<K> {
+        private final K key;
+        private final double similarity;
+
+        private Match(K key, double similarity) {
+            this.key = key;
+            this.similarity = similarity;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.taiso.bike_api.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 루트 출발점과 경계 상자 (공간 검색용으로 route 테이블에 미리 계산해 저장)
+ */
+@Getter
+@AllArgsConstructor
+public class RouteBounds {
+
+    private final double startLat;
+    private final double startLon;
+    private final double minLat;
+    private final double minLon;
+    private final double maxLat;
+    private final double maxLon;
+
+    /**
+     * 트랙의 첫 포인트와 전체 포인트의 경계 상자를 계산합니다. 포인트가 없으면 null
+     */
+    public static RouteBounds of(TrackBuffer track) {
+        if (track == null || track.isEmpty()) {
+            return null;
+        }
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < track.size(); i++) {
+            double lat = track.lat(i);
+            double lon = track.lon(i);
+            if (lat < minLat) minLat = lat;
+            if (lat > maxLat) maxLat = lat;
+            if (lon < minLon) minLon = lon;
+            if (lon > maxLon) maxLon = lon;
+        }
+        return new RouteBounds(track.lat(0), track.lon(0), minLat, minLon, maxLat, maxLon);
+    }
+}
@@ -0,0 +1,180 @@
+package com.taiso.bike_api.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 경로 모양 지문(MinHash 서명) 계산기입니다.
+ *
+ * 1. 경로를 RESAMPLE_METERS 간격으로 다시 찍어 포인트 밀도(기기 / 단순화 정도) 차이를 없애고
+ * 2. 각 지점을 geohash 35비트(약 150m 칸) 정수로 양자화해 지나간 칸 집합을 만든 뒤
+ * 3. 칸 집합의 MinHash 서명(NUM_HASHES 개)을 계산합니다.
+ * 두 서명에서 같은 자리 값이 같은 비율이 두 경로가 지나간 칸 집합의 Jaccard 유사도 추정치입니다.
+ * 해시 시드는 고정값이므로 저장된 서명은 재시작 후에도 비교할 수 있습니다. (바꾸면 전체 재계산 필요)
+ */
+public final class RouteFingerprint {
+
+    public static final int NUM_HASHES = 128;
+
+    // LSH 밴드 구성 (BANDS * ROWS = NUM_HASHES), 유사도 약 0.4 부터 후보로 잡힘
+    public static final int BANDS = 32;
+    public static final int ROWS = NUM_HASHES / BANDS;
+
+    private static final double RESAMPLE_METERS = 50.0;
+
+    // geohash 비트 수 (경도 18, 위도 17 → 위도 방향 약 150m 칸)
+    private static final int LON_BITS = 18;
+    private static final int LAT_BITS = 17;
+
+    private static final double METERS_PER_DEGREE = 111_195.0;
+
+    private static final long[] SEEDS = new long[NUM_HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_F1A9_E2B1_7E5AL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            SEEDS[i] = random.nextLong();
+        }
+    }
+
+    private RouteFingerprint() {
+    }
+
+    /**
+     * 경로의 MinHash 서명을 계산합니다. 포인트가 없으면 null
+     */
+    public static int[] signature(TrackBuffer track) {
+        long[] cells = cells(track);
+        if (cells.length == 0) {
+            return null;
+        }
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long cell : cells) {
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int hash = (int) (mix64(cell ^ SEEDS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 두 서명의 유사도 추정치 (0 ~ 1)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / NUM_HASHES;
+    }
+
+    /**
+     * LSH 밴드별 버킷 키. 같은 밴드에서 키가 같은 서명끼리 후보가 됩니다.
+     */
+    public static long[] bandKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS; row++) {
+                key = mix64(key * 31 + signature[band * ROWS + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    public static byte[] encode(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(NUM_HASHES * Integer.BYTES);
+        for (int value : signature) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 저장된 서명을 복원합니다. 길이가 맞지 않으면 (형식 변경 전 값 등) null
+     */
+    public static int[] decode(byte[] data) {
+        if (data == null || data.length != NUM_HASHES * Integer.BYTES) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int[] signature = new int[NUM_HASHES];
+        for (int i = 0; i < NUM_HASHES; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+
+    // 일정 간격으로 다시 찍은 지점들이 지나간 geohash 칸 (중복 제거, 정렬)
+    static long[] cells(TrackBuffer track) {
+        if (track == null || track.isEmpty()) {
+            return new long[0];
+        }
+        long[] cells = new long[64];
+        int count = 0;
+        cells[count++] = geohash(track.lat(0), track.lon(0));
+        for (int i = 1; i < track.size(); i++) {
+            double lat0 = track.lat(i - 1);
+            double lon0 = track.lon(i - 1);
+            double lat1 = track.lat(i);
+            double lon1 = track.lon(i);
+            // 짧은 구간이므로 등장방형 근사 거리로 충분
+            double dy = (lat1 - lat0) * METERS_PER_DEGREE;
+            double dx = (lon1 - lon0) * METERS_PER_DEGREE * Math.cos(Math.toRadians((lat0 + lat1) / 2));
+            int steps = Math.max(1, (int) Math.ceil(Math.sqrt(dx * dx + dy * dy) / RESAMPLE_METERS));
+            for (int s = 1; s <= steps; s++) {
+                double t = (double) s / steps;
+                long cell = geohash(lat0 + (lat1 - lat0) * t, lon0 + (lon1 - lon0) * t);
+                if (cell != cells[count - 1]) {
+                    if (count == cells.length) {
+                        cells = Arrays.copyOf(cells, count * 2);
+                    }
+                    cells[count++] = cell;
+                }
+            }
+        }
+        long[] sorted = Arrays.copyOf(cells, count);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    // 경도 / 위도 비트를 번갈아 배치한 geohash 정수 (base32 문자열 대신 비트 그대로 사용)
+    static long geohash(double lat, double lon) {
+        long latBits = quantize(lat, -90.0, 90.0, LAT_BITS);
+        long lonBits = quantize(lon, -180.0, 180.0, LON_BITS);
+        long hash = 0;
+        for (int i = 0; i < LON_BITS + LAT_BITS; i++) {
+            // 짝수 번째는 경도, 홀수 번째는 위도 비트 (상위 비트부터)
+            long bit = (i & 1) == 0 ? lonBits >>> (LON_BITS - 1 - i / 2) : latBits >>> (LAT_BITS - 1 - i / 2);
+            hash = (hash << 1) | (bit & 1);
+        }
+        return hash;
+    }
+
+    private static long quantize(double value, double min, double max, int bits) {
+        long cells = 1L << bits;
+        long index = (long) Math.floor((value - min) / (max - min) * cells);
+        return Math.max(0, Math.min(cells - 1, index));
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,130 @@
+package com.taiso.bike_api.util;
+
+import java.util.Arrays;
+
+/**
+ * 루트 경로 전체를 한 컬럼(route.geometry)에 저장하기 위한 바이너리 인코더/디코더입니다.
+ *
+ * 위도/경도는 route_point 컬럼과 같은 소수점 6자리(1e-6도), 고도는 소수점 2자리(cm) 정수로 반올림한 뒤
+ * 직전 포인트와의 차이를 zigzag + varint 로 기록합니다. 인접한 GPS 포인트는 차이가 작아
+ * 포인트당 보통 5~8 바이트면 충분합니다. (route_point 행 하나는 인덱스 포함 수십 바이트)
+ *
+ * 형식: [version 1byte][count varint]([dLat][dLon][dEle] varint) * count
+ */
+public final class RouteGeometryCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final double COORDINATE_SCALE = 1e6;
+    private static final double ELEVATION_SCALE = 1e2;
+
+    private RouteGeometryCodec() {
+    }
+
+    /**
+     * 트랙 전체를 인코딩합니다. 포인트가 없으면 count 0 인 5바이트 이하 배열을 반환합니다.
+     */
+    public static byte[] encode(TrackBuffer track) {
+        int size = track.size();
+        // 포인트당 8바이트로 시작하고 부족하면 늘림 (포인트 하나는 최대 30바이트)
+        byte[] out = new byte[1 + 5 + Math.min(size, 1 << 20) * 8];
+        int pos = 0;
+        out[pos++] = VERSION;
+        pos = writeVarint(out, pos, size);
+
+        long prevLat = 0;
+        long prevLon = 0;
+        long prevEle = 0;
+        for (int i = 0; i < size; i++) {
+            if (out.length - pos < 30) {
+                out = Arrays.copyOf(out, out.length + (out.length >> 1) + 30);
+            }
+            long lat = Math.round(track.lat(i) * COORDINATE_SCALE);
+            long lon = Math.round(track.lon(i) * COORDINATE_SCALE);
+            long ele = Math.round(track.ele(i) * ELEVATION_SCALE);
+            pos = writeVarint(out, pos, zigzag(lat - prevLat));
+            pos = writeVarint(out, pos, zigzag(lon - prevLon));
+            pos = writeVarint(out, pos, zigzag(ele - prevEle));
+            prevLat = lat;
+            prevLon = lon;
+            prevEle = ele;
+        }
+        return Arrays.copyOf(out, pos);
+    }
+
+    /**
+     * 인코딩된 경로를 TrackBuffer 로 복원합니다. (시간 정보는 저장하지 않으므로 NO_TIME)
+     */
+    public static TrackBuffer decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            return new TrackBuffer(2);
+        }
+        if (data[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 geometry 버전: " + data[0]);
+        }
+        int[] pos = {1};
+        int size = (int) readVarint(data, pos);
+        // 포인트 하나는 최소 3바이트이므로 남은 길이로 담을 수 없는 count 는 손상된 데이터
+        if (size < 0 || size > (data.length - pos[0]) / 3) {
+            throw new IllegalArgumentException("잘못된 geometry 포인트 수: " + size);
+        }
+        TrackBuffer track = new TrackBuffer(size);
+
+        long lat = 0;
+        long lon = 0;
+        long ele = 0;
+        for (int i = 0; i < size; i++) {
+            lat += unzigzag(readVarint(data, pos));
+            lon += unzigzag(readVarint(data, pos));
+            ele += unzigzag(readVarint(data, pos));
+            track.add(lat / COORDINATE_SCALE, lon / COORDINATE_SCALE, (float) (ele / ELEVATION_SCALE), TrackBuffer.NO_TIME);
+        }
+        return track;
+    }
+
+    /**
+     * 전체를 디코딩하지 않고 포인트 수만 읽습니다.
+     */
+    public static int pointCount(byte[] data) {
+        if (data == null || data.length == 0) {
+            return 0;
+        }
+        return (int) readVarint(data, new int[] {1});
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int writeVarint(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long readVarint(byte[] data, int[] pos) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= data.length) {
+                throw new IllegalArgumentException("geometry 데이터가 잘렸습니다.");
+            }
+            byte b = data[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IllegalArgumentException("잘못된 geometry varint");
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.taiso.bike_api.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 루트 썸네일 크기별 설정
+ *
+ * 한 번의 렌더링 단계에서 모든 크기를 만들고, S3 에는 {prefix}_{suffix}.{format} 키로 저장합니다.
+ * (WebP 는 ImageIO 기본 인코더가 없어 사진성 이미지는 JPEG, 상세 화면은 PNG 로 저장)
+ */
+public enum RouteThumbnail {
+    // 리스트 카드 (400x300)
+    CARD("card", 400, 300, 1, "jpg"),
+    // 상세 화면 (1600x1200, 기존 composite 이미지와 같은 크기)
+    DETAIL("detail", 800, 600, 2, "png"),
+    // 공유 미리보기 (Open Graph 1200x630)
+    SHARE("share", 600, 315, 2, "jpg");
+
+    private final String suffix;
+    private final int width;
+    private final int height;
+    private final int scale;
+    private final String format;
+
+    RouteThumbnail(String suffix, int width, int height, int scale, String format) {
+        this.suffix = suffix;
+        this.width = width;
+        this.height = height;
+        this.scale = scale;
+        this.format = format;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    // scale 적용 전 너비
+    public int getWidth() {
+        return width;
+    }
+
+    // scale 적용 전 높이
+    public int getHeight() {
+        return height;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    // ImageIO 포맷 이름 (png, jpg)
+    public String getFormat() {
+        return format;
+    }
+
+    public String getContentType() {
+        return "png".equals(format) ? "image/png" : "image/jpeg";
+    }
+
+    /**
+     * 썸네일 prefix (S3 키 또는 URL) 에 크기별 접미사와 확장자를 붙입니다.
+     */
+    public String resolve(String prefix) {
+        return prefix + "_" + suffix + "." + format;
+    }
+
+    /**
+     * 크기별 URL. prefix 가 없으면 (크기별 썸네일 이전 루트) 기존 이미지 URL 을 대신 사용합니다.
+     */
+    public String urlOf(String prefix, String fallbackUrl) {
+        return prefix != null ? resolve(prefix) : fallbackUrl;
+    }
+
+    /**
+     * 모든 크기의 URL (suffix -> URL)
+     */
+    public static Map<String, String> urlsOf(String prefix, String fallbackUrl) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (RouteThumbnail size : values()) {
+            urls.put(size.suffix, size.urlOf(prefix, fallbackUrl));
+        }
+        return urls;
+    }
+}
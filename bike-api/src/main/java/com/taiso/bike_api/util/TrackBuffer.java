@@ -0,0 +1,133 @@
+package com.taiso.bike_api.util;
+
+import java.util.Arrays;
+
+/**
+ * GPX/TCX 트랙 포인트를 포인트별 객체 없이 저장하는 열(column) 기반 버퍼입니다.
+ * 위도/경도는 double[], 고도는 float[], 시간은 epoch millis long[] 로 보관하며
+ * 용량이 부족하면 배열을 1.5배씩 늘립니다.
+ */
+public final class TrackBuffer {
+
+    // 시간 정보가 없는 포인트의 time 값
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private double[] lat;
+    private double[] lon;
+    private float[] ele;
+    private long[] time;
+    private int size;
+
+    public TrackBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TrackBuffer(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 2);
+        this.lat = new double[capacity];
+        this.lon = new double[capacity];
+        this.ele = new float[capacity];
+        this.time = new long[capacity];
+    }
+
+    /**
+     * 포인트 하나를 버퍼 끝에 추가합니다.
+     */
+    public void add(double latitude, double longitude, float elevation, long epochMillis) {
+        if (size == lat.length) {
+            grow();
+        }
+        lat[size] = latitude;
+        lon[size] = longitude;
+        ele[size] = elevation;
+        time[size] = epochMillis;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double lat(int index) {
+        return lat[index];
+    }
+
+    public double lon(int index) {
+        return lon[index];
+    }
+
+    public float ele(int index) {
+        return ele[index];
+    }
+
+    public long time(int index) {
+        return time[index];
+    }
+
+    /**
+     * 내부 위도 배열을 그대로 반환합니다. 유효한 구간은 [0, size) 입니다.
+     */
+    public double[] latArray() {
+        return lat;
+    }
+
+    /**
+     * 내부 경도 배열을 그대로 반환합니다. 유효한 구간은 [0, size) 입니다.
+     */
+    public double[] lonArray() {
+        return lon;
+    }
+
+    /**
+     * 내부 고도 배열을 그대로 반환합니다. 유효한 구간은 [0, size) 입니다.
+     */
+    public float[] eleArray() {
+        return ele;
+    }
+
+    /**
+     * keep[i] 가 true 인 포인트만 순서대로 담은 새 버퍼를 반환합니다.
+     */
+    public TrackBuffer select(boolean[] keep) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                count++;
+            }
+        }
+        TrackBuffer result = new TrackBuffer(count);
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                result.add(lat[i], lon[i], ele[i], time[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 배열 용량을 현재 크기에 맞게 줄입니다. 파싱이 끝난 뒤 오래 보관할 버퍼에 사용합니다.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, 2);
+        if (capacity < lat.length) {
+            lat = Arrays.copyOf(lat, capacity);
+            lon = Arrays.copyOf(lon, capacity);
+            ele = Arrays.copyOf(ele, capacity);
+            time = Arrays.copyOf(time, capacity);
+        }
+    }
+
+    private void grow() {
+        int capacity = lat.length + (lat.length >> 1);
+        lat = Arrays.copyOf(lat, capacity);
+        lon = Arrays.copyOf(lon, capacity);
+        ele = Arrays.copyOf(ele, capacity);
+        time = Arrays.copyOf(time, capacity);
+    }
+}
@@ -0,0 +1,306 @@
+package com.taiso.bike_api.util;
+
+import java.util.Arrays;
+
+/**
+ * TrackBuffer 경로 단순화 엔진입니다.
+ * 재귀와 중간 리스트 없이 위/경도 배열 위에서 동작하며, 결과는 남길 포인트를 표시한 keep 배열로 계산합니다.
+ *
+ * - DOUGLAS_PEUCKER: 명시적 스택을 사용하는 반복형 Douglas-Peucker
+ * - VISVALINGAM_WHYATT: 인덱스 최소 힙으로 유효 면적이 가장 작은 포인트부터 제거
+ *
+ * 허용 오차는 지도 zoom 레벨의 픽셀 크기로 환산하며, 용도별 포인트 상한은 {@link Profile} 로 지정합니다.
+ */
+public final class TrackSimplifier {
+
+    // Web Mercator 타일 한 변의 픽셀 수
+    private static final double TILE_SIZE = 256.0;
+
+    // 포인트 상한을 맞추기 위해 허용 오차를 늘려 재시도하는 최대 횟수
+    private static final int MAX_BUDGET_RETRIES = 24;
+
+    private TrackSimplifier() {
+    }
+
+    public enum Mode {
+        DOUGLAS_PEUCKER,
+        VISVALINGAM_WHYATT
+    }
+
+    /**
+     * 용도별 단순화 프로파일 (알고리즘, 기준 zoom, 픽셀 허용 오차, 최대 포인트 수)
+     */
+    public enum Profile {
+        // 업로드 시 DB에 저장할 경로 (약 10m 오차)
+        UPLOAD(Mode.DOUGLAS_PEUCKER, 15, 2.0, 20_000),
+        // 루트 상세 화면 지도
+        DETAIL(Mode.DOUGLAS_PEUCKER, 14, 2.0, 3_000),
+        // 정적 지도 썸네일에 그릴 폴리라인
+        THUMBNAIL(Mode.VISVALINGAM_WHYATT, 12, 1.0, 500);
+
+        private final Mode mode;
+        private final int zoom;
+        private final double pixelTolerance;
+        private final int maxPoints;
+
+        Profile(Mode mode, int zoom, double pixelTolerance, int maxPoints) {
+            this.mode = mode;
+            this.zoom = zoom;
+            this.pixelTolerance = pixelTolerance;
+            this.maxPoints = maxPoints;
+        }
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public int getZoom() {
+            return zoom;
+        }
+
+        public int getMaxPoints() {
+            return maxPoints;
+        }
+
+        // 기준 zoom 에서의 허용 오차 (위/경도 단위)
+        public double tolerance() {
+            return toleranceForZoom(zoom, pixelTolerance);
+        }
+
+        // 실제 렌더링 zoom 에서의 허용 오차 (위/경도 단위)
+        public double tolerance(int renderZoom) {
+            return toleranceForZoom(renderZoom, pixelTolerance);
+        }
+    }
+
+    /**
+     * zoom 레벨에서 pixels 픽셀에 해당하는 위/경도 거리를 반환합니다.
+     */
+    public static double toleranceForZoom(int zoom, double pixels) {
+        return pixels * 360.0 / (TILE_SIZE * Math.pow(2, zoom));
+    }
+
+    /**
+     * 프로파일 기준으로 단순화한 새 버퍼를 반환합니다.
+     */
+    public static TrackBuffer simplify(TrackBuffer track, Profile profile) {
+        return simplify(track, profile.getMode(), profile.tolerance(), profile.getMaxPoints());
+    }
+
+    /**
+     * 프로파일의 알고리즘/포인트 상한을 사용하되, 허용 오차는 실제 렌더링 zoom 으로 계산합니다.
+     */
+    public static TrackBuffer simplify(TrackBuffer track, Profile profile, int renderZoom) {
+        return simplify(track, profile.getMode(), profile.tolerance(renderZoom), profile.getMaxPoints());
+    }
+
+    public static TrackBuffer simplify(TrackBuffer track, Mode mode, double tolerance, int maxPoints) {
+        if (track == null || track.size() < 3) {
+            return track;
+        }
+        return track.select(keepMask(track, mode, tolerance, maxPoints));
+    }
+
+    /**
+     * 남길 포인트를 true 로 표시한 배열을 반환합니다. 시작점과 끝점은 항상 남깁니다.
+     */
+    public static boolean[] keepMask(TrackBuffer track, Mode mode, double tolerance, int maxPoints) {
+        int n = track.size();
+        boolean[] keep = new boolean[n];
+        if (n < 3) {
+            Arrays.fill(keep, true);
+            return keep;
+        }
+        int budget = Math.max(maxPoints, 2);
+        if (mode == Mode.VISVALINGAM_WHYATT) {
+            visvalingamWhyatt(track.lonArray(), track.latArray(), n, tolerance * tolerance * 0.5, budget, keep);
+            return keep;
+        }
+
+        int[] stack = new int[64];
+        double currentTolerance = tolerance;
+        int kept = douglasPeucker(track.lonArray(), track.latArray(), n, currentTolerance, keep, stack);
+        for (int retry = 0; kept > budget && retry < MAX_BUDGET_RETRIES; retry++) {
+            currentTolerance *= 1.5;
+            Arrays.fill(keep, false);
+            kept = douglasPeucker(track.lonArray(), track.latArray(), n, currentTolerance, keep, stack);
+        }
+        return keep;
+    }
+
+    /**
+     * 반복형 Douglas-Peucker. [start, end] 구간 쌍을 int 스택에 쌓아 처리하며 남긴 포인트 수를 반환합니다.
+     */
+    private static int douglasPeucker(double[] x, double[] y, int n, double tolerance, boolean[] keep, int[] stack) {
+        double toleranceSq = tolerance * tolerance;
+        keep[0] = true;
+        keep[n - 1] = true;
+        int kept = 2;
+
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+
+            double x1 = x[start];
+            double y1 = y[start];
+            double dx = x[end] - x1;
+            double dy = y[end] - y1;
+            double lengthSq = dx * dx + dy * dy;
+
+            double maxDistanceSq = 0;
+            int index = start;
+            for (int i = start + 1; i < end; i++) {
+                double distanceSq;
+                if (lengthSq == 0) {
+                    double px = x[i] - x1;
+                    double py = y[i] - y1;
+                    distanceSq = px * px + py * py;
+                } else {
+                    double cross = dy * (x[i] - x1) - dx * (y[i] - y1);
+                    distanceSq = cross * cross / lengthSq;
+                }
+                if (distanceSq > maxDistanceSq) {
+                    maxDistanceSq = distanceSq;
+                    index = i;
+                }
+            }
+
+            if (maxDistanceSq > toleranceSq) {
+                keep[index] = true;
+                kept++;
+                if (top + 4 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                if (index - start > 1) {
+                    stack[top++] = start;
+                    stack[top++] = index;
+                }
+                if (end - index > 1) {
+                    stack[top++] = index;
+                    stack[top++] = end;
+                }
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Visvalingam-Whyatt. 이웃 두 점과 이루는 삼각형 면적(유효 면적)이 가장 작은 포인트부터 제거합니다.
+     * 남은 포인트 수가 budget 이하이고 최소 유효 면적이 minArea 이상이 되면 멈춥니다.
+     */
+    private static void visvalingamWhyatt(double[] x, double[] y, int n, double minArea, int budget, boolean[] keep) {
+        int[] prev = new int[n];
+        int[] next = new int[n];
+        double[] area = new double[n];
+        int[] heap = new int[n];
+        int[] position = new int[n];
+        int heapSize = 0;
+
+        for (int i = 0; i < n; i++) {
+            keep[i] = true;
+            prev[i] = i - 1;
+            next[i] = i + 1;
+        }
+        for (int i = 1; i < n - 1; i++) {
+            area[i] = triangleArea(x, y, i - 1, i, i + 1);
+            heap[heapSize] = i;
+            position[i] = heapSize;
+            heapSize++;
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, position, area, heapSize, i);
+        }
+
+        int remaining = n;
+        double lastArea = 0;
+        while (heapSize > 0) {
+            int candidate = heap[0];
+            if (remaining <= budget && area[candidate] >= minArea) {
+                break;
+            }
+            // 힙에서 제거
+            heapSize--;
+            if (heapSize > 0) {
+                heap[0] = heap[heapSize];
+                position[heap[0]] = 0;
+                siftDown(heap, position, area, heapSize, 0);
+            }
+            position[candidate] = -1;
+
+            // 유효 면적이 감소하지 않도록 보정
+            lastArea = Math.max(lastArea, area[candidate]);
+            keep[candidate] = false;
+            remaining--;
+
+            int p = prev[candidate];
+            int q = next[candidate];
+            next[p] = q;
+            prev[q] = p;
+
+            if (p > 0) {
+                updateArea(heap, position, area, heapSize, p,
+                        Math.max(triangleArea(x, y, prev[p], p, q), lastArea));
+            }
+            if (q < n - 1) {
+                updateArea(heap, position, area, heapSize, q,
+                        Math.max(triangleArea(x, y, p, q, next[q]), lastArea));
+            }
+        }
+    }
+
+    private static double triangleArea(double[] x, double[] y, int a, int b, int c) {
+        return Math.abs((x[b] - x[a]) * (y[c] - y[a]) - (x[c] - x[a]) * (y[b] - y[a])) * 0.5;
+    }
+
+    private static void updateArea(int[] heap, int[] position, double[] area, int heapSize, int index, double value) {
+        int slot = position[index];
+        if (slot < 0) {
+            return;
+        }
+        double old = area[index];
+        area[index] = value;
+        if (value < old) {
+            siftUp(heap, position, area, slot);
+        } else {
+            siftDown(heap, position, area, heapSize, slot);
+        }
+    }
+
+    private static void siftUp(int[] heap, int[] position, double[] area, int slot) {
+        int item = heap[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (area[heap[parent]] <= area[item]) {
+                break;
+            }
+            heap[slot] = heap[parent];
+            position[heap[slot]] = slot;
+            slot = parent;
+        }
+        heap[slot] = item;
+        position[item] = slot;
+    }
+
+    private static void siftDown(int[] heap, int[] position, double[] area, int heapSize, int slot) {
+        int item = heap[slot];
+        int half = heapSize >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+            if (right < heapSize && area[heap[right]] < area[heap[child]]) {
+                child = right;
+            }
+            if (area[item] <= area[heap[child]]) {
+                break;
+            }
+            heap[slot] = heap[child];
+            position[heap[slot]] = slot;
+            slot = child;
+        }
+        heap[slot] = item;
+        position[item] = slot;
+    }
+}
@@ -0,0 +1,147 @@
+package com.taiso.bike_api.util;
+
+/**
+ * 트랙 포인트를 한 개씩 받아 경로 통계를 누적하는 단일 패스 계산기입니다.
+ * SAX 핸들러가 포인트를 읽을 때마다 accept 를 호출하면 파일 끝에 도달하기 전에도
+ * 총 거리, 고도 상승/하강, 영역(bounding box), 최대 경사도를 바로 조회할 수 있습니다.
+ *
+ * - 거리: 하버사인 거리를 Kahan 보정 합산으로 누적 (double 오차 누적 방지)
+ * - 고도: GPS 고도 노이즈를 줄이기 위해 임계값(ELEVATION_THRESHOLD) 이상 변할 때만 상승/하강으로 인정
+ * - 경사도: GRADE_WINDOW_METERS 이상 이동한 구간 단위로 계산
+ */
+public final class TrackStatistics {
+
+    private static final double EARTH_RADIUS_METERS = 6371e3;
+
+    // 고도 변화로 인정할 최소 차이 (m)
+    private static final double ELEVATION_THRESHOLD = 3.0;
+
+    // 경사도 계산 구간 길이 (m)
+    private static final double GRADE_WINDOW_METERS = 100.0;
+
+    private int pointCount;
+
+    // 직전 포인트 (라디안)
+    private double prevLatRad;
+    private double prevLonRad;
+    private double prevCosLat;
+
+    // Kahan 합산 상태
+    private double distanceMeters;
+    private double distanceCompensation;
+
+    // 고도 히스테리시스 기준값
+    private double referenceElevation;
+    private double elevationGain;
+    private double elevationLoss;
+
+    // 경사도 구간 시작점
+    private double gradeWindowStartDistance;
+    private double gradeWindowStartElevation;
+    private double maxGrade;
+
+    private double minLat = Double.POSITIVE_INFINITY;
+    private double maxLat = Double.NEGATIVE_INFINITY;
+    private double minLon = Double.POSITIVE_INFINITY;
+    private double maxLon = Double.NEGATIVE_INFINITY;
+
+    /**
+     * 포인트 하나를 통계에 반영합니다.
+     */
+    public void accept(double lat, double lon, double elevation) {
+        double latRad = Math.toRadians(lat);
+        double lonRad = Math.toRadians(lon);
+        double cosLat = Math.cos(latRad);
+
+        if (lat < minLat) minLat = lat;
+        if (lat > maxLat) maxLat = lat;
+        if (lon < minLon) minLon = lon;
+        if (lon > maxLon) maxLon = lon;
+
+        if (pointCount == 0) {
+            referenceElevation = elevation;
+            gradeWindowStartElevation = elevation;
+        } else {
+            addDistance(haversine(prevLatRad, prevLonRad, prevCosLat, latRad, lonRad, cosLat));
+
+            double diff = elevation - referenceElevation;
+            if (diff >= ELEVATION_THRESHOLD) {
+                elevationGain += diff;
+                referenceElevation = elevation;
+            } else if (diff <= -ELEVATION_THRESHOLD) {
+                elevationLoss -= diff;
+                referenceElevation = elevation;
+            }
+
+            double windowDistance = distanceMeters - gradeWindowStartDistance;
+            if (windowDistance >= GRADE_WINDOW_METERS) {
+                double grade = Math.abs(elevation - gradeWindowStartElevation) / windowDistance;
+                if (grade > maxGrade) {
+                    maxGrade = grade;
+                }
+                gradeWindowStartDistance = distanceMeters;
+                gradeWindowStartElevation = elevation;
+            }
+        }
+
+        prevLatRad = latRad;
+        prevLonRad = lonRad;
+        prevCosLat = cosLat;
+        pointCount++;
+    }
+
+    private void addDistance(double meters) {
+        double y = meters - distanceCompensation;
+        double t = distanceMeters + y;
+        distanceCompensation = (t - distanceMeters) - y;
+        distanceMeters = t;
+    }
+
+    private static double haversine(double lat1, double lon1, double cosLat1, double lat2, double lon2, double cosLat2) {
+        double sinDLat = Math.sin((lat2 - lat1) / 2);
+        double sinDLon = Math.sin((lon2 - lon1) / 2);
+        double a = sinDLat * sinDLat + cosLat1 * cosLat2 * sinDLon * sinDLon;
+        return 2 * EARTH_RADIUS_METERS * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public double getDistanceMeters() {
+        return distanceMeters;
+    }
+
+    public double getDistanceKm() {
+        return distanceMeters / 1000.0;
+    }
+
+    public double getElevationGain() {
+        return elevationGain;
+    }
+
+    public double getElevationLoss() {
+        return elevationLoss;
+    }
+
+    // 최대 경사도 (%)
+    public double getMaxGradePercent() {
+        return maxGrade * 100.0;
+    }
+
+    public double getMinLat() {
+        return minLat;
+    }
+
+    public double getMaxLat() {
+        return maxLat;
+    }
+
+    public double getMinLon() {
+        return minLon;
+    }
+
+    public double getMaxLon() {
+        return maxLon;
+    }
+}
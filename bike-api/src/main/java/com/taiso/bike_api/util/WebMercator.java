@@ -0,0 +1,131 @@
+package com.taiso.bike_api.util;
+
+/**
+ * EPSG:4326(위/경도) → EPSG:3857(Web Mercator) 변환을 닫힌 식으로 계산하는 유틸리티입니다.
+ * Proj4j 의 범용 변환 파이프라인 대신 포인트당 곱셈 몇 번과 log 한 번으로 계산합니다.
+ *
+ * - 월드 픽셀 좌표: zoom 에서 지도 전체 한 변이 256 * 2^zoom * scale 픽셀인 좌표계 (좌상단 원점)
+ * - 배치 메서드는 double[] 을 받아 X / Y 를 별도 루프로 계산해 JIT 가 벡터화하기 쉽도록 했습니다.
+ */
+public final class WebMercator {
+
+    public static final int TILE_SIZE = 256;
+
+    // WGS84 장반경 (m)
+    public static final double EARTH_RADIUS = 6378137.0;
+
+    // Web Mercator 가 정사각형이 되는 위도 한계
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    private static final double INV_360 = 1.0 / 360.0;
+    private static final double INV_4PI = 1.0 / (4 * Math.PI);
+    private static final double DEG_TO_RAD = Math.PI / 180.0;
+
+    private WebMercator() {
+    }
+
+    /**
+     * zoom/scale 에서 지도 전체 한 변의 픽셀 수
+     */
+    public static double worldSize(int zoom, double scale) {
+        return TILE_SIZE * Math.scalb(1.0, zoom) * scale;
+    }
+
+    // 0(서쪽 끝) ~ 1(동쪽 끝)
+    public static double normalizedX(double lon) {
+        return (lon + 180.0) * INV_360;
+    }
+
+    // 0(북쪽 끝) ~ 1(남쪽 끝)
+    public static double normalizedY(double lat) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat));
+        double sin = Math.sin(clamped * DEG_TO_RAD);
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) * INV_4PI;
+    }
+
+    public static double worldX(double lon, double worldSize) {
+        return normalizedX(lon) * worldSize;
+    }
+
+    public static double worldY(double lat, double worldSize) {
+        return normalizedY(lat) * worldSize;
+    }
+
+    /**
+     * EPSG:3857 X 좌표 (m)
+     */
+    public static double mercatorX(double lon) {
+        return EARTH_RADIUS * lon * DEG_TO_RAD;
+    }
+
+    /**
+     * EPSG:3857 Y 좌표 (m)
+     */
+    public static double mercatorY(double lat) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat));
+        double sin = Math.sin(clamped * DEG_TO_RAD);
+        return EARTH_RADIUS * 0.5 * Math.log((1 + sin) / (1 - sin));
+    }
+
+    /**
+     * 경도 배열을 화면 픽셀 X 로 변환합니다. out[i] = round(worldX(lon[i]) - left)
+     */
+    public static void toPixelX(double[] lon, int count, double worldSize, double left, int[] out) {
+        double factor = worldSize * INV_360;
+        double offset = 180.0 * factor - left;
+        for (int i = 0; i < count; i++) {
+            out[i] = (int) Math.round(lon[i] * factor + offset);
+        }
+    }
+
+    /**
+     * 위도 배열을 화면 픽셀 Y 로 변환합니다. out[i] = round(worldY(lat[i]) - top)
+     */
+    public static void toPixelY(double[] lat, int count, double worldSize, double top, int[] out) {
+        double offset = 0.5 * worldSize - top;
+        double factor = worldSize * INV_4PI;
+        for (int i = 0; i < count; i++) {
+            double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat[i]));
+            double sin = Math.sin(clamped * DEG_TO_RAD);
+            out[i] = (int) Math.round(offset - Math.log((1 + sin) / (1 - sin)) * factor);
+        }
+    }
+
+    /**
+     * 위/경도 배열을 EPSG:3857 좌표(m)로 변환합니다.
+     */
+    public static void toMercator(double[] lon, double[] lat, int count, double[] outX, double[] outY) {
+        double factor = EARTH_RADIUS * DEG_TO_RAD;
+        for (int i = 0; i < count; i++) {
+            outX[i] = lon[i] * factor;
+        }
+        for (int i = 0; i < count; i++) {
+            outY[i] = mercatorY(lat[i]);
+        }
+    }
+
+    /**
+     * 영역이 imageWidth x imageHeight 픽셀(scale 1)에 들어가는 가장 큰 zoom 을 계산합니다.
+     * 영역이 한 점이면 defaultZoom 을 반환합니다.
+     */
+    public static int fitZoom(double minLat, double minLon, double maxLat, double maxLon,
+                              int imageWidth, int imageHeight, int defaultZoom, int maxZoom) {
+        double lonDelta = Math.abs(maxLon - minLon);
+        if (lonDelta > 180) {
+            lonDelta = 360 - lonDelta;
+        }
+        double diffX = lonDelta * INV_360;
+        double diffY = Math.abs(normalizedY(maxLat) - normalizedY(minLat));
+        if (diffX == 0 && diffY == 0) {
+            return defaultZoom;
+        }
+        double zoomX = diffX == 0 ? maxZoom : log2(imageWidth / (TILE_SIZE * diffX));
+        double zoomY = diffY == 0 ? maxZoom : log2(imageHeight / (TILE_SIZE * diffY));
+        int zoom = (int) Math.floor(Math.min(zoomX, zoomY));
+        return Math.max(0, Math.min(zoom, maxZoom));
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
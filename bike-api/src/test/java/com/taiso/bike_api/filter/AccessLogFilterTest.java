@@ -0,0 +1,87 @@
+package com.taiso.bike_api.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.FilterChain;
+
+class AccessLogFilterTest {
+
+    private final AccessLogWriter accessLogWriter = mock(AccessLogWriter.class);
+    private final AccessLogFilter filter = new AccessLogFilter();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "accessLogWriter", accessLogWriter);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        // 표본 추출 / 느린 요청으로는 기록되지 않도록 설정
+        ReflectionTestUtils.setField(filter, "sampleRate", 0.0);
+        ReflectionTestUtils.setField(filter, "slowMs", 60_000L);
+        ReflectionTestUtils.setField(filter, "debugHeader", "X-Debug-Log");
+        ReflectionTestUtils.setField(filter, "debugEnabled", false);
+    }
+
+    private AccessLogRecord submitted() {
+        ArgumentCaptor<AccessLogRecord> captor = ArgumentCaptor.forClass(AccessLogRecord.class);
+        verify(accessLogWriter).submit(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void exceptionEscapingChainIsRecordedAsServerError() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/routes/1");
+        IllegalStateException failure = new IllegalStateException("boom");
+        FilterChain chain = (req, res) -> {
+            throw failure;
+        };
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+
+        assertSame(failure, thrown);
+        AccessLogRecord record = submitted();
+        assertEquals(500, record.getStatus());
+        assertEquals("error", record.getReason());
+    }
+
+    @Test
+    void successfulRequestIsNotRecordedUnlessSampled() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/routes"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        verify(accessLogWriter, never()).submit(any());
+    }
+
+    @Test
+    void debugHeaderIsIgnoredUnlessEnabled() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/routes");
+        request.addHeader("X-Debug-Log", "true");
+        request.addHeader("Authorization", "Bearer secret");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+        verify(accessLogWriter, never()).submit(any());
+
+        ReflectionTestUtils.setField(filter, "debugEnabled", true);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        AccessLogRecord record = submitted();
+        assertEquals("debug", record.getReason());
+        assertNotNull(record.getRequestHeaders());
+        assertEquals("***", record.getRequestHeaders().get("Authorization"));
+        assertNull(record.getOrigin());
+    }
+}
@@ -0,0 +1,31 @@
+package com.taiso.bike_api.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class AccessLogWriterTest {
+
+    @Test
+    void serializesRecordAsSingleJsonLine() {
+        AccessLogRecord record = AccessLogRecord.builder()
+                .timestamp(Instant.parse("2025-03-01T00:00:00Z"))
+                .method("GET")
+                .path("/api/lightnings/7")
+                .route("/api/lightnings/{lightningId}")
+                .status(200)
+                .latencyMs(12)
+                .remoteAddr("127.0.0.1")
+                .reason("debug")
+                .requestHeaders(Map.of("user-agent", "a\"b\nc"))
+                .build();
+
+        assertEquals("{\"ts\":\"2025-03-01T00:00:00Z\",\"method\":\"GET\",\"path\":\"/api/lightnings/7\","
+                + "\"route\":\"/api/lightnings/{lightningId}\",\"status\":200,\"latencyMs\":12,\"origin\":null,"
+                + "\"remoteAddr\":\"127.0.0.1\",\"reason\":\"debug\",\"requestHeaders\":{\"user-agent\":\"a\\\"b\\nc\"}}",
+                AccessLogWriter.toJson(record));
+    }
+}
@@ -0,0 +1,149 @@
+package com.taiso.bike_api.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.domain.RouteTagCategoryEntity;
+import com.taiso.bike_api.dto.RouteListResponseDTO;
+import com.taiso.bike_api.dto.RouteResponseDTO;
+import com.taiso.bike_api.service.RouteService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 루트 목록 조회의 SQL 실행 횟수가 페이지 크기와 관계없이 일정한지 Hibernate 통계로 확인합니다.
+ */
+@SpringBootTest
+@Transactional
+class RouteListQueryRepositoryTest {
+
+    // 목록 1회 + 태그 1회 + count 1회
+    private static final long MAX_STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private RouteService routeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        RouteTagCategoryEntity river = newTag("statistics-test-river");
+        RouteTagCategoryEntity hill = newTag("statistics-test-hill");
+        for (int i = 0; i < 60; i++) {
+            RouteEntity route = RouteEntity.builder()
+                    .routeName("statistics test " + i)
+                    .description("statistics test")
+                    .userId(1L)
+                    .likeCount((long) i)
+                    .region(RouteEntity.Region.서울)
+                    .distance(BigDecimal.valueOf(10 + i))
+                    .altitude(BigDecimal.valueOf(100))
+                    .distanceType(RouteEntity.DistanceType.단거리)
+                    .altitudeType(RouteEntity.AltitudeType.평지)
+                    .roadType(RouteEntity.RoadType.자전거도로)
+                    .fileName("statistics-test.gpx")
+                    .fileType(RouteEntity.FileType.GPX)
+                    .tags(Set.of(river, hill))
+                    .build();
+            entityManager.persist(route);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        long smallPage = countStatements(5);
+        long largePage = countStatements(50);
+
+        assertTrue(smallPage <= MAX_STATEMENTS_PER_PAGE, "page 5: " + smallPage + " statements");
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void tagsAreLoadedWithoutEntityLazyLoading() {
+        statistics.clear();
+
+        RouteListResponseDTO page = routeService.getRouteList(0, 50, "routeId", null, null, null, null, null, null);
+
+        assertEquals(50, page.getContent().size());
+        RouteResponseDTO first = page.getContent().get(0);
+        assertTrue(first.getTag().contains("statistics-test-river"));
+        assertTrue(first.getTag().contains("statistics-test-hill"));
+        // 엔티티를 로드하지 않으므로 지연 로딩 컬렉션 초기화도 없어야 함
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void cursorPagesCoverAllRoutesWithoutCountQuery() {
+        Set<Long> seen = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            statistics.clear();
+            RouteListResponseDTO page = routeService.getRouteListByCursor(cursor, 25, "likeCount", null, null, null, null, null, null);
+            // 목록 1회 + 태그 1회, count 없음
+            assertTrue(statistics.getPrepareStatementCount() <= 2, "cursor page: " + statistics.getPrepareStatementCount() + " statements");
+            for (RouteResponseDTO route : page.getContent()) {
+                assertTrue(seen.add(route.getRouteId()), "duplicated route " + route.getRouteId());
+            }
+            assertEquals(page.isHasNext(), page.getNextCursor() != null);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertTrue(seen.size() >= 60);
+    }
+
+    @Test
+    void cursorPageSizeZeroReturnsOneRoute() {
+        RouteListResponseDTO page = routeService.getRouteListByCursor("", 0, "routeId", null, null, null, null, null, null);
+
+        assertEquals(1, page.getPageSize());
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    void oversizedCursorPageIsCapped() {
+        RouteListResponseDTO page = routeService.getRouteListByCursor("", 100_000, "routeId", null, null, null, null, null, null);
+
+        assertEquals(100, page.getPageSize());
+        assertTrue(page.getContent().size() >= 60 && page.getContent().size() <= 100,
+                "cursor page: " + page.getContent().size() + " routes");
+    }
+
+    private long countStatements(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+        RouteListResponseDTO page = routeService.getRouteList(0, pageSize, "routeId", null, null, null, null, null, null);
+        assertEquals(pageSize, page.getContent().size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private RouteTagCategoryEntity newTag(String name) {
+        RouteTagCategoryEntity tag = RouteTagCategoryEntity.builder().name(name).build();
+        entityManager.persist(tag);
+        return tag;
+    }
+}
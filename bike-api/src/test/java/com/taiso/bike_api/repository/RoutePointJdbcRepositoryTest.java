@@ -0,0 +1,164 @@
+package com.taiso.bike_api.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taiso.bike_api.util.TrackBuffer;
+
+class RoutePointJdbcRepositoryTest {
+
+    private static final int CHUNK_SIZE = 4;
+    private static final Long ROUTE_ID = 7L;
+
+    private final RoutePointJdbcRepository repository = new RoutePointJdbcRepository();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    // update 호출마다 INSERT 의 행 수와 각 행에 바인딩된 sequence
+    private final List<List<Integer>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(repository, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(repository, "chunkSize", CHUNK_SIZE);
+
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            PreparedStatementSetter setter = invocation.getArgument(1);
+            int rows = sql.split("\\(\\?,\\?,\\?,\\?,\\?\\)", -1).length - 1;
+
+            List<Integer> sequences = new ArrayList<>();
+            PreparedStatement ps = mock(PreparedStatement.class);
+            doAnswer(bind -> {
+                int index = bind.getArgument(0);
+                // 행마다 (route_id, sequence, latitude, longitude, elevation) 순서
+                if (index % 5 == 2) {
+                    sequences.add(bind.getArgument(1));
+                }
+                return null;
+            }).when(ps).setInt(anyInt(), anyInt());
+            setter.setValues(ps);
+
+            assertEquals(rows, sequences.size());
+            chunks.add(sequences);
+            return rows;
+        });
+    }
+
+    private static TrackBuffer track(int size) {
+        TrackBuffer track = new TrackBuffer(size);
+        for (int i = 0; i < size; i++) {
+            track.add(37.5 + i * 0.001, 126.9, 10f, TrackBuffer.NO_TIME);
+        }
+        return track;
+    }
+
+    @Test
+    void emptyTrackIssuesNoInsert() {
+        assertEquals(0, repository.insertAll(ROUTE_ID, track(0)));
+        assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    void singlePointIsOneRowInsert() {
+        assertEquals(1, repository.insertAll(ROUTE_ID, track(1)));
+        assertEquals(List.of(List.of(0)), chunks);
+    }
+
+    @Test
+    void exactlyOneChunk() {
+        assertEquals(CHUNK_SIZE, repository.insertAll(ROUTE_ID, track(CHUNK_SIZE)));
+        assertEquals(List.of(List.of(0, 1, 2, 3)), chunks);
+    }
+
+    @Test
+    void oneOverChunkSplitsIntoFullAndSingleRowChunk() {
+        assertEquals(CHUNK_SIZE + 1, repository.insertAll(ROUTE_ID, track(CHUNK_SIZE + 1)));
+        assertEquals(List.of(List.of(0, 1, 2, 3), List.of(4)), chunks);
+    }
+
+    // MIN/MAX(route_point_id - sequence), MIN/MAX(sequence), COUNT(*) 한 행을 돌려주도록 설정
+    private void idOffsetRow(long minOffset, long maxOffset, long minSequence, long maxSequence, long count) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getLong(1)).thenReturn(minOffset);
+        when(rs.getLong(2)).thenReturn(maxOffset);
+        when(rs.getLong(3)).thenReturn(minSequence);
+        when(rs.getLong(4)).thenReturn(maxSequence);
+        when(rs.getLong(5)).thenReturn(count);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(ROUTE_ID))).thenAnswer(invocation -> {
+            ResultSetExtractor<?> extractor = invocation.getArgument(1);
+            return extractor.extractData(rs);
+        });
+    }
+
+    @Test
+    void contiguousPointIdsReturnFirstId() throws Exception {
+        idOffsetRow(1000L, 1000L, 0L, 99L, 100L);
+
+        assertEquals(1000L, repository.findFirstPointId(ROUTE_ID));
+    }
+
+    @Test
+    void pointIdsWithGapOrMissingSequenceReturnNull() throws Exception {
+        // 다른 INSERT 와 섞여 아이디가 건너뜀
+        idOffsetRow(1000L, 1003L, 0L, 99L, 100L);
+        assertNull(repository.findFirstPointId(ROUTE_ID));
+
+        // sequence 가 1 부터 시작
+        idOffsetRow(1000L, 1000L, 1L, 100L, 100L);
+        assertNull(repository.findFirstPointId(ROUTE_ID));
+
+        // 포인트 없음
+        idOffsetRow(0L, 0L, 0L, 0L, 0L);
+        assertNull(repository.findFirstPointId(ROUTE_ID));
+    }
+
+    @Test
+    void findTrackReadsRowsInSequenceOrder() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getDouble(1)).thenReturn(37.50, 37.51, 37.52);
+        when(rs.getDouble(2)).thenReturn(126.90, 126.91, 126.92);
+        when(rs.getFloat(3)).thenReturn(10f, 11f, 12f);
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            assertTrue(sql.endsWith("WHERE route_id = ? ORDER BY sequence"), sql);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(ROUTE_ID));
+
+        TrackBuffer track = repository.findTrack(ROUTE_ID);
+
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(ROUTE_ID));
+        assertEquals(3, track.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(37.50 + i * 0.01, track.lat(i), 1e-9);
+            assertEquals(126.90 + i * 0.01, track.lon(i), 1e-9);
+            assertEquals(10f + i, track.ele(i));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.taiso.bike_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class JwtTokenProviderTest {
+
+    private final JwtTokenProvider provider =
+            new JwtTokenProvider("test-secret-test-secret-test-secret-0123456789", 2);
+
+    private final UserIdentity identity =
+            new UserIdentity(42L, "rider@example.com", "USER", "rider", null, null);
+
+    @Test
+    void authenticateReadsClaimsFromSingleParse() {
+        CustomUserDetails principal = provider.authenticate(provider.generateToken(identity));
+
+        assertNotNull(principal);
+        assertEquals(42L, principal.getUserId());
+        assertEquals("rider@example.com", principal.getUsername());
+        assertEquals("USER", principal.getRole());
+        assertEquals("ROLE_USER", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void verifiedTokenIsServedFromCache() {
+        String token = provider.generateToken(identity);
+
+        assertSame(provider.authenticate(token), provider.authenticate(token));
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = provider.generateToken(identity);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertNull(provider.authenticate(tampered));
+        assertNull(provider.authenticate("not-a-jwt"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taiso.bike_api.dto.ClubListResponseDTO;
+import com.taiso.bike_api.dto.LightningListResponseDTO;
+
+/**
+ * 클럽 / 번개 커서 목록이 0 이하이거나 지나치게 큰 페이지 크기를 1 ~ 100 으로 제한하는지 확인합니다.
+ * (루트 목록은 RouteListQueryRepositoryTest 에서 확인)
+ */
+@SpringBootTest
+@Transactional
+class CursorPageSizeTest {
+
+    @Autowired
+    private ClubService clubService;
+
+    @Autowired
+    private LightningService lightningService;
+
+    @Test
+    void clubCursorPageSizeZeroIsRaisedToOne() {
+        ClubListResponseDTO page = clubService.getClubsByCursor("", 0, null, "", null);
+
+        assertEquals(1, page.getPageSize());
+        assertTrue(page.getContent().size() <= 1);
+    }
+
+    @Test
+    void oversizedClubCursorPageIsCapped() {
+        ClubListResponseDTO page = clubService.getClubsByCursor("", 100_000, null, "", null);
+
+        assertEquals(100, page.getPageSize());
+        assertTrue(page.getContent().size() <= 100);
+    }
+
+    @Test
+    void negativeLightningCursorPageSizeIsRaisedToOne() {
+        LightningListResponseDTO page = lightningService.getLightningListByCursor("", -5,
+                null, null, null, null, null, null, "", null);
+
+        assertEquals(1, page.getPageSize());
+        assertTrue(page.getContent().size() <= 1);
+    }
+
+    @Test
+    void oversizedLightningCursorPageIsCapped() {
+        LightningListResponseDTO page = lightningService.getLightningListByCursor("", 100_000,
+                null, null, null, null, null, null, "", null);
+
+        assertEquals(100, page.getPageSize());
+        assertTrue(page.getContent().size() <= 100);
+    }
+}
@@ -0,0 +1,65 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskTileCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void evictsLeastRecentlyUsedTileWhenOverLimit() {
+        DiskTileCache cache = new DiskTileCache(cacheDir, 300);
+        String a = DiskTileCache.key("test", 10, 1, 1);
+        String b = DiskTileCache.key("test", 10, 1, 2);
+        String c = DiskTileCache.key("test", 10, 1, 3);
+
+        cache.put(a, new byte[100]);
+        cache.put(b, new byte[100]);
+        cache.put(c, new byte[100]);
+        // a 를 최근 사용으로 만들어 b 가 가장 오래된 타일이 되도록 함
+        cache.get(a);
+        cache.put(DiskTileCache.key("test", 10, 1, 4), new byte[100]);
+
+        assertTrue(cache.contains(a));
+        assertFalse(cache.contains(b));
+        assertTrue(cache.contains(c));
+        assertEquals(300, cache.getTotalBytes());
+        assertFalse(Files.exists(cacheDir.resolve("test/10/1/2.tile")));
+    }
+
+    @Test
+    void reloadsIndexFromDisk() {
+        DiskTileCache cache = new DiskTileCache(cacheDir, 1_000);
+        String key = DiskTileCache.key("test", 3, 4, 5);
+        byte[] tile = {1, 2, 3, 4};
+        cache.put(key, tile);
+
+        DiskTileCache reloaded = new DiskTileCache(cacheDir, 1_000);
+        assertEquals(1, reloaded.size());
+        assertArrayEquals(tile, reloaded.get(key));
+        assertNull(reloaded.get(DiskTileCache.key("test", 3, 4, 6)));
+    }
+
+    @Test
+    void trimsExistingFilesToNewLimitOnStartup() {
+        DiskTileCache cache = new DiskTileCache(cacheDir, 1_000);
+        for (int i = 0; i < 5; i++) {
+            cache.put(DiskTileCache.key("test", 5, i, 0), new byte[100]);
+        }
+
+        DiskTileCache smaller = new DiskTileCache(cacheDir, 250);
+        assertEquals(2, smaller.size());
+        assertTrue(smaller.getTotalBytes() <= 250);
+    }
+}
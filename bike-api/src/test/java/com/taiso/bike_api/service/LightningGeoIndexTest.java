@@ -0,0 +1,84 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taiso.bike_api.domain.LightningEntity.LightningStatus;
+import com.taiso.bike_api.repository.LightningRepository;
+import com.taiso.bike_api.util.GeoGridIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LightningGeoIndexTest {
+
+    private final LightningRepository lightningRepository = mock(LightningRepository.class);
+    private final LightningGeoIndex index = new LightningGeoIndex();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(index, "lightningRepository", lightningRepository);
+        ReflectionTestUtils.setField(index, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(index, "cellDegrees", 0.05);
+        ReflectionTestUtils.setField(index, "refreshOverlapMs", 0L);
+        index.init();
+    }
+
+    // 재구성 쿼리 행: lightningId, latitude, longitude
+    private static Object[] target(long id, double lat) {
+        return new Object[] { id, BigDecimal.valueOf(lat), BigDecimal.valueOf(126.9) };
+    }
+
+    // 증분 갱신 쿼리 행: lightningId, latitude, longitude, status, isClubOnly
+    private static Object[] change(long id, double lat, LightningStatus status, Boolean clubOnly) {
+        return new Object[] { id, BigDecimal.valueOf(lat), BigDecimal.valueOf(126.9), status, clubOnly };
+    }
+
+    private List<Long> nearby() {
+        return index.within(37.5, 126.9, 5_000).stream().map(GeoGridIndex.Hit::getKey).toList();
+    }
+
+    @Test
+    void refreshDoesNothingBeforeFirstRebuild() {
+        index.refresh();
+
+        verify(lightningRepository, never()).findGeoIndexChanges(any());
+    }
+
+    @Test
+    void refreshAppliesRowsChangedElsewhere() {
+        when(lightningRepository.findGeoIndexTargets(any())).thenReturn(List.of(target(1L, 37.5), target(4L, 37.503)));
+        index.rebuild();
+        when(lightningRepository.findGeoIndexChanges(any())).thenReturn(List.of(
+                change(1L, 37.5, LightningStatus.종료, false),
+                change(2L, 37.501, LightningStatus.모집, false),
+                change(3L, 37.502, LightningStatus.모집, true)));
+
+        index.refresh();
+
+        // 종료 / 클럽 전용은 빠지고 새로 생긴 번개는 들어오며, 바뀌지 않은 번개는 그대로
+        assertEquals(List.of(2L, 4L), nearby());
+    }
+
+    @Test
+    void rebuildDropsDeletedLightnings() {
+        when(lightningRepository.findGeoIndexTargets(any())).thenReturn(List.of(target(1L, 37.5), target(2L, 37.501)));
+        index.rebuild();
+        assertEquals(List.of(1L, 2L), nearby());
+
+        when(lightningRepository.findGeoIndexTargets(any())).thenReturn(List.of(target(2L, 37.501)));
+        index.rebuild();
+
+        assertEquals(List.of(2L), nearby());
+    }
+}
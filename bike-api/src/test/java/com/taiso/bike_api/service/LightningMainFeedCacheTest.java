@@ -0,0 +1,162 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taiso.bike_api.dto.LightningListResponseDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LightningMainFeedCacheTest {
+
+    private final LightningMainFeedCache cache = new LightningMainFeedCache();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 호출될 때마다 pageNo 가 1씩 늘어난 새 목록을 돌려주는 loader
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<LightningListResponseDTO> loader = () ->
+            LightningListResponseDTO.builder().pageNo(loads.incrementAndGet()).build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(cache, "ttlMs", 30_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("lightning.main-feed.cache", "result", result).count();
+    }
+
+    @Test
+    void freshEntryIsServedWithoutLoading() {
+        LightningListResponseDTO first = cache.get(loader);
+        LightningListResponseDTO second = cache.get(loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, count("miss"));
+        assertEquals(1, count("hit"));
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        ReflectionTestUtils.setField(cache, "ttlMs", 0L);
+
+        cache.get(loader);
+        assertEquals(2, cache.get(loader).getPageNo());
+    }
+
+    @Test
+    void invalidateReloadsOnNextGet() {
+        cache.get(loader);
+
+        cache.invalidate();
+
+        assertEquals(2, cache.get(loader).getPageNo());
+        assertEquals(2, cache.get(loader).getPageNo());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateInTransactionInvalidatesAgainAfterCommit() {
+        cache.get(loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate();
+        // 커밋 전에 다른 요청이 커밋 전 데이터로 다시 적재
+        assertEquals(2, cache.get(loader).getPageNo());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(3, cache.get(loader).getPageNo());
+    }
+
+    @Test
+    void staleValueIsServedWhileAnotherRequestLoads() throws Exception {
+        LightningListResponseDTO stale = cache.get(loader);
+        cache.invalidate();
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<LightningListResponseDTO> reloaded = executor.submit(() -> cache.get(() -> {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return loader.get();
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // 적재 중에는 기다리지 않고 이전 값을 받음
+            assertSame(stale, cache.get(loader));
+            assertEquals(1, count("stale"));
+
+            release.countDown();
+            assertEquals(2, reloaded.get(5, TimeUnit.SECONDS).getPageNo());
+            assertEquals(2, loads.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void coldStartLoadsOnceForConcurrentRequests() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<LightningListResponseDTO>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(() -> {
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return loader.get();
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<LightningListResponseDTO> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS).getPageNo());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
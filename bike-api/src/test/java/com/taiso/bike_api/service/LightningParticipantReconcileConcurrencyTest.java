@@ -0,0 +1,175 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taiso.bike_api.domain.LightningEntity;
+import com.taiso.bike_api.domain.LightningEntity.LightningStatus;
+import com.taiso.bike_api.domain.LightningUserEntity.ParticipantStatus;
+import com.taiso.bike_api.domain.UserEntity;
+import com.taiso.bike_api.domain.UserRoleEntity;
+import com.taiso.bike_api.domain.UserStatusEntity;
+import com.taiso.bike_api.exception.LightningFullMemberException;
+import com.taiso.bike_api.exception.LightningStatusMismatchException;
+import com.taiso.bike_api.repository.LightningRepository;
+import com.taiso.bike_api.repository.LightningUserRepository;
+import com.taiso.bike_api.repository.UserRepository;
+import com.taiso.bike_api.repository.UserRoleRepository;
+import com.taiso.bike_api.repository.UserStatusRepository;
+
+/**
+ * 참가 요청과 참여 인원 보정이 동시에 돌아도 보정이 커밋 전 참가를 빼고 인원을 덮어쓰지 않는지 확인합니다.
+ * 덮어쓰면 인원이 실제보다 작아져 정원을 넘는 참가가 통과합니다.
+ */
+@SpringBootTest
+class LightningParticipantReconcileConcurrencyTest {
+
+    private static final int CAPACITY = 50;
+    private static final int JOINERS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private LightningMemberService lightningMemberService;
+
+    @Autowired
+    private LightningParticipantReconcileService lightningParticipantReconcileService;
+
+    @Autowired
+    private LightningRepository lightningRepository;
+
+    @Autowired
+    private LightningUserRepository lightningUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private UserStatusRepository userStatusRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long lightningId;
+    private final List<UserEntity> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 회원가입과 같은 USER 역할 / ACTIVE 상태 사용 (없으면 생성)
+        UserRoleEntity role = userRoleRepository.findByRoleName("USER")
+                .orElseGet(() -> userRoleRepository.save(UserRoleEntity.builder().roleName("USER").build()));
+        UserStatusEntity status = userStatusRepository.findByStatusName("ACTIVE")
+                .orElseGet(() -> userStatusRepository.save(UserStatusEntity.builder().statusName("ACTIVE").build()));
+
+        String prefix = "reconcile-concurrency-" + System.nanoTime() + "-";
+        for (int i = 0; i < JOINERS; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .email(prefix + i + "@example.com")
+                    .password("encodedPassword")
+                    .role(role)
+                    .status(status)
+                    .build()));
+        }
+        LightningEntity lightning = LightningEntity.builder()
+                .creatorId(users.get(0).getUserId())
+                .title("reconcile concurrency test")
+                .description("concurrency test")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .duration(120)
+                .status(LightningStatus.모집)
+                .capacity(CAPACITY)
+                .latitude(new BigDecimal("37.566500"))
+                .longitude(new BigDecimal("126.978000"))
+                .gender(LightningEntity.Gender.자유)
+                .level(LightningEntity.Level.입문)
+                .recruitType(LightningEntity.RecruitType.참가형)
+                .bikeType(LightningEntity.BikeType.자유)
+                .region(LightningEntity.Region.서울)
+                .distance(30L)
+                .address("concurrency test")
+                .isClubOnly(false)
+                .build();
+        lightningId = lightningRepository.save(lightning).getLightningId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // lightning_user 가 lightning / user 를 참조하므로 먼저 삭제
+        lightningUserRepository.deleteAllInBatch(lightningUserRepository.findAllByLightning_LightningId(lightningId));
+        transactionTemplate.executeWithoutResult(status -> lightningRepository.deleteById(lightningId));
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    void reconcileDuringJoinsKeepsCountAndCapacity() throws Exception {
+        AtomicInteger joined = new AtomicInteger();
+        AtomicBoolean joining = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            // 참가가 모두 끝날 때까지 보정을 반복
+            Future<?> reconciler = executor.submit(() -> {
+                start.await();
+                while (joining.get()) {
+                    lightningParticipantReconcileService.reconcile();
+                }
+                return null;
+            });
+            List<Future<?>> futures = new ArrayList<>();
+            for (UserEntity user : users) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        lightningMemberService.JoinParticipants(lightningId,
+                                new UsernamePasswordAuthenticationToken(user.getEmail(), null));
+                        joined.incrementAndGet();
+                    } catch (LightningFullMemberException | LightningStatusMismatchException e) {
+                        // 정원 초과는 정상
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            try {
+                for (Future<?> future : futures) {
+                    future.get(120, TimeUnit.SECONDS);
+                }
+            } finally {
+                joining.set(false);
+            }
+            reconciler.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LightningEntity lightning = lightningRepository.findById(lightningId).orElseThrow();
+        int persisted = lightningUserRepository.countByLightning_LightningIdAndParticipantStatusIn(
+                lightningId, List.of(ParticipantStatus.승인, ParticipantStatus.완료));
+
+        assertEquals(CAPACITY, joined.get());
+        assertEquals(CAPACITY, persisted);
+        assertEquals(CAPACITY, lightning.getCurrentParticipants());
+        assertEquals(LightningStatus.마감, lightning.getStatus());
+    }
+}
@@ -0,0 +1,145 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Locale;
+
+import javax.xml.parsers.SAXParserFactory;
+
+import org.junit.jupiter.api.Test;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.taiso.bike_api.exception.InvalidFileExtensionException;
+import com.taiso.bike_api.util.TrackBuffer;
+
+class RouteCreateServiceParsingTest {
+
+    private final RouteCreateService service = new RouteCreateService();
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void parse(String xml, DefaultHandler handler) throws Exception {
+        SAXParserFactory.newInstance().newSAXParser().parse(stream(xml), handler);
+    }
+
+    private static String gpx(String trackPoints) {
+        return "<?xml version=\"1.0\"?><gpx><trk><trkseg>" + trackPoints + "</trkseg></trk></gpx>";
+    }
+
+    private static String tcx(String trackPoints) {
+        return "<?xml version=\"1.0\"?><TrainingCenterDatabase><Activities><Activity><Lap><Track>"
+                + trackPoints + "</Track></Lap></Activity></Activities></TrainingCenterDatabase>";
+    }
+
+    @Test
+    void gpxHandlerReadsEveryPointWithElevationAndTime() throws Exception {
+        RouteCreateService.GPXHandler handler = new RouteCreateService.GPXHandler();
+        parse(gpx("<trkpt lat=\"37.5\" lon=\"126.9\"><ele>12.5</ele><time>2025-03-01T00:00:00Z</time></trkpt>"
+                + "<trkpt lat=\"37.501\" lon=\"126.901\"><ele>15</ele><time>2025-03-01T00:00:10Z</time></trkpt>"
+                + "<trkpt lat=\"37.502\" lon=\"126.902\"></trkpt>"), handler);
+
+        TrackBuffer track = handler.getTrack();
+        assertEquals(3, track.size());
+        assertEquals(37.501, track.lat(1), 1e-9);
+        assertEquals(126.902, track.lon(2), 1e-9);
+        assertEquals(12.5f, track.ele(0));
+        assertEquals(Instant.parse("2025-03-01T00:00:10Z").toEpochMilli(), track.time(1));
+        // 고도 / 시간이 없는 포인트는 0 / NO_TIME
+        assertEquals(0f, track.ele(2));
+        assertEquals(TrackBuffer.NO_TIME, track.time(2));
+        assertEquals(3, handler.getStatistics().getPointCount());
+    }
+
+    @Test
+    void tcxHandlerSkipsTrackpointsWithoutPosition() throws Exception {
+        RouteCreateService.TCXHandler handler = new RouteCreateService.TCXHandler();
+        parse(tcx("<Trackpoint><Time>2025-03-01T00:00:00Z</Time><Position><LatitudeDegrees>37.5</LatitudeDegrees>"
+                + "<LongitudeDegrees>126.9</LongitudeDegrees></Position><AltitudeMeters>20</AltitudeMeters></Trackpoint>"
+                // 센서 기록만 있고 위치가 없는 포인트
+                + "<Trackpoint><Time>2025-03-01T00:00:05Z</Time><HeartRateBpm><Value>120</Value></HeartRateBpm></Trackpoint>"
+                + "<Trackpoint><Position><LatitudeDegrees>37.51</LatitudeDegrees>"
+                + "<LongitudeDegrees>126.91</LongitudeDegrees></Position></Trackpoint>"), handler);
+
+        TrackBuffer track = handler.getTrack();
+        assertEquals(2, track.size());
+        assertEquals(20f, track.ele(0));
+        assertEquals(Instant.parse("2025-03-01T00:00:00Z").toEpochMilli(), track.time(0));
+        // 이전 포인트의 고도 / 시간이 다음 포인트로 이어지지 않음
+        assertEquals(0f, track.ele(1));
+        assertEquals(TrackBuffer.NO_TIME, track.time(1));
+    }
+
+    @Test
+    void malformedValuesFallBackToDefaults() throws Exception {
+        RouteCreateService.GPXHandler handler = new RouteCreateService.GPXHandler();
+        parse(gpx("<trkpt lat=\"37.5\" lon=\"126.9\"><ele>n/a</ele><time>yesterday</time></trkpt>"), handler);
+
+        assertEquals(0f, handler.getTrack().ele(0));
+        assertEquals(TrackBuffer.NO_TIME, handler.getTrack().time(0));
+    }
+
+    @Test
+    void parseFileComputesStatisticsForGpxAndTcx() throws Exception {
+        // 위도 0.01 도 ≈ 1.11km, 고도 +10m
+        RouteCreateService.GPXData gpxData = service.parseFile("ride.GPX", stream(gpx(
+                "<trkpt lat=\"37.50\" lon=\"126.9\"><ele>10</ele></trkpt>"
+                + "<trkpt lat=\"37.51\" lon=\"126.9\"><ele>20</ele></trkpt>")));
+        RouteCreateService.GPXData tcxData = service.parseFile("ride.tcx", stream(tcx(
+                "<Trackpoint><Position><LatitudeDegrees>37.50</LatitudeDegrees><LongitudeDegrees>126.9</LongitudeDegrees>"
+                + "</Position><AltitudeMeters>10</AltitudeMeters></Trackpoint>"
+                + "<Trackpoint><Position><LatitudeDegrees>37.51</LatitudeDegrees><LongitudeDegrees>126.9</LongitudeDegrees>"
+                + "</Position><AltitudeMeters>20</AltitudeMeters></Trackpoint>")));
+
+        for (RouteCreateService.GPXData data : new RouteCreateService.GPXData[] { gpxData, tcxData }) {
+            assertEquals(1.11, data.getDistance().doubleValue(), 0.005);
+            assertEquals(10.0, data.getAltitude().doubleValue(), 1e-9);
+            assertEquals(2, data.getRoutePoints().size());
+        }
+    }
+
+    @Test
+    void emptyTrackIsRejected() {
+        assertThrows(InvalidFileExtensionException.class,
+                () -> service.parseFile("empty.gpx", stream(gpx(""))));
+        assertThrows(InvalidFileExtensionException.class,
+                () -> service.parseFile("empty.tcx", stream(tcx(""))));
+    }
+
+    @Test
+    void malformedInputIsRejected() {
+        // 닫히지 않은 태그
+        assertThrows(Exception.class,
+                () -> service.parseFile("broken.gpx", stream("<gpx><trk><trkseg><trkpt lat=\"37.5\" lon=\"126.9\">")));
+        // 외부 엔티티 (XXE) 차단
+        assertThrows(Exception.class, () -> service.parseFile("xxe.gpx", stream(
+                "<?xml version=\"1.0\"?><!DOCTYPE gpx [<!ENTITY x SYSTEM \"file:///etc/passwd\">]><gpx>&x;</gpx>")));
+        assertThrows(InvalidFileExtensionException.class,
+                () -> service.parseFile("ride.fit", stream(gpx(""))));
+        assertThrows(InvalidFileExtensionException.class,
+                () -> service.parseFile(null, stream(gpx(""))));
+    }
+
+    @Test
+    void simplifiedTrackKeepsEndpoints() throws Exception {
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            points.append(String.format(Locale.ROOT, "<trkpt lat=\"%.6f\" lon=\"%.6f\"><ele>10</ele></trkpt>",
+                    37.5 + i * 0.0001, 126.9 + Math.sin(i / 20.0) * 0.001));
+        }
+        RouteCreateService.GPXData data = service.parseFile("long.gpx", stream(gpx(points.toString())));
+
+        TrackBuffer simplified = data.getRoutePoints();
+        assertTrue(simplified.size() <= 1_000);
+        assertEquals(37.5, simplified.lat(0), 1e-6);
+        assertEquals(37.5 + 999 * 0.0001, simplified.lat(simplified.size() - 1), 1e-6);
+        assertEquals(1_000, data.getStatistics().getPointCount());
+    }
+}
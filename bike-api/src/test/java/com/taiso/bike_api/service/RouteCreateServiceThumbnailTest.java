@@ -0,0 +1,87 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.taiso.bike_api.util.RouteThumbnail;
+import com.taiso.bike_api.util.TrackBuffer;
+import com.taiso.bike_api.util.WebMercator;
+
+/**
+ * 네이버 렌더러가 상세 크기의 기본 지도 한 장으로 모든 크기의 썸네일을 만드는지 확인합니다.
+ * (네이버 API 대신 단색 기본 지도 사용)
+ */
+class RouteCreateServiceThumbnailTest {
+
+    private static final Color MAP_COLOR = new Color(0x3366CC);
+    private static final double CENTER_LAT = 37.5;
+    private static final double CENTER_LNG = 126.9;
+    private static final int ZOOM = 12;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static RouteCreateService.NaverBaseMap baseMap() {
+        BufferedImage image = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(MAP_COLOR);
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2d.dispose();
+        return new RouteCreateService.NaverBaseMap(image, CENTER_LAT, CENTER_LNG, WebMercator.worldSize(ZOOM, 4), ZOOM + 2);
+    }
+
+    // 지도 중심을 지나는 동서 방향 경로
+    private static TrackBuffer track() {
+        TrackBuffer track = new TrackBuffer();
+        track.add(CENTER_LAT, CENTER_LNG - 0.01, 0f, TrackBuffer.NO_TIME);
+        track.add(CENTER_LAT, CENTER_LNG, 0f, TrackBuffer.NO_TIME);
+        track.add(CENTER_LAT, CENTER_LNG + 0.01, 0f, TrackBuffer.NO_TIME);
+        return track;
+    }
+
+    @Test
+    void everySizeIsComposedFromOneBaseMap() throws IOException {
+        Map<RouteThumbnail, byte[]> thumbnails = RouteCreateService.composeNaverThumbnails(baseMap(), track(), executor);
+
+        assertEquals(EnumSet.allOf(RouteThumbnail.class), thumbnails.keySet());
+        for (Map.Entry<RouteThumbnail, byte[]> entry : thumbnails.entrySet()) {
+            RouteThumbnail size = entry.getKey();
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(entry.getValue()));
+            assertEquals(size.getWidth() * size.getScale(), image.getWidth(), size.name());
+            assertEquals(size.getHeight() * size.getScale(), image.getHeight(), size.name());
+        }
+    }
+
+    @Test
+    void routeStaysCenteredAfterDownscaleAndCrop() throws IOException {
+        Map<RouteThumbnail, byte[]> thumbnails = RouteCreateService.composeNaverThumbnails(baseMap(), track(), executor);
+
+        for (Map.Entry<RouteThumbnail, byte[]> entry : thumbnails.entrySet()) {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(entry.getValue()));
+            Color center = new Color(image.getRGB(image.getWidth() / 2, image.getHeight() / 2));
+            Color corner = new Color(image.getRGB(5, 5));
+            // 경로는 중심에 빨간색, 가장자리는 기본 지도 색 (JPEG 손실 고려)
+            assertTrue(center.getRed() > 180 && center.getBlue() < 100, entry.getKey() + " center " + center);
+            assertTrue(Math.abs(corner.getBlue() - MAP_COLOR.getBlue()) < 20, entry.getKey() + " corner " + corner);
+        }
+    }
+}
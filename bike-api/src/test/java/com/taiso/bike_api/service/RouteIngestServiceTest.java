@@ -0,0 +1,255 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taiso.bike_api.domain.RouteEntity;
+import com.taiso.bike_api.domain.RouteEntity.IngestStatus;
+import com.taiso.bike_api.dto.RoutePostRequestDTO;
+import com.taiso.bike_api.dto.RoutePostResponseDTO;
+import com.taiso.bike_api.exception.RouteIngestAccessDeniedException;
+import com.taiso.bike_api.exception.RouteIngestRejectedException;
+import com.taiso.bike_api.repository.LightningRepository;
+import com.taiso.bike_api.repository.RouteGeometryRepository;
+import com.taiso.bike_api.repository.RouteRepository;
+import com.taiso.bike_api.util.RouteThumbnail;
+import com.taiso.bike_api.util.TrackBuffer;
+
+class RouteIngestServiceTest {
+
+    private static final Long ROUTE_ID = 1L;
+
+    private final Authentication authentication = new TestingAuthenticationToken("rider@taiso.com", null);
+    private final MockMultipartFile file = new MockMultipartFile("file", "ride.gpx", "application/gpx+xml", new byte[] { 1, 2, 3 });
+
+    private RouteIngestService service;
+    private RouteRepository routeRepository;
+    private RouteGeometryRepository routeGeometryRepository;
+    private RouteCreateService routeCreateService;
+    private S3Service s3Service;
+    private RouteSpatialIndex routeSpatialIndex;
+    private RouteFingerprintIndex routeFingerprintIndex;
+    private TextSearchIndex textSearchIndex;
+    private RouteEntity route;
+
+    @BeforeEach
+    void setUp() {
+        routeRepository = mock(RouteRepository.class);
+        routeGeometryRepository = mock(RouteGeometryRepository.class);
+        routeCreateService = mock(RouteCreateService.class);
+        s3Service = mock(S3Service.class);
+        routeSpatialIndex = mock(RouteSpatialIndex.class);
+        routeFingerprintIndex = mock(RouteFingerprintIndex.class);
+        textSearchIndex = mock(TextSearchIndex.class);
+        UserService userService = mock(UserService.class);
+        when(userService.getUserIdByEmail("rider@taiso.com")).thenReturn(7L);
+        UserIdentityService userIdentityService = mock(UserIdentityService.class);
+        when(userIdentityService.getUserId(authentication)).thenReturn(7L);
+
+        service = new RouteIngestService();
+        ReflectionTestUtils.setField(service, "routeRepository", routeRepository);
+        ReflectionTestUtils.setField(service, "routeGeometryRepository", routeGeometryRepository);
+        ReflectionTestUtils.setField(service, "lightningRepository", mock(LightningRepository.class));
+        ReflectionTestUtils.setField(service, "routeCreateService", routeCreateService);
+        ReflectionTestUtils.setField(service, "s3Service", s3Service);
+        ReflectionTestUtils.setField(service, "routeSpatialIndex", routeSpatialIndex);
+        ReflectionTestUtils.setField(service, "routeFingerprintIndex", routeFingerprintIndex);
+        ReflectionTestUtils.setField(service, "textSearchIndex", textSearchIndex);
+        ReflectionTestUtils.setField(service, "userService", userService);
+        ReflectionTestUtils.setField(service, "userIdentityService", userIdentityService);
+        ReflectionTestUtils.setField(service, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        // 파이프라인을 요청 스레드에서 바로 실행
+        ReflectionTestUtils.setField(service, "routeIngestExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(service, "maxAttempts", 2);
+        ReflectionTestUtils.setField(service, "retryBackoffMs", 0L);
+        ReflectionTestUtils.setField(service, "failedRetentionDays", 7);
+
+        when(routeRepository.save(any(RouteEntity.class))).thenAnswer(invocation -> {
+            route = invocation.getArgument(0);
+            route.setRouteId(ROUTE_ID);
+            return route;
+        });
+        when(routeRepository.findById(ROUTE_ID)).thenAnswer(invocation -> Optional.ofNullable(route));
+    }
+
+    private static RoutePostRequestDTO request() {
+        RoutePostRequestDTO dto = new RoutePostRequestDTO();
+        dto.setRouteName("한강 라이딩");
+        return dto;
+    }
+
+    private void parsesSuccessfully() throws Exception {
+        TrackBuffer track = new TrackBuffer();
+        track.add(37.5, 126.9, 10f, TrackBuffer.NO_TIME);
+        track.add(37.51, 126.9, 20f, TrackBuffer.NO_TIME);
+        when(routeCreateService.parseFile(eq("ride.gpx"), any(InputStream.class)))
+                .thenReturn(new RouteCreateService.GPXData(new BigDecimal("1.11"), BigDecimal.TEN, track, null));
+    }
+
+    @Test
+    void submitStoresPendingRouteAndCompletesPipeline() throws Exception {
+        parsesSuccessfully();
+        when(routeCreateService.generateThumbnails(any())).thenReturn(Map.of(RouteThumbnail.CARD, new byte[] { 9 }));
+        when(s3Service.generatePresignedUrl(anyString(), eq(24))).thenReturn("https://s3/ride.gpx");
+
+        RoutePostResponseDTO response = service.submit(request(), file, authentication);
+
+        assertEquals(ROUTE_ID, response.getRouteId());
+        assertEquals(7L, (long) route.getUserId());
+        verify(routeRepository).updateIngestStatus(ROUTE_ID, IngestStatus.파싱중, null);
+        verify(routeRepository).updateIngestStatus(ROUTE_ID, IngestStatus.렌더링중, null);
+        verify(routeRepository).updateIngestStatus(ROUTE_ID, IngestStatus.업로드중, null);
+        verify(routeCreateService).saveRoutePoints(eq(route), any(TrackBuffer.class), any());
+        verify(s3Service, times(2)).uploadFile(any(byte[].class), anyString(), any());
+        assertEquals(IngestStatus.완료, route.getIngestStatus());
+        assertEquals("https://s3/ride.gpx", route.getOriginalFilePath());
+        assertEquals(0, route.getDistance().compareTo(new BigDecimal("1.11")));
+        verify(routeSpatialIndex).update(route);
+        verify(routeFingerprintIndex).update(route);
+        verify(textSearchIndex).update(route);
+    }
+
+    @Test
+    void failingStageIsRetriedThenMarksRouteFailed() throws Exception {
+        parsesSuccessfully();
+        when(routeCreateService.generateThumbnails(any())).thenThrow(new IllegalStateException("지도 서버 응답 없음"));
+
+        service.submit(request(), file, authentication);
+
+        verify(routeCreateService, times(2)).generateThumbnails(any());
+        verify(routeRepository).updateIngestStatus(eq(ROUTE_ID), eq(IngestStatus.실패), contains("정적 지도 렌더링 실패 (2회 시도)"));
+        verify(s3Service, never()).uploadFile(any(byte[].class), anyString(), any());
+        verify(routeSpatialIndex, never()).update(any());
+        verify(textSearchIndex, never()).update(any(RouteEntity.class));
+    }
+
+    @Test
+    void parseFailureMarksRouteFailedWithoutRetry() throws Exception {
+        when(routeCreateService.parseFile(eq("ride.gpx"), any(InputStream.class))).thenThrow(new IllegalArgumentException("broken"));
+
+        service.submit(request(), file, authentication);
+
+        verify(routeCreateService, times(1)).parseFile(eq("ride.gpx"), any(InputStream.class));
+        verify(routeRepository).updateIngestStatus(eq(ROUTE_ID), eq(IngestStatus.실패), contains("파싱"));
+        verify(routeRepository, never()).updateIngestStatus(ROUTE_ID, IngestStatus.렌더링중, null);
+    }
+
+    @Test
+    void unexpectedFailureStoresFixedMessageInsteadOfExceptionText() throws Exception {
+        parsesSuccessfully();
+        doThrow(new IllegalStateException("Duplicate entry 'x' for key 'route_point.PRIMARY'"))
+                .when(routeCreateService).saveRoutePoints(any(), any(), any());
+
+        service.submit(request(), file, authentication);
+
+        verify(routeRepository).updateIngestStatus(ROUTE_ID, IngestStatus.실패, "업로드 처리 중 오류가 발생했습니다. 다시 업로드해주세요.");
+        verify(routeRepository, never()).updateIngestStatus(eq(ROUTE_ID), eq(IngestStatus.실패), contains("Duplicate"));
+    }
+
+    @Test
+    void similarRoutesAreRecordedBeforeRendering() throws Exception {
+        parsesSuccessfully();
+        when(routeFingerprintIndex.findUploadDuplicates(any(), eq(ROUTE_ID))).thenReturn(List.of(3L, 4L));
+        when(routeCreateService.generateThumbnails(any())).thenThrow(new IllegalStateException("지도 서버 응답 없음"));
+
+        service.submit(request(), file, authentication);
+
+        // 렌더링이 실패해도 파싱 직후 찾은 같은 코스는 남아 있다
+        assertEquals("3,4", route.getIngestSimilarRouteIds());
+        assertEquals(List.of(3L, 4L), service.getStatus(ROUTE_ID, authentication).getSimilarRouteIds());
+        verify(routeFingerprintIndex, never()).update(any());
+    }
+
+    @Test
+    void joinedRouteIdsFitTheColumn() {
+        List<Long> routeIds = Collections.nCopies(20, Long.MAX_VALUE);
+
+        String joined = RouteIngestService.joinRouteIds(routeIds);
+
+        assertTrue(joined.length() <= 255);
+        assertEquals(12, RouteIngestService.splitRouteIds(joined).size());
+        assertNull(RouteIngestService.joinRouteIds(List.of()));
+        assertEquals(List.of(), RouteIngestService.splitRouteIds(null));
+    }
+
+    @Test
+    void statusIsVisibleOnlyToUploader() {
+        route = RouteEntity.builder().routeId(ROUTE_ID).userId(8L).ingestStatus(IngestStatus.렌더링중).build();
+
+        assertThrows(RouteIngestAccessDeniedException.class, () -> service.getStatus(ROUTE_ID, authentication));
+
+        route.setUserId(7L);
+        assertEquals("렌더링중", service.getStatus(ROUTE_ID, authentication).getStatus());
+    }
+
+    @Test
+    void purgeDeletesFailedRoutesPastRetentionOnly() {
+        route = RouteEntity.builder().routeId(ROUTE_ID).ingestStatus(IngestStatus.실패)
+                .updatedAt(LocalDateTime.now().minusDays(8)).build();
+        RouteEntity retried = RouteEntity.builder().routeId(2L).ingestStatus(IngestStatus.완료)
+                .updatedAt(LocalDateTime.now().minusDays(8)).build();
+        when(routeRepository.findById(2L)).thenReturn(Optional.of(retried));
+        when(routeRepository.findFailedIngestIds(eq(0L), eq(IngestStatus.실패), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(ROUTE_ID, 2L));
+
+        assertEquals(1, service.purgeFailedIngests());
+
+        verify(routeGeometryRepository).deleteByRouteId(ROUTE_ID);
+        verify(routeRepository).delete(route);
+        verify(routeRepository, never()).delete(retried);
+    }
+
+    @Test
+    void fullQueueMarksRouteFailedAndRejects() {
+        ReflectionTestUtils.setField(service, "routeIngestExecutor", (Executor) task -> {
+            throw new RejectedExecutionException();
+        });
+
+        assertThrows(RouteIngestRejectedException.class, () -> service.submit(request(), file, authentication));
+        verify(routeRepository).updateIngestStatus(eq(ROUTE_ID), eq(IngestStatus.실패), anyString());
+    }
+
+    @Test
+    void failInterruptedIngestsFailsEveryInProgressStatus() {
+        when(routeRepository.failInterruptedIngests(any(), any(), anyString())).thenReturn(2);
+
+        service.failInterruptedIngests();
+
+        verify(routeRepository).failInterruptedIngests(
+                eq(EnumSet.of(IngestStatus.처리대기, IngestStatus.파싱중, IngestStatus.렌더링중, IngestStatus.업로드중)),
+                eq(IngestStatus.실패), anyString());
+    }
+}
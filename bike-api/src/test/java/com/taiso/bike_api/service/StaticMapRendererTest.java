@@ -0,0 +1,188 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.taiso.bike_api.util.RouteThumbnail;
+import com.taiso.bike_api.util.TrackBuffer;
+
+/**
+ * 원격 타일 서버 대신 단색 타일을 만들어 주는 로컬 TileSource 로 렌더러를 검증합니다.
+ */
+class StaticMapRendererTest {
+
+    private static final Color TILE_COLOR = new Color(0x3366CC);
+
+    @TempDir
+    Path cacheDir;
+
+    private ExecutorService executor;
+    private LocalTileSource tileSource;
+    private DiskTileCache cache;
+    private StaticMapRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        tileSource = new LocalTileSource();
+        cache = new DiskTileCache(cacheDir, 64L * 1024 * 1024);
+        renderer = new StaticMapRenderer(tileSource, cache, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rendersTilesAndRouteAtRequestedSize() throws IOException {
+        TrackBuffer track = hanRiverTrack();
+
+        byte[] png = renderer.render(track, 37.50, 126.90, 37.56, 127.00, 400, 300, 2);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(800, image.getWidth());
+        assertEquals(600, image.getHeight());
+        assertTrue(tileSource.calls.get() > 0);
+        // 배경은 타일 색, 경로 중심 부근에는 빨간 선이 그려져야 함
+        assertEquals(TILE_COLOR.getRGB(), image.getRGB(5, 5));
+        assertTrue(containsRed(image), "경로 폴리라인이 그려져야 합니다.");
+    }
+
+    @Test
+    void secondRenderOfSameAreaUsesOnlyCachedTiles() {
+        TrackBuffer track = hanRiverTrack();
+        renderer.render(track, 37.50, 126.90, 37.56, 127.00, 400, 300, 2);
+        int remoteCalls = tileSource.calls.get();
+
+        renderer.render(track, 37.50, 126.90, 37.56, 127.00, 400, 300, 2);
+
+        assertEquals(remoteCalls, tileSource.calls.get());
+        assertTrue(cache.getHits() >= remoteCalls);
+    }
+
+    @Test
+    void rendersAllThumbnailSizesFetchingEachTileOnce() throws IOException {
+        TrackBuffer track = hanRiverTrack();
+
+        Map<RouteThumbnail, byte[]> thumbnails = renderer.renderAll(track, 37.50, 126.90, 37.56, 127.00,
+                EnumSet.allOf(RouteThumbnail.class));
+
+        assertEquals(RouteThumbnail.values().length, thumbnails.size());
+        for (RouteThumbnail size : RouteThumbnail.values()) {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnails.get(size)));
+            assertEquals(size.getWidth() * size.getScale(), image.getWidth(), size.name());
+            assertEquals(size.getHeight() * size.getScale(), image.getHeight(), size.name());
+            assertTrue(containsRed(image), size.name() + " 경로 폴리라인이 그려져야 합니다.");
+        }
+        // 크기 간 겹치는 타일은 한 번만 요청
+        assertEquals(cache.size(), tileSource.calls.get());
+        assertTrue(thumbnails.get(RouteThumbnail.CARD).length < thumbnails.get(RouteThumbnail.DETAIL).length);
+    }
+
+    @Test
+    void composesThumbnailsOnRenderExecutor() {
+        AtomicInteger renderTasks = new AtomicInteger();
+        ExecutorService renderPool = Executors.newFixedThreadPool(2);
+        try {
+            StaticMapRenderer pooled = new StaticMapRenderer(tileSource, cache, executor, task -> {
+                renderTasks.incrementAndGet();
+                renderPool.execute(task);
+            }, null);
+
+            Map<RouteThumbnail, byte[]> thumbnails = pooled.renderAll(hanRiverTrack(), 37.50, 126.90, 37.56, 127.00,
+                    EnumSet.allOf(RouteThumbnail.class));
+
+            assertEquals(RouteThumbnail.values().length, thumbnails.size());
+            assertEquals(RouteThumbnail.values().length, renderTasks.get());
+        } finally {
+            renderPool.shutdownNow();
+        }
+    }
+
+    @Test
+    void drawsAttributionOnlyWhenConfigured() throws IOException {
+        TrackBuffer track = hanRiverTrack();
+        StaticMapRenderer attributed = new StaticMapRenderer(tileSource, cache, executor, Runnable::run, "© Local Tiles");
+
+        BufferedImage plain = ImageIO.read(new ByteArrayInputStream(
+                renderer.render(track, 37.50, 126.90, 37.56, 127.00, 400, 300, 1)));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                attributed.render(track, 37.50, 126.90, 37.56, 127.00, 400, 300, 1)));
+
+        // 출처 상자는 우측 하단 모서리에만 그려짐
+        assertEquals(TILE_COLOR.getRGB(), plain.getRGB(399, 299));
+        assertTrue(image.getRGB(399, 299) != TILE_COLOR.getRGB());
+        assertEquals(TILE_COLOR.getRGB(), image.getRGB(5, 5));
+        assertEquals(TILE_COLOR.getRGB(), image.getRGB(5, 295));
+    }
+
+    private static boolean containsRed(BufferedImage image) {
+        for (int y = 0; y < image.getHeight(); y += 2) {
+            for (int x = 0; x < image.getWidth(); x += 2) {
+                Color color = new Color(image.getRGB(x, y));
+                if (color.getRed() > 200 && color.getGreen() < 80 && color.getBlue() < 80) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static TrackBuffer hanRiverTrack() {
+        TrackBuffer track = new TrackBuffer();
+        for (int i = 0; i <= 1_000; i++) {
+            double t = i / 1_000.0;
+            track.add(37.50 + 0.06 * t, 126.90 + 0.10 * t + Math.sin(t * 20) * 0.002, 10f, TrackBuffer.NO_TIME);
+        }
+        return track;
+    }
+
+    // 요청 횟수를 세는 단색 타일 공급자
+    private static class LocalTileSource implements TileSource {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return "local";
+        }
+
+        @Override
+        public byte[] fetchTile(int zoom, int x, int y) {
+            calls.incrementAndGet();
+            BufferedImage tile = new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2d = tile.createGraphics();
+            g2d.setColor(TILE_COLOR);
+            g2d.fillRect(0, 0, 256, 256);
+            g2d.dispose();
+            try {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                ImageIO.write(tile, "png", baos);
+                return baos.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
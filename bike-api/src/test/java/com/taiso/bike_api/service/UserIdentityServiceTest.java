@@ -0,0 +1,143 @@
+package com.taiso.bike_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.taiso.bike_api.exception.UserNotFoundException;
+import com.taiso.bike_api.repository.UserRepository;
+import com.taiso.bike_api.security.UserIdentity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserIdentityServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserIdentityService service = new UserIdentityService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxSize", 2);
+        ReflectionTestUtils.setField(service, "ttlMs", 300_000L);
+        service.registerMetrics();
+        when(userRepository.findIdentityByEmail(anyString())).thenAnswer(invocation -> {
+            String email = invocation.getArgument(0);
+            return email.startsWith("ghost") ? Optional.empty() : Optional.of(identity(email));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static UserIdentity identity(String email) {
+        return new UserIdentity((long) email.hashCode(), email, "USER", "라이더", null, null);
+    }
+
+    @Test
+    void repeatedLookupIsServedFromCache() {
+        service.find("a@taiso.com");
+        assertEquals((long) "a@taiso.com".hashCode(), service.findUserId("a@taiso.com"));
+
+        verify(userRepository, times(1)).findIdentityByEmail("a@taiso.com");
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedOverMaxSize() {
+        service.find("a@taiso.com");
+        service.find("b@taiso.com");
+        // a 를 다시 사용해 b 가 가장 오래된 항목이 됨
+        service.find("a@taiso.com");
+        service.find("c@taiso.com");
+
+        service.find("a@taiso.com");
+        service.find("b@taiso.com");
+
+        verify(userRepository, times(1)).findIdentityByEmail("a@taiso.com");
+        verify(userRepository, times(2)).findIdentityByEmail("b@taiso.com");
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        ReflectionTestUtils.setField(service, "ttlMs", 0L);
+
+        service.find("a@taiso.com");
+        service.find("a@taiso.com");
+
+        verify(userRepository, times(2)).findIdentityByEmail("a@taiso.com");
+    }
+
+    @Test
+    void requestScopeCacheServesRepeatedLookupsInOneRequest() {
+        // 공용 캐시는 바로 만료되도록 해 요청 범위 캐시만으로 재사용되는지 확인
+        ReflectionTestUtils.setField(service, "ttlMs", 0L);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        service.find("a@taiso.com");
+        service.find("a@taiso.com");
+        verify(userRepository, times(1)).findIdentityByEmail("a@taiso.com");
+
+        // 다음 요청은 새 요청 범위 캐시를 사용
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        service.find("a@taiso.com");
+        verify(userRepository, times(2)).findIdentityByEmail("a@taiso.com");
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        assertNull(service.findUserId("ghost@taiso.com"));
+        assertThrows(UserNotFoundException.class, () -> service.get("ghost@taiso.com"));
+
+        verify(userRepository, times(2)).findIdentityByEmail("ghost@taiso.com");
+    }
+
+    @Test
+    void evictInTransactionEvictsAgainAfterCommit() {
+        service.find("a@taiso.com");
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.evict("a@taiso.com");
+        // 커밋 전에 다른 요청이 옛 값을 다시 적재
+        service.find("a@taiso.com");
+        verify(userRepository, times(2)).findIdentityByEmail("a@taiso.com");
+
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        service.find("a@taiso.com");
+        verify(userRepository, times(3)).findIdentityByEmail("a@taiso.com");
+    }
+
+    @Test
+    void evictByUserIdRemovesMatchingEmail() {
+        service.find("a@taiso.com");
+
+        service.evictByUserId((long) "a@taiso.com".hashCode());
+        service.find("a@taiso.com");
+
+        verify(userRepository, times(2)).findIdentityByEmail("a@taiso.com");
+    }
+}
@@ -0,0 +1,54 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class AfterCommitTest {
+
+    private final List<String> applied = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void runsImmediatelyOutsideTransaction() {
+        AfterCommit.run(() -> applied.add("put"));
+
+        assertEquals(List.of("put"), applied);
+    }
+
+    @Test
+    void waitsForCommitInsideTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(() -> applied.add("put"));
+        assertTrue(applied.isEmpty());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertEquals(List.of("put"), applied);
+    }
+
+    @Test
+    void isDroppedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(() -> applied.add("put"));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(applied.isEmpty());
+    }
+}
@@ -0,0 +1,63 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BoxGridIndexTest {
+
+    @Test
+    void matchesBruteForceIncludingOversizedBoxes() {
+        BoxGridIndex<Integer> index = new BoxGridIndex<>(0.1, 64);
+        Random random = new Random(7);
+        List<double[]> boxes = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            double lat = 33 + random.nextDouble() * 5;
+            double lon = 125 + random.nextDouble() * 5;
+            // 대부분 수 km, 일부는 격자 수십 칸을 넘는 긴 루트
+            double span = i % 100 == 0 ? 2.0 : random.nextDouble() * 0.3;
+            double[] box = { lat, lon, lat + span, lon + span * 1.2 };
+            boxes.add(box);
+            index.put(i, box[0], box[1], box[2], box[3]);
+        }
+
+        double[][] viewports = {
+                { 37.4, 126.8, 37.7, 127.2 },
+                { 35.0, 128.9, 35.3, 129.3 },
+                { 30.0, 120.0, 40.0, 135.0 }, // 전체보다 넓은 영역
+                { 50.0, 10.0, 51.0, 11.0 }    // 빈 영역
+        };
+        for (double[] viewport : viewports) {
+            HashSet<Integer> expected = new HashSet<>();
+            for (int i = 0; i < boxes.size(); i++) {
+                double[] box = boxes.get(i);
+                if (box[0] <= viewport[2] && viewport[0] <= box[2] && box[1] <= viewport[3] && viewport[1] <= box[3]) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> actual = index.intersecting(viewport[0], viewport[1], viewport[2], viewport[3]);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+        }
+    }
+
+    @Test
+    void replaceAndRemove() {
+        BoxGridIndex<Long> index = new BoxGridIndex<>(0.1, 64);
+        index.put(1L, 37.5, 127.0, 37.6, 127.1);
+        index.put(1L, 35.1, 129.0, 35.2, 129.1);
+
+        assertTrue(index.intersecting(37.5, 127.0, 37.6, 127.1).isEmpty());
+        assertEquals(List.of(1L), index.intersecting(35.0, 128.9, 35.15, 129.05));
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertTrue(index.intersecting(35.0, 128.9, 35.3, 129.3).isEmpty());
+    }
+}
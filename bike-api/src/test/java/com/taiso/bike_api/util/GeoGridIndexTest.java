@@ -0,0 +1,70 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class GeoGridIndexTest {
+
+    @Test
+    void matchesBruteForceSortedByDistance() {
+        GeoGridIndex<Integer> index = new GeoGridIndex<>(0.05);
+        Random random = new Random(42);
+        double[][] points = new double[5_000][];
+        for (int i = 0; i < points.length; i++) {
+            // 한반도 주변
+            points[i] = new double[] { 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5 };
+            index.put(i, points[i][0], points[i][1]);
+        }
+
+        double lat = 37.5665;
+        double lon = 126.9780;
+        double radius = 20_000;
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < points.length; i++) {
+            if (GeoGridIndex.distanceMeters(lat, lon, points[i][0], points[i][1]) <= radius) {
+                expected.add(i);
+            }
+        }
+        expected.sort((a, b) -> Double.compare(
+                GeoGridIndex.distanceMeters(lat, lon, points[a][0], points[a][1]),
+                GeoGridIndex.distanceMeters(lat, lon, points[b][0], points[b][1])));
+
+        List<Integer> actual = new ArrayList<>();
+        for (GeoGridIndex.Hit<Integer> hit : index.within(lat, lon, radius)) {
+            actual.add(hit.getKey());
+        }
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void moveAndRemoveUpdateCells() {
+        GeoGridIndex<Long> index = new GeoGridIndex<>(0.05);
+        index.put(1L, 37.5, 127.0);
+        index.put(1L, 35.1, 129.0);
+
+        assertTrue(index.within(37.5, 127.0, 1_000).isEmpty());
+        assertEquals(1, index.within(35.1, 129.0, 1_000).size());
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertTrue(index.within(35.1, 129.0, 1_000).isEmpty());
+    }
+
+    @Test
+    void searchCrossesAntimeridian() {
+        GeoGridIndex<Long> index = new GeoGridIndex<>(0.05);
+        index.put(1L, 0.0, -179.99);
+
+        List<GeoGridIndex.Hit<Long>> hits = index.within(0.0, 179.99, 5_000);
+        assertEquals(1, hits.size());
+        assertEquals(2_224, hits.get(0).getDistanceMeters(), 1.0);
+    }
+}
@@ -0,0 +1,61 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private final HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1_000, 8, 0);
+
+    @Test
+    void expiresAtTickContainingDeadline() {
+        wheel.schedule(1L, 5_500);
+
+        assertTrue(wheel.advance(4_999).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(5_000));
+        assertFalse(wheel.contains(1L));
+    }
+
+    @Test
+    void cascadesFromUpperLevels() {
+        // 8초 / 64초 / 512초 단위 단계를 모두 거치는 시각
+        long deadline = 3 * 512_000 + 77_000;
+        wheel.schedule(7L, deadline);
+
+        List<Long> expired = new ArrayList<>();
+        long now = 0;
+        while (expired.isEmpty()) {
+            now += 1_000;
+            expired.addAll(wheel.advance(now));
+        }
+        assertEquals(List.of(7L), expired);
+        assertEquals(deadline, now);
+    }
+
+    @Test
+    void rescheduleAndCancelReplacePreviousEntry() {
+        wheel.schedule(1L, 2_000);
+        wheel.schedule(1L, 20_000);
+        wheel.schedule(2L, 3_000);
+        assertTrue(wheel.cancel(2L));
+
+        assertTrue(wheel.advance(10_000).isEmpty());
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(1L), wheel.advance(21_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextAdvance() {
+        wheel.advance(100_000);
+        wheel.schedule(3L, 50_000);
+
+        assertEquals(List.of(3L), wheel.advance(100_000));
+    }
+}
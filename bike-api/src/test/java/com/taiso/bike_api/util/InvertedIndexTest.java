@@ -0,0 +1,83 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    private static InvertedIndex<Long> sampleIndex() {
+        InvertedIndex<Long> index = new InvertedIndex<>();
+        index.put(1L, "한강 자전거길 일주", "반포에서 출발하는 한강 코스");
+        index.put(2L, "북한산 업힐", "한강은 지나가지 않습니다");
+        index.put(3L, "남산 야간 라이딩", "서울 도심 코스");
+        index.put(4L, "Han River Night Ride", "seoul 10km");
+        return index;
+    }
+
+    @Test
+    void tokenizesHangulAsBigramsAndOtherWordsWhole() {
+        assertEquals(List.of("한강", "강라", "라이", "이딩", "10km", "han", "river"),
+                KoreanNgramTokenizer.tokens("한강라이딩 10KM, Han-River"));
+        // 조사가 붙어도 같은 2-gram 을 포함
+        assertTrue(KoreanNgramTokenizer.tokens("한강을").contains("한강"));
+    }
+
+    @Test
+    void ranksTitleMatchesFirst() {
+        List<InvertedIndex.Hit<Long>> hits = sampleIndex().search("한강 자전거", 10, null);
+
+        assertEquals(2, hits.size());
+        assertEquals(1L, (long) hits.get(0).getKey());
+        assertEquals(2L, (long) hits.get(1).getKey());
+        assertEquals(4L, (long) sampleIndex().search("river", 10, null).get(0).getKey());
+        assertTrue(sampleIndex().search("한강", 10, key -> key != 1L).stream().noneMatch(hit -> hit.getKey() == 1L));
+    }
+
+    @Test
+    void suggestsByTitlePrefixAndInfix() {
+        InvertedIndex<Long> index = sampleIndex();
+
+        // 띄어쓰기 없이 입력해도 제목 시작 일치
+        assertEquals(1L, (long) index.suggest("한강자", 5, null).get(0).getKey());
+        assertEquals(1L, (long) index.suggest("한강 자", 5, null).get(0).getKey());
+        // 단어 중간 일치 (자전거길 ← 전거)
+        assertEquals(1L, (long) index.suggest("전거", 5, null).get(0).getKey());
+        assertEquals(4L, (long) index.suggest("night", 5, null).get(0).getKey());
+        assertTrue(index.suggest("  ", 5, null).isEmpty());
+    }
+
+    @Test
+    void titleStartMatchSurvivesCandidateCapOnWideRange() {
+        InvertedIndex<Long> index = new InvertedIndex<>();
+        // "한강가" 의 접미어 "강가" 는 사전 순으로 "강화도일주" 보다 앞서고, 후보 상한(1000)보다 많음
+        for (long id = 1; id <= 1200; id++) {
+            index.put(id, "한강가 " + id, "");
+        }
+        index.put(5000L, "강화도 일주", "");
+
+        List<InvertedIndex.Hit<Long>> hits = index.suggest("강", 5, null);
+
+        assertEquals(5, hits.size());
+        assertEquals(5000L, (long) hits.get(0).getKey());
+        assertEquals(2.0, hits.get(0).getScore());
+        // 제목 시작 일치 다음은 단어 중간 일치
+        assertEquals(0.0, hits.get(1).getScore());
+    }
+
+    @Test
+    void replaceAndRemoveUpdateOnlyThatDocument() {
+        InvertedIndex<Long> index = sampleIndex();
+
+        index.put(1L, "남산 순환", "");
+        index.remove(2L);
+
+        assertEquals(3, index.size());
+        assertTrue(index.search("한강", 10, null).isEmpty());
+        assertTrue(index.suggest("자전", 10, null).isEmpty());
+        assertEquals(2, index.search("남산", 10, null).size());
+    }
+}
@@ -0,0 +1,57 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RouteFingerprintTest {
+
+    // 중심 (lat, lon) 둘레를 도는 순환 경로, 포인트 수 / 시작 위치 / GPS 노이즈가 다르게 만들 수 있음
+    private static TrackBuffer loop(double lat, double lon, int points, double startAngle, long seed) {
+        Random random = new Random(seed);
+        TrackBuffer track = new TrackBuffer();
+        for (int i = 0; i <= points; i++) {
+            double angle = startAngle + 2 * Math.PI * i / points;
+            track.add(lat + 0.03 * Math.sin(angle) + random.nextGaussian() * 0.00008,
+                    lon + 0.0375 * Math.cos(angle) + random.nextGaussian() * 0.00008, 0f, TrackBuffer.NO_TIME);
+        }
+        return track;
+    }
+
+    @Test
+    void sameLoopUploadedDifferentlyIsSimilar() {
+        int[] original = RouteFingerprint.signature(loop(37.52, 126.98, 400, 0, 1));
+        int[] reupload = RouteFingerprint.signature(loop(37.52, 126.98, 120, 0.3, 2));
+        int[] shifted = RouteFingerprint.signature(loop(37.55, 127.02, 400, 0, 3));
+
+        assertTrue(RouteFingerprint.similarity(original, reupload) > 0.8);
+        assertTrue(RouteFingerprint.similarity(original, shifted) < 0.1);
+    }
+
+    @Test
+    void lshIndexReturnsOnlyNearDuplicates() {
+        MinHashLshIndex<Long> index = new MinHashLshIndex<>();
+        int[] original = RouteFingerprint.signature(loop(37.52, 126.98, 400, 0, 1));
+        index.put(1L, original);
+        index.put(2L, RouteFingerprint.signature(loop(37.52, 126.98, 120, 0.3, 2)));
+        index.put(3L, RouteFingerprint.signature(loop(35.10, 129.00, 400, 0, 3)));
+
+        List<MinHashLshIndex.Match<Long>> matches = index.similar(original, 0.5, 10, 1L);
+        assertEquals(1, matches.size());
+        assertEquals(2L, matches.get(0).getKey());
+
+        index.remove(2L);
+        assertTrue(index.similar(original, 0.5, 10, 1L).isEmpty());
+    }
+
+    @Test
+    void encodeRoundTrip() {
+        int[] signature = RouteFingerprint.signature(loop(37.52, 126.98, 50, 0, 1));
+        assertArrayEquals(signature, RouteFingerprint.decode(RouteFingerprint.encode(signature)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class RouteGeometryCodecTest {
+
+    private static TrackBuffer roundTrip(TrackBuffer track) {
+        byte[] encoded = RouteGeometryCodec.encode(track);
+        assertEquals(track.size(), RouteGeometryCodec.pointCount(encoded));
+        return RouteGeometryCodec.decode(encoded);
+    }
+
+    private static void assertSameTrack(TrackBuffer expected, TrackBuffer actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            // 위경도 1e-6 도, 고도 1cm 단위로 반올림
+            assertEquals(expected.lat(i), actual.lat(i), 5e-7);
+            assertEquals(expected.lon(i), actual.lon(i), 5e-7);
+            assertEquals(expected.ele(i), actual.ele(i), 5e-3);
+        }
+    }
+
+    @Test
+    void emptyTrack() {
+        byte[] encoded = RouteGeometryCodec.encode(new TrackBuffer());
+
+        assertEquals(2, encoded.length);
+        assertEquals(0, RouteGeometryCodec.decode(encoded).size());
+        assertEquals(0, RouteGeometryCodec.decode(null).size());
+        assertEquals(0, RouteGeometryCodec.pointCount(new byte[0]));
+    }
+
+    @Test
+    void singlePoint() {
+        TrackBuffer track = new TrackBuffer();
+        track.add(37.566535, 126.977969, 38.25f, TrackBuffer.NO_TIME);
+
+        assertSameTrack(track, roundTrip(track));
+    }
+
+    @Test
+    void negativeCoordinatesAndElevation() {
+        TrackBuffer track = new TrackBuffer();
+        track.add(-33.868820, 151.209296, 3f, TrackBuffer.NO_TIME);
+        track.add(-33.869, -70.6693, -12.5f, TrackBuffer.NO_TIME);
+        track.add(-89.999999, -179.999999, -415.3f, TrackBuffer.NO_TIME);
+        track.add(89.999999, 179.999999, 8848.86f, TrackBuffer.NO_TIME);
+
+        assertSameTrack(track, roundTrip(track));
+    }
+
+    @Test
+    void missingElevationAndTime() {
+        TrackBuffer track = new TrackBuffer();
+        // 파서는 고도가 없으면 0, 시간이 없으면 NO_TIME 으로 기록
+        track.add(37.5, 126.9, 0f, TrackBuffer.NO_TIME);
+        track.add(37.501, 126.901, 0f, 1_740_787_200_000L);
+
+        TrackBuffer decoded = roundTrip(track);
+
+        assertSameTrack(track, decoded);
+        // 시간은 저장하지 않음
+        assertEquals(TrackBuffer.NO_TIME, decoded.time(0));
+        assertEquals(TrackBuffer.NO_TIME, decoded.time(1));
+    }
+
+    @Test
+    void truncatedOrCorruptBlobIsRejected() {
+        TrackBuffer track = new TrackBuffer();
+        for (int i = 0; i < 100; i++) {
+            track.add(37.5 + i * 0.0013, 126.9 - i * 0.0021, i * 1.5f, TrackBuffer.NO_TIME);
+        }
+        byte[] encoded = RouteGeometryCodec.encode(track);
+
+        for (int length : new int[] { 1, 2, encoded.length / 2, encoded.length - 1 }) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> RouteGeometryCodec.decode(truncated), "length " + length);
+        }
+        byte[] wrongVersion = encoded.clone();
+        wrongVersion[0] = 9;
+        assertThrows(IllegalArgumentException.class, () -> RouteGeometryCodec.decode(wrongVersion));
+    }
+}
@@ -0,0 +1,87 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TrackSimplifierTest {
+
+    // 위도 방향으로 진행하면서 경도가 무작위로 흔들리는 트랙 (단순화로 줄이기 어려운 입력)
+    private static TrackBuffer noisyTrack(int points, double amplitude, long seed) {
+        Random random = new Random(seed);
+        TrackBuffer track = new TrackBuffer(points);
+        for (int i = 0; i < points; i++) {
+            track.add(37.5 + i * 0.00005, 126.9 + random.nextGaussian() * amplitude, 10f, TrackBuffer.NO_TIME);
+        }
+        return track;
+    }
+
+    private static TrackBuffer line(int points, double lat, double lon, double step) {
+        TrackBuffer track = new TrackBuffer(points);
+        for (int i = 0; i < points; i++) {
+            track.add(lat + i * step, lon + i * step * 2, 0f, TrackBuffer.NO_TIME);
+        }
+        return track;
+    }
+
+    private static void assertEndpoints(TrackBuffer original, TrackBuffer simplified) {
+        int last = original.size() - 1;
+        assertEquals(original.lat(0), simplified.lat(0));
+        assertEquals(original.lon(0), simplified.lon(0));
+        assertEquals(original.lat(last), simplified.lat(simplified.size() - 1));
+        assertEquals(original.lon(last), simplified.lon(simplified.size() - 1));
+    }
+
+    @Test
+    void keepsEndpointsInBothModes() {
+        TrackBuffer track = noisyTrack(5_000, 0.001, 1);
+        for (TrackSimplifier.Mode mode : TrackSimplifier.Mode.values()) {
+            TrackBuffer simplified = TrackSimplifier.simplify(track, mode, TrackSimplifier.toleranceForZoom(14, 2.0), 1_000);
+
+            assertTrue(simplified.size() < track.size(), mode.name());
+            assertEndpoints(track, simplified);
+        }
+    }
+
+    @Test
+    void capsPointsPerProfile() {
+        TrackBuffer track = noisyTrack(40_000, 0.01, 2);
+        for (TrackSimplifier.Profile profile : TrackSimplifier.Profile.values()) {
+            TrackBuffer simplified = TrackSimplifier.simplify(track, profile);
+
+            assertTrue(simplified.size() <= profile.getMaxPoints(),
+                    profile.name() + ": " + simplified.size() + " > " + profile.getMaxPoints());
+            assertEndpoints(track, simplified);
+        }
+    }
+
+    @Test
+    void collinearTrackCollapsesToEndpoints() {
+        TrackBuffer track = line(1_000, 37.5, 126.9, 0.0001);
+        for (TrackSimplifier.Mode mode : TrackSimplifier.Mode.values()) {
+            TrackBuffer simplified = TrackSimplifier.simplify(track, mode, TrackSimplifier.toleranceForZoom(18, 1.0), 500);
+
+            assertEquals(2, simplified.size(), mode.name());
+            assertEndpoints(track, simplified);
+        }
+    }
+
+    @Test
+    void handlesDegenerateTracks() {
+        TrackBuffer two = line(2, 37.5, 126.9, 0.01);
+        assertSame(two, TrackSimplifier.simplify(two, TrackSimplifier.Profile.THUMBNAIL));
+        TrackBuffer empty = new TrackBuffer();
+        assertEquals(0, TrackSimplifier.simplify(empty, TrackSimplifier.Profile.UPLOAD).size());
+        assertEquals(2, TrackSimplifier.keepMask(two, TrackSimplifier.Mode.DOUGLAS_PEUCKER, 0.1, 2).length);
+
+        // 제자리에서 기록만 쌓인 트랙 (모든 포인트가 같은 위치)
+        TrackBuffer stationary = line(300, 37.5, 126.9, 0);
+        for (TrackSimplifier.Mode mode : TrackSimplifier.Mode.values()) {
+            assertEquals(2, TrackSimplifier.simplify(stationary, mode, 1e-6, 100).size(), mode.name());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class TrackStatisticsTest {
+
+    private static final double EARTH_RADIUS_METERS = 6371e3;
+
+    // 적도 위 경도 degrees 만큼의 거리 (하버사인 거리와 정확히 일치)
+    private static double equatorMeters(double degrees) {
+        return EARTH_RADIUS_METERS * Math.toRadians(degrees);
+    }
+
+    private static TrackStatistics alongEquator(double stepMeters, double... elevations) {
+        TrackStatistics statistics = new TrackStatistics();
+        double stepDegrees = Math.toDegrees(stepMeters / EARTH_RADIUS_METERS);
+        for (int i = 0; i < elevations.length; i++) {
+            statistics.accept(0, 126 + i * stepDegrees, elevations[i]);
+        }
+        return statistics;
+    }
+
+    @Test
+    void sumsManyShortSegmentsWithoutDrift() {
+        TrackStatistics statistics = new TrackStatistics();
+        int steps = 200_000;
+        for (int i = 0; i <= steps; i++) {
+            statistics.accept(0, 126 + i * 1e-5, 0);
+        }
+
+        // 2 도 = 약 222.4km 를 약 1.1m 구간 20만 개로 나눠 더해도 누적 오차가 없어야 함
+        assertEquals(equatorMeters(steps * 1e-5), statistics.getDistanceMeters(), 1e-6);
+        assertEquals(steps + 1, statistics.getPointCount());
+        assertEquals(126, statistics.getMinLon(), 1e-12);
+        assertEquals(128, statistics.getMaxLon(), 1e-9);
+    }
+
+    @Test
+    void countsKnownAscentAndDescent() {
+        TrackStatistics statistics = alongEquator(50, 0, 10, 20, 15, 30);
+
+        assertEquals(35, statistics.getElevationGain(), 1e-9);
+        assertEquals(5, statistics.getElevationLoss(), 1e-9);
+        assertEquals(200, statistics.getDistanceMeters(), 1e-6);
+    }
+
+    @Test
+    void ignoresElevationNoiseBelowThreshold() {
+        // 3m 미만으로 오르내리는 GPS 노이즈는 상승 / 하강으로 치지 않음
+        TrackStatistics under = alongEquator(10, 100, 102.9, 100, 102.9, 100, 102.9);
+        assertEquals(0, under.getElevationGain(), 1e-9);
+        assertEquals(0, under.getElevationLoss(), 1e-9);
+
+        // 3m 를 넘으면 매번 인정
+        TrackStatistics over = alongEquator(10, 100, 103.1, 100, 103.1, 100);
+        assertEquals(6.2, over.getElevationGain(), 1e-9);
+        assertEquals(6.2, over.getElevationLoss(), 1e-9);
+
+        // 한 번에는 작아도 기준값에서 3m 이상 벌어지면 누적해서 인정
+        TrackStatistics drift = alongEquator(10, 0, 2, 4, 5, 7);
+        assertEquals(7, drift.getElevationGain(), 1e-9);
+    }
+
+    @Test
+    void gradeUsesWindowsOfAtLeastHundredMeters() {
+        // 60m 간격, 60m 마다 6m 상승 → 120m 구간마다 10%
+        TrackStatistics climb = alongEquator(60, 0, 6, 12, 18, 24);
+        assertEquals(10.0, climb.getMaxGradePercent(), 1e-6);
+
+        // 구간 길이(100m)보다 짧은 트랙은 짧은 급경사가 있어도 경사도를 계산하지 않음
+        TrackStatistics shortTrack = alongEquator(40, 0, 8, 16);
+        assertEquals(0, shortTrack.getMaxGradePercent(), 1e-9);
+        assertEquals(16, shortTrack.getElevationGain(), 1e-9);
+    }
+}
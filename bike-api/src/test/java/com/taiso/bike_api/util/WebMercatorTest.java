@@ -0,0 +1,68 @@
+package com.taiso.bike_api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.proj4j.CRSFactory;
+import org.locationtech.proj4j.CoordinateTransform;
+import org.locationtech.proj4j.CoordinateTransformFactory;
+import org.locationtech.proj4j.ProjCoordinate;
+
+/**
+ * WebMercator 닫힌 식이 Proj4j EPSG:4326 → EPSG:3857 변환과 같은 결과를 내는지 확인합니다.
+ */
+class WebMercatorTest {
+
+    @Test
+    void matchesProj4jWithinMillimeters() {
+        CRSFactory crsFactory = new CRSFactory();
+        CoordinateTransform transform = new CoordinateTransformFactory().createTransform(
+                crsFactory.createFromName("EPSG:4326"), crsFactory.createFromName("EPSG:3857"));
+        ProjCoordinate src = new ProjCoordinate();
+        ProjCoordinate dst = new ProjCoordinate();
+
+        for (double lat = -80; lat <= 80; lat += 1.7) {
+            for (double lon = -179; lon <= 179; lon += 7.3) {
+                src.x = lon;
+                src.y = lat;
+                transform.transform(src, dst);
+                assertEquals(dst.x, WebMercator.mercatorX(lon), 1e-3);
+                assertEquals(dst.y, WebMercator.mercatorY(lat), 1e-3);
+            }
+        }
+    }
+
+    @Test
+    void batchPixelsMatchScalarProjection() {
+        int n = 1_000;
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = 33.0 + i * 0.005;
+            lon[i] = 124.5 + i * 0.007;
+        }
+        double worldSize = WebMercator.worldSize(13, 2);
+        double left = 1_000_000;
+        double top = 800_000;
+        int[] x = new int[n];
+        int[] y = new int[n];
+        WebMercator.toPixelX(lon, n, worldSize, left, x);
+        WebMercator.toPixelY(lat, n, worldSize, top, y);
+
+        for (int i = 0; i < n; i++) {
+            assertTrue(Math.abs(x[i] - (WebMercator.worldX(lon[i], worldSize) - left)) <= 0.5 + 1e-6);
+            assertTrue(Math.abs(y[i] - (WebMercator.worldY(lat[i], worldSize) - top)) <= 0.5 + 1e-6);
+        }
+    }
+
+    @Test
+    void fitZoomKeepsBoundingBoxInsideImage() {
+        int zoom = WebMercator.fitZoom(37.50, 126.90, 37.56, 127.00, 800, 600, 16, 19);
+        double worldSize = WebMercator.worldSize(zoom, 1);
+        double width = WebMercator.worldX(127.00, worldSize) - WebMercator.worldX(126.90, worldSize);
+        double height = WebMercator.worldY(37.50, worldSize) - WebMercator.worldY(37.56, worldSize);
+        assertTrue(width <= 800 && height <= 600);
+        assertTrue(width * 2 > 800 || height * 2 > 600, "한 단계 더 확대하면 넘쳐야 합니다.");
+    }
+}